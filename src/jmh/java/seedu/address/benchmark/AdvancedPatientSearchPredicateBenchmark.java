@@ -0,0 +1,46 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.model.person.patient.AdvancedPatientSearchPredicate;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Measures evaluating {@code AdvancedPatientSearchPredicate} over every patient in the data set.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdvancedPatientSearchPredicateBenchmark extends SizedBenchmark {
+
+    private final AdvancedPatientSearchPredicate singleKeyword =
+            new AdvancedPatientSearchPredicate(Arrays.asList("diabetes"));
+    private final AdvancedPatientSearchPredicate multipleKeywords =
+            new AdvancedPatientSearchPredicate(Arrays.asList("diabetes", "M", "\"Clementi\""));
+
+    private List<Patient> patients;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        patients = DocXGenerator.generatePatients(size);
+    }
+
+    @Benchmark
+    public long singleKeyword() {
+        return patients.stream().filter(singleKeyword).count();
+    }
+
+    @Benchmark
+    public long multipleKeywords() {
+        return patients.stream().filter(multipleKeywords).count();
+    }
+}
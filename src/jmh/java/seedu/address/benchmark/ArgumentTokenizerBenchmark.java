@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_APPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALISATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WRITEUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Measures tokenizing a batch of {@code size} generated argument strings against all commonly used prefixes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArgumentTokenizerBenchmark extends SizedBenchmark {
+
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_GENDER, PREFIX_AGE, PREFIX_YEAR, PREFIX_PHONE,
+        PREFIX_ADDRESS, PREFIX_TAG, PREFIX_SPECIALISATION, PREFIX_WRITEUP, PREFIX_DATE_OF_APPT, PREFIX_PATIENT_ID,
+        PREFIX_DOCTOR_ID};
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIXES);
+
+    private List<String> argStrings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        argStrings = DocXGenerator.generateArgumentStrings(size);
+    }
+
+    /**
+     * Tokenizes every argument string in the batch, compiling the prefixes for each one.
+     */
+    @Benchmark
+    public void tokenize(Blackhole blackhole) {
+        for (String args : argStrings) {
+            blackhole.consume(ArgumentTokenizer.tokenize(args, PREFIXES));
+        }
+    }
+
+    /**
+     * Tokenizes every argument string in the batch with prefixes that are compiled once, as the parsers do.
+     */
+    @Benchmark
+    public void tokenizeWithCompiledPrefixes(Blackhole blackhole) {
+        for (String args : argStrings) {
+            blackhole.consume(TOKENIZER.tokenizeArguments(args));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Base state for benchmarks that execute a command against a generated model.
+ */
+public abstract class CommandBenchmark extends SizedBenchmark {
+
+    protected Model model;
+    protected CommandHistory history;
+
+    @Setup(Level.Trial)
+    public void setUpModel() {
+        model = new ModelManager(DocXGenerator.generateDocX(size), new UserPrefs());
+        history = new CommandHistory();
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.model.DocX;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Measures {@code DocX#setPatient}, which cascades the edited patient into medical histories and appointments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocXCascadeBenchmark extends SizedBenchmark {
+
+    private DocX docX;
+    private Patient current;
+    private Patient other;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        docX = DocXGenerator.generateDocX(size);
+        current = DocXGenerator.generatePatient(size / 2);
+        other = new Patient(current.getId(), new Name("Edited Patient"), current.getGender(), current.getAge(),
+                current.getPhone(), current.getAddress(), current.getTags());
+    }
+
+    /**
+     * Edits the same patient back and forth between two versions, so the data set does not grow between calls.
+     */
+    @Benchmark
+    public DocX setPatient() {
+        docX.setPatient(current, other);
+        Patient previous = current;
+        current = other;
+        other = previous;
+        return docX;
+    }
+}
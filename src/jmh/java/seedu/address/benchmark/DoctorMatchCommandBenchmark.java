@@ -0,0 +1,35 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.doctor.DoctorMatchCommand;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.appointment.AppointmentTime;
+import seedu.address.model.person.doctor.DoctorMatch;
+import seedu.address.model.person.doctor.DoctorSpecialisationMatchesPredicate;
+import seedu.address.model.person.specialisation.Specialisation;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Measures {@code DoctorMatchCommand}, which filters doctors by specialisation and then by their appointments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DoctorMatchCommandBenchmark extends CommandBenchmark {
+
+    private final DoctorMatchCommand command = new DoctorMatchCommand(new DoctorSpecialisationMatchesPredicate(
+            new DoctorMatch(new Specialisation("acupuncture"),
+                    new AppointmentDate(DocXGenerator.FIRST_APPOINTMENT_DATE.toString()),
+                    new AppointmentTime(DocXGenerator.TIME_SLOTS[0]))));
+
+    @Benchmark
+    public CommandResult execute() {
+        return command.execute(model, history);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.DocX;
+import seedu.address.model.ReadOnlyDocX;
+import seedu.address.storage.JsonDocXStorage;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Measures saving and loading a generated data set with {@code JsonDocXStorage}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonDocXStorageBenchmark extends SizedBenchmark {
+
+    private Path tempDir;
+    private JsonDocXStorage storage;
+    private DocX docX;
+
+    /**
+     * Generates the data set and saves it once, so that there is a file to load from.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("docx-benchmark");
+        storage = new JsonDocXStorage(tempDir.resolve("docX.json"));
+        docX = DocXGenerator.generateDocX(size);
+        storage.saveDocX(docX);
+    }
+
+    /**
+     * Deletes the temporary data file and its directory.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getDocXFilePath());
+        Files.deleteIfExists(tempDir);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveDocX(docX);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyDocX> load() throws DataConversionException {
+        return storage.readDocX();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.appointment.ListAppointmentCommand;
+import seedu.address.logic.commands.appointment.ListAppointmentCommand.ListAppointmentDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.appointment.AppointmentDoctorId;
+import seedu.address.model.appointment.AppointmentPatientId;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Measures {@code ListAppointmentCommand} filtering by patient, by doctor and by date.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListAppointmentCommandBenchmark extends CommandBenchmark {
+
+    private ListAppointmentCommand byPatient;
+    private ListAppointmentCommand byDoctor;
+    private ListAppointmentCommand byDate;
+
+    @Setup(Level.Trial)
+    public void setUpCommands() {
+        ListAppointmentDescriptor patientDescriptor = new ListAppointmentDescriptor();
+        patientDescriptor.setPatientId(Optional.of(new AppointmentPatientId(String.valueOf(size / 2))));
+        byPatient = new ListAppointmentCommand(patientDescriptor);
+
+        ListAppointmentDescriptor doctorDescriptor = new ListAppointmentDescriptor();
+        doctorDescriptor.setDoctorId(Optional.of(new AppointmentDoctorId(String.valueOf(size + 1))));
+        byDoctor = new ListAppointmentCommand(doctorDescriptor);
+
+        ListAppointmentDescriptor dateDescriptor = new ListAppointmentDescriptor();
+        dateDescriptor.setDate(Optional.of(new AppointmentDate(DocXGenerator.FIRST_APPOINTMENT_DATE.toString())));
+        byDate = new ListAppointmentCommand(dateDescriptor);
+    }
+
+    @Benchmark
+    public CommandResult byPatient() throws CommandException {
+        return byPatient.execute(model, history);
+    }
+
+    @Benchmark
+    public CommandResult byDoctor() throws CommandException {
+        return byDoctor.execute(model, history);
+    }
+
+    @Benchmark
+    public CommandResult byDate() throws CommandException {
+        return byDate.execute(model, history);
+    }
+}
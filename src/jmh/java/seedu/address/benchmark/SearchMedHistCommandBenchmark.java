@@ -0,0 +1,44 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.medicalhistory.SearchMedHistCommand;
+import seedu.address.model.medicalhistory.MedHistContainsKeywordsPredicate;
+
+/**
+ * Measures {@code SearchMedHistCommand} for a common and a rare keyword.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchMedHistCommandBenchmark extends CommandBenchmark {
+
+    private static final List<String> COMMON_KEYWORDS = Arrays.asList("fever");
+    private static final List<String> MISSING_KEYWORDS = Arrays.asList("fracture", "migraine");
+
+    /**
+     * Searches for a keyword found in many medical histories.
+     * A new predicate is created on every call, as the filtered list is not refiltered when given the same one.
+     */
+    @Benchmark
+    public CommandResult commonKeyword() {
+        return new SearchMedHistCommand(new MedHistContainsKeywordsPredicate(COMMON_KEYWORDS))
+                .execute(model, history);
+    }
+
+    /**
+     * Searches for keywords that are not found in any medical history.
+     */
+    @Benchmark
+    public CommandResult missingKeyword() {
+        return new SearchMedHistCommand(new MedHistContainsKeywordsPredicate(MISSING_KEYWORDS))
+                .execute(model, history);
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Base state for benchmarks that are run against data sets of increasing size.
+ * Data is produced by {@code DocXGenerator}, so the same size always yields the same data set.
+ */
+@State(Scope.Benchmark)
+public abstract class SizedBenchmark {
+
+    /** Number of patients (and of appointments, medical histories and prescriptions) in the data set. */
+    @Param({"1000", "10000", "100000", "1000000"})
+    protected int size;
+}
@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.UniquePatientList;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Measures the lookup and insertion operations of {@code UniquePatientList}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniquePatientListBenchmark extends SizedBenchmark {
+
+    private UniquePatientList patients;
+    private Patient existingPatient;
+    private Patient newPatient;
+    private PersonId existingId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        patients = new UniquePatientList();
+        patients.setPatients(DocXGenerator.generatePatients(size));
+        // the middle element is the average case for a linear scan
+        existingPatient = DocXGenerator.generatePatient(size / 2);
+        existingId = existingPatient.getId();
+        newPatient = DocXGenerator.generatePatient(size + 1);
+    }
+
+    /**
+     * Removes the patient added by {@link #add()} so that every invocation sees a list of {@code size} patients.
+     */
+    @TearDown(Level.Invocation)
+    public void removeAddedPatient() {
+        if (patients.contains(newPatient)) {
+            patients.remove(newPatient);
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        patients.add(newPatient);
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return patients.contains(existingPatient);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return patients.contains(newPatient);
+    }
+
+    @Benchmark
+    public Patient findPatientById() {
+        return patients.findPatientById(existingId);
+    }
+}
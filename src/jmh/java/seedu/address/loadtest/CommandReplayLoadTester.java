@@ -0,0 +1,156 @@
+package seedu.address.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DocX;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonIdCounter;
+import seedu.address.storage.JsonDocXStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Replays a stream of user commands through {@code LogicManager#execute(String)} without starting the UI,
+ * and reports the throughput and the latency percentiles of every command word.
+ * The time spent saving docX to disk is reported separately from the time spent executing the command.
+ *
+ * <p>Usage: {@code CommandReplayLoadTester [--size N] [--commands N] [--seed N] [--replay FILE] [--log-level LEVEL]}
+ * <ul>
+ *     <li>{@code --size}: number of patients in the generated starting data set (default 1000).</li>
+ *     <li>{@code --commands}: number of commands to generate when no file is replayed (default 1000).</li>
+ *     <li>{@code --seed}: seed of the generated command stream (default 0).</li>
+ *     <li>{@code --replay}: file of commands to replay, one per line. Lines of the application log that record
+ *     a user command are also accepted, so a log file can be replayed directly.</li>
+ *     <li>{@code --log-level}: log level of the application while replaying (default WARNING).</li>
+ * </ul>
+ */
+public class CommandReplayLoadTester {
+
+    private static final String LOGGED_COMMAND_MARKER = "[USER COMMAND][";
+
+    private final LogicManager logic;
+    private final TimingStorage storage;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    public CommandReplayLoadTester(DocX docX, Path dataDirectory) {
+        storage = new TimingStorage(new StorageManager(new JsonDocXStorage(dataDirectory.resolve("docX.json")),
+                new JsonUserPrefsStorage(dataDirectory.resolve("preferences.json"))));
+        logic = new LogicManager(new ModelManager(docX, new UserPrefs()), storage);
+    }
+
+    /**
+     * Executes each of {@code commands} in order, recording its latency.
+     * Commands that fail are still recorded, and are counted as failures.
+     */
+    public void replay(List<String> commands) {
+        for (String commandText : commands) {
+            boolean isFailure = false;
+            storage.getAndResetSaveNanos();
+            long start = System.nanoTime();
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                isFailure = true;
+            }
+            long totalNanos = System.nanoTime() - start;
+            long saveNanos = storage.getAndResetSaveNanos();
+            recorder.record(getCommandWord(commandText), totalNanos - saveNanos, saveNanos, isFailure);
+        }
+    }
+
+    public LatencyRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Returns the commands in the file at {@code path}, skipping blank lines and {@code #} comments.
+     */
+    public static List<String> readCommands(Path path) throws IOException {
+        return Files.readAllLines(path).stream()
+                .map(CommandReplayLoadTester::extractCommand)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the command recorded in a line of the application log, or the trimmed line itself otherwise.
+     */
+    private static String extractCommand(String line) {
+        int markerIndex = line.indexOf(LOGGED_COMMAND_MARKER);
+        if (markerIndex == -1) {
+            return line.trim();
+        }
+        int start = markerIndex + LOGGED_COMMAND_MARKER.length();
+        int end = line.lastIndexOf(']');
+        return end > start ? line.substring(start, end).trim() : "";
+    }
+
+    private static String getCommandWord(String commandText) {
+        String trimmed = commandText.trim();
+        int firstSpace = trimmed.indexOf(' ');
+        return firstSpace == -1 ? trimmed : trimmed.substring(0, firstSpace);
+    }
+
+    /**
+     * Generates or reads the command stream given by {@code args}, replays it and prints the report.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        int size = Integer.parseInt(options.getOrDefault("--size", "1000"));
+        int commandCount = Integer.parseInt(options.getOrDefault("--commands", "1000"));
+        long seed = Long.parseLong(options.getOrDefault("--seed", "0"));
+
+        Config config = new Config();
+        config.setLogLevel(Level.parse(options.getOrDefault("--log-level", "WARNING")));
+        LogsCenter.init(config);
+
+        System.out.println("Generating data set of " + size + " patients...");
+        DocX docX = DocXGenerator.generateDocX(size);
+        PersonIdCounter.getInstance().setCurrentMaxId(size + DocXGenerator.getDoctorCount(size));
+
+        List<String> commands = options.containsKey("--replay")
+                ? readCommands(Paths.get(options.get("--replay")))
+                : new CommandStreamGenerator(size, seed).generate(commandCount);
+
+        Path dataDirectory = Files.createTempDirectory("docx-loadtest");
+        try {
+            CommandReplayLoadTester tester = new CommandReplayLoadTester(docX, dataDirectory);
+            System.out.println("Replaying " + commands.size() + " commands...");
+            long start = System.nanoTime();
+            tester.replay(commands);
+            tester.getRecorder().printReport(System.out, System.nanoTime() - start);
+        } finally {
+            Files.deleteIfExists(dataDirectory.resolve("docX.json"));
+            Files.deleteIfExists(dataDirectory);
+        }
+    }
+
+    /**
+     * Parses {@code args} as pairs of option names and values.
+     */
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.logic.commands.appointment.AddAppointmentCommand;
+import seedu.address.logic.commands.appointment.ListAppointmentCommand;
+import seedu.address.logic.commands.appointment.MarkAppointmentCommand;
+import seedu.address.logic.commands.doctor.ListDoctorCommand;
+import seedu.address.logic.commands.medicalhistory.ListMedHistCommand;
+import seedu.address.logic.commands.medicalhistory.SearchMedHistCommand;
+import seedu.address.logic.commands.patient.AddPatientCommand;
+import seedu.address.logic.commands.patient.ListPatientCommand;
+import seedu.address.logic.commands.patient.SearchAdvancedPatientCommand;
+import seedu.address.logic.commands.patient.SearchPatientCommand;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Generates a stream of user commands against a data set produced by {@code DocXGenerator#generateDocX(int)}.
+ * The mix of commands roughly follows a clinic's day: mostly lookups, with a steady trickle of new patients
+ * and appointments. The same seed always produces the same stream.
+ */
+public class CommandStreamGenerator {
+
+    private final int size;
+    private final int doctorCount;
+    private final Random random;
+    private int addedPatients = 0;
+    private int addedAppointments = 0;
+
+    public CommandStreamGenerator(int size, long seed) {
+        this.size = size;
+        this.doctorCount = DocXGenerator.getDoctorCount(size);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Returns the next {@code count} commands of the stream.
+     */
+    public List<String> generate(int count) {
+        List<String> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(next());
+        }
+        return commands;
+    }
+
+    /**
+     * Returns the next command of the stream.
+     */
+    public String next() {
+        int roll = random.nextInt(100);
+        if (roll < 10) {
+            return nextAddPatient();
+        } else if (roll < 25) {
+            return nextAddAppointment();
+        } else if (roll < 35) {
+            return MarkAppointmentCommand.COMMAND_WORD + " " + (random.nextInt(Math.min(size, 50)) + 1)
+                    + " s/" + (random.nextBoolean() ? "CANCELLED" : "ACTIVE");
+        } else if (roll < 45) {
+            // only the distinguishing part of the name, as every generated name starts with "Patient"
+            String[] nameParts = randomPatientName().split(" ");
+            return SearchPatientCommand.COMMAND_WORD + " " + nameParts[nameParts.length - 1];
+        } else if (roll < 55) {
+            return SearchAdvancedPatientCommand.COMMAND_WORD + " "
+                    + DocXGenerator.TAGS[random.nextInt(DocXGenerator.TAGS.length)] + " " + (random.nextBoolean()
+                    ? "M" : "F");
+        } else if (roll < 65) {
+            return SearchMedHistCommand.COMMAND_WORD + " "
+                    + DocXGenerator.WRITE_UP_WORDS[random.nextInt(DocXGenerator.WRITE_UP_WORDS.length)];
+        } else if (roll < 75) {
+            return ListPatientCommand.COMMAND_WORD;
+        } else if (roll < 90) {
+            return ListAppointmentCommand.COMMAND_WORD + " pid/" + randomPatientId();
+        } else if (roll < 95) {
+            return ListDoctorCommand.COMMAND_WORD;
+        } else {
+            return ListMedHistCommand.COMMAND_WORD + " pid/" + randomPatientId();
+        }
+    }
+
+    /**
+     * Returns a command that adds a patient whose phone number is not used by anyone else.
+     */
+    private String nextAddPatient() {
+        addedPatients++;
+        // phone numbers starting with 9 never clash with the generated data set
+        return AddPatientCommand.COMMAND_WORD + " n/" + randomPatientName() + " g/" + (random.nextBoolean() ? "M" : "F")
+                + " a/" + random.nextInt(100) + " p/9" + String.format("%07d", addedPatients)
+                + " adr/Blk " + addedPatients + " Bedok North Ave " + random.nextInt(10)
+                + " t/" + DocXGenerator.TAGS[random.nextInt(DocXGenerator.TAGS.length)];
+    }
+
+    /**
+     * Returns a command that adds an appointment in a slot that is still free.
+     */
+    private String nextAddAppointment() {
+        // slots are handed out after those used by the generated data set, so each one is free
+        int slot = size / doctorCount + 1 + addedAppointments / doctorCount;
+        int doctorId = size + addedAppointments % doctorCount + 1;
+        addedAppointments++;
+        return AddAppointmentCommand.COMMAND_WORD + " pid/" + randomPatientId() + " did/" + doctorId
+                + " d/" + DocXGenerator.FIRST_APPOINTMENT_DATE.plusDays(slot / DocXGenerator.TIME_SLOTS.length)
+                + " t/" + DocXGenerator.TIME_SLOTS[slot % DocXGenerator.TIME_SLOTS.length];
+    }
+
+    private int randomPatientId() {
+        return random.nextInt(size) + 1;
+    }
+
+    private String randomPatientName() {
+        return DocXGenerator.generatePatient(randomPatientId()).getName().fullName;
+    }
+}
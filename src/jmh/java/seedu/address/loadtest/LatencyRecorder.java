@@ -0,0 +1,100 @@
+package seedu.address.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records execute and save latencies of replayed commands, grouped by command word.
+ */
+public class LatencyRecorder {
+
+    private static final String ROW_FORMAT = "%-18s %8s %7s | %9s %9s %9s | %9s %9s %9s%n";
+
+    private final Map<String, Samples> samplesByCommandWord = new TreeMap<>();
+    private final Samples allSamples = new Samples();
+
+    /**
+     * Records a command that spent {@code executeNanos} executing and {@code saveNanos} saving.
+     */
+    public void record(String commandWord, long executeNanos, long saveNanos, boolean isFailure) {
+        samplesByCommandWord.computeIfAbsent(commandWord, unused -> new Samples())
+                .add(executeNanos, saveNanos, isFailure);
+        allSamples.add(executeNanos, saveNanos, isFailure);
+    }
+
+    public int getCount() {
+        return allSamples.count;
+    }
+
+    /**
+     * Prints the throughput over {@code elapsedNanos} and a table of latency percentiles, in milliseconds.
+     */
+    public void printReport(PrintStream out, long elapsedNanos) {
+        if (allSamples.count == 0) {
+            out.println("No commands were replayed.");
+            return;
+        }
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf("Replayed %d commands in %.2f s (%.1f commands/s)%n", allSamples.count, seconds,
+                allSamples.count / seconds);
+        out.println("Latencies in ms; execute time excludes the time spent saving.");
+        out.printf(ROW_FORMAT, "command", "count", "failed", "exec p50", "exec p99", "exec max", "save p50",
+                "save p99", "save max");
+        samplesByCommandWord.forEach((commandWord, samples) -> samples.print(out, commandWord));
+        allSamples.print(out, "(all)");
+    }
+
+    /**
+     * Latency samples of one group of commands.
+     */
+    private static class Samples {
+        private long[] executeNanos = new long[16];
+        private long[] saveNanos = new long[16];
+        private int count = 0;
+        private int failures = 0;
+
+        /**
+         * Adds the latencies of one command.
+         */
+        void add(long execute, long save, boolean isFailure) {
+            if (count == executeNanos.length) {
+                executeNanos = Arrays.copyOf(executeNanos, count * 2);
+                saveNanos = Arrays.copyOf(saveNanos, count * 2);
+            }
+            executeNanos[count] = execute;
+            saveNanos[count] = save;
+            count++;
+            if (isFailure) {
+                failures++;
+            }
+        }
+
+        /**
+         * Prints one row of the report, labelled with {@code label}.
+         */
+        void print(PrintStream out, String label) {
+            long[] execute = Arrays.copyOf(executeNanos, count);
+            long[] save = Arrays.copyOf(saveNanos, count);
+            Arrays.sort(execute);
+            Arrays.sort(save);
+            out.printf(ROW_FORMAT, label, count, failures,
+                    toMillis(percentile(execute, 50)), toMillis(percentile(execute, 99)), toMillis(execute[count - 1]),
+                    toMillis(percentile(save, 50)), toMillis(percentile(save, 99)), toMillis(save[count - 1]));
+        }
+
+        /**
+         * Returns the nearest-rank {@code percentile} of the non-empty, sorted {@code values}.
+         */
+        private static long percentile(long[] sortedValues, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+            return sortedValues[Math.max(rank - 1, 0)];
+        }
+
+        private static String toMillis(long nanos) {
+            return String.format("%.3f", nanos / 1e6);
+        }
+    }
+}
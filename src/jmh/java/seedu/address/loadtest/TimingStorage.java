@@ -0,0 +1,86 @@
+package seedu.address.loadtest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyDocX;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.Storage;
+
+/**
+ * A {@code Storage} that delegates to another {@code Storage} and records the time spent saving docX.
+ */
+public class TimingStorage implements Storage {
+
+    private final Storage storage;
+    private long saveNanos;
+
+    public TimingStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the time spent in {@link #saveDocX(ReadOnlyDocX)} since the last call to this method.
+     */
+    public long getAndResetSaveNanos() {
+        long nanos = saveNanos;
+        saveNanos = 0;
+        return nanos;
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Path getDocXFilePath() {
+        return storage.getDocXFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDocX> readDocX() throws DataConversionException, IOException {
+        return storage.readDocX();
+    }
+
+    @Override
+    public Optional<ReadOnlyDocX> readDocX(Path filePath) throws DataConversionException, IOException {
+        return storage.readDocX(filePath);
+    }
+
+    @Override
+    public void saveDocX(ReadOnlyDocX docX) throws IOException {
+        long start = System.nanoTime();
+        try {
+            storage.saveDocX(docX);
+        } finally {
+            saveNanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public void saveDocX(ReadOnlyDocX docX, Path filePath) throws IOException {
+        long start = System.nanoTime();
+        try {
+            storage.saveDocX(docX, filePath);
+        } finally {
+            saveNanos += System.nanoTime() - start;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package seedu.address.uibenchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import org.testfx.api.FxToolkit;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.prescription.Prescription;
+import seedu.address.testutil.DocXGenerator;
+import seedu.address.ui.FxThreadBridge;
+import seedu.address.ui.MedHistListPanel;
+import seedu.address.ui.PrescriptionListPanel;
+import seedu.address.ui.UiPart;
+import seedu.address.ui.appointment.AppointmentListPanel;
+import seedu.address.ui.doctor.DoctorListPanel;
+import seedu.address.ui.patient.PatientListPanel;
+
+/**
+ * Renders each list panel with a large generated data set on a headless stage, and reports the frame times of
+ * scripted scrolling, filtering and cascading edits, with the number of nodes in the scene and the bytes allocated
+ * on the JavaFX application thread.
+ * The panels show the model's lists through a {@link FxThreadBridge}, as in the app, so a frame includes copying
+ * the changes of the model onto the JavaFX application thread.
+ *
+ * <p>Usage: {@code ListPanelRenderBenchmark [--size N] [--frames N] [--log-level LEVEL]}
+ * <ul>
+ *     <li>{@code --size}: number of patients in the generated data set (default 10000).</li>
+ *     <li>{@code --frames}: number of frames of each scripted scenario (default 50).</li>
+ *     <li>{@code --log-level}: log level of the application while rendering (default WARNING).</li>
+ * </ul>
+ * Run it with {@code gradlew uiBenchmark}, which renders on the headless Monocle platform.
+ */
+public class ListPanelRenderBenchmark {
+
+    private static final String[] CSS_FILES = {"view/DarkTheme.css", "view/Extensions.css"};
+    private static final long FRAME_TIMEOUT_SECONDS = 60;
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+    /** Every how many people are shown by the narrowing filter. */
+    private static final int FILTER_MODULUS = 10;
+
+    private final Model model;
+    private final int size;
+    private final int frameCount;
+    private final Stage stage;
+    private final FxThreadBridge fxThreadBridge = new FxThreadBridge(Platform::runLater);
+    private final RenderReport report = new RenderReport();
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private long fxThreadId;
+    private Scene scene;
+    /** The frame waiting for the next pulse to lay out the scene, only accessed on the JavaFX thread. */
+    private CountDownLatch pendingFrame;
+    private long pendingFrameEndNanos;
+
+    public ListPanelRenderBenchmark(Model model, int size, int frameCount, Stage stage) {
+        this.model = model;
+        this.size = size;
+        this.frameCount = frameCount;
+        this.stage = stage;
+    }
+
+    /**
+     * Runs the scripted scenarios of every list panel in turn.
+     */
+    public void run() throws Exception {
+        runOnFxThread(() -> {
+            fxThreadId = Thread.currentThread().getId();
+            scene = new Scene(new Region(), STAGE_WIDTH, STAGE_HEIGHT);
+            scene.getStylesheets().setAll(CSS_FILES);
+            // installed once, as removing a listener while the listeners are being run is not allowed
+            scene.addPostLayoutPulseListener(this::onPulseLaidOut);
+            stage.setScene(scene);
+            stage.show();
+        });
+
+        Predicate<Patient> patientFilter = patient -> isShownByFilter(patient.getId());
+        runPanel("PatientListPanel", () -> new PatientListPanel(
+                fxThreadBridge.mirror(model.getFilteredPatientList()),
+                fxThreadBridge.mirror(model.selectedPatientProperty()), unused -> {}),
+            predicate -> model.updateFilteredPatientList(predicate), patientFilter);
+        Predicate<Doctor> doctorFilter = doctor -> isShownByFilter(doctor.getId());
+        runPanel("DoctorListPanel", () -> new DoctorListPanel(
+                fxThreadBridge.mirror(model.getFilteredDoctorList()),
+                fxThreadBridge.mirror(model.selectedDoctorProperty()), unused -> {}),
+            predicate -> model.updateFilteredDoctorList(predicate), doctorFilter);
+        Predicate<Appointment> appointmentFilter = appointment -> isShownByFilter(appointment.getPatientId());
+        runPanel("AppointmentListPanel", () -> new AppointmentListPanel(
+                fxThreadBridge.mirror(model.getFilteredAppointmentList()),
+                fxThreadBridge.mirror(model.selectedAppointmentProperty()), unused -> {}),
+            predicate -> model.updateFilteredAppointmentList(predicate), appointmentFilter);
+        Predicate<MedicalHistory> medHistFilter = medHist -> isShownByFilter(medHist.getPatientId());
+        runPanel("MedHistListPanel", () -> new MedHistListPanel(
+                fxThreadBridge.mirror(model.getFilteredMedHistList()),
+                fxThreadBridge.mirror(model.selectedMedHistProperty()), unused -> {}),
+            predicate -> model.updateFilteredMedHistList(predicate), medHistFilter);
+        Predicate<Prescription> prescriptionFilter = prescription -> isShownByFilter(prescription.getPatientId());
+        runPanel("PrescriptionListPanel", () -> new PrescriptionListPanel(
+                fxThreadBridge.mirror(model.getFilteredPrescriptionList()),
+                fxThreadBridge.mirror(model.selectedPrescriptionProperty()), unused -> {}),
+            predicate -> model.updateFilteredPrescriptionList(predicate), prescriptionFilter);
+    }
+
+    public RenderReport getReport() {
+        return report;
+    }
+
+    private static boolean isShownByFilter(PersonId id) {
+        return id.personId % FILTER_MODULUS == 0;
+    }
+
+    /**
+     * Shows the panel created by {@code panelFactory}, then scrolls through it, filters it with {@code filter} and
+     * back through {@code setFilter}, and edits patients whose records it may show.
+     */
+    private <T> void runPanel(String panelName, Supplier<UiPart<Region>> panelFactory,
+            Consumer<Predicate<T>> setFilter, Predicate<T> filter) throws Exception {
+        System.out.println("Rendering " + panelName + "...");
+        ListView<?>[] listView = new ListView<?>[1];
+
+        RenderReport.Scenario show = report.startScenario(panelName, "show");
+        long allocatedBefore = getFxThreadAllocatedBytes();
+        show.recordFrame(measureFrame(() -> {}, () -> {
+            scene.setRoot(panelFactory.get().getRoot());
+            listView[0] = (ListView<?>) scene.getRoot().lookup(".list-view");
+        }));
+        finish(show, allocatedBefore);
+
+        RenderReport.Scenario scroll = report.startScenario(panelName, "scroll");
+        allocatedBefore = getFxThreadAllocatedBytes();
+        for (int i = 1; i <= frameCount; i++) {
+            int frame = i;
+            scroll.recordFrame(measureFrame(() -> {}, () -> {
+                int itemCount = listView[0].getItems().size();
+                listView[0].scrollTo((int) ((long) itemCount * frame / (frameCount + 1)));
+            }));
+        }
+        finish(scroll, allocatedBefore);
+
+        RenderReport.Scenario filtering = report.startScenario(panelName, "filter");
+        allocatedBefore = getFxThreadAllocatedBytes();
+        for (int i = 0; i < frameCount; i++) {
+            Predicate<T> predicate = i % 2 == 0 ? filter : unused -> true;
+            filtering.recordFrame(measureFrame(() -> setFilter.accept(predicate), () -> {}));
+        }
+        setFilter.accept(unused -> true);
+        finish(filtering, allocatedBefore);
+
+        RenderReport.Scenario cascade = report.startScenario(panelName, "cascade");
+        allocatedBefore = getFxThreadAllocatedBytes();
+        for (int i = 0; i < frameCount; i++) {
+            Patient patient = DocXGenerator.generatePatient((int) ((long) size * i / frameCount) + 1);
+            cascade.recordFrame(measureFrame(() -> editPatient(patient), () -> {}));
+        }
+        finish(cascade, allocatedBefore);
+    }
+
+    /**
+     * Renames {@code patient} and back, which cascades into their appointments, medical histories and prescriptions.
+     */
+    private void editPatient(Patient patient) {
+        Patient edited = new Patient(patient.getId(), new Name("Edited Patient"), patient.getGender(),
+                patient.getAge(), patient.getPhone(), patient.getAddress(), patient.getTags());
+        model.setPatient(patient, edited);
+        model.setPatient(edited, patient);
+    }
+
+    /**
+     * Runs {@code modelChange} on this thread and then {@code fxChange} on the JavaFX application thread, and
+     * returns the nanoseconds until the next pulse has laid out the scene.
+     * The changes that the model posts to the JavaFX application thread are run before {@code fxChange}.
+     */
+    private long measureFrame(Runnable modelChange, Runnable fxChange) throws Exception {
+        CountDownLatch laidOut = new CountDownLatch(1);
+        long startNanos = System.nanoTime();
+        modelChange.run();
+        Platform.runLater(() -> {
+            fxChange.run();
+            pendingFrame = laidOut;
+            Platform.requestNextPulse();
+        });
+        if (!laidOut.await(FRAME_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new TimeoutException("The scene was not laid out within " + FRAME_TIMEOUT_SECONDS + " seconds");
+        }
+        return runOnFxThread(() -> pendingFrameEndNanos) - startNanos;
+    }
+
+    /**
+     * Ends the pending frame, if any, once a pulse has laid out the scene.
+     */
+    private void onPulseLaidOut() {
+        if (pendingFrame != null) {
+            pendingFrameEndNanos = System.nanoTime();
+            pendingFrame.countDown();
+            pendingFrame = null;
+        }
+    }
+
+    /**
+     * Records the nodes in the scene and the bytes allocated on the JavaFX thread since {@code allocatedBefore}.
+     */
+    private void finish(RenderReport.Scenario scenario, long allocatedBefore) throws Exception {
+        long allocatedAfter = getFxThreadAllocatedBytes();
+        int nodeCount = runOnFxThread(() -> countNodes(scene.getRoot()));
+        scenario.finish(nodeCount, allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore);
+    }
+
+    /**
+     * Returns the bytes allocated on the JavaFX thread so far, or -1 if the JVM does not measure them.
+     */
+    private long getFxThreadAllocatedBytes() {
+        return threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()
+                ? threadBean.getThreadAllocatedBytes(fxThreadId)
+                : -1;
+    }
+
+    /**
+     * Returns the number of nodes in the scene graph rooted at {@code node}.
+     */
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX application thread and waits for it to finish.
+     */
+    private static void runOnFxThread(Runnable action) throws Exception {
+        runOnFxThread(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX application thread and returns its result.
+     */
+    private static <R> R runOnFxThread(Supplier<R> action) throws Exception {
+        FutureTask<R> task = new FutureTask<>(action::get);
+        Platform.runLater(task);
+        return task.get(FRAME_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Generates the data set given by {@code args}, renders every list panel and prints the report.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int size = Integer.parseInt(options.getOrDefault("--size", "10000"));
+        int frameCount = Integer.parseInt(options.getOrDefault("--frames", "50"));
+
+        Config config = new Config();
+        config.setLogLevel(Level.parse(options.getOrDefault("--log-level", "WARNING")));
+        LogsCenter.init(config);
+
+        System.out.println("Generating data set of " + size + " patients...");
+        Model model = new ModelManager(DocXGenerator.generateDocX(size), new UserPrefs());
+
+        Stage stage = FxToolkit.registerPrimaryStage();
+        try {
+            ListPanelRenderBenchmark benchmark = new ListPanelRenderBenchmark(model, size, frameCount, stage);
+            benchmark.run();
+            benchmark.getReport().print(System.out);
+        } finally {
+            FxToolkit.cleanupStages();
+            Platform.exit();
+        }
+    }
+
+    /**
+     * Parses {@code args} as pairs of option names and values.
+     */
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.uibenchmark;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Records the frame times of the scripted scenarios of each list panel, with the number of nodes in the scene
+ * and the bytes allocated on the JavaFX application thread by each scenario.
+ */
+public class RenderReport {
+
+    private static final String ROW_FORMAT = "%-22s %-9s %6s | %9s %9s %9s | %7s %10s%n";
+
+    private final List<Scenario> scenarios = new ArrayList<>();
+
+    /**
+     * Starts recording the scenario {@code scenarioName} of the panel {@code panelName}, and returns it.
+     */
+    public Scenario startScenario(String panelName, String scenarioName) {
+        Scenario scenario = new Scenario(panelName, scenarioName);
+        scenarios.add(scenario);
+        return scenario;
+    }
+
+    /**
+     * Prints a table of the frame time percentiles in milliseconds, the node counts and the allocations of every
+     * scenario recorded.
+     */
+    public void print(PrintStream out) {
+        out.println("Frame times in ms, from the start of a change until the scene has been laid out.");
+        out.println("Nodes are counted in the scene after the scenario; allocations are on the JavaFX thread.");
+        out.printf(ROW_FORMAT, "panel", "scenario", "frames", "p50", "p99", "max", "nodes", "alloc MB");
+        scenarios.forEach(scenario -> scenario.print(out));
+    }
+
+    /**
+     * The frames of one scripted scenario of a panel.
+     */
+    public static class Scenario {
+        private final String panelName;
+        private final String scenarioName;
+        private long[] frameNanos = new long[16];
+        private int frameCount = 0;
+        private int nodeCount = 0;
+        private long allocatedBytes = 0;
+
+        private Scenario(String panelName, String scenarioName) {
+            this.panelName = panelName;
+            this.scenarioName = scenarioName;
+        }
+
+        /**
+         * Records a frame that took {@code nanos}.
+         */
+        public void recordFrame(long nanos) {
+            if (frameCount == frameNanos.length) {
+                frameNanos = Arrays.copyOf(frameNanos, frameCount * 2);
+            }
+            frameNanos[frameCount++] = nanos;
+        }
+
+        /**
+         * Records the number of nodes in the scene and the bytes allocated during the scenario.
+         */
+        public void finish(int nodeCount, long allocatedBytes) {
+            this.nodeCount = nodeCount;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Prints the row of this scenario.
+         */
+        void print(PrintStream out) {
+            if (frameCount == 0) {
+                out.printf(ROW_FORMAT, panelName, scenarioName, 0, "-", "-", "-", nodeCount, "-");
+                return;
+            }
+            long[] sorted = Arrays.copyOf(frameNanos, frameCount);
+            Arrays.sort(sorted);
+            out.printf(ROW_FORMAT, panelName, scenarioName, frameCount, toMillis(percentile(sorted, 50)),
+                    toMillis(percentile(sorted, 99)), toMillis(sorted[frameCount - 1]), nodeCount,
+                    allocatedBytes < 0 ? "n/a" : String.format("%.1f", allocatedBytes / 1e6));
+        }
+
+        /**
+         * Returns the nearest-rank {@code percentile} of the non-empty, sorted {@code values}.
+         */
+        private static long percentile(long[] sortedValues, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+            return sortedValues[Math.max(rank - 1, 0)];
+        }
+
+        private static String toMillis(long nanos) {
+            return String.format("%.3f", nanos / 1e6);
+        }
+    }
+}
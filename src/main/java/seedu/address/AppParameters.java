@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -15,8 +16,12 @@ import seedu.address.commons.util.FileUtil;
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
 
     private Path configPath;
+    private Path batchScriptPath;
+    private boolean isStrict;
+    private boolean isMissingDataAllowed;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,23 +31,91 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the batch script to execute instead of starting the UI, or null if there is none.
+     */
+    public Path getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(Path batchScriptPath) {
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    /**
+     * Returns true if the batch script should be aborted on its first failing command.
+     */
+    public boolean isStrict() {
+        return isStrict;
+    }
+
+    public void setStrict(boolean isStrict) {
+        this.isStrict = isStrict;
+    }
+
+    /**
+     * Returns true if the batch script may start from an empty DocX when the data file does not exist.
+     */
+    public boolean isMissingDataAllowed() {
+        return isMissingDataAllowed;
+    }
+
+    public void setMissingDataAllowed(boolean isMissingDataAllowed) {
+        this.isMissingDataAllowed = isMissingDataAllowed;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
-        AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        return parse(parameters.getNamed());
+    }
 
-        String configPathParameter = namedParameters.get("config");
-        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
+    /**
+     * Parses the raw command-line arguments given to {@code main}, before the JavaFX toolkit is started.
+     * Named arguments have the form {@code --name=value}, and {@code --name} on its own is short for
+     * {@code --name=true}.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith(NAMED_PARAMETER_PREFIX)) {
+                continue;
+            }
+            String parameter = arg.substring(NAMED_PARAMETER_PREFIX.length());
+            int separatorIndex = parameter.indexOf('=');
+            if (separatorIndex == -1) {
+                namedParameters.put(parameter, Boolean.TRUE.toString());
+            } else {
+                namedParameters.put(parameter.substring(0, separatorIndex), parameter.substring(separatorIndex + 1));
+            }
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        return parse(namedParameters);
+    }
 
+    /**
+     * Parses the named command-line parameters.
+     */
+    private static AppParameters parse(Map<String, String> namedParameters) {
+        AppParameters appParameters = new AppParameters();
+        appParameters.setConfigPath(parsePath(namedParameters.get("config"), "config"));
+        appParameters.setBatchScriptPath(parsePath(namedParameters.get("batch"), "batch script"));
+        appParameters.setStrict(Boolean.parseBoolean(namedParameters.get("strict")));
+        appParameters.setMissingDataAllowed(Boolean.parseBoolean(namedParameters.get("allow-missing-data")));
         return appParameters;
     }
 
+    /**
+     * Returns {@code pathParameter} as a path, or null if it is missing or invalid.
+     */
+    private static Path parsePath(String pathParameter, String description) {
+        if (pathParameter != null && !FileUtil.isValidPath(pathParameter)) {
+            logger.warning("Invalid " + description + " path " + pathParameter + ". Ignoring it.");
+            return null;
+        }
+        return pathParameter != null ? Paths.get(pathParameter) : null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +127,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchScriptPath(), otherAppParameters.getBatchScriptPath())
+                && isStrict() == otherAppParameters.isStrict()
+                && isMissingDataAllowed() == otherAppParameters.isMissingDataAllowed();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScriptPath, isStrict, isMissingDataAllowed);
     }
 }
@@ -1,20 +1,32 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressListener;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.core.metrics.JmxMetricsExporter;
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.metrics.MetricsFileExporter;
+import seedu.address.commons.core.metrics.StallMonitor;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchResult;
+import seedu.address.logic.BatchScriptExecutor;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.MetricsSampler;
 import seedu.address.model.DocX;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -22,11 +34,14 @@ import seedu.address.model.ReadOnlyDocX;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.ApiToken;
+import seedu.address.server.HttpService;
 import seedu.address.storage.DocXStorage;
 import seedu.address.storage.JsonDocXStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -41,10 +56,16 @@ public class MainApp extends Application {
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
-    protected Logic logic;
+    protected LogicManager logic;
     protected Storage storage;
     protected Model model;
+    protected CommandHistory commandHistory;
     protected Config config;
+    protected HttpService httpService;
+    protected MetricsSampler metricsSampler;
+    protected StallMonitor stallMonitor;
+    private MetricsFileExporter stallFileExporter;
+    private Path configFilePath;
 
     @Override
     public void init() throws Exception {
@@ -52,6 +73,20 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        UserPrefs userPrefs = initStorage(appParameters);
+        // the data is loaded in the background once the UI is shown
+        model = new ModelManager(new DocX(), userPrefs);
+
+        commandHistory = initCommandHistory(model.getUserPrefs());
+        logic = new LogicManager(model, storage, commandHistory);
+
+        ui = new UiManager(logic, config.getUiProfile());
+    }
+
+    /**
+     * Initialises the config and storage from the files given by {@code appParameters}, and returns the user prefs.
+     */
+    private UserPrefs initStorage(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
@@ -60,24 +95,123 @@ public class MainApp extends Application {
         storage = new StorageManager(docXStorage, userPrefsStorage);
 
         initLogging(config);
+        return userPrefs;
+    }
+
+    /**
+     * Executes the batch script given by {@code appParameters} as a single transaction without starting the UI,
+     * and prints a summary of every line to standard output.
+     * Returns true if every command succeeded and the changes were saved. Nothing is run if the data file cannot be
+     * read.
+     */
+    protected boolean runBatchScript(AppParameters appParameters) {
+        logger.info("=============================[ Running DocX batch script ]===========================");
+        UserPrefs userPrefs = initStorage(appParameters);
+        Optional<ReadOnlyDocX> initialData = readBatchData(appParameters.isMissingDataAllowed());
+        if (!initialData.isPresent()) {
+            return false;
+        }
+        model = new ModelManager(initialData.get(), userPrefs);
+
+        Path scriptPath = appParameters.getBatchScriptPath();
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath);
+        } catch (IOException e) {
+            System.err.println("Could not read batch script " + scriptPath + ": " + e);
+            return false;
+        }
 
-        model = initModelManager(storage, userPrefs);
+        BatchScriptExecutor executor = new BatchScriptExecutor(model.getDocX(), model.getUserPrefs(), storage);
+        BatchResult result = executor.execute(lines, appParameters.isStrict());
+        System.out.println(result.getSummary());
+        return result.isSuccessful();
+    }
+
+    /**
+     * Returns the data from {@code storage}'s DocX for a batch script, or an empty {@code Optional} if the script
+     * must not be run. Unlike the app, a batch script never falls back to the sample data or an empty DocX when the
+     * data file cannot be read, as saving its changes would then overwrite the data in the file.
+     * A missing data file is replaced by an empty DocX only if {@code isMissingDataAllowed}.
+     */
+    private Optional<ReadOnlyDocX> readBatchData(boolean isMissingDataAllowed) {
+        Path docXFilePath = storage.getDocXFilePath();
+        try {
+            Optional<ReadOnlyDocX> docXOptional = storage.readDocX(ProgressListener.NONE);
+            if (docXOptional.isPresent()) {
+                return docXOptional;
+            }
+            if (isMissingDataAllowed) {
+                logger.info("Data file not found. Will be starting the batch script with an empty DocX");
+                return Optional.of(new DocX());
+            }
+            System.err.println("Data file " + docXFilePath + " not found. Nothing was run. "
+                    + "Add --allow-missing-data to start with an empty DocX.");
+        } catch (DataConversionException e) {
+            System.err.println("Data file " + docXFilePath + " is not in the correct format. Nothing was run: " + e);
+        } catch (IOException e) {
+            System.err.println("Could not read data file " + docXFilePath + ". Nothing was run: " + e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Starts the {@code HttpService} on the port in {@code config}, if there is one, accepting the API token kept
+     * next to the config file. The app still starts without the service if the port cannot be bound or the token
+     * cannot be read.
+     */
+    private void initHttpService(Config config, Logic logic) {
+        if (config.getHttpServicePort() == null) {
+            return;
+        }
+        try {
+            Path tokenFilePath = ApiToken.getTokenFilePath(configFilePath);
+            httpService = new HttpService(logic, config.getHttpServicePort(), ApiToken.readOrCreate(tokenFilePath));
+            logger.info("Using HTTP service API token file : " + tokenFilePath);
+            httpService.start();
+        } catch (IOException e) {
+            logger.warning("Failed to start the HTTP service on port " + config.getHttpServicePort() + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
 
-        logic = new LogicManager(model, storage);
+    /**
+     * Starts sampling the metrics of {@code logic} every {@code config}'s metrics sample interval, if there is one.
+     * The app still starts without sampling if the metrics file cannot be opened.
+     */
+    private void initMetricsSampler(Config config, Logic logic) {
+        if (config.getMetricsSampleIntervalSeconds() == null) {
+            return;
+        }
+        try {
+            metricsSampler = new MetricsSampler(logic, MetricsCenter.getRegistry(), new MetricsFileExporter(),
+                    new JmxMetricsExporter());
+            metricsSampler.start(config.getMetricsSampleIntervalSeconds());
+        } catch (IOException e) {
+            logger.warning("Failed to open the metrics file: " + StringUtil.getDetails(e));
+        }
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns a {@code CommandHistory} that is saved to {@code userPrefs}'s command history file path,
+     * starting with the commands already in that file.
+     */
+    protected CommandHistory initCommandHistory(ReadOnlyUserPrefs userPrefs) {
+        Path historyFilePath = userPrefs.getCommandHistoryFilePath();
+        logger.info("Using command history file : " + historyFilePath);
+        return new CommandHistory(CommandHistory.DEFAULT_CAPACITY, new TextCommandHistoryStorage(historyFilePath));
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the data from {@code storage}'s DocX, reporting to {@code listener} as it is read. <br>
+     * The sample data will be used instead if {@code storage}'s DocX is not found,
+     * or an empty DocX will be used instead if errors occur when reading {@code storage}'s DocX.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyDocX readInitialData(ProgressListener listener) {
         Optional<ReadOnlyDocX> docXOptional;
         ReadOnlyDocX initialData;
         try {
-            docXOptional = storage.readDocX();
+            docXOptional = storage.readDocX(listener);
             if (!docXOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample DocX");
             }
@@ -90,7 +224,7 @@ public class MainApp extends Application {
             initialData = new DocX();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -114,6 +248,7 @@ public class MainApp extends Application {
         }
 
         logger.info("Using config file : " + configFilePathUsed);
+        configFilePath = configFilePathUsed;
 
         try {
             Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
@@ -169,19 +304,77 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting DocX " + MainApp.VERSION);
         ui.start(primaryStage);
+        initStallMonitor(config);
+        loadData();
+        // started only once the data is being loaded, so that their commands wait for it instead of
+        // running against the empty DocX and overwriting the data file
+        initHttpService(config, logic);
+        initMetricsSampler(config, logic);
+    }
+
+    /**
+     * Starts monitoring the JavaFX application thread for stalls longer than {@code config}'s stall threshold, if
+     * there is one, writing them to the stalls file. Must be called on the JavaFX application thread.
+     * Stalls are still monitored if the stalls file cannot be opened.
+     */
+    private void initStallMonitor(Config config) {
+        if (config.getUiStallThresholdMillis() == null) {
+            return;
+        }
+        try {
+            stallFileExporter = new MetricsFileExporter(MetricsFileExporter.STALLS_FILE);
+            MetricsCenter.getStallRecorder().addListener(stall -> stallFileExporter.export(stall.toString()));
+        } catch (IOException e) {
+            logger.warning("Failed to open the stalls file: " + StringUtil.getDetails(e));
+        }
+        stallMonitor = new StallMonitor(Thread.currentThread(), Platform::runLater, config.getUiStallThresholdMillis(),
+                MetricsCenter.getStallRecorder(), MetricsCenter.getRegistry());
+        stallMonitor.start();
+    }
+
+    /**
+     * Loads the data from the storage in the background, so that the UI is shown while the data is being loaded.
+     */
+    protected void loadData() {
+        logic.loadInBackground(this::readInitialData);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (httpService != null) {
+            httpService.stop();
+        }
+        if (metricsSampler != null) {
+            metricsSampler.stop();
+        }
+        if (stallMonitor != null) {
+            stallMonitor.stop();
+        }
+        if (stallFileExporter != null) {
+            stallFileExporter.close();
+        }
+        ui.stop();
+        commandHistory.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.shutdown();
     }
 
+    /**
+     * Starts the app, or only runs a batch script if one is given with {@code --batch=FILE}.
+     * Add {@code --strict} to abort the script on its first failing command.
+     */
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getBatchScriptPath() != null) {
+            boolean isSuccessful = new MainApp().runBatchScript(appParameters);
+            LogsCenter.shutdown();
+            System.exit(isSuccessful ? 0 : 1);
+        }
         launch(args);
     }
 }
@@ -0,0 +1,233 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link Handler} that passes log records on to other handlers on a background thread, so that logging never
+ * waits for the disk or the console.
+ * Records are held in a bounded buffer until the background thread writes them. The background thread writes all
+ * the records in the buffer, up to {@link #MAX_BATCH_SIZE}, before flushing the handlers once.
+ * If the buffer is full, the record is either dropped or the caller waits for space, depending on the
+ * {@link OverflowPolicy}. The number of dropped records is logged once there is space again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record that is published while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Discard the record, so that the caller never waits. */
+        DROP,
+        /** Wait until the background thread has made space for the record, so that no record is lost. */
+        BLOCK
+    }
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final String MESSAGE_INVALID_CAPACITY = "The capacity of a log buffer must be positive";
+    public static final String MESSAGE_DROPPED = "%1$d log records were dropped because the log buffer was full";
+
+    /** The maximum number of records written before the handlers are flushed. */
+    static final int MAX_BATCH_SIZE = 256;
+    /** The time {@link #close()} waits for the buffered records to be written. */
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final Thread writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Creates a handler that buffers at most {@code capacity} records for {@code targets}, and starts its background
+     * thread.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... targets) {
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+        this.targets = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(targets)));
+        buffer = new ArrayBlockingQueue<>(capacity);
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public List<Handler> getTargets() {
+        return targets;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Returns the number of records dropped since the count was last logged.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Adds {@code record} to the buffer, to be passed on to the handlers by the background thread.
+     * Does nothing if the record is below the level of this handler, or if this handler is closed.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the caller is inferred from the stack trace when first asked for, so it must be done on this thread
+        record.getSourceClassName();
+
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!buffer.offer(record)) {
+                droppedCount.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            buffer.put(record);
+        } catch (InterruptedException ie) {
+            droppedCount.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the records published before this call have been written and the handlers flushed.
+     */
+    @Override
+    public void flush() {
+        if (isClosed) {
+            return;
+        }
+        awaitMarker(new Marker(false), Long.MAX_VALUE);
+    }
+
+    /**
+     * Writes the buffered records, flushes and closes the handlers, and stops the background thread.
+     * Records published afterwards are ignored.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        awaitMarker(new Marker(true), CLOSE_TIMEOUT_SECONDS);
+        for (Handler target : targets) {
+            target.close();
+        }
+    }
+
+    @Override
+    public synchronized void setLevel(Level level) {
+        super.setLevel(level);
+        for (Handler target : targets) {
+            target.setLevel(level);
+        }
+    }
+
+    /**
+     * Adds {@code marker} to the buffer and waits at most {@code timeoutSeconds} for the background thread to reach
+     * it.
+     */
+    private void awaitMarker(Marker marker, long timeoutSeconds) {
+        try {
+            buffer.put(marker);
+            marker.reached.await(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the records in the buffer in batches, until a marker from {@link #close()} is reached.
+     */
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        boolean isStopped = false;
+        while (!isStopped) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException ie) {
+                continue;
+            }
+            buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+            List<Marker> markers = new ArrayList<>();
+            for (LogRecord record : batch) {
+                if (record instanceof Marker) {
+                    markers.add((Marker) record);
+                    isStopped |= ((Marker) record).isClose;
+                } else {
+                    writeRecord(record);
+                }
+            }
+            writeDroppedCount();
+            targets.forEach(Handler::flush);
+            markers.forEach(marker -> marker.reached.countDown());
+            batch.clear();
+        }
+    }
+
+    /**
+     * Logs the number of records that were dropped, if any.
+     */
+    private void writeDroppedCount() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord record = new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED, dropped));
+            record.setLoggerName(AsyncLogHandler.class.getSimpleName());
+            record.setSourceClassName(AsyncLogHandler.class.getName());
+            record.setSourceMethodName("writeRecords");
+            writeRecord(record);
+        }
+    }
+
+    /**
+     * Passes {@code record} on to every handler, so that an error in one handler does not stop the others.
+     */
+    private void writeRecord(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException re) {
+                reportError(null, re, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * A record that marks a point in the buffer, which the caller that added it waits for the background thread to
+     * reach.
+     */
+    private static class Marker extends LogRecord {
+        private final CountDownLatch reached = new CountDownLatch(1);
+        private final boolean isClose;
+
+        Marker(boolean isClose) {
+            super(Level.OFF, null);
+            this.isClose = isClose;
+        }
+    }
+}
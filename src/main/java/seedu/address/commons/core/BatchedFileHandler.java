@@ -0,0 +1,39 @@
+package seedu.address.commons.core;
+
+import java.io.IOException;
+import java.util.logging.FileHandler;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link FileHandler} that only flushes when {@link #flush()} is called, instead of after every record, so that
+ * records published in a batch are written to the file together.
+ * The log files are still rotated when they reach their size limit.
+ */
+class BatchedFileHandler extends FileHandler {
+
+    private boolean isPublishing = false;
+
+    BatchedFileHandler(String pattern, int limit, int count, boolean append) throws IOException {
+        super(pattern, limit, count, append);
+    }
+
+    @Override
+    public synchronized void publish(LogRecord record) {
+        isPublishing = true;
+        try {
+            super.publish(record);
+        } finally {
+            isPublishing = false;
+        }
+    }
+
+    /**
+     * Flushes the records published so far, unless it is called by {@code FileHandler} after publishing a record.
+     */
+    @Override
+    public synchronized void flush() {
+        if (!isPublishing) {
+            super.flush();
+        }
+    }
+}
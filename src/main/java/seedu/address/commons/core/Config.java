@@ -10,11 +10,26 @@ import java.util.logging.Level;
  */
 public class Config {
 
+    /**
+     * The set of UI parts that the app is started with.
+     */
+    public enum UiProfile {
+        /** All UI parts. */
+        FULL,
+        /** No web views until one is needed, for machines where starting a web view is slow. */
+        LITE
+    }
+
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Integer httpServicePort = null;
+    private Integer metricsSampleIntervalSeconds = 60;
+    private Integer uiStallThresholdMillis = 200;
+    private UiProfile uiProfile = UiProfile.FULL;
 
     public Level getLogLevel() {
         return logLevel;
@@ -24,6 +39,18 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    /**
+     * Returns what is done with a log message that is logged while the messages waiting to be written fill the log
+     * buffer.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -32,6 +59,49 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the localhost port of the HTTP service, or null if the service is disabled.
+     */
+    public Integer getHttpServicePort() {
+        return httpServicePort;
+    }
+
+    public void setHttpServicePort(Integer httpServicePort) {
+        this.httpServicePort = httpServicePort;
+    }
+
+    /**
+     * Returns the number of seconds between samples of the metrics, which are then exported to the metrics file and
+     * to JMX, or null if the metrics are not sampled or exported.
+     */
+    public Integer getMetricsSampleIntervalSeconds() {
+        return metricsSampleIntervalSeconds;
+    }
+
+    public void setMetricsSampleIntervalSeconds(Integer metricsSampleIntervalSeconds) {
+        this.metricsSampleIntervalSeconds = metricsSampleIntervalSeconds;
+    }
+
+    /**
+     * Returns the number of milliseconds that the UI can be unresponsive for before it is recorded as a stall,
+     * or null if stalls are not monitored.
+     */
+    public Integer getUiStallThresholdMillis() {
+        return uiStallThresholdMillis;
+    }
+
+    public void setUiStallThresholdMillis(Integer uiStallThresholdMillis) {
+        this.uiStallThresholdMillis = uiStallThresholdMillis;
+    }
+
+    public UiProfile getUiProfile() {
+        return uiProfile;
+    }
+
+    public void setUiProfile(UiProfile uiProfile) {
+        this.uiProfile = uiProfile;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +114,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(logOverflowPolicy, o.logOverflowPolicy)
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(httpServicePort, o.httpServicePort)
+                && Objects.equals(metricsSampleIntervalSeconds, o.metricsSampleIntervalSeconds)
+                && Objects.equals(uiStallThresholdMillis, o.uiStallThresholdMillis)
+                && Objects.equals(uiProfile, o.uiProfile);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logOverflowPolicy, userPrefsFilePath, httpServicePort,
+                metricsSampleIntervalSeconds, uiStallThresholdMillis, uiProfile);
     }
 
     @Override
@@ -1,10 +1,14 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -14,39 +18,62 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread, so that logging does not wait for the console or the disk.
+ *   Call {@link #shutdown()} before exiting to write the remaining messages.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler.OverflowPolicy currentOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
-     * Initializes with a custom log level (specified in the {@code config} object)
+     * Initializes with a custom log level and overflow policy (specified in the {@code config} object)
      * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
      * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * is requested again from the LogsCenter. Handlers that have already been created are updated immediately.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        if (config.getLogOverflowPolicy() != null) {
+            currentOverflowPolicy = config.getLogOverflowPolicy();
+        }
+        if (asyncHandler != null) {
+            asyncHandler.setLevel(currentLogLevel);
+            asyncHandler.setOverflowPolicy(currentOverflowPolicy);
+        }
+        logger.info("currentLogLevel: " + currentLogLevel + ", logOverflowPolicy: " + currentOverflowPolicy);
+    }
+
+    /**
+     * Writes the messages that have not been written yet, and closes the log file.
+     * Messages logged afterwards are discarded.
+     */
+    public static synchronized void shutdown() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
     }
 
     /**
      * Creates a logger with the given name.
+     * The handlers of a logger that was already created are only replaced if they are not the shared handler.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
 
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        Handler handler = getAsyncHandler();
+        Handler[] handlers = logger.getHandlers();
+        if (handlers.length != 1 || handlers[0] != handler) {
+            removeHandlers(logger);
+            logger.addHandler(handler);
+        }
 
-        return Logger.getLogger(name);
+        return logger;
     }
 
     /**
@@ -59,17 +86,6 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
-    /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
-     */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
-    }
-
     /**
      * Remove all the handlers from {@code logger}.
      */
@@ -79,26 +95,37 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the handler shared by all loggers, which writes to the console and the log file.
+     * Creates it if it is null. If the log file cannot be opened, messages are only written to the console.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler != null) {
+            return asyncHandler;
+        }
+
+        List<Handler> targets = new ArrayList<>();
+        targets.add(createConsoleHandler());
+        String fileHandlerError = null;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            targets.add(createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            fileHandlerError = "Error adding file handler for logger.";
+        }
+        asyncHandler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, currentOverflowPolicy,
+                targets.toArray(new Handler[0]));
+        asyncHandler.setLevel(currentLogLevel);
+        if (fileHandlerError != null) {
+            asyncHandler.publish(new LogRecord(Level.WARNING, fileHandlerError));
         }
+        return asyncHandler;
     }
 
     /**
-     * Creates a {@code FileHandler} for the log file.
+     * Creates a {@code FileHandler} for the log file, which is flushed after each batch of messages.
      * @throws IOException if there are problems opening the file.
      */
     private static FileHandler createFileHandler() throws IOException {
-        FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+        FileHandler fileHandler = new BatchedFileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
         fileHandler.setLevel(currentLogLevel);
         return fileHandler;
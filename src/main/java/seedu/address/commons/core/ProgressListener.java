@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * Listens to the progress of a long-running task that processes a known number of records.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /** A listener that ignores all progress. */
+    ProgressListener NONE = (processed, total) -> { };
+
+    /**
+     * Called when {@code processed} out of {@code total} records have been processed.
+     * May be called from any thread.
+     */
+    void onProgress(int processed, int total);
+}
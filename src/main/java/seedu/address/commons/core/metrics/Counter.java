@@ -0,0 +1,23 @@
+package seedu.address.commons.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count of events that can be incremented from any thread.
+ */
+public class Counter implements CounterMBean {
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Counts one more event.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+}
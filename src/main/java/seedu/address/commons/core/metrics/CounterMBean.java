@@ -0,0 +1,12 @@
+package seedu.address.commons.core.metrics;
+
+/**
+ * The management interface of a {@link Counter}, through which it is exported to JMX.
+ */
+public interface CounterMBean {
+
+    /**
+     * Returns the number of events counted.
+     */
+    long getCount();
+}
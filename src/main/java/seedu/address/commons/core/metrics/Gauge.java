@@ -0,0 +1,18 @@
+package seedu.address.commons.core.metrics;
+
+/**
+ * A value that is sampled from time to time, such as the heap usage.
+ */
+public class Gauge implements GaugeMBean {
+
+    private volatile long value;
+
+    public void setValue(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public long getValue() {
+        return value;
+    }
+}
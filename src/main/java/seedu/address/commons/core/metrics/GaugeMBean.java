@@ -0,0 +1,12 @@
+package seedu.address.commons.core.metrics;
+
+/**
+ * The management interface of a {@link Gauge}, through which it is exported to JMX.
+ */
+public interface GaugeMBean {
+
+    /**
+     * Returns the value last sampled.
+     */
+    long getValue();
+}
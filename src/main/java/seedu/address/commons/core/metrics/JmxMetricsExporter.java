@@ -0,0 +1,90 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Registers the metrics of a {@link MetricsRegistry} as MBeans, so that they can be viewed in a JMX console such as
+ * JConsole. Each metric is registered under the domain {@value #DOMAIN}, with its kind as the {@code type} key and
+ * its name as the {@code name} key.
+ */
+public class JmxMetricsExporter {
+
+    public static final String DOMAIN = "seedu.address";
+
+    private static final Logger logger = LogsCenter.getLogger(JmxMetricsExporter.class);
+
+    private final MBeanServer server;
+    private final Set<ObjectName> registeredNames = new HashSet<>();
+
+    public JmxMetricsExporter() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxMetricsExporter(MBeanServer server) {
+        this.server = requireNonNull(server);
+    }
+
+    /**
+     * Registers the metrics in {@code registry} that have not been registered yet.
+     */
+    public synchronized void export(MetricsRegistry registry) {
+        register("Counter", registry.getCounters());
+        register("Latency", registry.getHistograms());
+        register("Gauge", registry.getGauges());
+    }
+
+    /**
+     * Registers every metric in {@code metrics} that has not been registered yet as an MBean of the given
+     * {@code type}.
+     */
+    private void register(String type, Map<String, ?> metrics) {
+        metrics.forEach((name, metric) -> {
+            try {
+                ObjectName objectName = getObjectName(type, name);
+                if (registeredNames.contains(objectName)) {
+                    return;
+                }
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+                server.registerMBean(metric, objectName);
+                registeredNames.add(objectName);
+            } catch (JMException e) {
+                logger.warning("Could not register metric " + name + " with JMX: " + e);
+            }
+        });
+    }
+
+    /**
+     * Returns the name that the metric of the given {@code type} and {@code name} is registered under.
+     */
+    public static ObjectName getObjectName(String type, String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+
+    /**
+     * Unregisters every metric registered by this exporter.
+     */
+    public synchronized void close() {
+        for (ObjectName objectName : registeredNames) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                logger.fine("Could not unregister " + objectName + ": " + e);
+            }
+        }
+        registeredNames.clear();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.commons.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A distribution of latencies that can be recorded from any thread.
+ * Latencies are counted in buckets whose bounds double from one microsecond, so recording takes constant time and
+ * space, and percentiles are accurate to within a factor of two.
+ */
+public class LatencyHistogram implements LatencyHistogramMBean {
+
+    /** Bucket {@code i} counts the latencies above {@code 2^(i-1)} and up to {@code 2^i} microseconds. */
+    private static final int BUCKET_COUNT = 32;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        buckets.incrementAndGet(getBucket(latency));
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Records the latency from {@code startNanos}, a value of {@link System#nanoTime()}, until now.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the bucket that counts a latency of {@code nanos} nanoseconds.
+     */
+    private static int getBucket(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        int bucket = micros <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(micros - 1);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        long latencyCount = getCount();
+        return latencyCount == 0 ? 0 : totalNanos.sum() / NANOS_PER_MILLI / latencyCount;
+    }
+
+    @Override
+    public double get50thPercentileMillis() {
+        return getPercentileMillis(50);
+    }
+
+    @Override
+    public double get95thPercentileMillis() {
+        return getPercentileMillis(95);
+    }
+
+    @Override
+    public double get99thPercentileMillis() {
+        return getPercentileMillis(99);
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return maxNanos.get() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the upper bound of the bucket that the given {@code percentile} of the latencies recorded fall into,
+     * but not more than the largest latency recorded.
+     */
+    public double getPercentileMillis(double percentile) {
+        long latencyCount = getCount();
+        if (latencyCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(latencyCount * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(TimeUnit.MICROSECONDS.toNanos(1L << i), maxNanos.get()) / NANOS_PER_MILLI;
+            }
+        }
+        return getMaxMillis();
+    }
+}
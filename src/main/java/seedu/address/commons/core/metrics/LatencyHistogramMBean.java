@@ -0,0 +1,38 @@
+package seedu.address.commons.core.metrics;
+
+/**
+ * The management interface of a {@link LatencyHistogram}, through which it is exported to JMX.
+ * Latencies are in milliseconds.
+ */
+public interface LatencyHistogramMBean {
+
+    /**
+     * Returns the number of latencies recorded.
+     */
+    long getCount();
+
+    /**
+     * Returns the mean of the latencies recorded.
+     */
+    double getMeanMillis();
+
+    /**
+     * Returns the latency that 50% of the latencies recorded do not exceed.
+     */
+    double get50thPercentileMillis();
+
+    /**
+     * Returns the latency that 95% of the latencies recorded do not exceed.
+     */
+    double get95thPercentileMillis();
+
+    /**
+     * Returns the latency that 99% of the latencies recorded do not exceed.
+     */
+    double get99thPercentileMillis();
+
+    /**
+     * Returns the largest latency recorded.
+     */
+    double getMaxMillis();
+}
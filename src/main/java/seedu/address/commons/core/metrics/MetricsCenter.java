@@ -0,0 +1,23 @@
+package seedu.address.commons.core.metrics;
+
+/**
+ * Holds the {@link MetricsRegistry} that the app records its metrics in, and the {@link StallRecorder} that it
+ * records stalls of the UI in.
+ * Like loggers, metrics are recorded throughout the app, so the registry is obtained from this class instead of
+ * being passed to every component.
+ */
+public class MetricsCenter {
+
+    private static final MetricsRegistry registry = new MetricsRegistry();
+    private static final StallRecorder stallRecorder = new StallRecorder(StallRecorder.DEFAULT_CAPACITY, registry);
+
+    private MetricsCenter() {}
+
+    public static MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    public static StallRecorder getStallRecorder() {
+        return stallRecorder;
+    }
+}
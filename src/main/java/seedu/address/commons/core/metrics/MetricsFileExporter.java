@@ -0,0 +1,72 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Appends summaries of a {@link MetricsRegistry}, or other reports such as {@link Stall}s, to a metrics file.
+ * Like the log file, a new metrics file with a new numbering is started after the file reaches 1MB, up to a maximum
+ * of 3 files, after which the oldest file is overwritten.
+ */
+public class MetricsFileExporter {
+
+    public static final String METRICS_FILE = "metrics.log";
+    public static final String STALLS_FILE = "stalls.log";
+    private static final int MAX_FILE_COUNT = 3;
+    private static final int MAX_FILE_SIZE_IN_BYTES = (int) Math.pow(2, 20); // 1MB
+
+    private final FileHandler fileHandler;
+
+    /**
+     * Opens the metrics file.
+     * @throws IOException if there are problems opening the file.
+     */
+    public MetricsFileExporter() throws IOException {
+        this(METRICS_FILE);
+    }
+
+    /**
+     * Opens the metrics files named by {@code pattern}, as for a {@code FileHandler}.
+     * @throws IOException if there are problems opening the file.
+     */
+    public MetricsFileExporter(String pattern) throws IOException {
+        requireNonNull(pattern);
+        fileHandler = new FileHandler(pattern, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+        fileHandler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return "==== " + Instant.ofEpochMilli(record.getMillis()) + " ====" + System.lineSeparator()
+                        + record.getMessage() + System.lineSeparator();
+            }
+        });
+    }
+
+    /**
+     * Appends a summary of every metric in {@code registry} to the metrics file.
+     */
+    public void export(MetricsRegistry registry) {
+        export(registry.getSummary());
+    }
+
+    /**
+     * Appends {@code report} to the metrics file.
+     */
+    public void export(String report) {
+        requireNonNull(report);
+        fileHandler.publish(new LogRecord(Level.INFO, report));
+        fileHandler.flush();
+    }
+
+    /**
+     * Closes the metrics file.
+     */
+    public void close() {
+        fileHandler.close();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds named counters, latency histograms and gauges.
+ * A metric is created the first time it is requested, and every metric can be updated from any thread.
+ */
+public class MetricsRegistry {
+
+    private final NavigableMap<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Returns the counter named {@code name}, creating it if there is none.
+     */
+    public Counter counter(String name) {
+        requireNonNull(name);
+        return counters.computeIfAbsent(name, unused -> new Counter());
+    }
+
+    /**
+     * Returns the latency histogram named {@code name}, creating it if there is none.
+     */
+    public LatencyHistogram histogram(String name) {
+        requireNonNull(name);
+        return histograms.computeIfAbsent(name, unused -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the gauge named {@code name}, creating it if there is none.
+     */
+    public Gauge gauge(String name) {
+        requireNonNull(name);
+        return gauges.computeIfAbsent(name, unused -> new Gauge());
+    }
+
+    /**
+     * Returns an unmodifiable view of the counters, sorted by name.
+     */
+    public Map<String, Counter> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * Returns an unmodifiable view of the latency histograms, sorted by name.
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Returns an unmodifiable view of the gauges, sorted by name.
+     */
+    public Map<String, Gauge> getGauges() {
+        return Collections.unmodifiableMap(gauges);
+    }
+
+    /**
+     * Returns the number of milliseconds since this registry was created.
+     */
+    public long getUptimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns a summary of every metric, one per line, with the latencies in milliseconds and the throughput of
+     * each latency histogram in events per minute since this registry was created.
+     */
+    public String getSummary() {
+        double uptimeMinutes = Math.max(getUptimeMillis(), 1) / (double) TimeUnit.MINUTES.toMillis(1);
+        StringBuilder summary = new StringBuilder(String.format("Uptime: %.1f min", uptimeMinutes));
+
+        summary.append("\nLatencies (ms):");
+        histograms.forEach((name, histogram) -> summary.append(String.format(
+                "\n  %s: count %d, rate %.2f/min, mean %.2f, p50 %.2f, p95 %.2f, p99 %.2f, max %.2f",
+                name, histogram.getCount(), histogram.getCount() / uptimeMinutes, histogram.getMeanMillis(),
+                histogram.get50thPercentileMillis(), histogram.get95thPercentileMillis(),
+                histogram.get99thPercentileMillis(), histogram.getMaxMillis())));
+
+        summary.append("\nCounters:");
+        counters.forEach((name, counter) -> summary.append("\n  ").append(name).append(": ")
+                .append(counter.getCount()));
+
+        summary.append("\nGauges:");
+        gauges.forEach((name, gauge) -> summary.append("\n  ").append(name).append(": ").append(gauge.getValue()));
+        return summary.toString();
+    }
+}
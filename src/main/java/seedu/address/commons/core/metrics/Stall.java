@@ -0,0 +1,72 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A time that a thread, e.g. the JavaFX application thread, could not respond for longer than it should have,
+ * as detected by a {@link StallMonitor}.
+ * Guarantees: immutable.
+ */
+public class Stall {
+
+    /** The number of innermost frames of a sampled stack that are kept. */
+    public static final int MAX_STACK_DEPTH = 30;
+
+    private final Instant startTime;
+    private final long durationNanos;
+    private final String command;
+    private final List<StackTraceElement> stack;
+
+    /**
+     * Creates a stall that started at {@code startTime} and lasted {@code durationNanos}, while {@code command} was
+     * executing, if any, with the stack of the stalled thread sampled during the stall, innermost frame first.
+     */
+    public Stall(Instant startTime, long durationNanos, Optional<String> command, List<StackTraceElement> stack) {
+        requireNonNull(startTime);
+        requireNonNull(command);
+        requireNonNull(stack);
+        this.startTime = startTime;
+        this.durationNanos = durationNanos;
+        this.command = command.orElse(null);
+        this.stack = Collections.unmodifiableList(new ArrayList<>(stack.subList(0,
+                Math.min(stack.size(), MAX_STACK_DEPTH))));
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Returns the command that was executing during the stall, if any.
+     */
+    public Optional<String> getCommand() {
+        return Optional.ofNullable(command);
+    }
+
+    /**
+     * Returns the stack of the stalled thread sampled during the stall, innermost frame first.
+     * The stack is empty if the stall ended before it could be sampled.
+     */
+    public List<StackTraceElement> getStack() {
+        return stack;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format("%d ms at %s while executing: %s",
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), startTime, command == null ? "no command" : command));
+        stack.forEach(frame -> builder.append(System.lineSeparator()).append("    at ").append(frame));
+        return builder.toString();
+    }
+}
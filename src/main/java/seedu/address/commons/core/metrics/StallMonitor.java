@@ -0,0 +1,158 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Detects stalls of a thread that runs the tasks passed to an {@code Executor}, e.g. the JavaFX application thread
+ * through {@code Platform::runLater}.
+ * A watchdog thread regularly passes a heartbeat task to the executor and measures how long it waits to be run,
+ * which is how long the thread was kept busy by the tasks and pulses before it. A heartbeat that waits longer than
+ * the threshold is recorded as a {@link Stall}, with the command being executed and the stack of the thread sampled
+ * while it was stalled.
+ * All the measuring and recording happens on the watchdog thread, so the watched thread only runs the heartbeats.
+ */
+public class StallMonitor {
+
+    /** The name of the histogram of how long heartbeats waited to be run. */
+    public static final String HISTOGRAM_LATENCY = "ui.latency";
+    public static final String MESSAGE_INVALID_THRESHOLD = "The stall threshold must be positive";
+
+    /** The number of heartbeats passed to the executor during the threshold, which bounds the error of a stall. */
+    private static final int CHECKS_PER_THRESHOLD = 4;
+    private static final long MIN_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long NONE = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(StallMonitor.class);
+
+    private final Thread watchedThread;
+    private final Executor watchedExecutor;
+    private final long thresholdNanos;
+    private final StallRecorder recorder;
+    private final MetricsRegistry registry;
+    private final ScheduledExecutorService watchdog;
+    private final Object lock = new Object();
+
+    // guarded by lock
+    private long heartbeatPostedNanos = NONE;
+    private Instant heartbeatPostedTime;
+    private long heartbeatRunNanos = NONE;
+    private List<StackTraceElement> sampledStack;
+    private Optional<String> sampledCommand;
+
+    /**
+     * Creates a monitor of {@code watchedThread}, which runs the tasks passed to {@code watchedExecutor}, that records
+     * heartbeats waiting longer than {@code thresholdMillis} in {@code recorder}.
+     * Monitoring starts when {@link #start()} is called.
+     */
+    public StallMonitor(Thread watchedThread, Executor watchedExecutor, long thresholdMillis, StallRecorder recorder,
+            MetricsRegistry registry) {
+        requireNonNull(watchedThread);
+        requireNonNull(watchedExecutor);
+        requireNonNull(recorder);
+        requireNonNull(registry);
+        checkArgument(thresholdMillis > 0, MESSAGE_INVALID_THRESHOLD);
+        this.watchedThread = watchedThread;
+        this.watchedExecutor = watchedExecutor;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.recorder = recorder;
+        this.registry = registry;
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stall-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts passing heartbeats to the executor and checking on them.
+     */
+    public void start() {
+        long checkIntervalNanos = Math.max(thresholdNanos / CHECKS_PER_THRESHOLD, MIN_CHECK_INTERVAL_NANOS);
+        watchdog.scheduleAtFixedRate(() -> {
+            try {
+                check(System.nanoTime());
+            } catch (RuntimeException re) {
+                // an exception would cancel every later check
+                logger.warning("Failed to check for stalls: " + re);
+            }
+        }, 0, checkIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops monitoring. A heartbeat that has not been run yet is not recorded.
+     */
+    public void stop() {
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * Checks on the latest heartbeat at {@code nowNanos}: records it if it has been run, or samples the watched
+     * thread if it has waited longer than the threshold. Passes a new heartbeat to the executor if the latest one
+     * has been run.
+     */
+    void check(long nowNanos) {
+        Stall stall = null;
+        synchronized (lock) {
+            if (heartbeatRunNanos != NONE) {
+                long waitedNanos = heartbeatRunNanos - heartbeatPostedNanos;
+                registry.histogram(HISTOGRAM_LATENCY).record(waitedNanos);
+                if (waitedNanos > thresholdNanos) {
+                    stall = new Stall(heartbeatPostedTime, waitedNanos,
+                            sampledStack == null ? recorder.getCurrentCommand() : sampledCommand,
+                            sampledStack == null ? Collections.emptyList() : sampledStack);
+                }
+                heartbeatPostedNanos = NONE;
+            } else if (heartbeatPostedNanos != NONE && sampledStack == null
+                    && nowNanos - heartbeatPostedNanos > thresholdNanos) {
+                sampledStack = Arrays.asList(watchedThread.getStackTrace());
+                sampledCommand = recorder.getCurrentCommand();
+            }
+        }
+        if (stall != null) {
+            logger.warning("UI thread stalled for " + TimeUnit.NANOSECONDS.toMillis(stall.getDurationNanos())
+                    + " ms");
+            recorder.record(stall);
+        }
+        postHeartbeatIfNone(nowNanos);
+    }
+
+    /**
+     * Passes a new heartbeat to the executor at {@code nowNanos}, if there is no heartbeat waiting to be run.
+     */
+    private void postHeartbeatIfNone(long nowNanos) {
+        synchronized (lock) {
+            if (heartbeatPostedNanos != NONE) {
+                return;
+            }
+            heartbeatPostedNanos = nowNanos;
+            heartbeatPostedTime = Instant.now();
+            heartbeatRunNanos = NONE;
+            sampledStack = null;
+            sampledCommand = null;
+        }
+        watchedExecutor.execute(() -> onHeartbeat(System.nanoTime()));
+    }
+
+    /**
+     * Notes that the heartbeat was run at {@code nowNanos}, which the next check records.
+     */
+    void onHeartbeat(long nowNanos) {
+        synchronized (lock) {
+            heartbeatRunNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the worst {@link Stall}s recorded since the app was started, and the command being executed that a stall
+ * is attributed to.
+ * Stalls can be recorded and read from any thread.
+ */
+public class StallRecorder {
+
+    /** The name of the counter of stalls. */
+    public static final String COUNTER_STALLS = "ui.stalls";
+    public static final int DEFAULT_CAPACITY = 10;
+    public static final String MESSAGE_INVALID_CAPACITY = "The number of stalls kept must be positive";
+
+    private static final Comparator<Stall> WORST_FIRST = Comparator.comparingLong(Stall::getDurationNanos).reversed();
+
+    private final int capacity;
+    private final MetricsRegistry registry;
+    private final List<Stall> worstStalls = new ArrayList<>();
+    private final List<Consumer<Stall>> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicReference<String> currentCommand = new AtomicReference<>();
+
+    /**
+     * Creates a recorder that keeps the worst {@code capacity} stalls and counts every stall in {@code registry}.
+     */
+    public StallRecorder(int capacity, MetricsRegistry registry) {
+        requireNonNull(registry);
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        this.capacity = capacity;
+        this.registry = registry;
+    }
+
+    /**
+     * Records {@code stall}, and passes it to every listener on the calling thread.
+     */
+    public void record(Stall stall) {
+        requireNonNull(stall);
+        registry.counter(COUNTER_STALLS).increment();
+        synchronized (worstStalls) {
+            worstStalls.add(stall);
+            worstStalls.sort(WORST_FIRST);
+            if (worstStalls.size() > capacity) {
+                worstStalls.remove(capacity);
+            }
+        }
+        listeners.forEach(listener -> listener.accept(stall));
+    }
+
+    /**
+     * Returns the worst stalls recorded, longest first.
+     */
+    public List<Stall> getWorstStalls() {
+        synchronized (worstStalls) {
+            return new ArrayList<>(worstStalls);
+        }
+    }
+
+    /**
+     * Adds a listener that is passed every stall recorded from now on, e.g. to write it to a file.
+     */
+    public void addListener(Consumer<Stall> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Sets {@code commandText} as the command being executed, which stalls from now on are attributed to.
+     */
+    public void startCommand(String commandText) {
+        requireNonNull(commandText);
+        currentCommand.set(commandText);
+    }
+
+    /**
+     * Ends {@code commandText}, unless another command has been started since.
+     */
+    public void endCommand(String commandText) {
+        requireNonNull(commandText);
+        currentCommand.compareAndSet(commandText, null);
+    }
+
+    /**
+     * Returns the command being executed, if any.
+     */
+    public Optional<String> getCurrentCommand() {
+        return Optional.ofNullable(currentCommand.get());
+    }
+}
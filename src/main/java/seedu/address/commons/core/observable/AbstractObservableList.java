@@ -0,0 +1,50 @@
+package seedu.address.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Provides listener management for {@link ObservableList} implementations.
+ * Subclasses call {@link #fireChange(int, List, List)} after every change.
+ */
+public abstract class AbstractObservableList<T> extends AbstractList<T> implements ObservableList<T>, RandomAccess {
+
+    private final List<ListChangeListener<? super T>> listeners = new ArrayList<>();
+
+    @Override
+    public void addListener(ListChangeListener<? super T> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(ListChangeListener<? super T> listener) {
+        requireNonNull(listener);
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notifies all listeners that {@code removed} starting at index {@code from} was replaced by {@code added}.
+     * Any modifications to the listeners during the notification only take effect on the next change.
+     */
+    protected void fireChange(int from, List<T> removed, List<T> added) {
+        if (listeners.isEmpty() || (removed.isEmpty() && added.isEmpty())) {
+            return;
+        }
+        ListChange<T> change = new ListChange<>(getChangedList(), from, removed, added);
+        for (ListChangeListener<? super T> listener : new ArrayList<>(listeners)) {
+            listener.onChanged(change);
+        }
+    }
+
+    /**
+     * Returns the list that listeners are given in a {@code ListChange}.
+     */
+    protected ObservableList<T> getChangedList() {
+        return this;
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An {@link ObservableList} backed by an {@code ArrayList}.
+ * Bulk operations such as {@link #setAll(Collection)} and {@link #sort(Comparator)} result in a single change.
+ */
+public class ArrayObservableList<T> extends AbstractObservableList<T> {
+
+    private final ArrayList<T> elements;
+    private final ObservableList<T> unmodifiableView = new UnmodifiableView();
+
+    public ArrayObservableList() {
+        elements = new ArrayList<>();
+    }
+
+    public ArrayObservableList(Collection<? extends T> initialElements) {
+        elements = new ArrayList<>(initialElements);
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T oldElement = elements.set(index, element);
+        fireChange(index, Collections.singletonList(oldElement), Collections.singletonList(element));
+        return oldElement;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        elements.add(index, element);
+        fireChange(index, Collections.emptyList(), Collections.singletonList(element));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> toAdd) {
+        return addAll(elements.size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> toAdd) {
+        List<T> added = new ArrayList<>(toAdd);
+        elements.addAll(index, added);
+        fireChange(index, Collections.emptyList(), added);
+        return !added.isEmpty();
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = elements.remove(index);
+        fireChange(index, Collections.singletonList(removed), Collections.emptyList());
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<T> range = elements.subList(fromIndex, toIndex);
+        List<T> removed = new ArrayList<>(range);
+        range.clear();
+        fireChange(fromIndex, removed, Collections.emptyList());
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, elements.size());
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     */
+    public void setAll(Collection<? extends T> replacement) {
+        requireNonNull(replacement);
+        List<T> removed = new ArrayList<>(elements);
+        elements.clear();
+        elements.addAll(replacement);
+        fireChange(0, removed, new ArrayList<>(elements));
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        List<T> removed = new ArrayList<>(elements);
+        elements.sort(comparator);
+        fireChange(0, removed, new ArrayList<>(elements));
+    }
+
+    /**
+     * Returns an unmodifiable view of this list that notifies its listeners of changes to this list.
+     */
+    public ObservableList<T> asUnmodifiableList() {
+        return unmodifiableView;
+    }
+
+    @Override
+    protected ObservableList<T> getChangedList() {
+        return unmodifiableView;
+    }
+
+    /**
+     * An unmodifiable view of the enclosing list.
+     */
+    private class UnmodifiableView extends AbstractObservableList<T> {
+
+        @Override
+        public T get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public void addListener(ListChangeListener<? super T> listener) {
+            ArrayObservableList.this.addListener(listener);
+        }
+
+        @Override
+        public void removeListener(ListChangeListener<? super T> listener) {
+            ArrayObservableList.this.removeListener(listener);
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.core.observable;
+
+/**
+ * Listens for changes to the value of an {@link ObservableValue}.
+ */
+@FunctionalInterface
+public interface ChangeListener<T> {
+
+    /**
+     * Called after the value of {@code observable} has changed from {@code oldValue} to {@code newValue}.
+     */
+    void changed(ObservableValue<? extends T> observable, T oldValue, T newValue);
+}
@@ -0,0 +1,232 @@
+package seedu.address.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable {@link ObservableList} view of the elements of a source list that match a predicate.
+ * Changes to the source list are applied incrementally: only the added elements are tested against the
+ * predicate, so a single addition or removal does not refilter the whole list.
+ */
+public class FilteredList<T> extends AbstractObservableList<T> {
+
+    public static final String MESSAGE_FILTER_OF_OTHER_LIST = "The filter was taken from a different filtered list";
+
+    private final ObservableList<T> source;
+    private Predicate<? super T> predicate = element -> true;
+
+    /** Indices in {@code source} of the elements in this list, in ascending order. */
+    private int[] sourceIndices = new int[0];
+    private int size;
+    /** The number of changes to the source list since this list was created. */
+    private long sourceChangeCount = 0;
+    /** The number of times the predicate of this list was set since this list was created. */
+    private long predicateChangeCount = 0;
+
+    public FilteredList(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        sourceIndices = filter(predicate);
+        size = sourceIndices.length;
+        source.addListener(this::onSourceChanged);
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return source.get(sourceIndices[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Refilters the source list with {@code predicate}.
+     * If {@code predicate} throws an exception, this list and its predicate are left unchanged.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        setPredicate(predicate, predicate);
+    }
+
+    /**
+     * Refilters the source list with {@code currentMatches}, and then filters later changes to the source list with
+     * {@code predicate}. This is useful when the matches are already known, e.g. from an index, and testing
+     * {@code currentMatches} is cheaper than testing {@code predicate}.
+     * {@code currentMatches} must agree with {@code predicate} on every element currently in the source list.
+     * If {@code currentMatches} throws an exception, this list and its predicate are left unchanged.
+     */
+    public void setPredicate(Predicate<? super T> predicate, Predicate<? super T> currentMatches) {
+        requireNonNull(predicate);
+        requireNonNull(currentMatches);
+        setMatches(predicate, filter(currentMatches));
+    }
+
+    /**
+     * Returns the current predicate of this list together with the elements it matches, so that this list can later
+     * be restored to them by {@link #setFilter(Filter)} without testing the predicate again.
+     */
+    public Filter<T> getFilter() {
+        return new Filter<>(this, predicate, Arrays.copyOf(sourceIndices, size), sourceChangeCount,
+                predicateChangeCount);
+    }
+
+    /**
+     * Restores the predicate and the elements of this list to {@code filter}, which must have been returned by
+     * {@link #getFilter()} of this list.
+     * If the source list has not changed since, the elements are restored without testing the predicate.
+     * Otherwise, the source list is refiltered with the predicate.
+     */
+    public void setFilter(Filter<T> filter) {
+        requireNonNull(filter);
+        checkArgument(filter.filteredList == this, MESSAGE_FILTER_OF_OTHER_LIST);
+        if (filter.sourceChangeCount == sourceChangeCount) {
+            setMatches(filter.predicate, filter.sourceIndices);
+        } else {
+            setPredicate(filter.predicate);
+        }
+    }
+
+    /**
+     * Replaces the elements of this list with the elements at {@code newSourceIndices} in the source list, and then
+     * filters later changes to the source list with {@code predicate}.
+     */
+    private void setMatches(Predicate<? super T> predicate, int[] newSourceIndices) {
+        this.predicate = predicate;
+        predicateChangeCount++;
+        if (Arrays.equals(Arrays.copyOf(sourceIndices, size), newSourceIndices)) {
+            return;
+        }
+
+        List<T> removed = new ArrayList<>(this);
+        sourceIndices = Arrays.copyOf(newSourceIndices, newSourceIndices.length);
+        size = newSourceIndices.length;
+        fireChange(0, removed, new ArrayList<>(this));
+    }
+
+    /**
+     * Returns the indices of the elements in {@code source} that match {@code predicate}.
+     */
+    private int[] filter(Predicate<? super T> predicate) {
+        int[] matches = new int[source.size()];
+        int matchCount = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                matches[matchCount++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    /**
+     * Updates {@code sourceIndices} for the elements that were replaced in the source list by {@code change}.
+     */
+    private void onSourceChanged(ListChange<? extends T> change) {
+        sourceChangeCount++;
+        int sourceFrom = change.getFrom();
+        int removedEnd = sourceFrom + change.getRemovedSize();
+        int shift = change.getAddedSize() - change.getRemovedSize();
+
+        int from = findFirstIndexNotBefore(sourceFrom);
+        int removedTo = findFirstIndexNotBefore(removedEnd);
+        List<T> removed = new ArrayList<>(removedTo - from);
+        for (int i = from; i < removedTo; i++) {
+            removed.add(change.getRemoved().get(sourceIndices[i] - sourceFrom));
+        }
+
+        List<T> added = new ArrayList<>();
+        int[] addedSourceIndices = new int[change.getAddedSize()];
+        for (int i = 0; i < change.getAddedSize(); i++) {
+            T element = change.getAddedSubList().get(i);
+            if (predicate.test(element)) {
+                addedSourceIndices[added.size()] = sourceFrom + i;
+                added.add(element);
+            }
+        }
+
+        int tailLength = size - removedTo;
+        int newSize = from + added.size() + tailLength;
+        int[] newSourceIndices = newSize <= sourceIndices.length ? sourceIndices : new int[Math.max(newSize, size * 2)];
+        System.arraycopy(sourceIndices, 0, newSourceIndices, 0, from);
+        System.arraycopy(sourceIndices, removedTo, newSourceIndices, from + added.size(), tailLength);
+        System.arraycopy(addedSourceIndices, 0, newSourceIndices, from, added.size());
+        for (int i = from + added.size(); i < newSize; i++) {
+            newSourceIndices[i] += shift;
+        }
+        sourceIndices = newSourceIndices;
+        size = newSize;
+
+        fireChange(from, removed.isEmpty() ? Collections.emptyList() : removed, added);
+    }
+
+    /**
+     * Returns the smallest index in this list whose source index is not before {@code sourceIndex}.
+     */
+    private int findFirstIndexNotBefore(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sourceIndices[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The predicate of a {@code FilteredList} together with the elements it matched when it was taken.
+     */
+    public static class Filter<T> {
+        private final FilteredList<T> filteredList;
+        private final Predicate<? super T> predicate;
+        private final int[] sourceIndices;
+        private final long sourceChangeCount;
+        private final long predicateChangeCount;
+
+        private Filter(FilteredList<T> filteredList, Predicate<? super T> predicate, int[] sourceIndices,
+                long sourceChangeCount, long predicateChangeCount) {
+            this.filteredList = filteredList;
+            this.predicate = predicate;
+            this.sourceIndices = sourceIndices;
+            this.sourceChangeCount = sourceChangeCount;
+            this.predicateChangeCount = predicateChangeCount;
+        }
+
+        /**
+         * Returns true if the predicate of the list was set between taking {@code earlier} and this filter, even if
+         * it was set to the same predicate. Both filters must have been taken from the same list.
+         */
+        public boolean isSetSince(Filter<T> earlier) {
+            requireNonNull(earlier);
+            checkArgument(earlier.filteredList == filteredList, MESSAGE_FILTER_OF_OTHER_LIST);
+            return predicateChangeCount != earlier.predicateChangeCount;
+        }
+
+        public Predicate<? super T> getPredicate() {
+            return predicate;
+        }
+
+        /**
+         * Returns the number of elements the predicate matched.
+         */
+        public int size() {
+            return sourceIndices.length;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.core.observable;
+
+/**
+ * Listens for changes to an {@link Observable}.
+ */
+@FunctionalInterface
+public interface InvalidationListener {
+
+    /**
+     * Called after {@code observable} has changed.
+     */
+    void invalidated(Observable observable);
+}
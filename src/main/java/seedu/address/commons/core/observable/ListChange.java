@@ -0,0 +1,86 @@
+package seedu.address.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes a change to an {@link ObservableList}: the elements {@code removed} starting at index {@code from}
+ * were replaced by the elements {@code added}.
+ * A plain addition has no removed elements, and a plain removal has no added elements.
+ */
+public class ListChange<T> {
+
+    private final ObservableList<T> list;
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    public ListChange(ObservableList<T> list, int from, List<T> removed, List<T> added) {
+        requireNonNull(list);
+        requireNonNull(removed);
+        requireNonNull(added);
+        this.list = list;
+        this.from = from;
+        this.removed = Collections.unmodifiableList(removed);
+        this.added = Collections.unmodifiableList(added);
+    }
+
+    /**
+     * Returns the list after the change.
+     */
+    public ObservableList<T> getList() {
+        return list;
+    }
+
+    /**
+     * Returns the index of the first changed element.
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the index after the last added element.
+     */
+    public int getTo() {
+        return from + added.size();
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAddedSubList() {
+        return added;
+    }
+
+    public int getRemovedSize() {
+        return removed.size();
+    }
+
+    public int getAddedSize() {
+        return added.size();
+    }
+
+    public boolean wasAdded() {
+        return !added.isEmpty();
+    }
+
+    public boolean wasRemoved() {
+        return !removed.isEmpty();
+    }
+
+    /**
+     * Returns true if elements were both removed and added by this change.
+     */
+    public boolean wasReplaced() {
+        return wasAdded() && wasRemoved();
+    }
+
+    @Override
+    public String toString() {
+        return "ListChange[from: " + from + ", removed: " + removed + ", added: " + added + "]";
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.core.observable;
+
+/**
+ * Listens for changes to an {@link ObservableList}.
+ */
+@FunctionalInterface
+public interface ListChangeListener<T> {
+
+    /**
+     * Called after the list has changed as described by {@code change}.
+     */
+    void onChanged(ListChange<? extends T> change);
+}
@@ -0,0 +1,19 @@
+package seedu.address.commons.core.observable;
+
+/**
+ * An object whose changes can be listened to.
+ * Unlike {@code javafx.beans.Observable}, this does not depend on the JavaFX toolkit, so that the model can be
+ * used in headless JVMs. Listeners are called on the thread that made the change.
+ */
+public interface Observable {
+
+    /**
+     * Adds a listener that is notified whenever this {@code Observable} changes.
+     */
+    void addListener(InvalidationListener listener);
+
+    /**
+     * Removes the given listener. If it was not previously added, then this method call is a no-op.
+     */
+    void removeListener(InvalidationListener listener);
+}
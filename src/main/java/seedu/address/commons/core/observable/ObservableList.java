@@ -0,0 +1,21 @@
+package seedu.address.commons.core.observable;
+
+import java.util.List;
+
+/**
+ * A list whose changes can be listened to.
+ * Unlike {@code javafx.collections.ObservableList}, this does not depend on the JavaFX toolkit.
+ * Listeners are called on the thread that made the change.
+ */
+public interface ObservableList<T> extends List<T> {
+
+    /**
+     * Adds a listener that is notified after every change to this list.
+     */
+    void addListener(ListChangeListener<? super T> listener);
+
+    /**
+     * Removes the given listener. If it was not previously added, then this method call is a no-op.
+     */
+    void removeListener(ListChangeListener<? super T> listener);
+}
@@ -0,0 +1,19 @@
+package seedu.address.commons.core.observable;
+
+/**
+ * A read-only value whose changes can be listened to.
+ */
+public interface ObservableValue<T> {
+
+    T getValue();
+
+    /**
+     * Adds a listener that is notified whenever the value changes.
+     */
+    void addListener(ChangeListener<? super T> listener);
+
+    /**
+     * Removes the given listener. If it was not previously added, then this method call is a no-op.
+     */
+    void removeListener(ChangeListener<? super T> listener);
+}
@@ -0,0 +1,122 @@
+package seedu.address.commons.core.observable;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.Comparator;
+
+/**
+ * An {@link ObservableList} that holds at most a fixed number of elements in a circular array.
+ * Elements can only be appended; once the list is full, appending an element evicts the oldest one.
+ * Appending and accessing elements both take constant time.
+ */
+public class RingBufferObservableList<T> extends AbstractObservableList<T> {
+
+    public static final String MESSAGE_INVALID_CAPACITY = "The capacity of a ring buffer must be positive";
+
+    private final Object[] elements;
+    private final ObservableList<T> unmodifiableView = new UnmodifiableView();
+    /** The position in {@code elements} of the oldest element. */
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Creates an empty list that holds at most {@code capacity} elements.
+     */
+    public RingBufferObservableList(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        elements = new Object[capacity];
+    }
+
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Returns true if appending an element would evict the oldest one.
+     */
+    public boolean isFull() {
+        return size == elements.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) elements[(head + index) % elements.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends {@code element}, first evicting the oldest element if the list is full.
+     * Listeners are notified of the eviction and of the addition as separate changes.
+     */
+    @Override
+    public boolean add(T element) {
+        if (isFull()) {
+            T evicted = get(0);
+            elements[head] = null;
+            head = (head + 1) % elements.length;
+            size--;
+            fireChange(0, Collections.singletonList(evicted), Collections.emptyList());
+        }
+        elements[(head + size) % elements.length] = element;
+        size++;
+        fireChange(size - 1, Collections.emptyList(), Collections.singletonList(element));
+        return true;
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns an unmodifiable view of this list that notifies its listeners of changes to this list.
+     */
+    public ObservableList<T> asUnmodifiableList() {
+        return unmodifiableView;
+    }
+
+    @Override
+    protected ObservableList<T> getChangedList() {
+        return unmodifiableView;
+    }
+
+    /**
+     * An unmodifiable view of the enclosing list.
+     */
+    private class UnmodifiableView extends AbstractObservableList<T> {
+
+        @Override
+        public T get(int index) {
+            return RingBufferObservableList.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void addListener(ListChangeListener<? super T> listener) {
+            RingBufferObservableList.this.addListener(listener);
+        }
+
+        @Override
+        public void removeListener(ListChangeListener<? super T> listener) {
+            RingBufferObservableList.this.removeListener(listener);
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A modifiable {@link ObservableValue}.
+ * Listeners are only notified if the new value is not equal to the old value.
+ */
+public class SimpleObservableValue<T> implements ObservableValue<T> {
+
+    private final List<ChangeListener<? super T>> listeners = new ArrayList<>();
+    private T value;
+
+    public SimpleObservableValue() {
+        this(null);
+    }
+
+    public SimpleObservableValue(T initialValue) {
+        value = initialValue;
+    }
+
+    @Override
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Sets the value to {@code newValue} and notifies the listeners if it has changed.
+     */
+    public void setValue(T newValue) {
+        T oldValue = value;
+        value = newValue;
+        if (Objects.equals(oldValue, newValue)) {
+            return;
+        }
+        for (ChangeListener<? super T> listener : new ArrayList<>(listeners)) {
+            listener.changed(this, oldValue, newValue);
+        }
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super T> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super T> listener) {
+        requireNonNull(listener);
+        listeners.remove(listener);
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleObservableValue[" + value + "]";
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.address.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An unmodifiable {@link ObservableList} view of a source list, shown either in the order of the source list, or in
+ * ascending or descending order of a comparator.
+ * The elements are kept sorted both ways by the comparator as the source list changes, whichever order is shown, so
+ * switching the order only re-points the view and never sorts or modifies the source list.
+ * Elements that the comparator considers equal are kept in the order of the source list in either direction.
+ * Each change to the source list costs time linear in the size of the list, as the source indexes of the later
+ * elements shift and the changed range of this list is found by comparing it before and after the change.
+ */
+public class SortedList<T> extends AbstractObservableList<T> {
+
+    /**
+     * The order in which a {@code SortedList} shows the elements of its source list.
+     */
+    public enum Order {
+        SOURCE, ASCENDING, DESCENDING
+    }
+
+    private final ObservableList<T> source;
+    private final Comparator<? super T> comparator;
+    private final Comparator<? super T> reversedComparator;
+    /** The elements of the source list in ascending order, each with its index in the source list. */
+    private final List<Entry<T>> ascendingEntries = new ArrayList<>();
+    /** The same entries in descending order. */
+    private final List<Entry<T>> descendingEntries = new ArrayList<>();
+    private Order order = Order.SOURCE;
+
+    /**
+     * Creates a view of {@code source} that can be sorted by {@code comparator}, initially in the source order.
+     */
+    public SortedList(ObservableList<T> source, Comparator<? super T> comparator) {
+        requireNonNull(source);
+        requireNonNull(comparator);
+        this.source = source;
+        this.comparator = comparator;
+        reversedComparator = comparator.reversed();
+        for (int i = 0; i < source.size(); i++) {
+            insert(new Entry<>(source.get(i), i));
+        }
+        source.addListener(this::onSourceChanged);
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        switch (order) {
+        case ASCENDING:
+            return ascendingEntries.get(index).element;
+        case DESCENDING:
+            return descendingEntries.get(index).element;
+        default:
+            return source.get(index);
+        }
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    /**
+     * Shows the elements in {@code order}. Listeners are notified that every element was replaced, unless the order
+     * is unchanged.
+     */
+    public void setOrder(Order order) {
+        requireNonNull(order);
+        if (this.order == order) {
+            return;
+        }
+        List<T> removed = new ArrayList<>(this);
+        this.order = order;
+        fireChange(0, removed, new ArrayList<>(this));
+    }
+
+    /**
+     * Updates the sorted elements for the elements that were replaced in the source list by {@code change}, and
+     * notifies the listeners of the range of this list that changed.
+     */
+    private void onSourceChanged(ListChange<? extends T> change) {
+        boolean isSorted = order != Order.SOURCE;
+        List<T> oldElements = isSorted ? getSortedElements() : null;
+        int sourceFrom = change.getFrom();
+        int removedEnd = sourceFrom + change.getRemovedSize();
+        int firstRemoved = isSorted ? findFirstShown(sourceFrom, removedEnd) : -1;
+        int lastRemoved = isSorted ? findLastShown(sourceFrom, removedEnd) : -1;
+
+        int shift = change.getAddedSize() - change.getRemovedSize();
+        ascendingEntries.removeIf(entry -> entry.sourceIndex >= sourceFrom && entry.sourceIndex < removedEnd);
+        descendingEntries.removeIf(entry -> entry.sourceIndex >= sourceFrom && entry.sourceIndex < removedEnd);
+        for (Entry<T> entry : ascendingEntries) {
+            if (entry.sourceIndex >= removedEnd) {
+                entry.sourceIndex += shift;
+            }
+        }
+        for (int i = 0; i < change.getAddedSize(); i++) {
+            insert(new Entry<>(change.getAddedSubList().get(i), sourceFrom + i));
+        }
+
+        if (!isSorted) {
+            fireChange(sourceFrom, new ArrayList<>(change.getRemoved()), new ArrayList<>(change.getAddedSubList()));
+        } else {
+            int addedEnd = sourceFrom + change.getAddedSize();
+            fireChangedRange(oldElements, getSortedElements(), Math.min(firstRemoved,
+                    findFirstShown(sourceFrom, addedEnd)), lastRemoved, findLastShown(sourceFrom, addedEnd));
+        }
+    }
+
+    /**
+     * Returns the first index in the shown sorted order of the elements from {@code sourceFrom} (inclusive) to
+     * {@code sourceEnd} (exclusive) in the source list, or {@code Integer.MAX_VALUE} if there are none.
+     */
+    private int findFirstShown(int sourceFrom, int sourceEnd) {
+        List<Entry<T>> shownEntries = order == Order.DESCENDING ? descendingEntries : ascendingEntries;
+        for (int i = 0; i < shownEntries.size(); i++) {
+            if (shownEntries.get(i).sourceIndex >= sourceFrom && shownEntries.get(i).sourceIndex < sourceEnd) {
+                return i;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the last index in the shown sorted order of the elements from {@code sourceFrom} (inclusive) to
+     * {@code sourceEnd} (exclusive) in the source list, or -1 if there are none.
+     */
+    private int findLastShown(int sourceFrom, int sourceEnd) {
+        List<Entry<T>> shownEntries = order == Order.DESCENDING ? descendingEntries : ascendingEntries;
+        for (int i = shownEntries.size() - 1; i >= 0; i--) {
+            if (shownEntries.get(i).sourceIndex >= sourceFrom && shownEntries.get(i).sourceIndex < sourceEnd) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts {@code entry} into both the ascending and the descending entries.
+     */
+    private void insert(Entry<T> entry) {
+        insert(ascendingEntries, entry, comparator);
+        insert(descendingEntries, entry, reversedComparator);
+    }
+
+    /**
+     * Inserts {@code entry} into {@code sortedEntries} after the entries that do not come after it in
+     * {@code elementOrder}, so that equal elements stay in the order of the source list.
+     */
+    private static <T> void insert(List<Entry<T>> sortedEntries, Entry<T> entry, Comparator<? super T> elementOrder) {
+        int low = 0;
+        int high = sortedEntries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(sortedEntries.get(mid), entry, elementOrder) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        sortedEntries.add(low, entry);
+    }
+
+    private static <T> int compare(Entry<T> first, Entry<T> second, Comparator<? super T> elementOrder) {
+        int result = elementOrder.compare(first.element, second.element);
+        return result != 0 ? result : Integer.compare(first.sourceIndex, second.sourceIndex);
+    }
+
+    /**
+     * Returns the elements of this list in the sorted order that is shown.
+     */
+    private List<T> getSortedElements() {
+        List<Entry<T>> sortedEntries = order == Order.DESCENDING ? descendingEntries : ascendingEntries;
+        List<T> elements = new ArrayList<>(sortedEntries.size());
+        for (Entry<T> entry : sortedEntries) {
+            elements.add(entry.element);
+        }
+        return elements;
+    }
+
+    /**
+     * Notifies the listeners that the elements of this list changed from {@code oldElements} to
+     * {@code newElements}, as a single replacement of the range between their common prefix and suffix.
+     * The range always covers the elements that the source list replaced, which were at {@code changedFrom} to
+     * {@code lastRemoved} in {@code oldElements} and are at {@code changedFrom} to {@code lastAdded} in
+     * {@code newElements}, so that an element replaced with itself is still reported.
+     */
+    private void fireChangedRange(List<T> oldElements, List<T> newElements, int changedFrom, int lastRemoved,
+            int lastAdded) {
+        int prefix = 0;
+        int maxCommon = Math.min(oldElements.size(), newElements.size());
+        while (prefix < maxCommon && prefix < changedFrom && oldElements.get(prefix) == newElements.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = Math.min(maxCommon - prefix,
+                Math.min(oldElements.size() - 1 - lastRemoved, newElements.size() - 1 - lastAdded));
+        while (suffix < maxSuffix && oldElements.get(oldElements.size() - 1 - suffix)
+                == newElements.get(newElements.size() - 1 - suffix)) {
+            suffix++;
+        }
+        fireChange(prefix, new ArrayList<>(oldElements.subList(prefix, oldElements.size() - suffix)),
+                new ArrayList<>(newElements.subList(prefix, newElements.size() - suffix)));
+    }
+
+    /**
+     * An element of the source list together with its index in the source list.
+     */
+    private static class Entry<T> {
+        private final T element;
+        private int sourceIndex;
+
+        Entry(T element, int sourceIndex) {
+            this.element = element;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+}
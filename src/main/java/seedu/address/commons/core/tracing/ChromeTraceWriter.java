@@ -0,0 +1,115 @@
+package seedu.address.commons.core.tracing;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Writes trace events in the Chrome trace event format, which can be viewed in {@code chrome://tracing} or
+ * Perfetto. Every span is written as a complete event, and the viewer nests the spans of each thread by their times.
+ */
+public class ChromeTraceWriter {
+
+    /** The process ID that every event is attributed to, as all events come from this app. */
+    private static final int PROCESS_ID = 1;
+
+    private ChromeTraceWriter() {}
+
+    /**
+     * Writes {@code events} to the file at {@code filePath}, replacing its contents.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void write(List<TraceEvent> events, Path filePath) throws IOException {
+        requireNonNull(events);
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(toChromeTrace(events), filePath);
+    }
+
+    /**
+     * Returns the Chrome trace of {@code events}, with the names of their threads.
+     */
+    static JsonChromeTrace toChromeTrace(List<TraceEvent> events) {
+        List<JsonChromeTraceEvent> traceEvents = new ArrayList<>();
+        Map<Long, String> threadNames = new LinkedHashMap<>();
+        for (TraceEvent event : events) {
+            threadNames.putIfAbsent(event.getThreadId(), event.getThreadName());
+            traceEvents.add(new JsonChromeTraceEvent(event.getName(), event.getCategory(), "X",
+                    event.getStartNanos() / 1000.0, event.getDurationNanos() / 1000.0, event.getThreadId(),
+                    event.getArgs()));
+        }
+        threadNames.forEach((threadId, threadName) -> traceEvents.add(new JsonChromeTraceEvent("thread_name",
+                "__metadata", "M", 0, 0, threadId, Collections.singletonMap("name", threadName))));
+        return new JsonChromeTrace(traceEvents);
+    }
+
+    /**
+     * The top-level object of a Chrome trace file.
+     */
+    static class JsonChromeTrace {
+        private final List<JsonChromeTraceEvent> traceEvents;
+        private final String displayTimeUnit = "ms";
+
+        JsonChromeTrace(List<JsonChromeTraceEvent> traceEvents) {
+            this.traceEvents = traceEvents;
+        }
+
+        List<JsonChromeTraceEvent> getTraceEvents() {
+            return traceEvents;
+        }
+    }
+
+    /**
+     * An event in a Chrome trace file. Times are in microseconds.
+     */
+    static class JsonChromeTraceEvent {
+        private final String name;
+        private final String cat;
+        private final String ph;
+        private final double ts;
+        private final double dur;
+        private final int pid = PROCESS_ID;
+        private final long tid;
+        private final Map<String, String> args;
+
+        JsonChromeTraceEvent(String name, String cat, String ph, double ts, double dur, long tid,
+                Map<String, String> args) {
+            this.name = name;
+            this.cat = cat;
+            this.ph = ph;
+            this.ts = ts;
+            this.dur = dur;
+            this.tid = tid;
+            this.args = args;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getPhase() {
+            return ph;
+        }
+
+        double getTimestamp() {
+            return ts;
+        }
+
+        double getDuration() {
+            return dur;
+        }
+
+        long getThreadId() {
+            return tid;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.commons.core.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A span of time spent on the thread that started it, which ends when it is closed.
+ * Spans are started by {@link Tracer#start(String, String)}.
+ */
+public class Span implements AutoCloseable {
+
+    /** The span returned while tracing is off, which records nothing. */
+    static final Span NO_OP = new Span(null, null, null);
+
+    private final TraceRecorder recorder;
+    private final String category;
+    private final String name;
+    private final long startNanos;
+    private Map<String, String> args = Collections.emptyMap();
+
+    Span(TraceRecorder recorder, String category, String name) {
+        this.recorder = recorder;
+        this.category = category;
+        this.name = name;
+        startNanos = recorder == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Attaches {@code value} to this span under {@code key}, to be shown together with the span.
+     */
+    public Span setArg(String key, Object value) {
+        if (recorder == null) {
+            return this;
+        }
+        if (args.isEmpty()) {
+            args = new LinkedHashMap<>();
+        }
+        args.put(key, String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * Ends this span and records it.
+     */
+    @Override
+    public void close() {
+        if (recorder == null) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        recorder.record(new TraceEvent(category, name, thread.getId(), thread.getName(),
+                startNanos - recorder.getStartNanos(), System.nanoTime() - startNanos, args));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.commons.core.tracing;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A span that has ended.
+ */
+public class TraceEvent {
+
+    private final String category;
+    private final String name;
+    private final long threadId;
+    private final String threadName;
+    private final long startNanos;
+    private final long durationNanos;
+    private final Map<String, String> args;
+
+    /**
+     * Creates an event for a span that started {@code startNanos} after tracing started and lasted
+     * {@code durationNanos}.
+     */
+    public TraceEvent(String category, String name, long threadId, String threadName, long startNanos,
+            long durationNanos, Map<String, String> args) {
+        this.category = category;
+        this.name = name;
+        this.threadId = threadId;
+        this.threadName = threadName;
+        this.startNanos = startNanos;
+        this.durationNanos = durationNanos;
+        this.args = Collections.unmodifiableMap(args);
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getThreadId() {
+        return threadId;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public Map<String, String> getArgs() {
+        return args;
+    }
+
+    @Override
+    public String toString() {
+        return category + ":" + name + " on " + threadName + " at " + startNanos + "ns for " + durationNanos + "ns";
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.core.tracing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the latest spans that ended while tracing was on, up to a fixed capacity.
+ */
+class TraceRecorder {
+
+    private final int capacity;
+    private final long startNanos = System.nanoTime();
+    private final Deque<TraceEvent> events = new ArrayDeque<>();
+
+    TraceRecorder(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the value of {@link System#nanoTime()} when tracing started, which event times are relative to.
+     */
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Records {@code event}, discarding the oldest event if there are already {@code capacity} events.
+     */
+    synchronized void record(TraceEvent event) {
+        if (events.size() == capacity) {
+            events.removeFirst();
+        }
+        events.addLast(event);
+    }
+
+    synchronized List<TraceEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.commons.core.tracing;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records spans of time spent in parts of the app, so that the time spent by a single slow command can be broken
+ * down afterwards. Spans started while another span is open on the same thread are nested in it.
+ * <p>
+ * Tracing is off by default. While it is off, {@link #start(String, String)} returns a shared span that does
+ * nothing, so instrumented code only pays for reading one field.
+ * <pre>
+ * try (Span span = Tracer.start("model", "DocX.removePatient")) {
+ *     ...
+ * }
+ * </pre>
+ */
+public class Tracer {
+
+    public static final int DEFAULT_CAPACITY = 100_000;
+    public static final String MESSAGE_INVALID_CAPACITY = "The capacity of a trace must be positive";
+
+    private static volatile TraceRecorder recorder;
+
+    private Tracer() {}
+
+    /**
+     * Starts a span named {@code name} in {@code category} on the current thread.
+     * The span ends when it is closed, and is only recorded if tracing is on.
+     */
+    public static Span start(String category, String name) {
+        TraceRecorder currentRecorder = recorder;
+        if (currentRecorder == null) {
+            return Span.NO_OP;
+        }
+        return new Span(currentRecorder, category, name);
+    }
+
+    /**
+     * Returns true if spans are being recorded.
+     */
+    public static boolean isEnabled() {
+        return recorder != null;
+    }
+
+    /**
+     * Starts recording spans, keeping at most the latest {@code capacity} spans.
+     * Any spans recorded before are discarded.
+     */
+    public static synchronized void enable(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        recorder = new TraceRecorder(capacity);
+    }
+
+    /**
+     * Stops recording spans, and returns the spans that ended while they were being recorded, in the order they
+     * ended. Returns an empty {@code Optional} if spans were not being recorded.
+     */
+    public static synchronized Optional<List<TraceEvent>> disable() {
+        TraceRecorder stoppedRecorder = recorder;
+        recorder = null;
+        return Optional.ofNullable(stoppedRecorder).map(TraceRecorder::getEvents);
+    }
+}
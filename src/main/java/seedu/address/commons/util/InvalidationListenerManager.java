@@ -4,8 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 
-import javafx.beans.InvalidationListener;
-import javafx.beans.Observable;
+import seedu.address.commons.core.observable.InvalidationListener;
+import seedu.address.commons.core.observable.Observable;
 
 /**
  * Manages a list of {@link InvalidationListener}.
@@ -0,0 +1,193 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.metrics.StallRecorder;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands through {@code Logic} on a single worker thread, in the order that they are submitted.
+ * The outcome of each command is passed to its {@code CommandCallback} through the {@code callbackExecutor},
+ * e.g. on the JavaFX application thread.
+ * Read-only commands that are waiting or executing can be cancelled.
+ * Commands are only parsed on the worker thread, so submitting a command never parses it on the calling thread.
+ */
+public class AsyncCommandExecutor {
+    private static final Logger logger = LogsCenter.getLogger(AsyncCommandExecutor.class);
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Logic logic;
+    private final Executor callbackExecutor;
+    private final ExecutorService worker;
+    private final List<SubmittedCommand> waitingCommands = new ArrayList<>();
+    private final Object lock = new Object();
+    private SubmittedCommand executingCommand;
+    private Thread workerThread;
+
+    public AsyncCommandExecutor(Logic logic, Executor callbackExecutor) {
+        requireAllNonNull(logic, callbackExecutor);
+        this.logic = logic;
+        this.callbackExecutor = callbackExecutor;
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits {@code commandText} to be executed after all previously submitted commands and tasks.
+     */
+    public void submit(String commandText, CommandCallback callback) {
+        requireAllNonNull(commandText, callback);
+        SubmittedCommand command = new SubmittedCommand(commandText, callback);
+        synchronized (lock) {
+            waitingCommands.add(command);
+        }
+        worker.execute(() -> execute(command));
+    }
+
+    /**
+     * Submits {@code task} to be run on the worker thread after all previously submitted commands and tasks.
+     * Used for changes to the model that do not come from commands, e.g. selecting an item in a list.
+     * An exception thrown by {@code task} is logged, and does not affect the commands and tasks after it.
+     */
+    public void submit(Runnable task) {
+        requireNonNull(task);
+        worker.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException re) {
+                logger.severe("Unexpected error running submitted task: " + StringUtil.getDetails(re));
+            }
+        });
+    }
+
+    /**
+     * Cancels all read-only commands that are waiting or executing.
+     * Whether a waiting command is read-only is only known once the worker thread reaches it, so a waiting command
+     * is marked to be cancelled then if it turns out to be read-only.
+     *
+     * @return true if the executing command was cancelled, or if any waiting command may be cancelled.
+     */
+    public boolean cancelReadOnlyCommands() {
+        synchronized (lock) {
+            waitingCommands.forEach(command -> command.isCancelRequested = true);
+            boolean isExecutingCommandCancelled = executingCommand != null && executingCommand.isReadOnly;
+            if (isExecutingCommandCancelled) {
+                // the executing command notices the interrupt while filtering and stops early
+                workerThread.interrupt();
+            }
+            return isExecutingCommandCancelled || !waitingCommands.isEmpty();
+        }
+    }
+
+    /**
+     * Returns true if there are commands that are waiting or executing.
+     */
+    public boolean isBusy() {
+        synchronized (lock) {
+            return executingCommand != null || !waitingCommands.isEmpty();
+        }
+    }
+
+    /**
+     * Stops the worker thread once the commands that have already been submitted are executed,
+     * waiting up to {@code SHUTDOWN_TIMEOUT_SECONDS} for them.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands were still executing after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Executes {@code command} on the worker thread, unless it is read-only and was cancelled while waiting.
+     */
+    private void execute(SubmittedCommand command) {
+        boolean isReadOnly = logic.isReadOnlyCommand(command.commandText);
+        boolean isCancelled;
+        synchronized (lock) {
+            waitingCommands.remove(command);
+            isCancelled = isReadOnly && command.isCancelRequested;
+            if (!isCancelled) {
+                command.isReadOnly = isReadOnly;
+                executingCommand = command;
+                workerThread = Thread.currentThread();
+            }
+        }
+        if (isCancelled) {
+            logger.info("Cancelled waiting command: " + command.commandText);
+            callbackExecutor.execute(command.callback::onCancelled);
+            return;
+        }
+        // stalls of the UI until the outcome has been shown are attributed to this command
+        StallRecorder stallRecorder = MetricsCenter.getStallRecorder();
+        stallRecorder.startCommand(command.commandText);
+
+        Runnable outcome;
+        try {
+            CommandResult commandResult = logic.execute(command.commandText);
+            outcome = () -> command.callback.onSuccess(commandResult);
+        } catch (CancellationException ce) {
+            logger.info("Cancelled executing command: " + command.commandText);
+            outcome = command.callback::onCancelled;
+        } catch (CommandException | ParseException e) {
+            outcome = () -> command.callback.onFailure(e);
+        } catch (RuntimeException re) {
+            logger.severe("Unexpected error executing command: " + command.commandText + StringUtil.getDetails(re));
+            outcome = () -> command.callback.onFailure(re);
+        } finally {
+            synchronized (lock) {
+                executingCommand = null;
+            }
+            // clears an interrupt that arrived after the command had finished, so the next command is unaffected
+            Thread.interrupted();
+        }
+        // the callback is only run once the command is no longer executing, so that it sees a consistent state
+        Runnable finalOutcome = outcome;
+        callbackExecutor.execute(() -> {
+            try {
+                finalOutcome.run();
+            } finally {
+                stallRecorder.endCommand(command.commandText);
+            }
+        });
+    }
+
+    /**
+     * A command that has been submitted for execution.
+     */
+    private static class SubmittedCommand {
+        private final String commandText;
+        private final CommandCallback callback;
+        // guarded by the executor's lock
+        private boolean isReadOnly = false;
+        private boolean isCancelRequested = false;
+
+        SubmittedCommand(String commandText, CommandCallback callback) {
+            this.commandText = commandText;
+            this.callback = callback;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the result of executing a batch script with a {@link BatchScriptExecutor}.
+ */
+public class BatchResult {
+
+    /**
+     * The outcome of a single line of a batch script.
+     */
+    public enum Status {
+        SUCCESS, FAILURE, NOT_RUN
+    }
+
+    private final List<LineResult> lineResults = new ArrayList<>();
+    private boolean isSaved;
+    private String saveError;
+
+    /**
+     * Records the outcome of the command on line {@code lineNumber}.
+     */
+    void add(int lineNumber, String commandText, Status status, String message) {
+        lineResults.add(new LineResult(lineNumber, commandText, status, message));
+    }
+
+    void setSaved() {
+        isSaved = true;
+    }
+
+    void setSaveError(String saveError) {
+        this.saveError = saveError;
+    }
+
+    /**
+     * Returns the outcome of every command in the script, in order.
+     */
+    public List<LineResult> getLineResults() {
+        return Collections.unmodifiableList(lineResults);
+    }
+
+    /**
+     * Returns the number of commands in the script with the given {@code status}.
+     */
+    public long count(Status status) {
+        return lineResults.stream().filter(lineResult -> lineResult.getStatus() == status).count();
+    }
+
+    /**
+     * Returns true if the changes made by the script were saved.
+     */
+    public boolean isSaved() {
+        return isSaved;
+    }
+
+    /**
+     * Returns true if every command in the script succeeded and the changes were saved.
+     */
+    public boolean isSuccessful() {
+        return isSaved && count(Status.FAILURE) == 0 && count(Status.NOT_RUN) == 0;
+    }
+
+    /**
+     * Returns a human-readable summary with one line per command, followed by the totals.
+     */
+    public String getSummary() {
+        StringBuilder builder = new StringBuilder();
+        for (LineResult lineResult : lineResults) {
+            builder.append(lineResult).append(System.lineSeparator());
+        }
+        builder.append(String.format("%d succeeded, %d failed, %d not run. ", count(Status.SUCCESS),
+                count(Status.FAILURE), count(Status.NOT_RUN)));
+        if (isSaved) {
+            builder.append("Changes saved.");
+        } else if (saveError != null) {
+            builder.append("Changes could not be saved: ").append(saveError);
+        } else {
+            builder.append("Nothing saved.");
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    /**
+     * The outcome of the command on one line of a batch script.
+     */
+    public static class LineResult {
+        private final int lineNumber;
+        private final String commandText;
+        private final Status status;
+        private final String message;
+
+        LineResult(int lineNumber, String commandText, Status status, String message) {
+            this.lineNumber = lineNumber;
+            this.commandText = requireNonNull(commandText);
+            this.status = requireNonNull(status);
+            this.message = requireNonNull(message);
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            String result = String.format("Line %d [%s] %s", lineNumber, status, commandText);
+            return message.isEmpty() ? result : result + System.lineSeparator() + "    " + message;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchResult.Status;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.DocXParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyDocX;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.storage.DocXStorage;
+
+/**
+ * Executes a script of commands against a DocX as a single transaction.
+ * The commands are applied to a working copy of the DocX, which is saved once after the last command.
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are ignored.
+ */
+public class BatchScriptExecutor {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_ABORTED = "Not run as an earlier command failed";
+
+    private final Logger logger = LogsCenter.getLogger(BatchScriptExecutor.class);
+
+    private final DocXStorage storage;
+    private final DocXParser docXParser = new DocXParser();
+    private final CommandHistory history = new CommandHistory();
+    private final TransactionModel model;
+
+    /**
+     * Creates an executor that applies commands to a copy of {@code docX} and saves the result to {@code storage}.
+     */
+    public BatchScriptExecutor(ReadOnlyDocX docX, ReadOnlyUserPrefs userPrefs, DocXStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        model = new TransactionModel(docX, userPrefs);
+    }
+
+    /**
+     * Executes every command in {@code lines} and saves the DocX if any of them succeeded.
+     * If {@code isStrict} is true, the script is aborted on the first failing command and nothing is saved.
+     */
+    public BatchResult execute(List<String> lines, boolean isStrict) {
+        requireNonNull(lines);
+        BatchResult result = new BatchResult();
+        boolean isAborted = false;
+
+        for (int i = 0; i < lines.size(); i++) {
+            String commandText = lines.get(i).trim();
+            int lineNumber = i + 1;
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            if (isAborted) {
+                result.add(lineNumber, commandText, Status.NOT_RUN, MESSAGE_ABORTED);
+                continue;
+            }
+
+            try {
+                Command command = docXParser.parseCommand(commandText);
+                CommandResult commandResult = command.execute(model, history);
+                result.add(lineNumber, commandText, Status.SUCCESS, commandResult.getFeedbackToUser());
+            } catch (CommandException | ParseException e) {
+                result.add(lineNumber, commandText, Status.FAILURE, e.getMessage());
+                isAborted = isStrict;
+            } finally {
+                history.add(commandText);
+            }
+        }
+
+        if (isAborted) {
+            logger.info("Batch script aborted, discarding all changes.");
+        } else if (result.count(Status.SUCCESS) > 0) {
+            save(result);
+        }
+        return result;
+    }
+
+    /**
+     * Saves the working copy of the DocX and records the outcome in {@code result}.
+     */
+    private void save(BatchResult result) {
+        try {
+            storage.saveDocX(model.getDocX());
+            result.setSaved();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save batch script changes: " + StringUtil.getDetails(ioe));
+            result.setSaveError(ioe.getMessage());
+        }
+    }
+
+    /**
+     * A model whose changes only become visible when the whole script is saved,
+     * so there is no point in keeping a history of undoable states for each command.
+     */
+    private static class TransactionModel extends ModelManager {
+
+        TransactionModel(ReadOnlyDocX docX, ReadOnlyUserPrefs userPrefs) {
+            super(docX, userPrefs);
+        }
+
+        @Override
+        public void commitDocX() {
+            // the whole script is committed at once when it is saved
+        }
+    }
+}
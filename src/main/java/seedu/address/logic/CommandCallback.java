@@ -0,0 +1,25 @@
+package seedu.address.logic;
+
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Receives the outcome of a command submitted to an {@code AsyncCommandExecutor}.
+ * Exactly one of the methods is called for each submitted command.
+ */
+public interface CommandCallback {
+
+    /**
+     * Called when the command has executed successfully.
+     */
+    void onSuccess(CommandResult commandResult);
+
+    /**
+     * Called when the command could not be parsed or executed.
+     */
+    void onFailure(Exception e);
+
+    /**
+     * Called when the command was cancelled before it completed.
+     */
+    void onCancelled();
+}
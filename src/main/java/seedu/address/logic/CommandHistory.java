@@ -2,31 +2,185 @@ package seedu.address.logic;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.commons.core.observable.RingBufferObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.storage.CommandHistoryStorage;
 
 /**
  * Stores the history of commands executed.
+ * Only the most recent commands are kept, up to a fixed capacity. If the history has a storage, every command is
+ * appended to it by a background writer thread after it is added, and the history is loaded from it when created.
+ * Writing on a separate thread keeps searches from waiting for the disk, and keeps an interrupt of the thread
+ * adding a command, e.g. to cancel it, from closing the file before the command is saved.
+ * The commands can be searched for a substring through an index of the three-character sequences they contain.
  */
 public class CommandHistory {
-    private final ObservableList<String> userInputHistory = FXCollections.observableArrayList();
-    private final ObservableList<String> unmodifiableUserInputHistory =
-            FXCollections.unmodifiableObservableList(userInputHistory);
 
-    public CommandHistory() {}
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    /** The length of the character sequences in the search index. */
+    private static final int GRAM_LENGTH = 3;
+    /** The stored history is rewritten with only the kept commands once it is this many times the capacity. */
+    private static final int COMPACTION_FACTOR = 2;
+    private static final String WRITER_THREAD_NAME = "command-history-writer";
+
+    private final Logger logger = LogsCenter.getLogger(CommandHistory.class);
+
+    private final RingBufferObservableList<String> userInputHistory;
+    private final ObservableList<String> unmodifiableUserInputHistory;
+    private final CommandHistoryStorage storage;
+    /** Saves the commands to the storage in the order they were added, or null if there is no storage. */
+    private final ExecutorService writer;
+    /** The sequence numbers of the kept commands containing each character sequence, in lower case. */
+    private final Map<String, TreeSet<Long>> searchIndex = new HashMap<>();
+    /** The sequence number that the next command will be given. */
+    private long nextSequenceNumber = 0;
+    /** The number of commands in the storage, including those that are no longer kept. */
+    private int storedCount = 0;
+
+    public CommandHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty history that keeps the most recent {@code capacity} commands in memory only.
+     */
+    public CommandHistory(int capacity) {
+        userInputHistory = new RingBufferObservableList<>(capacity);
+        unmodifiableUserInputHistory = userInputHistory.asUnmodifiableList();
+        storage = null;
+        writer = null;
+    }
+
+    /**
+     * Creates a history that keeps the most recent {@code capacity} commands, and saves them to {@code storage}.
+     * The history starts with the most recent commands in {@code storage}. If they cannot be read, the history
+     * starts empty.
+     */
+    public CommandHistory(int capacity, CommandHistoryStorage storage) {
+        requireNonNull(storage);
+        userInputHistory = new RingBufferObservableList<>(capacity);
+        unmodifiableUserInputHistory = userInputHistory.asUnmodifiableList();
+        this.storage = storage;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<String> storedCommands = storage.readCommandHistory();
+            storedCommands.subList(Math.max(0, storedCommands.size() - capacity), storedCommands.size())
+                    .forEach(this::addToMemory);
+            storedCount = storedCommands.size();
+        } catch (IOException ioe) {
+            logger.warning("Could not read command history from " + storage.getCommandHistoryFilePath()
+                    + ", starting with an empty history: " + StringUtil.getDetails(ioe));
+        }
+    }
 
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory.addAll(commandHistory.userInputHistory);
+        this(commandHistory.userInputHistory.getCapacity());
+        commandHistory.userInputHistory.forEach(this::addToMemory);
     }
 
     /**
-     * Appends {@code userInput} to the list of user input entered.
+     * Appends {@code userInput} to the list of user input entered, evicting the least recent input if the history
+     * is full, and passes it to the writer thread to be saved to the storage if there is one.
      */
     public void add(String userInput) {
         requireNonNull(userInput);
+        List<String> commandsToRewrite = null;
+        synchronized (this) {
+            addToMemory(userInput);
+            if (storage == null) {
+                return;
+            }
+            // the storage is rewritten with only the kept commands once it has grown too large
+            if (storedCount >= COMPACTION_FACTOR * userInputHistory.getCapacity()) {
+                commandsToRewrite = new ArrayList<>(userInputHistory);
+                storedCount = userInputHistory.size();
+            } else {
+                storedCount++;
+            }
+        }
+
+        List<String> finalCommandsToRewrite = commandsToRewrite;
+        writer.execute(() -> save(userInput, finalCommandsToRewrite));
+    }
+
+    /**
+     * Waits until every command added so far has been saved to the storage, if there is one.
+     */
+    public void flush() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Flushing the command history cannot fail.", ee);
+        }
+    }
+
+    /**
+     * Appends {@code userInput} to the kept commands and the search index.
+     */
+    private void addToMemory(String userInput) {
+        if (userInputHistory.isFull()) {
+            long evictedSequenceNumber = getFirstSequenceNumber();
+            for (String gram : getGrams(userInputHistory.get(0))) {
+                TreeSet<Long> sequenceNumbers = searchIndex.get(gram);
+                sequenceNumbers.remove(evictedSequenceNumber);
+                if (sequenceNumbers.isEmpty()) {
+                    searchIndex.remove(gram);
+                }
+            }
+        }
+
+        long sequenceNumber = nextSequenceNumber++;
+        for (String gram : getGrams(userInput)) {
+            searchIndex.computeIfAbsent(gram, unused -> new TreeSet<>()).add(sequenceNumber);
+        }
         userInputHistory.add(userInput);
     }
 
+    /**
+     * Appends {@code userInput} to the storage, or rewrites the storage with {@code commandsToRewrite} instead if
+     * it is not null. Called on the writer thread.
+     */
+    private void save(String userInput, List<String> commandsToRewrite) {
+        try {
+            if (commandsToRewrite != null) {
+                storage.saveCommandHistory(commandsToRewrite);
+            } else {
+                storage.appendCommandHistory(userInput);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not save command to " + storage.getCommandHistoryFilePath() + ": "
+                    + StringUtil.getDetails(ioe));
+        }
+    }
+
     /**
      * Returns an unmodifiable view of {@code userInputHistory}.
      */
@@ -34,6 +188,69 @@ public class CommandHistory {
         return unmodifiableUserInputHistory;
     }
 
+    /**
+     * Returns the most recent command that was entered before the command numbered {@code beforeSequenceNumber}
+     * and contains {@code query}, ignoring case.
+     * Commands are numbered in the order they were entered, so {@code Long.MAX_VALUE} searches every command.
+     */
+    public synchronized Optional<Match> findPrevious(String query, long beforeSequenceNumber) {
+        requireNonNull(query);
+        String lowerCaseQuery = query.toLowerCase();
+        Iterator<Long> candidates = getCandidates(lowerCaseQuery, beforeSequenceNumber);
+        while (candidates.hasNext()) {
+            long sequenceNumber = candidates.next();
+            String commandText = userInputHistory.get((int) (sequenceNumber - getFirstSequenceNumber()));
+            if (commandText.toLowerCase().contains(lowerCaseQuery)) {
+                return Optional.of(new Match(sequenceNumber, commandText));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the sequence numbers of the commands before {@code beforeSequenceNumber} that may contain
+     * {@code lowerCaseQuery}, from the most recent. A query shorter than the indexed sequences matches every command.
+     */
+    private Iterator<Long> getCandidates(String lowerCaseQuery, long beforeSequenceNumber) {
+        if (lowerCaseQuery.length() < GRAM_LENGTH) {
+            List<Long> all = new ArrayList<>();
+            long end = Math.min(beforeSequenceNumber, nextSequenceNumber);
+            for (long sequenceNumber = end - 1; sequenceNumber >= getFirstSequenceNumber(); sequenceNumber--) {
+                all.add(sequenceNumber);
+            }
+            return all.iterator();
+        }
+
+        // a matching command contains every sequence in the query, so it suffices to check the rarest one
+        TreeSet<Long> rarest = null;
+        for (String gram : getGrams(lowerCaseQuery)) {
+            TreeSet<Long> sequenceNumbers = searchIndex.getOrDefault(gram, new TreeSet<>());
+            if (rarest == null || sequenceNumbers.size() < rarest.size()) {
+                rarest = sequenceNumbers;
+            }
+        }
+        return rarest.headSet(beforeSequenceNumber, false).descendingIterator();
+    }
+
+    /**
+     * Returns the sequence number of the least recent kept command.
+     */
+    private long getFirstSequenceNumber() {
+        return nextSequenceNumber - userInputHistory.size();
+    }
+
+    /**
+     * Returns the distinct character sequences of the search index contained in {@code text}, in lower case.
+     */
+    private static Set<String> getGrams(String text) {
+        String lowerCaseText = text.toLowerCase();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            grams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -55,4 +272,47 @@ public class CommandHistory {
     public int hashCode() {
         return userInputHistory.hashCode();
     }
+
+    /**
+     * A command found by {@link #findPrevious(String, long)}.
+     */
+    public static class Match {
+        private final long sequenceNumber;
+        private final String commandText;
+
+        public Match(long sequenceNumber, String commandText) {
+            this.sequenceNumber = sequenceNumber;
+            this.commandText = commandText;
+        }
+
+        /**
+         * Returns the number of the command, which can be passed to {@link #findPrevious(String, long)} to find the
+         * next older match.
+         */
+        public long getSequenceNumber() {
+            return sequenceNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Match // instanceof handles nulls
+                    && sequenceNumber == ((Match) other).sequenceNumber
+                    && commandText.equals(((Match) other).commandText)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(sequenceNumber) ^ commandText.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return sequenceNumber + ": " + commandText;
+        }
+    }
 }
@@ -0,0 +1,139 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.FilterState;
+
+/**
+ * Caches the results of cacheable commands, so that a command executed again on the same data can restore the
+ * filters it left in the model instead of testing its predicates against every element again.
+ * Results are keyed on the command, which is compared with {@code equals}, and the data version of the model it was
+ * executed on, so a result is never reused once the data has changed.
+ * At most a fixed number of results are kept; the least recently used result is evicted first.
+ */
+public class CommandResultCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+    public static final String MESSAGE_INVALID_CAPACITY = "The capacity of a result cache must be positive";
+
+    private final int capacity;
+    private final Map<Key, CachedResult> results;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    public CommandResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty cache that keeps at most {@code capacity} results.
+     */
+    public CommandResultCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        this.capacity = capacity;
+        results = new LinkedHashMap<Key, CachedResult>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+                return size() > CommandResultCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of executing {@code command} on the data with version {@code dataVersion}, if it is cached.
+     */
+    public Optional<CachedResult> get(Command command, long dataVersion) {
+        requireNonNull(command);
+        CachedResult result = results.get(new Key(command, dataVersion));
+        if (result == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(result);
+    }
+
+    /**
+     * Caches {@code result} as the result of executing {@code command} on the data with version {@code dataVersion},
+     * evicting the least recently used result if the cache is full.
+     * Results of the data with any other version are evicted, as they can never be used again.
+     */
+    public void put(Command command, long dataVersion, CachedResult result) {
+        requireNonNull(command);
+        requireNonNull(result);
+        results.keySet().removeIf(key -> key.dataVersion != dataVersion);
+        results.put(new Key(command, dataVersion), result);
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * The result of a command together with the filters it left in the model.
+     */
+    public static class CachedResult {
+        private final CommandResult commandResult;
+        private final FilterState filterState;
+
+        public CachedResult(CommandResult commandResult, FilterState filterState) {
+            this.commandResult = requireNonNull(commandResult);
+            this.filterState = requireNonNull(filterState);
+        }
+
+        public CommandResult getCommandResult() {
+            return commandResult;
+        }
+
+        public FilterState getFilterState() {
+            return filterState;
+        }
+    }
+
+    /**
+     * A command together with the data version it was executed on.
+     * Commands are hashed by their class only, as most commands do not override {@code hashCode}; since the cache is
+     * small, comparing the few commands of the same class with {@code equals} is cheap.
+     */
+    private static class Key {
+        private final Command command;
+        private final long dataVersion;
+
+        Key(Command command, long dataVersion) {
+            this.command = command;
+            this.dataVersion = dataVersion;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Key // instanceof handles nulls
+                    && dataVersion == ((Key) other).dataVersion
+                    && command.equals(((Key) other).command)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return command.getClass().hashCode() * 31 + Long.hashCode(dataVersion);
+        }
+    }
+}
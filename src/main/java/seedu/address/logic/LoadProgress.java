@@ -0,0 +1,75 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * The progress of loading the data from the storage.
+ * The total number of records is only known once the data file has been read, and is zero until then.
+ */
+public class LoadProgress {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The number of records loaded must be between zero and the total number of records";
+
+    private final int loaded;
+    private final int total;
+    private final boolean isDone;
+
+    /**
+     * Every field must be present, and {@code loaded} must be between zero and {@code total}.
+     */
+    public LoadProgress(int loaded, int total, boolean isDone) {
+        checkArgument(loaded >= 0 && loaded <= total, MESSAGE_CONSTRAINTS);
+        this.loaded = loaded;
+        this.total = total;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Returns the progress of a load that has just started.
+     */
+    public static LoadProgress started() {
+        return new LoadProgress(0, 0, false);
+    }
+
+    /**
+     * Returns the progress of a load that has finished with {@code total} records.
+     */
+    public static LoadProgress done(int total) {
+        return new LoadProgress(total, total, true);
+    }
+
+    public int getLoaded() {
+        return loaded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns true if the data has been loaded, so that commands no longer wait for it.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LoadProgress // instanceof handles nulls
+                && loaded == ((LoadProgress) other).loaded
+                && total == ((LoadProgress) other).total
+                && isDone == ((LoadProgress) other).isDone); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return (loaded * 31 + total) * 2 + (isDone ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return loaded + " of " + total + " records loaded" + (isDone ? "" : " so far");
+    }
+}
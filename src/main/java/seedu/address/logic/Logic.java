@@ -1,19 +1,25 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Function;
 
-import javafx.beans.property.ReadOnlyProperty;
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.commons.core.observable.ObservableValue;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.SearchPreview;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DocXSnapshot;
 import seedu.address.model.ReadOnlyDocX;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarWindow;
 import seedu.address.model.medicalhistory.MedicalHistory;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.patient.Patient;
 import seedu.address.model.prescription.Prescription;
+import seedu.address.model.query.ClinicSummary;
 
 /**
  * API of the Logic component
@@ -28,6 +34,42 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns true if {@code commandText} is a valid command that does not modify any data.
+     *
+     * @see seedu.address.logic.commands.Command#isReadOnly()
+     */
+    boolean isReadOnlyCommand(String commandText);
+
+    /**
+     * Returns a preview of what {@code commandText} would find, describing at most {@code maxResults} matches,
+     * or an empty {@code Optional} if it is not a complete search command.
+     * The preview is computed on the latest snapshot of the DocX, so the model is not modified.
+     *
+     * @see seedu.address.logic.commands.Command#preview(ReadOnlyDocX, int)
+     */
+    Optional<SearchPreview> previewCommand(String commandText, int maxResults);
+
+    /**
+     * Returns the result of applying {@code query} to the latest snapshot of the DocX.
+     * Queries run without locking, so a long query never delays the execution of commands.
+     *
+     * @see #getDocXSnapshot()
+     */
+    <T> T query(Function<ReadOnlyDocX, T> query);
+
+    /**
+     * Returns an immutable snapshot of the DocX as of the last executed command.
+     * Callers that need several consistent reads should pin one snapshot and read from it throughout.
+     */
+    DocXSnapshot getDocXSnapshot();
+
+    /**
+     * Returns the progress of loading the data from the storage.
+     * The value is done unless the data is still being loaded in the background.
+     */
+    ObservableValue<LoadProgress> getLoadProgress();
+
     /**
      * Returns the DocX.
      *
@@ -47,12 +89,49 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of prescriptions */
     ObservableList<Prescription> getFilteredPrescriptionList();
 
+    /**
+     * Returns an unmodifiable view of the doctor's appointments in the calendar window.
+     *
+     * @see seedu.address.model.Model#getCalendarAppointmentList()
+     */
+    ObservableList<Appointment> getCalendarAppointmentList();
+
+    /**
+     * The calendar window of the calendar appointment list.
+     * null if no calendar window is set.
+     *
+     * @see seedu.address.model.Model#calendarWindowProperty()
+     */
+    ObservableValue<CalendarWindow> calendarWindowProperty();
+
+    /**
+     * Sets the calendar window of the calendar appointment list.
+     *
+     * @see seedu.address.model.Model#setCalendarWindow(CalendarWindow)
+     */
+    void setCalendarWindow(CalendarWindow window);
+
+    /**
+     * The statistics of the clinic today.
+     *
+     * @see seedu.address.model.Model#clinicSummaryProperty()
+     */
+    ObservableValue<ClinicSummary> clinicSummaryProperty();
+
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
      * The list is ordered from the least recent command to the most recent command.
      */
     ObservableList<String> getHistory();
 
+    /**
+     * Returns the most recent command entered before the command numbered {@code beforeSequenceNumber} that
+     * contains {@code query}, ignoring case.
+     *
+     * @see CommandHistory#findPrevious(String, long)
+     */
+    Optional<CommandHistory.Match> searchHistory(String query, long beforeSequenceNumber);
+
     /**
      * Returns the user prefs' docX file path.
      */
@@ -74,7 +153,7 @@ public interface Logic {
      *
      * @see seedu.address.model.Model#selectedPatientProperty()
      */
-    ReadOnlyProperty<Patient> selectedPatientProperty();
+    ObservableValue<Patient> selectedPatientProperty();
 
     /**
      * Selected medical history in the filtered medHist list.
@@ -82,7 +161,7 @@ public interface Logic {
      *
      * @see seedu.address.model.Model#selectedMedHistProperty()
      */
-    ReadOnlyProperty<MedicalHistory> selectedMedHistProperty();
+    ObservableValue<MedicalHistory> selectedMedHistProperty();
 
     /**
      * Selected appointment in the filtered appointment list.
@@ -90,7 +169,7 @@ public interface Logic {
      *
      * @see seedu.address.model.Model#selectedAppointmentProperty()
      */
-    ReadOnlyProperty<Appointment> selectedAppointmentProperty();
+    ObservableValue<Appointment> selectedAppointmentProperty();
 
     /**
      * Selected prescription in the filtered prescription list.
@@ -98,10 +177,11 @@ public interface Logic {
      *
      * @see seedu.address.model.Model#selectedPrescriptionProperty()
      */
-    ReadOnlyProperty<Prescription> selectedPrescriptionProperty();
+    ObservableValue<Prescription> selectedPrescriptionProperty();
 
     /**
      * Sets the selected patient in the filtered patient list.
+     * Does nothing if it is no longer in that list, e.g. because a command removed it after it was selected.
      *
      * @see seedu.address.model.Model#setSelectedPatient(Patient)
      */
@@ -109,6 +189,7 @@ public interface Logic {
 
     /**
      * Sets the selected medical history in the filtered medHist list.
+     * Does nothing if it is no longer in that list, e.g. because a command removed it after it was selected.
      *
      * @see seedu.address.model.Model#setSelectedMedHist(MedicalHistory)
      */
@@ -116,6 +197,7 @@ public interface Logic {
 
     /**
      * Sets the selected medical history in the filtered medHist list.
+     * Does nothing if it is no longer in that list, e.g. because a command removed it after it was selected.
      *
      * @see seedu.address.model.Model#setSelectedPrescription(Prescription)
      */
@@ -123,6 +205,7 @@ public interface Logic {
 
     /**
      * Sets the selected appointment in the filtered appointment list.
+     * Does nothing if it is no longer in that list, e.g. because a command removed it after it was selected.
      *
      * @see seedu.address.model.Model#setSelectedAppointment(Appointment)
      */
@@ -137,10 +220,11 @@ public interface Logic {
      *
      * @see seedu.address.model.Model#selectedDoctorProperty()
      */
-    ReadOnlyProperty<Doctor> selectedDoctorProperty();
+    ObservableValue<Doctor> selectedDoctorProperty();
 
     /**
      * Sets the selected doctor in the filtered doctor list.
+     * Does nothing if it is no longer in that list, e.g. because a command removed it after it was selected.
      *
      * @see seedu.address.model.Model#setSelectedDoctor(Doctor)
      */
@@ -1,25 +1,47 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
-import javafx.beans.property.ReadOnlyProperty;
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressListener;
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.commons.core.observable.ObservableValue;
+import seedu.address.commons.core.observable.SimpleObservableValue;
+import seedu.address.commons.core.tracing.Span;
+import seedu.address.commons.core.tracing.Tracer;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.SearchPreview;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.DocXParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DocXSnapshot;
+import seedu.address.model.DocXSnapshotPublisher;
+import seedu.address.model.FilterState;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyDocX;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarWindow;
 import seedu.address.model.medicalhistory.MedicalHistory;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.patient.Patient;
 import seedu.address.model.prescription.Prescription;
+import seedu.address.model.query.ClinicSummary;
+import seedu.address.model.query.DocXIndexes;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,47 +49,325 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_LOAD_INTERRUPTED = "Interrupted while waiting for the data to be loaded";
+    public static final String LOADER_THREAD_NAME = "docx-loader";
+
+    /** The prefix of the names of the latency histogram and the failure counter of each command word. */
+    public static final String COMMAND_METRIC_PREFIX = "command.";
+    public static final String FAILURES_METRIC_SUFFIX = ".failures";
+    /** The command word that commands which cannot be parsed are recorded under. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+    public static final String STAGE_PARSE = "stage.parse";
+    public static final String STAGE_EXECUTE = "stage.execute";
+    public static final String STAGE_SNAPSHOT = "stage.snapshot";
+    public static final String STAGE_SAVE = "stage.save";
+    public static final String RESULT_CACHE_HITS = "resultCache.hits";
+    public static final String RESULT_CACHE_MISSES = "resultCache.misses";
+    /** The category of the spans traced by the logic component. */
+    public static final String TRACE_CATEGORY = "logic";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final CommandHistory history;
     private final DocXParser docXParser;
+    private final CommandResultCache resultCache = new CommandResultCache();
+    private final MetricsRegistry metrics = MetricsCenter.getRegistry();
+    private final DocXSnapshotPublisher snapshotPublisher;
+    /** Serialises command execution, while allowing snapshots to be published between commands. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
     private boolean docXModified;
+    /** Released once the data has been loaded; commands that require the data wait for it. */
+    private volatile CountDownLatch dataLoaded = new CountDownLatch(0);
+    private final SimpleObservableValue<LoadProgress> loadProgress;
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandHistory());
+    }
+
+    public LogicManager(Model model, Storage storage, CommandHistory history) {
         this.model = model;
         this.storage = storage;
-        history = new CommandHistory();
+        this.history = history;
         docXParser = new DocXParser();
+        snapshotPublisher = new DocXSnapshotPublisher(model.getDocX());
+        loadProgress = new SimpleObservableValue<>(LoadProgress.done(countRecords(model.getDocX())));
 
         // Set DocXModified to true whenever the models' docX is modified.
         model.getDocX().addListener(observable -> docXModified = true);
     }
 
+    /**
+     * Loads the data with {@code loader} on a background thread, replacing the data in the model once it is loaded.
+     * Until then, the model is left as it is, and commands that require the data wait for it to be loaded.
+     * Once the data is loaded, the indexes over it are built at the lowest priority without blocking commands, so
+     * that they are ready by the time the first query needs them.
+     * The listeners of the loading progress must be added before this method is called.
+     */
+    public void loadInBackground(DocXLoader loader) {
+        requireNonNull(loader);
+        dataLoaded = new CountDownLatch(1);
+        loadProgress.setValue(LoadProgress.started());
+        Thread loaderThread = new Thread(() -> load(loader), LOADER_THREAD_NAME);
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+    }
+
+    /**
+     * Loads the data with {@code loader}, then builds the indexes over it.
+     */
+    private void load(DocXLoader loader) {
+        long startNanos = System.nanoTime();
+        try {
+            ReadOnlyDocX docX = loader.load((loaded, total) ->
+                    loadProgress.setValue(new LoadProgress(loaded, total, false)));
+            lock.writeLock().lock();
+            try {
+                model.loadDocX(docX);
+                snapshotPublisher.publish();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            int total = countRecords(docX);
+            logger.info("Loaded " + total + " records in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms");
+            loadProgress.setValue(LoadProgress.done(total));
+        } catch (RuntimeException re) {
+            logger.severe("Could not load data, starting with an empty DocX: " + re);
+            loadProgress.setValue(LoadProgress.done(0));
+        } finally {
+            dataLoaded.countDown();
+        }
+
+        Thread.currentThread().setPriority(Thread.MIN_PRIORITY);
+        long indexStartNanos = System.nanoTime();
+        buildIndexes();
+        logger.fine("Built indexes in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - indexStartNanos)
+                + " ms");
+    }
+
+    /**
+     * Builds the indexes over the data from a snapshot of it, without holding the command lock while building, so
+     * that commands never wait for the low priority loader thread. The indexes are only installed if no command
+     * modified the data in the meantime; otherwise they are built again from a newer snapshot.
+     * Returns early if a command needed the indexes and built them itself.
+     */
+    private void buildIndexes() {
+        DocXIndexes indexes = model.getDocXIndexes();
+        while (!indexes.isBuilt()) {
+            DocXSnapshot snapshot;
+            long dataVersion;
+            lock.readLock().lock();
+            try {
+                snapshot = snapshotPublisher.publish();
+                dataVersion = model.getDataVersion();
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            DocXIndexes prebuilt = indexes.prebuild(snapshot);
+            lock.writeLock().lock();
+            try {
+                if (model.getDataVersion() == dataVersion) {
+                    indexes.install(prebuilt);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the total number of records in {@code docX}.
+     */
+    private static int countRecords(ReadOnlyDocX docX) {
+        return docX.getPatientList().size() + docX.getDoctorList().size() + docX.getMedHistList().size()
+                + docX.getAppointmentList().size() + docX.getPrescriptionList().size();
+    }
+
+    /**
+     * Waits until the data has been loaded. Returns immediately if it is not being loaded.
+     */
+    public void awaitDataLoaded() throws InterruptedException {
+        dataLoaded.await();
+    }
+
+    @Override
+    public ObservableValue<LoadProgress> getLoadProgress() {
+        return loadProgress;
+    }
+
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        awaitDataLoadedFor(commandText);
+        lock.writeLock().lock();
+        try {
+            return executeExclusively(commandText);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Waits until the data has been loaded if {@code commandText} is a command that requires the data.
+     * Commands that cannot be parsed do not wait, as they fail without reading the data.
+     */
+    private void awaitDataLoadedFor(String commandText) throws CommandException {
+        if (dataLoaded.getCount() == 0) {
+            return;
+        }
+
+        try {
+            if (!docXParser.parseCommand(commandText).requiresData()) {
+                return;
+            }
+        } catch (ParseException pe) {
+            return;
+        }
+
+        logger.info("Waiting for the data to be loaded before executing: " + commandText);
+        try {
+            awaitDataLoaded();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_LOAD_INTERRUPTED, ie);
+        }
+    }
+
+    /**
+     * Executes {@code commandText} and saves the DocX if it was modified.
+     * The latency of each stage, and of the whole command, is recorded in the metrics registry, and traced as a span
+     * if tracing is on.
+     * The caller must hold the write lock.
+     */
+    private CommandResult executeExclusively(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        long startNanos = System.nanoTime();
         docXModified = false;
+        String commandWord = INVALID_COMMAND_WORD;
+        boolean isSuccessful = false;
 
-        CommandResult commandResult;
-        try {
-            Command command = docXParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
+        try (Span commandSpan = Tracer.start(TRACE_CATEGORY, "command").setArg("commandText", commandText)) {
+            CommandResult commandResult;
+            try {
+                long parseStartNanos = System.nanoTime();
+                Command command;
+                try (Span parseSpan = Tracer.start(TRACE_CATEGORY, "DocXParser.parseCommand")) {
+                    command = docXParser.parseCommand(commandText);
+                }
+                metrics.histogram(STAGE_PARSE).recordSince(parseStartNanos);
+                commandWord = commandText.trim().split("\\s+")[0];
+
+                long executeStartNanos = System.nanoTime();
+                try (Span executeSpan = Tracer.start(TRACE_CATEGORY, "Command.execute")
+                        .setArg("command", command.getClass().getSimpleName())) {
+                    commandResult = executeCommand(command);
+                }
+                metrics.histogram(STAGE_EXECUTE).recordSince(executeStartNanos);
+            } finally {
+                history.add(commandText);
+            }
+
+            if (docXModified) {
+                long snapshotStartNanos = System.nanoTime();
+                DocXSnapshot snapshot;
+                try (Span snapshotSpan = Tracer.start(TRACE_CATEGORY, "DocXSnapshotPublisher.publish")) {
+                    snapshot = snapshotPublisher.publish();
+                }
+                metrics.histogram(STAGE_SNAPSHOT).recordSince(snapshotStartNanos);
+                logger.info("docX modified, published snapshot v" + snapshot.getVersion() + ", saving to file.");
+                try {
+                    long saveStartNanos = System.nanoTime();
+                    storage.saveDocX(model.getDocX());
+                    metrics.histogram(STAGE_SAVE).recordSince(saveStartNanos);
+                } catch (IOException ioe) {
+                    throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+                }
+            }
+
+            isSuccessful = true;
+            commandSpan.setArg("commandWord", commandWord);
+            return commandResult;
         } finally {
-            history.add(commandText);
+            metrics.histogram(COMMAND_METRIC_PREFIX + commandWord).recordSince(startNanos);
+            if (!isSuccessful) {
+                metrics.counter(COMMAND_METRIC_PREFIX + commandWord + FAILURES_METRIC_SUFFIX).increment();
+            }
+        }
+    }
+
+    /**
+     * Executes {@code command}, reusing its cached result if it was executed before on the same data.
+     */
+    private CommandResult executeCommand(Command command) throws CommandException {
+        if (!command.isCacheable()) {
+            return command.execute(model, history);
+        }
+
+        long dataVersion = model.getDataVersion();
+        Optional<CommandResultCache.CachedResult> cachedResult = resultCache.get(command, dataVersion);
+        if (cachedResult.isPresent()) {
+            metrics.counter(RESULT_CACHE_HITS).increment();
+            logger.fine("Reusing cached result (" + resultCache.getHitCount() + " hits, "
+                    + resultCache.getMissCount() + " misses)");
+            model.setFilterState(cachedResult.get().getFilterState());
+            return cachedResult.get().getCommandResult();
+        }
+
+        metrics.counter(RESULT_CACHE_MISSES).increment();
+        FilterState filterStateBefore = model.getFilterState();
+        CommandResult commandResult = command.execute(model, history);
+        if (model.getDataVersion() == dataVersion) {
+            // only the lists that the command filtered are restored when its result is reused
+            resultCache.put(command, dataVersion, new CommandResultCache.CachedResult(commandResult,
+                    model.getFilterState().onlySetSince(filterStateBefore)));
+        }
+        return commandResult;
+    }
+
+    @Override
+    public Optional<SearchPreview> previewCommand(String commandText, int maxResults) {
+        Command command;
+        try {
+            command = docXParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            return Optional.empty();
         }
+        return query(docX -> command.preview(docX, maxResults));
+    }
+
+    @Override
+    public <T> T query(Function<ReadOnlyDocX, T> query) {
+        try {
+            awaitDataLoaded();
+        } catch (InterruptedException ie) {
+            // query the data as it is, but let the caller know that it was interrupted
+            Thread.currentThread().interrupt();
+        }
+        return query.apply(getDocXSnapshot());
+    }
 
-        if (docXModified) {
-            logger.info("docX modified, saving to file.");
+    @Override
+    public DocXSnapshot getDocXSnapshot() {
+        // Readers never wait for a running command, which publishes its changes once it has made all of them.
+        // Without a running command, the DocX is only stale if it was modified outside of a command.
+        if (snapshotPublisher.isStale() && lock.readLock().tryLock()) {
             try {
-                storage.saveDocX(model.getDocX());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+                return snapshotPublisher.publish();
+            } finally {
+                lock.readLock().unlock();
             }
         }
+        return snapshotPublisher.getLatest();
+    }
 
-        return commandResult;
+    @Override
+    public boolean isReadOnlyCommand(String commandText) {
+        try {
+            return docXParser.parseCommand(commandText).isReadOnly();
+        } catch (ParseException pe) {
+            return false;
+        }
     }
 
     @Override
@@ -95,11 +395,36 @@ public class LogicManager implements Logic {
         return model.getFilteredAppointmentList();
     }
 
+    @Override
+    public ObservableList<Appointment> getCalendarAppointmentList() {
+        return model.getCalendarAppointmentList();
+    }
+
+    @Override
+    public ObservableValue<CalendarWindow> calendarWindowProperty() {
+        return model.calendarWindowProperty();
+    }
+
+    @Override
+    public void setCalendarWindow(CalendarWindow window) {
+        changeExclusively(() -> model.setCalendarWindow(window));
+    }
+
+    @Override
+    public ObservableValue<ClinicSummary> clinicSummaryProperty() {
+        return model.clinicSummaryProperty();
+    }
+
     @Override
     public ObservableList<String> getHistory() {
         return history.getHistory();
     }
 
+    @Override
+    public Optional<CommandHistory.Match> searchHistory(String query, long beforeSequenceNumber) {
+        return history.findPrevious(query, beforeSequenceNumber);
+    }
+
     @Override
     public Path getDocXFilePath() {
         return model.getDocXFilePath();
@@ -116,43 +441,43 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ReadOnlyProperty<Patient> selectedPatientProperty() {
+    public ObservableValue<Patient> selectedPatientProperty() {
         return model.selectedPatientProperty();
     }
 
     @Override
     public void setSelectedPatient(Patient patient) {
-        model.setSelectedPatient(patient);
+        selectExclusively(patient, model.getFilteredPatientList(), model::setSelectedPatient);
     }
 
     @Override
-    public ReadOnlyProperty<MedicalHistory> selectedMedHistProperty() {
+    public ObservableValue<MedicalHistory> selectedMedHistProperty() {
         return model.selectedMedHistProperty();
     }
 
     @Override
     public void setSelectedMedHist(MedicalHistory medHist) {
-        model.setSelectedMedHist(medHist);
+        selectExclusively(medHist, model.getFilteredMedHistList(), model::setSelectedMedHist);
     }
 
     @Override
-    public ReadOnlyProperty<Prescription> selectedPrescriptionProperty() {
+    public ObservableValue<Prescription> selectedPrescriptionProperty() {
         return model.selectedPrescriptionProperty();
     }
 
     @Override
     public void setSelectedPrescription(Prescription prescription) {
-        model.setSelectedPrescription(prescription);
+        selectExclusively(prescription, model.getFilteredPrescriptionList(), model::setSelectedPrescription);
     }
 
     @Override
-    public ReadOnlyProperty<Appointment> selectedAppointmentProperty() {
+    public ObservableValue<Appointment> selectedAppointmentProperty() {
         return model.selectedAppointmentProperty();
     }
 
     @Override
-    public void setSelectedAppointment (Appointment appointment) {
-        model.setSelectedAppointment(appointment);
+    public void setSelectedAppointment(Appointment appointment) {
+        selectExclusively(appointment, model.getFilteredAppointmentList(), model::setSelectedAppointment);
     }
 
     @Override
@@ -161,12 +486,48 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ReadOnlyProperty<Doctor> selectedDoctorProperty() {
+    public ObservableValue<Doctor> selectedDoctorProperty() {
         return model.selectedDoctorProperty();
     }
 
     @Override
     public void setSelectedDoctor(Doctor doctor) {
-        model.setSelectedDoctor(doctor);
+        selectExclusively(doctor, model.getFilteredDoctorList(), model::setSelectedDoctor);
+    }
+
+    /**
+     * Selects {@code item} with {@code select} while holding the write lock, doing nothing if {@code item} is no longer
+     * in {@code shownItems}, e.g. because a command removed it after it was selected in the UI.
+     */
+    private <T> void selectExclusively(T item, ObservableList<T> shownItems, Consumer<T> select) {
+        changeExclusively(() -> {
+            if (item != null && !shownItems.contains(item)) {
+                logger.fine("Ignoring the selection of an item that is no longer shown: " + item);
+                return;
+            }
+            select.accept(item);
+        });
+    }
+
+    /**
+     * Makes {@code change} to the model while holding the write lock, so that it never interleaves with a command
+     * executed on another thread, e.g. by the HTTP service.
+     */
+    private void changeExclusively(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the data of the DocX, reporting its progress as it goes.
+     * Failures to read the data are handled by the loader, which then returns the data to start with instead.
+     */
+    @FunctionalInterface
+    public interface DocXLoader {
+        ReadOnlyDocX load(ProgressListener listener);
     }
 }
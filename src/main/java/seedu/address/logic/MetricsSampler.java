@@ -0,0 +1,101 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.JmxMetricsExporter;
+import seedu.address.commons.core.metrics.MetricsFileExporter;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.model.ReadOnlyDocX;
+
+/**
+ * Periodically samples the heap usage and the number of entities in the DocX into gauges of a
+ * {@link MetricsRegistry}, and then exports the registry to the metrics file and to JMX.
+ * Sampling runs on its own daemon thread and reads the DocX through snapshots, so it never blocks commands.
+ */
+public class MetricsSampler {
+    private static final Logger logger = LogsCenter.getLogger(MetricsSampler.class);
+
+    private final Logic logic;
+    private final MetricsRegistry registry;
+    private final MetricsFileExporter fileExporter;
+    private final JmxMetricsExporter jmxExporter;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a sampler of {@code logic}'s DocX into {@code registry}, which exports the registry with the given
+     * exporters. Sampling starts when {@link #start(long)} is called.
+     */
+    public MetricsSampler(Logic logic, MetricsRegistry registry, MetricsFileExporter fileExporter,
+            JmxMetricsExporter jmxExporter) {
+        requireAllNonNull(logic, registry, fileExporter, jmxExporter);
+        this.logic = logic;
+        this.registry = registry;
+        this.fileExporter = fileExporter;
+        this.jmxExporter = jmxExporter;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Samples and exports the metrics now, and then every {@code intervalSeconds} seconds.
+     */
+    public void start(long intervalSeconds) {
+        scheduler.scheduleWithFixedDelay(this::sampleAndExport, 0, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Samples and exports the metrics one last time, and then stops sampling.
+     */
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        sampleAndExport();
+        fileExporter.close();
+        jmxExporter.close();
+    }
+
+    /**
+     * Samples the gauges and exports the registry.
+     * Failures are logged rather than thrown, so that one failed sample does not stop later samples.
+     */
+    private void sampleAndExport() {
+        try {
+            sample();
+            fileExporter.export(registry);
+            jmxExporter.export(registry);
+        } catch (RuntimeException e) {
+            logger.warning("Failed to sample metrics: " + e);
+        }
+    }
+
+    /**
+     * Samples the heap usage and the number of entities in the DocX into their gauges.
+     */
+    void sample() {
+        MemoryUsage heapUsage = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        registry.gauge("heap.usedBytes").setValue(heapUsage.getUsed());
+        registry.gauge("heap.committedBytes").setValue(heapUsage.getCommitted());
+
+        ReadOnlyDocX docX = logic.getDocXSnapshot();
+        registry.gauge("entities.patients").setValue(docX.getPatientList().size());
+        registry.gauge("entities.doctors").setValue(docX.getDoctorList().size());
+        registry.gauge("entities.appointments").setValue(docX.getAppointmentList().size());
+        registry.gauge("entities.medHists").setValue(docX.getMedHistList().size());
+        registry.gauge("entities.prescriptions").setValue(docX.getPrescriptionList().size());
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.SearchPreview;
+
+/**
+ * Previews the results of search commands as they are typed, on a background thread.
+ * A preview only starts once the text has stopped changing for a short delay, and a preview that is still waiting
+ * or running when newer text arrives is cancelled, so that only the preview of the latest text is delivered.
+ * Previews are delivered through the {@code callbackExecutor}, e.g. on the JavaFX application thread.
+ */
+public class SearchPreviewer {
+
+    public static final long DEFAULT_DELAY_MILLIS = 150;
+    /** The number of matches described in a preview. */
+    public static final int DEFAULT_MAX_RESULTS = 5;
+    public static final String MESSAGE_INVALID_DELAY = "The delay of a preview must not be negative";
+
+    private static final Logger logger = LogsCenter.getLogger(SearchPreviewer.class);
+
+    private final Logic logic;
+    private final Executor callbackExecutor;
+    private final long delayMillis;
+    private final ScheduledExecutorService worker;
+    /** Incremented for every new text, so that the previews of older text are not delivered. */
+    private long generation = 0;
+    private ScheduledFuture<?> pendingPreview;
+
+    public SearchPreviewer(Logic logic, Executor callbackExecutor) {
+        this(logic, callbackExecutor, DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a previewer that starts each preview once the text has not changed for {@code delayMillis}.
+     */
+    public SearchPreviewer(Logic logic, Executor callbackExecutor, long delayMillis) {
+        requireAllNonNull(logic, callbackExecutor);
+        checkArgument(delayMillis >= 0, MESSAGE_INVALID_DELAY);
+        this.logic = logic;
+        this.callbackExecutor = callbackExecutor;
+        this.delayMillis = delayMillis;
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-preview");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Previews {@code commandText} after the delay, cancelling the preview of any earlier text.
+     * {@code callback} receives the preview, or an empty {@code Optional} if the text is not a complete search
+     * command, unless newer text arrives first.
+     */
+    public synchronized void preview(String commandText, Consumer<Optional<SearchPreview>> callback) {
+        requireAllNonNull(commandText, callback);
+        cancel();
+        long previewGeneration = generation;
+        pendingPreview = worker.schedule(() -> runPreview(commandText, previewGeneration, callback), delayMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the preview that is waiting or running, if any, so that it is not delivered.
+     */
+    public synchronized void cancel() {
+        generation++;
+        if (pendingPreview != null) {
+            // a running preview notices the interrupt while searching and stops early
+            pendingPreview.cancel(true);
+            pendingPreview = null;
+        }
+    }
+
+    /**
+     * Stops the worker thread, cancelling the preview that is waiting or running.
+     */
+    public void shutdown() {
+        cancel();
+        worker.shutdownNow();
+    }
+
+    /**
+     * Computes the preview of {@code commandText} on the worker thread, and delivers it if no newer text has arrived.
+     */
+    private void runPreview(String commandText, long previewGeneration, Consumer<Optional<SearchPreview>> callback) {
+        Optional<SearchPreview> preview;
+        try {
+            preview = logic.previewCommand(commandText, DEFAULT_MAX_RESULTS);
+        } catch (CancellationException ce) {
+            return;
+        } catch (RuntimeException re) {
+            logger.warning("Could not preview: " + commandText + StringUtil.getDetails(re));
+            return;
+        }
+        callbackExecutor.execute(() -> {
+            if (isLatest(previewGeneration)) {
+                callback.accept(requireNonNull(preview));
+            }
+        });
+    }
+
+    private synchronized boolean isLatest(long previewGeneration) {
+        return previewGeneration == generation;
+    }
+}
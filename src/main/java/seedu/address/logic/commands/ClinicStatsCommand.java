@@ -0,0 +1,26 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Shows the operational statistics of the clinic today in the dashboard.
+ */
+public class ClinicStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats-clinic";
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        return new CommandResult(model.refreshClinicSummary().toString(),
+                CommandResult.ShowPanel.CLINIC_DASHBOARD_PANEL);
+    }
+}
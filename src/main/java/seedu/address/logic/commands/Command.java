@@ -1,8 +1,11 @@
 package seedu.address.logic.commands;
 
+import java.util.Optional;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyDocX;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -19,4 +22,42 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Returns true if this command does not modify the data in the model.
+     * Such commands only change what is shown, so they can be safely cancelled while they are executing.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns true if this command reads or modifies the data in the model, so that it must wait for the data to be
+     * loaded before it is executed.
+     */
+    public boolean requiresData() {
+        return true;
+    }
+
+    /**
+     * Returns true if executing this command again on the same data gives the same result, so that its result can be
+     * cached. Such a command must be read-only, must only change the model by filtering its lists, and must be equal
+     * to another command exactly when they give the same result.
+     *
+     * @see seedu.address.logic.CommandResultCache
+     */
+    public boolean isCacheable() {
+        return false;
+    }
+
+    /**
+     * Returns a preview of what this command would find in {@code docX}, describing at most {@code maxResults} of
+     * the matches, or an empty {@code Optional} if this command is not a search that can be previewed.
+     * A preview must not modify anything, as it is computed on a snapshot of the data while the command is typed.
+     *
+     * @see SearchPreview#of
+     */
+    public Optional<SearchPreview> preview(ReadOnlyDocX docX, int maxResults) {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.metrics.Stall;
+import seedu.address.commons.core.metrics.StallRecorder;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Shows the worst times that the UI stopped responding since the app was started.
+ */
+public class DiagnosticsCommand extends Command {
+
+    public static final String COMMAND_WORD = "diagnostics";
+    public static final String MESSAGE_SUCCESS = "Worst UI stalls, with the command executing and where the UI "
+            + "was stuck:\n%1$s";
+    public static final String MESSAGE_NO_STALLS = "The UI has not stalled since DocX was started.";
+
+    private final StallRecorder recorder;
+
+    public DiagnosticsCommand() {
+        this(MetricsCenter.getStallRecorder());
+    }
+
+    public DiagnosticsCommand(StallRecorder recorder) {
+        this.recorder = requireNonNull(recorder);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        List<Stall> stalls = recorder.getWorstStalls();
+        if (stalls.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STALLS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, stalls.stream()
+                .map(Stall::toString)
+                .collect(Collectors.joining("\n"))));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DiagnosticsCommand // instanceof handles nulls
+                && recorder == ((DiagnosticsCommand) other).recorder); // state check
+    }
+}
@@ -12,6 +12,11 @@ public class ExitCommand extends Command {
 
     public static final String MESSAGE_EXIT_ACKNOWLEDGEMENT = "Exiting docX as requested ...";
 
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.query.JoinQuery;
+import seedu.address.model.query.JoinResult;
+import seedu.address.model.query.QueryEntity;
+
+/**
+ * Finds the patients, doctors, appointments, medical histories or prescriptions matching a query that may relate
+ * several of them, and shows the rows taking part in a match in their lists.
+ */
+public class FindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the records that match a query. "
+            + "The query may refer to patients, doctors, appointments, medical histories and prescriptions, "
+            + "which are related through their patient and doctor IDs.\n"
+            + "Parameters: [explain] patients|doctors|appts|medhists|prescriptions [where CONDITION]\n"
+            + "A condition compares fields with =, !=, <, <=, >, >= or ~ (contains), "
+            + "and combines comparisons with and, or, not and brackets.\n"
+            + "Example: " + COMMAND_WORD + " patients where appt.status = ACTIVE and appt.date >= today "
+            + "and appt.date <= today+7 and doctor.spec = cardiology";
+
+    public static final String MESSAGE_SUCCESS = "%1$d %2$s found";
+
+    private final JoinQuery query;
+    private final boolean isExplain;
+
+    public FindCommand(JoinQuery query) {
+        this(query, false);
+    }
+
+    /**
+     * Creates a FindCommand for {@code query}, which also explains how the query was run if {@code isExplain}.
+     */
+    public FindCommand(JoinQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        JoinResult result = query.execute(model.getDocX());
+
+        for (QueryEntity entity : result.getJoinedEntities()) {
+            switch (entity) {
+            case PATIENT:
+                model.updateFilteredPatientList(patient -> result.isMatch(entity, patient));
+                break;
+            case DOCTOR:
+                model.updateFilteredDoctorList(doctor -> result.isMatch(entity, doctor));
+                break;
+            case APPOINTMENT:
+                model.updateFilteredAppointmentList(appointment -> result.isMatch(entity, appointment));
+                break;
+            case MEDICAL_HISTORY:
+                model.updateFilteredMedHistList(medHist -> result.isMatch(entity, medHist));
+                break;
+            default:
+                model.updateFilteredPrescriptionList(prescription -> result.isMatch(entity, prescription));
+                break;
+            }
+        }
+
+        QueryEntity target = query.getTarget();
+        String feedback = String.format(MESSAGE_SUCCESS, result.count(target), target.getPluralName());
+        if (isExplain) {
+            feedback += "\n" + result.explain();
+        }
+        return new CommandResult(feedback, getPanelToShow(result));
+    }
+
+    /**
+     * Returns the panel showing the records in {@code result}, preferring the records that were asked for.
+     */
+    private static CommandResult.ShowPanel getPanelToShow(JoinResult result) {
+        QueryEntity shownRecord = result.getTarget().isRecord()
+                ? result.getTarget()
+                : result.getJoinedEntities().stream().filter(QueryEntity::isRecord).findFirst().orElse(null);
+        if (shownRecord == null) {
+            return CommandResult.ShowPanel.NO_CHANGE;
+        }
+
+        switch (shownRecord) {
+        case APPOINTMENT:
+            return CommandResult.ShowPanel.APPOINTMENT_PANEL;
+        case MEDICAL_HISTORY:
+            return CommandResult.ShowPanel.MED_HIST_PANEL;
+        default:
+            return CommandResult.ShowPanel.PRESC_PANEL;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindCommand // instanceof handles nulls
+                && query.equals(((FindCommand) other).query)
+                && isExplain == ((FindCommand) other).isExplain); // state check
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A preview of the result of a search command: the number of matching elements and a description of the first few.
+ * A preview is computed without modifying the model, so it can be computed while the command is still being typed.
+ */
+public class SearchPreview {
+
+    public static final String MESSAGE_NO_MATCHES = "Preview: no %1$s found";
+    public static final String MESSAGE_MATCHES = "Preview: %1$d %2$s found: %3$s";
+    public static final String MORE_MATCHES = ", ...";
+    public static final String MESSAGE_INVALID_MAX_RESULTS = "The number of results to preview must not be negative";
+
+    private final int matchCount;
+    private final List<String> firstResults;
+    private final String elementsName;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public SearchPreview(int matchCount, List<String> firstResults, String elementsName) {
+        requireNonNull(firstResults);
+        requireNonNull(elementsName);
+        this.matchCount = matchCount;
+        this.firstResults = Collections.unmodifiableList(new ArrayList<>(firstResults));
+        this.elementsName = elementsName;
+    }
+
+    /**
+     * Returns a preview of the elements of {@code elements} that match {@code predicate}, describing at most
+     * {@code maxResults} of them with {@code describer}.
+     * If the current thread is interrupted while searching, a {@code CancellationException} is thrown, so that a
+     * preview that is no longer needed stops early.
+     */
+    public static <T> SearchPreview of(List<T> elements, Predicate<? super T> predicate,
+            Function<? super T, String> describer, String elementsName, int maxResults) {
+        checkArgument(maxResults >= 0, MESSAGE_INVALID_MAX_RESULTS);
+        int matchCount = 0;
+        List<String> firstResults = new ArrayList<>();
+        for (T element : elements) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Preview was cancelled.");
+            }
+            if (!predicate.test(element)) {
+                continue;
+            }
+            if (matchCount < maxResults) {
+                firstResults.add(describer.apply(element));
+            }
+            matchCount++;
+        }
+        return new SearchPreview(matchCount, firstResults, elementsName);
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Returns the descriptions of the first matching elements, in the order of the list searched.
+     */
+    public List<String> getFirstResults() {
+        return firstResults;
+    }
+
+    /**
+     * Returns the preview as a message to be shown to the user.
+     */
+    public String getMessage() {
+        if (matchCount == 0) {
+            return String.format(MESSAGE_NO_MATCHES, elementsName);
+        }
+        String results = String.join(", ", firstResults) + (matchCount > firstResults.size() ? MORE_MATCHES : "");
+        return String.format(MESSAGE_MATCHES, matchCount, elementsName, results);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchPreview // instanceof handles nulls
+                && matchCount == ((SearchPreview) other).matchCount
+                && firstResults.equals(((SearchPreview) other).firstResults)
+                && elementsName.equals(((SearchPreview) other).elementsName)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return (matchCount * 31 + firstResults.hashCode()) * 31 + elementsName.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Shows the performance statistics recorded since the app was started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_SUCCESS = "Performance statistics:\n%1$s";
+
+    private final MetricsRegistry registry;
+
+    public StatsCommand() {
+        this(MetricsCenter.getRegistry());
+    }
+
+    public StatsCommand(MetricsRegistry registry) {
+        this.registry = requireNonNull(registry);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        return new CommandResult(String.format(MESSAGE_SUCCESS, registry.getSummary()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && registry == ((StatsCommand) other).registry); // state check
+    }
+}
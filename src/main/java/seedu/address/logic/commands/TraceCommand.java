@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.tracing.ChromeTraceWriter;
+import seedu.address.commons.core.tracing.TraceEvent;
+import seedu.address.commons.core.tracing.Tracer;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Starts tracing the time spent by commands, or stops tracing and saves the trace to a file.
+ */
+public class TraceCommand extends Command {
+
+    public static final String COMMAND_WORD = "trace";
+    public static final String START_WORD = "start";
+    public static final String STOP_WORD = "stop";
+    public static final Path DEFAULT_FILE_PATH = Paths.get("trace.json");
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Starts tracing the time spent in each part of the "
+            + "app by the commands entered, or stops tracing and saves the trace to a file that can be viewed in "
+            + "chrome://tracing or https://ui.perfetto.dev.\n"
+            + "Parameters: " + START_WORD + " | " + STOP_WORD + " [FILE]\n"
+            + "Example: " + COMMAND_WORD + " " + STOP_WORD + " slow-delete.json";
+
+    public static final String MESSAGE_STARTED = "Tracing started. Enter \"" + COMMAND_WORD + " " + STOP_WORD
+            + "\" to save the trace.";
+    public static final String MESSAGE_STOPPED = "Saved %1$d spans to %2$s";
+    public static final String MESSAGE_NOT_STARTED = "Tracing has not been started. Enter \"" + COMMAND_WORD + " "
+            + START_WORD + "\" to start it.";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save the trace to %1$s: %2$s";
+
+    /** The file to save the trace to, or null if tracing is to be started. */
+    private final Path filePath;
+
+    private TraceCommand(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns a command that starts tracing.
+     */
+    public static TraceCommand start() {
+        return new TraceCommand(null);
+    }
+
+    /**
+     * Returns a command that stops tracing and saves the trace to {@code filePath}.
+     */
+    public static TraceCommand stop(Path filePath) {
+        return new TraceCommand(requireNonNull(filePath));
+    }
+
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        if (filePath == null) {
+            Tracer.enable(Tracer.DEFAULT_CAPACITY);
+            return new CommandResult(MESSAGE_STARTED);
+        }
+
+        Optional<List<TraceEvent>> events = Tracer.disable();
+        if (!events.isPresent()) {
+            throw new CommandException(MESSAGE_NOT_STARTED);
+        }
+        try {
+            ChromeTraceWriter.write(events.get(), filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_SAVE_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_STOPPED, events.get().size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TraceCommand // instanceof handles nulls
+                && Objects.equals(filePath, ((TraceCommand) other).filePath)); // state check
+    }
+}
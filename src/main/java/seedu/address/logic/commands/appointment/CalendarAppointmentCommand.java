@@ -0,0 +1,85 @@
+package seedu.address.logic.commands.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PLACEHOLDER_DATE_OF_APPT;
+import static seedu.address.logic.parser.CliSyntax.PLACEHOLDER_DOCTOR_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_APPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_ID;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.appointment.AppointmentDoctorId;
+import seedu.address.model.appointment.CalendarWindow;
+
+/**
+ * Shows a week of a doctor's appointments in a calendar.
+ */
+public class CalendarAppointmentCommand extends Command {
+
+    public static final String COMMAND_WORD = "calendar-appt";
+    public static final String COMMAND_EXAMPLE = "Example: " + COMMAND_WORD + " "
+            + PREFIX_DOCTOR_ID + "7 "
+            + PREFIX_DATE_OF_APPT + "2019-06-01 ";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows a week of a doctor's appointments "
+            + "in a calendar, by default the current week. "
+            + "Parameters: "
+            + PREFIX_DOCTOR_ID + PLACEHOLDER_DOCTOR_ID + " "
+            + "[" + PREFIX_DATE_OF_APPT + PLACEHOLDER_DATE_OF_APPT + "] " + "\n"
+            + COMMAND_EXAMPLE;
+
+    public static final String MESSAGE_SUCCESS = "Showing the appointments of %1$s";
+
+    private final AppointmentDoctorId doctorId;
+    private final Optional<AppointmentDate> date;
+
+    /**
+     * Creates a CalendarAppointmentCommand to show the week containing {@code date}, or the current week if
+     * {@code date} is empty, of the appointments of the doctor with {@code doctorId}.
+     */
+    public CalendarAppointmentCommand(AppointmentDoctorId doctorId, Optional<AppointmentDate> date) {
+        requireNonNull(doctorId);
+        requireNonNull(date);
+        this.doctorId = doctorId;
+        this.date = date;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (model.getDoctorById(doctorId) == null) {
+            throw new CommandException(AddAppointmentCommand.MESSAGE_DOCTOR_NOT_NOT_FOUND);
+        }
+
+        CalendarWindow window = CalendarWindow.weekOf(doctorId,
+                date.map(appointmentDate -> appointmentDate.date).orElseGet(LocalDate::now));
+        model.setCalendarWindow(window);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, window),
+                CommandResult.ShowPanel.APPOINTMENT_CALENDAR_PANEL);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CalendarAppointmentCommand // instanceof handles nulls
+                && doctorId.equals(((CalendarAppointmentCommand) other).doctorId)
+                && date.equals(((CalendarAppointmentCommand) other).date)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(doctorId, date);
+    }
+}
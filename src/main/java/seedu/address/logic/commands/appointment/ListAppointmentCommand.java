@@ -1,6 +1,7 @@
 package seedu.address.logic.commands.appointment;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PLACEHOLDER_DATE_OF_APPT;
 import static seedu.address.logic.parser.CliSyntax.PLACEHOLDER_DOCTOR_ID;
 import static seedu.address.logic.parser.CliSyntax.PLACEHOLDER_PATIENT_ID;
@@ -9,13 +10,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_APPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
@@ -29,7 +29,10 @@ import seedu.address.model.appointment.AppointmentDoctorId;
 import seedu.address.model.appointment.AppointmentPatientId;
 import seedu.address.model.appointment.AppointmentStatus;
 import seedu.address.model.appointment.AppointmentTime;
-import seedu.address.model.person.PersonId;
+import seedu.address.model.query.DocXIndexes;
+import seedu.address.model.query.QueryFilter;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.QueryResult;
 
 /**
  * Lists all appointments in docX to the user.
@@ -40,6 +43,7 @@ public class ListAppointmentCommand extends Command {
     public static final String COMMAND_EXAMPLE = "Example: " + COMMAND_WORD + " "
             + PREFIX_DATE_OF_APPT + "2019-06-01 ";
     public static final String MESSAGE_USAGE = COMMAND_WORD + " "
+            + "[" + KEYWORD_EXPLAIN + "] "
             + "[" + PREFIX_PATIENT_ID + PLACEHOLDER_PATIENT_ID + "] "
             + "[" + PREFIX_DOCTOR_ID + PLACEHOLDER_DOCTOR_ID + "] "
             + "[" + PREFIX_DATE_OF_APPT + PLACEHOLDER_DATE_OF_APPT + "] "
@@ -65,77 +69,95 @@ public class ListAppointmentCommand extends Command {
             "Appointment with the specified status is not found.";
 
     private final ListAppointmentDescriptor listAppointmentDescriptor;
+    private final boolean isExplain;
 
     public ListAppointmentCommand(ListAppointmentDescriptor listAppointmentDescriptor) {
+        this(listAppointmentDescriptor, false);
+    }
+
+    /**
+     * Creates a ListAppointmentCommand that also explains how the appointments were found if {@code isExplain}.
+     */
+    public ListAppointmentCommand(ListAppointmentDescriptor listAppointmentDescriptor, boolean isExplain) {
         this.listAppointmentDescriptor = new ListAppointmentDescriptor(listAppointmentDescriptor);
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Appointments listed by chronology depend on the current time, so they are not cached.
+     */
+    @Override
+    public boolean isCacheable() {
+        return !listAppointmentDescriptor.getChronology().isPresent();
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        List<Predicate<Appointment>> predicates = new ArrayList<>();
+        DocXIndexes indexes = model.getDocXIndexes();
+        List<QueryFilter<Appointment>> filters = new ArrayList<>();
         StringBuilder result = new StringBuilder(MESSAGE_SUCCESS);
 
         if (listAppointmentDescriptor.getPatientId().isPresent()) {
-            PersonId id = listAppointmentDescriptor.getPatientId().get();
+            AppointmentPatientId id = listAppointmentDescriptor.getPatientId().get();
             if (model.getPatientById(id) == null) {
                 throw new CommandException(AddAppointmentCommand.MESSAGE_PATIENT_NOT_FOUND);
             }
-            predicates.add(appointment -> {
-                return appointment.getPatientId().equals(id);
-            });
+            filters.add(new QueryFilter<>("patient ID = " + id, appointment -> appointment.getPatientId().equals(id),
+                    indexes.getAppointmentsByPatient().lookup(id)));
             result.append(MESSAGE_SUCCESS_FILTERED_PATIENT + ": ");
             result.append(id);
         }
 
         if (listAppointmentDescriptor.getDoctorId().isPresent()) {
-            PersonId id = listAppointmentDescriptor.getDoctorId().get();
+            AppointmentDoctorId id = listAppointmentDescriptor.getDoctorId().get();
             if (model.getDoctorById(id) == null) {
                 throw new CommandException(AddAppointmentCommand.MESSAGE_DOCTOR_NOT_NOT_FOUND);
             }
-            predicates.add(appointment -> {
-                return appointment.getDoctorId().equals(id);
-            });
+            filters.add(new QueryFilter<>("doctor ID = " + id, appointment -> appointment.getDoctorId().equals(id),
+                    indexes.getAppointmentsByDoctor().lookup(id)));
             result.append(MESSAGE_SUCCESS_FILTERED_DOCTOR + ": ");
             result.append(id);
         }
 
         listAppointmentDescriptor.getDate().ifPresent(date -> {
-            predicates.add(appointment -> {
-                return appointment.getDate().equals(date);
-            });
+            filters.add(new QueryFilter<>("date = " + date, appointment -> appointment.getDate().equals(date),
+                    indexes.getAppointmentsByDate().lookup(date.date)));
             result.append(MESSAGE_SUCCESS_FILTERED_DATE + ": ");
             result.append(date);
         });
 
         listAppointmentDescriptor.getTime().ifPresent(time -> {
-            predicates.add(appointment -> {
-                return appointment.getTime().equals(time);
-            });
+            filters.add(new QueryFilter<>("time = " + time, appointment -> appointment.getTime().equals(time)));
             result.append(MESSAGE_SUCCESS_FILTERED_TIME + ": ");
             result.append(time);
         });
 
         listAppointmentDescriptor.getStatus().ifPresent(status -> {
-            predicates.add(appointment -> {
-                return appointment.getAppointmentStatus().equals(status);
-            });
+            filters.add(new QueryFilter<>("status = " + status,
+                appointment -> appointment.getAppointmentStatus().equals(status)));
             result.append(MESSAGE_SUCCESS_FILTERED_STATUS + ": ");
             result.append(status);
         });
 
         listAppointmentDescriptor.getChronology().ifPresent(chronology -> {
+            // today is read before the current time, so that the date ranges below cover every match
+            LocalDate today = LocalDate.now();
             AppointmentChronology.refreshCurrentTime();
             switch(chronology) {
             case PAST:
-                predicates.add(appointment -> {
-                    return AppointmentChronology.isInPast(appointment);
-                });
+                filters.add(new QueryFilter<>("chronology = " + chronology, AppointmentChronology::isInPast,
+                        indexes.getAppointmentsByDate().lookupRange(null, today.plusDays(1))));
                 break;
             case FUTURE:
-                predicates.add(appointment -> {
-                    return AppointmentChronology.isInFuture(appointment);
-                });
+                filters.add(new QueryFilter<>("chronology = " + chronology, AppointmentChronology::isInFuture,
+                        indexes.getAppointmentsByDate().lookupRange(today, null)));
                 break;
             default:
                 break;
@@ -145,10 +167,13 @@ public class ListAppointmentCommand extends Command {
             result.append(chronology);
         });
 
-        // reduce predicate list to a single predicate
-        Predicate<Appointment> combinedPredicate = predicates.stream().reduce(x-> true, Predicate::and);
-        model.updateFilteredAppointmentList((PREDICATE_SHOW_ALL_APPOINTMENTS.and(combinedPredicate)));
+        QueryResult<Appointment> queryResult = QueryPlanner.plan("appointments",
+                model.getDocX().getAppointmentList(), filters).execute();
+        model.updateFilteredAppointmentList(queryResult);
 
+        if (isExplain) {
+            result.append("\n").append(queryResult.explain());
+        }
         return new CommandResult(result.toString(), CommandResult.ShowPanel.APPOINTMENT_PANEL);
     }
 
@@ -161,12 +186,13 @@ public class ListAppointmentCommand extends Command {
             return false;
         }
         ListAppointmentCommand that = (ListAppointmentCommand) o;
-        return Objects.equals(listAppointmentDescriptor, that.listAppointmentDescriptor);
+        return Objects.equals(listAppointmentDescriptor, that.listAppointmentDescriptor)
+                && isExplain == that.isExplain;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(listAppointmentDescriptor);
+        return Objects.hash(listAppointmentDescriptor, isExplain);
     }
 
     /**
@@ -41,6 +41,11 @@ public class DoctorMatchCommand extends Command {
         this.specPredicate = specPredicate;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
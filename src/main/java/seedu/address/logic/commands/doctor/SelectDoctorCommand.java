@@ -35,6 +35,11 @@ public class SelectDoctorCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
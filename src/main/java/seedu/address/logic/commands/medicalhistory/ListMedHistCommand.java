@@ -1,13 +1,14 @@
 package seedu.address.logic.commands.medicalhistory;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_MEDHIST;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_ID;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEDHISTS;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
@@ -19,6 +20,10 @@ import seedu.address.model.medicalhistory.ValidDate;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.patient.Patient;
+import seedu.address.model.query.DocXIndexes;
+import seedu.address.model.query.QueryFilter;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.QueryResult;
 
 /**
  * Lists all medical histories in the docX record to the user.
@@ -30,6 +35,7 @@ public class ListMedHistCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": List all medical histories or medical histories satisfying specified restrictions.\n"
             + COMMAND_WORD + " "
+            + "[" + KEYWORD_EXPLAIN + "] "
             + "[" + PREFIX_PATIENT_ID + "PATIENT-ID " + "] "
             + "[" + PREFIX_DOCTOR_ID + "DOCTOR-ID " + "] "
             + "[" + PREFIX_DATE_OF_MEDHIST + "DATE " + "]\n"
@@ -45,17 +51,30 @@ public class ListMedHistCommand extends Command {
                     + "Write up of medical histories are not be shown in the list.";
 
     private final ListMedHistDescriptor listMedHistDescriptor;
+    private final boolean isExplain;
 
     public ListMedHistCommand(ListMedHistDescriptor listMedHistDescriptor) {
+        this(listMedHistDescriptor, false);
+    }
+
+    /**
+     * Creates a ListMedHistCommand that also explains how the medical histories were found if {@code isExplain}.
+     */
+    public ListMedHistCommand(ListMedHistDescriptor listMedHistDescriptor, boolean isExplain) {
         this.listMedHistDescriptor = listMedHistDescriptor;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        Predicate<MedicalHistory> predicateListMedHistIsPid;
-        Predicate<MedicalHistory> predicateListMedHistIsDid;
-        Predicate<MedicalHistory> predicateListMedHistIsDate;
+        DocXIndexes indexes = model.getDocXIndexes();
+        List<QueryFilter<MedicalHistory>> filters = new ArrayList<>();
 
         // set patient id filter
         if (listMedHistDescriptor.getPatientId().isPresent()) {
@@ -64,9 +83,9 @@ public class ListMedHistCommand extends Command {
             if (patientWithId == null) {
                 throw new CommandException(AddMedHistCommand.MESSAGE_PATIENT_NOT_FOUND);
             }
-            predicateListMedHistIsPid = medHist -> medHist.getPatientId().equals(patientId);
-        } else {
-            predicateListMedHistIsPid = medHist -> true;
+            filters.add(new QueryFilter<>("patient ID = " + patientId,
+                medHist -> medHist.getPatientId().equals(patientId),
+                indexes.getMedHistsByPatient().lookup(patientId)));
         }
 
         // set doctor id filter
@@ -76,24 +95,24 @@ public class ListMedHistCommand extends Command {
             if (doctorWithId == null) {
                 throw new CommandException(AddMedHistCommand.MESSAGE_DOCTOR_NOT_FOUND);
             }
-            predicateListMedHistIsDid = medHist -> medHist.getDoctorId().equals(doctorId);
-
-        } else {
-            predicateListMedHistIsDid = medHist -> true;
+            filters.add(new QueryFilter<>("doctor ID = " + doctorId,
+                medHist -> medHist.getDoctorId().equals(doctorId),
+                indexes.getMedHistsByDoctor().lookup(doctorId)));
         }
 
         // set medical history filter
         if (listMedHistDescriptor.getDate().isPresent()) {
-            predicateListMedHistIsDate = x -> x.getDate().equals(listMedHistDescriptor.getDate().get());
-        } else {
-            predicateListMedHistIsDate = x -> true;
+            ValidDate date = listMedHistDescriptor.getDate().get();
+            filters.add(new QueryFilter<>("date = " + date, medHist -> medHist.getDate().equals(date),
+                    indexes.getMedHistsByDate().lookup(date.date)));
         }
 
-        Predicate<MedicalHistory> specifiedPredicate = PREDICATE_SHOW_ALL_MEDHISTS
-                .and(predicateListMedHistIsPid).and(predicateListMedHistIsDid).and(predicateListMedHistIsDate);
+        QueryResult<MedicalHistory> queryResult = QueryPlanner.plan("medical histories",
+                model.getDocX().getMedHistList(), filters).execute();
+        model.updateFilteredMedHistList(queryResult);
 
-        model.updateFilteredMedHistList(specifiedPredicate);
-        return new CommandResult(MESSAGE_SUCCESS, CommandResult.ShowPanel.MED_HIST_PANEL);
+        String feedback = isExplain ? MESSAGE_SUCCESS + "\n" + queryResult.explain() : MESSAGE_SUCCESS;
+        return new CommandResult(feedback, CommandResult.ShowPanel.MED_HIST_PANEL);
     }
 
     /**
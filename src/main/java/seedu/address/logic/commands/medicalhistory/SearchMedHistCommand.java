@@ -2,11 +2,15 @@ package seedu.address.logic.commands.medicalhistory;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.SearchPreview;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyDocX;
 import seedu.address.model.medicalhistory.MedHistContainsKeywordsPredicate;
 
 /**
@@ -28,6 +32,16 @@ public class SearchMedHistCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
@@ -36,6 +50,14 @@ public class SearchMedHistCommand extends Command {
                 String.format(Messages.MESSAGE_MEDHISTS_LISTED_OVERVIEW, model.getFilteredMedHistList().size()));
     }
 
+    @Override
+    public Optional<SearchPreview> preview(ReadOnlyDocX docX, int maxResults) {
+        requireNonNull(docX);
+        return Optional.of(SearchPreview.of(docX.getMedHistList(), predicate,
+            medHist -> "patient " + medHist.getPatientId() + " on " + medHist.getDate(), "medical histories",
+            maxResults));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -32,6 +32,11 @@ public class SelectMedHistCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Optional;
 
+import seedu.address.commons.core.observable.SortedList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -49,10 +50,10 @@ public class SortMedHistCommand extends Command {
 
         if (!sortMedHistDescriptor.getOrder().isPresent()
                 || sortMedHistDescriptor.getOrder().get().equals(DESCENDING)) {
-            model.sortFilteredMedHistList(Model.COMPARATOR_MED_HIST_DATE_DESC);
+            model.sortFilteredMedHistList(SortedList.Order.DESCENDING);
             result = result + SORT_BY_DESC;
         } else if (sortMedHistDescriptor.getOrder().get().equals(ASCENDING)) {
-            model.sortFilteredMedHistList(Model.COMPARATOR_MED_HIST_DATE_ASC);
+            model.sortFilteredMedHistList(SortedList.Order.ASCENDING);
             result = result + SORT_BY_ASC;
         }
 
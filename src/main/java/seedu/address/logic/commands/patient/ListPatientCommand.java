@@ -19,6 +19,11 @@ public class ListPatientCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Listed all patients";
 
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
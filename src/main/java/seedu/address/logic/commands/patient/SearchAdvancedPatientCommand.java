@@ -3,11 +3,15 @@ package seedu.address.logic.commands.patient;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.SearchPreview;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyDocX;
 import seedu.address.model.person.patient.AdvancedPatientSearchPredicate;
 
 /**
@@ -30,6 +34,16 @@ public class SearchAdvancedPatientCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
@@ -38,6 +52,13 @@ public class SearchAdvancedPatientCommand extends Command {
                 String.format(Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
     }
 
+    @Override
+    public Optional<SearchPreview> preview(ReadOnlyDocX docX, int maxResults) {
+        requireNonNull(docX);
+        return Optional.of(SearchPreview.of(docX.getPatientList(), predicate,
+            patient -> patient.getName().toString(), "patients", maxResults));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
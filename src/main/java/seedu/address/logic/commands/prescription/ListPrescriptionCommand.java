@@ -58,6 +58,11 @@ public class ListPrescriptionCommand extends Command {
         }
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
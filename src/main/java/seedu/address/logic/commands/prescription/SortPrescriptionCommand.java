@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Optional;
 
+import seedu.address.commons.core.observable.SortedList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -45,9 +46,9 @@ public class SortPrescriptionCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
         if (!order.isPresent() || order.get().equals(DESCENDING)) {
-            model.sortFilteredPrescriptionList(Model.COMPARATOR_PRESC_DATE_DESC);
+            model.sortFilteredPrescriptionList(SortedList.Order.DESCENDING);
         } else if (order.get().equals(ASCENDING)) {
-            model.sortFilteredPrescriptionList(Model.COMPARATOR_PRESC_DATE_ASC);
+            model.sortFilteredPrescriptionList(SortedList.Order.ASCENDING);
         }
         return new CommandResult(MESSAGE_SUCCESS);
     }
@@ -33,4 +33,7 @@ public class CliSyntax {
 
     public static final Prefix PREFIX_DATE_OF_MEDHIST = new Prefix("d/");
     public static final Prefix PREFIX_DATE_OF_PRESC = new Prefix("dp/");
+
+    /* Keyword given as the preamble of a list command to explain how the list was found */
+    public static final String KEYWORD_EXPLAIN = "explain";
 }
@@ -7,11 +7,17 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ClinicStatsCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DiagnosticsCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TraceCommand;
 import seedu.address.logic.commands.appointment.AddAppointmentCommand;
+import seedu.address.logic.commands.appointment.CalendarAppointmentCommand;
 import seedu.address.logic.commands.appointment.ListAppointmentCommand;
 import seedu.address.logic.commands.appointment.MarkAppointmentCommand;
 import seedu.address.logic.commands.doctor.AddDoctorCommand;
@@ -42,6 +48,7 @@ import seedu.address.logic.commands.prescription.SearchPrescriptionCommand;
 import seedu.address.logic.commands.prescription.SelectPrescriptionCommand;
 import seedu.address.logic.commands.prescription.SortPrescriptionCommand;
 import seedu.address.logic.parser.appointment.AddAppointmentCommandParser;
+import seedu.address.logic.parser.appointment.CalendarAppointmentCommandParser;
 import seedu.address.logic.parser.appointment.ListAppointmentCommandParser;
 import seedu.address.logic.parser.appointment.MarkAppointmentCommandParser;
 import seedu.address.logic.parser.doctor.AddDoctorCommandParser;
@@ -135,6 +142,9 @@ public class DocXParser {
         case MarkAppointmentCommand.COMMAND_WORD:
             return new MarkAppointmentCommandParser().parse(arguments);
 
+        case CalendarAppointmentCommand.COMMAND_WORD:
+            return new CalendarAppointmentCommandParser().parse(arguments);
+
         case ListDoctorCommand.COMMAND_WORD:
             return new ListDoctorCommandParser().parse(arguments);
 
@@ -189,12 +199,27 @@ public class DocXParser {
         case SortPrescriptionCommand.COMMAND_WORD:
             return new SortPrescriptionCommandParser().parse(arguments);
 
+        case FindCommand.COMMAND_WORD:
+            return new FindCommandParser().parse(arguments);
+
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case ClinicStatsCommand.COMMAND_WORD:
+            return new ClinicStatsCommand();
+
+        case DiagnosticsCommand.COMMAND_WORD:
+            return new DiagnosticsCommand();
+
+        case TraceCommand.COMMAND_WORD:
+            return new TraceCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -0,0 +1,271 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.FieldComparison;
+import seedu.address.model.query.FieldComparison.Operator;
+import seedu.address.model.query.JoinQuery;
+import seedu.address.model.query.QueryEntity;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.QueryField;
+
+/**
+ * Parses input arguments and creates a new FindCommand object.
+ * The arguments are a query of the form {@code [explain] ENTITY [where CONDITION]}, where a condition is built from
+ * comparisons such as {@code doctor.spec = cardiology} with {@code and}, {@code or}, {@code not} and brackets.
+ * {@code and} binds more tightly than {@code or}.
+ */
+public class FindCommandParser implements Parser<FindCommand> {
+
+    public static final String MESSAGE_UNKNOWN_ENTITY = "Unknown kind of record: %1$s. Use one of: %2$s";
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown field: %1$s. The fields of %2$s are: %3$s";
+    public static final String MESSAGE_INVALID_OPERATOR = "%1$s cannot be compared with %2$s";
+    public static final String MESSAGE_INVALID_VALUE = "Invalid value for %1$s: %2$s";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Expected %1$s but found %2$s";
+    public static final String MESSAGE_UNTERMINATED_STRING = "A quoted value is missing its closing \"";
+
+    private static final String KEYWORD_WHERE = "where";
+    private static final String KEYWORD_AND = "and";
+    private static final String KEYWORD_OR = "or";
+    private static final String KEYWORD_NOT = "not";
+    private static final String OPERATOR_CHARACTERS = "=!<>~";
+    private static final String END_OF_QUERY = "the end of the query";
+
+    private List<Token> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCommand
+     * and returns a FindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FindCommand parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        boolean isExplain = acceptKeyword(KEYWORD_EXPLAIN);
+        QueryEntity target = parseEntity(next("a kind of record"));
+        if (isAtEnd()) {
+            return new FindCommand(new JoinQuery(target), isExplain);
+        }
+
+        expectKeyword(KEYWORD_WHERE);
+        QueryExpression condition = parseOr();
+        if (!isAtEnd()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, END_OF_QUERY, peek()));
+        }
+        return new FindCommand(new JoinQuery(target, condition), isExplain);
+    }
+
+    /**
+     * Parses conditions separated by {@code or}.
+     */
+    private QueryExpression parseOr() throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (acceptKeyword(KEYWORD_OR)) {
+            operands.add(parseAnd());
+        }
+        return QueryExpression.or(operands.toArray(new QueryExpression[0]));
+    }
+
+    /**
+     * Parses conditions separated by {@code and}.
+     */
+    private QueryExpression parseAnd() throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (acceptKeyword(KEYWORD_AND)) {
+            operands.add(parseUnary());
+        }
+        return QueryExpression.and(operands.toArray(new QueryExpression[0]));
+    }
+
+    /**
+     * Parses a negated condition, a condition in brackets or a comparison.
+     */
+    private QueryExpression parseUnary() throws ParseException {
+        if (acceptKeyword(KEYWORD_NOT)) {
+            return QueryExpression.not(parseUnary());
+        }
+        if (acceptSymbol("(")) {
+            QueryExpression expression = parseOr();
+            if (!acceptSymbol(")")) {
+                throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, ")", describeNext()));
+            }
+            return expression;
+        }
+        return parseComparison();
+    }
+
+    /**
+     * Parses a comparison of the form {@code ENTITY.FIELD OPERATOR VALUE}.
+     */
+    private FieldComparison parseComparison() throws ParseException {
+        Token fieldToken = next("a field such as patient.name");
+        int dotIndex = fieldToken.text.indexOf('.');
+        if (fieldToken.isQuoted || dotIndex < 0) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, "a field such as patient.name",
+                    fieldToken));
+        }
+        QueryEntity entity = parseEntity(new Token(fieldToken.text.substring(0, dotIndex), false));
+        QueryField field = QueryField.of(entity, fieldToken.text.substring(dotIndex + 1));
+        if (field == null) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, fieldToken, entity,
+                    String.join(", ", QueryField.getFieldNames(entity))));
+        }
+
+        Token operatorToken = next("an operator");
+        Operator operator = operatorToken.isQuoted ? null : Operator.fromSymbol(operatorToken.text);
+        if (operator == null) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, "an operator", operatorToken));
+        }
+        if (!operator.isApplicableTo(field.getType())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_OPERATOR, field, operator));
+        }
+
+        Token valueToken = next("a value");
+        try {
+            return new FieldComparison(field, operator, field.parseValue(valueToken.text));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, field, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Returns the entity named by {@code token}.
+     */
+    private static QueryEntity parseEntity(Token token) throws ParseException {
+        QueryEntity entity = token.isQuoted ? null : QueryEntity.fromName(token.text);
+        if (entity == null) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_ENTITY, token, Arrays.stream(QueryEntity.values())
+                    .map(QueryEntity::getName).collect(Collectors.joining(", "))));
+        }
+        return entity;
+    }
+
+    /**
+     * Splits {@code args} into words, quoted values, brackets and operators.
+     */
+    private static List<Token> tokenize(String args) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < args.length()) {
+            char c = args.charAt(i);
+            int start = i;
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            if (c == '"') {
+                int end = args.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new ParseException(MESSAGE_UNTERMINATED_STRING);
+                }
+                tokens.add(new Token(args.substring(i + 1, end), true));
+                i = end + 1;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(String.valueOf(c), false));
+                i++;
+            } else if (OPERATOR_CHARACTERS.indexOf(c) >= 0) {
+                while (i < args.length() && OPERATOR_CHARACTERS.indexOf(args.charAt(i)) >= 0) {
+                    i++;
+                }
+                tokens.add(new Token(args.substring(start, i), false));
+            } else {
+                while (i < args.length() && !Character.isWhitespace(args.charAt(i)) && args.charAt(i) != '"'
+                        && "()".indexOf(args.charAt(i)) < 0 && OPERATOR_CHARACTERS.indexOf(args.charAt(i)) < 0) {
+                    i++;
+                }
+                tokens.add(new Token(args.substring(start, i), false));
+            }
+        }
+        return tokens;
+    }
+
+    private boolean isAtEnd() {
+        return position == tokens.size();
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private String describeNext() {
+        return isAtEnd() ? END_OF_QUERY : peek().toString();
+    }
+
+    /**
+     * Returns the next token, which should be {@code expected}.
+     * @throws ParseException if there are no more tokens.
+     */
+    private Token next(String expected) throws ParseException {
+        if (isAtEnd()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, expected, END_OF_QUERY));
+        }
+        return tokens.get(position++);
+    }
+
+    /**
+     * Skips the next token and returns true if it is {@code keyword}, ignoring case.
+     */
+    private boolean acceptKeyword(String keyword) {
+        if (isAtEnd() || peek().isQuoted || !peek().text.equalsIgnoreCase(keyword)) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+
+    /**
+     * Skips the next token and returns true if it is the bracket {@code symbol}.
+     */
+    private boolean acceptSymbol(String symbol) {
+        if (isAtEnd() || peek().isQuoted || !peek().text.equals(symbol)) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+
+    /**
+     * Skips the next token, which must be {@code keyword}.
+     * @throws ParseException if the next token is not {@code keyword}.
+     */
+    private void expectKeyword(String keyword) throws ParseException {
+        if (!acceptKeyword(keyword)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, keyword, describeNext()));
+        }
+    }
+
+    /**
+     * A word, quoted value, bracket or operator in a query.
+     */
+    private static class Token {
+        private final String text;
+        private final boolean isQuoted;
+
+        Token(String text, boolean isQuoted) {
+            this.text = text;
+            this.isQuoted = isQuoted;
+        }
+
+        @Override
+        public String toString() {
+            return isQuoted ? "\"" + text + "\"" : text;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.TraceCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new TraceCommand object
+ */
+public class TraceCommandParser implements Parser<TraceCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "%1$s is not a valid file path.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TraceCommand
+     * and returns a TraceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TraceCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+", 2);
+        if (words[0].equals(TraceCommand.START_WORD) && words.length == 1) {
+            return TraceCommand.start();
+        }
+        if (!words[0].equals(TraceCommand.STOP_WORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TraceCommand.MESSAGE_USAGE));
+        }
+        if (words.length == 1) {
+            return TraceCommand.stop(TraceCommand.DEFAULT_FILE_PATH);
+        }
+
+        try {
+            Path filePath = Paths.get(words[1].trim());
+            return TraceCommand.stop(filePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, words[1].trim()), ipe);
+        }
+    }
+}
@@ -27,6 +27,9 @@ import seedu.address.model.appointment.exceptions.AppointmentNotInFutureExceptio
  */
 public class AddAppointmentCommandParser implements Parser<AddAppointmentCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID, PREFIX_DATE_OF_APPT, PREFIX_START_TIME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddAppointmentCommand
      * and returns an AddAppointmentCommand object for execution.
@@ -34,9 +37,7 @@ public class AddAppointmentCommandParser implements Parser<AddAppointmentCommand
      */
     @Override
     public AddAppointmentCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID,
-                        PREFIX_DATE_OF_APPT, PREFIX_START_TIME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID,
                 PREFIX_DATE_OF_APPT, PREFIX_START_TIME)) {
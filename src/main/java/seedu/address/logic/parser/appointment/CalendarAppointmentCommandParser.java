@@ -0,0 +1,48 @@
+package seedu.address.logic.parser.appointment;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_APPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_ID;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.appointment.CalendarAppointmentCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.appointment.AppointmentDoctorId;
+
+/**
+ * Parses input arguments and creates a new CalendarAppointmentCommand object
+ */
+public class CalendarAppointmentCommandParser implements Parser<CalendarAppointmentCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_DOCTOR_ID, PREFIX_DATE_OF_APPT);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CalendarAppointmentCommand
+     * and returns a CalendarAppointmentCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public CalendarAppointmentCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
+
+        if (!argMultimap.getValue(PREFIX_DOCTOR_ID).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    CalendarAppointmentCommand.MESSAGE_USAGE));
+        }
+
+        AppointmentDoctorId doctorId = ParserUtil
+                .parseAppointmentDoctorId(argMultimap.getValue(PREFIX_DOCTOR_ID).get());
+        Optional<AppointmentDate> date = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DATE_OF_APPT).isPresent()) {
+            date = Optional.of(ParserUtil.parseAppointmentDate(argMultimap.getValue(PREFIX_DATE_OF_APPT).get()));
+        }
+
+        return new CalendarAppointmentCommand(doctorId, date);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser.appointment;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_APPT_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CHRONOLOGY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_APPT;
@@ -29,6 +30,10 @@ import seedu.address.model.appointment.AppointmentTime;
  */
 public class ListAppointmentCommandParser implements Parser<ListAppointmentCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID, PREFIX_DATE_OF_APPT, PREFIX_START_TIME,
+                    PREFIX_APPT_STATUS, PREFIX_CHRONOLOGY);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListAppointmentCommand
      * and returns an ListAppointmentCommand object for execution.
@@ -36,9 +41,7 @@ public class ListAppointmentCommandParser implements Parser<ListAppointmentComma
      */
     public ListAppointmentCommand parse(String args) throws ParseException {
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID,
-                        PREFIX_DATE_OF_APPT, PREFIX_START_TIME, PREFIX_APPT_STATUS, PREFIX_CHRONOLOGY);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         ListAppointmentDescriptor descriptors =
                 new ListAppointmentDescriptor();
@@ -74,11 +77,13 @@ public class ListAppointmentCommandParser implements Parser<ListAppointmentComma
             descriptors.setChronology(Optional.of(chronology));
         }
 
-        if (!argMultimap.getPreamble().isEmpty()) {
+        String preamble = argMultimap.getPreamble();
+        boolean isExplain = preamble.equals(KEYWORD_EXPLAIN);
+        if (!preamble.isEmpty() && !isExplain) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     ListAppointmentCommand.MESSAGE_USAGE));
         }
 
-        return new ListAppointmentCommand(descriptors);
+        return new ListAppointmentCommand(descriptors, isExplain);
     }
 }
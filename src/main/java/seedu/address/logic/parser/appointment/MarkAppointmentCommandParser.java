@@ -16,6 +16,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new MarkAppointmentCommand object
  */
 public class MarkAppointmentCommandParser implements Parser<MarkAppointmentCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_APPT_STATUS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the MarkAppointmentCommand
      * and returns an MarkAppointmentCommand object for execution.
@@ -23,7 +26,7 @@ public class MarkAppointmentCommandParser implements Parser<MarkAppointmentComma
      */
     public MarkAppointmentCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_APPT_STATUS);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         Index index;
 
@@ -32,6 +32,9 @@ import seedu.address.model.person.specialisation.Specialisation;
  */
 public class AddDoctorCommandParser implements Parser<AddDoctorCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_GENDER, PREFIX_YEAR, PREFIX_PHONE, PREFIX_SPECIALISATION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddDoctorCommand
      * and returns an AddDoctorCommand object for execution.
@@ -40,9 +43,7 @@ public class AddDoctorCommandParser implements Parser<AddDoctorCommand> {
      * @throws ParseException
      */
     public AddDoctorCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_GENDER, PREFIX_YEAR, PREFIX_PHONE,
-                        PREFIX_SPECIALISATION);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_GENDER, PREFIX_YEAR, PREFIX_PHONE,
                 PREFIX_SPECIALISATION) || !argMultimap.getPreamble().isEmpty()) {
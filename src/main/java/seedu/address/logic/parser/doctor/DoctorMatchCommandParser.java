@@ -27,6 +27,9 @@ import seedu.address.model.person.specialisation.Specialisation;
  */
 public class DoctorMatchCommandParser implements Parser<DoctorMatchCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_SPECIALISATION, PREFIX_DATE_OF_APPT, PREFIX_START_TIME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DoctorMatchCommand
      * and returns a DoctorMatchCommand object for execution.
@@ -35,8 +38,7 @@ public class DoctorMatchCommandParser implements Parser<DoctorMatchCommand> {
      * @throws ParseException
      */
     public DoctorMatchCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_SPECIALISATION, PREFIX_DATE_OF_APPT, PREFIX_START_TIME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_SPECIALISATION, PREFIX_DATE_OF_APPT, PREFIX_START_TIME)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -22,6 +22,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class EditDoctorCommandParser implements Parser<EditDoctorCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_GENDER, PREFIX_YEAR, PREFIX_PHONE, PREFIX_SPECIALISATION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditDoctorCommand
      * and returns an EditDoctorCommand object for execution.
@@ -29,9 +32,7 @@ public class EditDoctorCommandParser implements Parser<EditDoctorCommand> {
      */
     public EditDoctorCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(
-                        args, PREFIX_NAME, PREFIX_GENDER, PREFIX_YEAR, PREFIX_PHONE, PREFIX_SPECIALISATION);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         Index index;
 
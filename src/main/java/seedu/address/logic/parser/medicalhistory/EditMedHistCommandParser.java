@@ -16,6 +16,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new EditMedHistCommand object
  */
 public class EditMedHistCommandParser implements Parser<EditMedHistCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_WRITEUP);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditMedHistCommand
      * and returns an EditMedHistCommand object for execution.
@@ -23,7 +26,7 @@ public class EditMedHistCommandParser implements Parser<EditMedHistCommand> {
      */
     public EditMedHistCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_WRITEUP);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         Index index;
 
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser.medicalhistory;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_OF_MEDHIST;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_ID;
@@ -21,6 +22,9 @@ import seedu.address.model.person.PersonId;
  * Parses input arguments and creates a new ListMedHistCommand object
  */
 public class ListMedHistCommandParser implements Parser<ListMedHistCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID, PREFIX_DATE_OF_MEDHIST);
     /**
      * Parses the given {@code String} of arguments in the context of the ListMedHistCommand
      * and returns an ListMedHistCommand object for execution.
@@ -28,8 +32,7 @@ public class ListMedHistCommandParser implements Parser<ListMedHistCommand> {
      */
     public ListMedHistCommand parse(String args) throws ParseException {
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args, PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID, PREFIX_DATE_OF_MEDHIST);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         ListMedHistCommand.ListMedHistDescriptor listMedHistDescriptor = new ListMedHistCommand.ListMedHistDescriptor();
 
@@ -52,11 +55,13 @@ public class ListMedHistCommandParser implements Parser<ListMedHistCommand> {
             listMedHistDescriptor.setDate(Optional.of(date));
         }
 
-        if (!argMultimap.getPreamble().isEmpty()) {
+        String preamble = argMultimap.getPreamble();
+        boolean isExplain = preamble.equals(KEYWORD_EXPLAIN);
+        if (!preamble.isEmpty() && !isExplain) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListMedHistCommand.MESSAGE_USAGE));
         }
 
-        return new ListMedHistCommand(listMedHistDescriptor);
+        return new ListMedHistCommand(listMedHistDescriptor, isExplain);
     }
 
     /**
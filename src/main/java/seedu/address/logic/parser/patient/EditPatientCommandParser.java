@@ -29,6 +29,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditPatientCommandParser implements Parser<EditPatientCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_GENDER, PREFIX_AGE, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditPatientCommand
      * and returns an EditPatientCommand object for execution.
@@ -36,9 +39,7 @@ public class EditPatientCommandParser implements Parser<EditPatientCommand> {
      */
     public EditPatientCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(
-                        args, PREFIX_NAME, PREFIX_GENDER, PREFIX_AGE, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         Index index;
 
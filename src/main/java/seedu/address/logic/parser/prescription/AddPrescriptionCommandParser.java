@@ -30,15 +30,17 @@ import seedu.address.model.prescription.Prescription;
  */
 public class AddPrescriptionCommandParser implements Parser<AddPrescriptionCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID, PREFIX_DATE_OF_PRESC, PREFIX_MEDICINE_NAME,
+                    PREFIX_DESCRIPTION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddPrescriptionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PATIENT_ID,
-                        PREFIX_DOCTOR_ID, PREFIX_DATE_OF_PRESC, PREFIX_MEDICINE_NAME, PREFIX_DESCRIPTION);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_PATIENT_ID,
                 PREFIX_DOCTOR_ID, PREFIX_DATE_OF_PRESC, PREFIX_MEDICINE_NAME, PREFIX_DESCRIPTION)
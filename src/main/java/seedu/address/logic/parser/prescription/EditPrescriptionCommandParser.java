@@ -16,6 +16,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new EditMedHistCommand object
  */
 public class EditPrescriptionCommandParser implements Parser<EditPrescriptionCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_DESCRIPTION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditPrescriptionCommand
      * and returns an EditPrescriptionCommand object for execution.
@@ -23,7 +26,7 @@ public class EditPrescriptionCommandParser implements Parser<EditPrescriptionCom
      */
     public EditPrescriptionCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DESCRIPTION);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         Index index;
 
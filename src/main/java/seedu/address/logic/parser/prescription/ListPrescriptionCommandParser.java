@@ -17,6 +17,9 @@ import seedu.address.model.person.PersonId;
  * Parses input arguments and creates a new ListMedHistCommand object
  */
 public class ListPrescriptionCommandParser implements Parser<ListPrescriptionCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListMedHistCommand
      * and returns an ListMedHistCommand object for execution.
@@ -24,8 +27,7 @@ public class ListPrescriptionCommandParser implements Parser<ListPrescriptionCom
      */
     public ListPrescriptionCommand parse(String args) throws ParseException {
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args, PREFIX_PATIENT_ID, PREFIX_DOCTOR_ID);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         PersonId patientId = null;
         PersonId doctorId = null;
@@ -2,11 +2,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
 import java.util.List;
 
-import javafx.beans.InvalidationListener;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.observable.InvalidationListener;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.commons.core.tracing.Span;
+import seedu.address.commons.core.tracing.Tracer;
 import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.UniqueAppointmentList;
@@ -27,6 +28,9 @@ import seedu.address.model.prescription.UniquePrescriptionList;
  */
 public class DocX implements ReadOnlyDocX {
 
+    /** The category of the spans traced by the model component. */
+    public static final String TRACE_CATEGORY = "model";
+
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
     private final UniquePatientList patients;
     private final UniqueDoctorList doctors;
@@ -191,10 +195,12 @@ public class DocX implements ReadOnlyDocX {
     public void setPatient(Patient target, Patient editedPatient) {
         requireNonNull(editedPatient);
 
-        patients.setPatient(target, editedPatient);
-        updateMedHistWhenPatientIsUpdated(target.getId(), editedPatient);
-        updateAppointmentWhenPatientIsUpdated(target.getId(), editedPatient);
-        indicateModified();
+        try (Span span = Tracer.start(TRACE_CATEGORY, "DocX.setPatient")) {
+            patients.setPatient(target, editedPatient);
+            updateMedHistWhenPatientIsUpdated(target.getId(), editedPatient);
+            updateAppointmentWhenPatientIsUpdated(target.getId(), editedPatient);
+            indicateModified();
+        }
     }
 
     /**
@@ -279,10 +285,12 @@ public class DocX implements ReadOnlyDocX {
     public void setDoctor(Doctor target, Doctor editedDoctor) {
         requireNonNull(editedDoctor);
 
-        doctors.setDoctor(target, editedDoctor);
-        updateMedHistWhenDoctorIsUpdated(target.getId(), editedDoctor);
-        updateAppointmentWhenDoctorIsUpdated(target.getId(), editedDoctor);
-        indicateModified();
+        try (Span span = Tracer.start(TRACE_CATEGORY, "DocX.setDoctor")) {
+            doctors.setDoctor(target, editedDoctor);
+            updateMedHistWhenDoctorIsUpdated(target.getId(), editedDoctor);
+            updateAppointmentWhenDoctorIsUpdated(target.getId(), editedDoctor);
+            indicateModified();
+        }
     }
 
     /**
@@ -308,11 +316,13 @@ public class DocX implements ReadOnlyDocX {
      * {@code key} must exist in the docX.
      */
     public void removePatient(Patient key) {
-        patients.remove(key);
-        updateMedHistWhenPatientDeleted(key.getId());
-        updateAppointmentWhenPatientDeleted(key.getId());
-        updatePrescriptionWhenPatientDeleted(key.getId());
-        indicateModified();
+        try (Span span = Tracer.start(TRACE_CATEGORY, "DocX.removePatient")) {
+            patients.remove(key);
+            updateMedHistWhenPatientDeleted(key.getId());
+            updateAppointmentWhenPatientDeleted(key.getId());
+            updatePrescriptionWhenPatientDeleted(key.getId());
+            indicateModified();
+        }
     }
 
     //// medical history-level operations
@@ -369,13 +379,6 @@ public class DocX implements ReadOnlyDocX {
         indicateModified();
     }
 
-    /**
-     * Sort medical histories by date.
-     */
-    public void sortMedHist(Comparator<MedicalHistory> medHistComparator) {
-        medHists.sort(medHistComparator);
-    }
-
     //// prescription-level operations
 
     /**
@@ -428,24 +431,19 @@ public class DocX implements ReadOnlyDocX {
         indicateModified();
     }
 
-    /**
-     * Sort prescriptions by date.
-     */
-    public void sortPrescription(Comparator<Prescription> prescriptionComparator) {
-        prescriptions.sort(prescriptionComparator);
-    }
-
 
     /**
      * Removes {@code key} from this {@code DocX}.
      * {@code key} must exist in the docX.
      */
     public void removeDoctor(Doctor key) {
-        doctors.remove(key);
-        updateMedHistWhenDoctorDeleted(key.getId());
-        updateAppointmentWhenDoctorDeleted(key.getId());
-        updatePrescriptionWhenDoctorDeleted(key.getId());
-        indicateModified();
+        try (Span span = Tracer.start(TRACE_CATEGORY, "DocX.removeDoctor")) {
+            doctors.remove(key);
+            updateMedHistWhenDoctorDeleted(key.getId());
+            updateAppointmentWhenDoctorDeleted(key.getId());
+            updatePrescriptionWhenDoctorDeleted(key.getId());
+            indicateModified();
+        }
     }
 
     @Override
@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.commons.core.observable.InvalidationListener;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.person.PersonIdCounter;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.prescription.Prescription;
+
+/**
+ * An immutable, versioned copy of the data in a DocX at the point it was taken.
+ * A snapshot never changes once created, so it can be read from any thread without locking,
+ * and listeners added to it are never notified.
+ * Snapshots are published by a {@link DocXSnapshotPublisher}.
+ */
+public class DocXSnapshot implements ReadOnlyDocX {
+
+    private final long version;
+    private final ObservableList<Patient> patients;
+    private final ObservableList<Doctor> doctors;
+    private final ObservableList<MedicalHistory> medHists;
+    private final ObservableList<Prescription> prescriptions;
+    private final ObservableList<Appointment> appointments;
+
+    /**
+     * Creates a snapshot with the given {@code version} out of lists that will never be modified.
+     */
+    private DocXSnapshot(long version, ObservableList<Patient> patients, ObservableList<Doctor> doctors,
+            ObservableList<MedicalHistory> medHists, ObservableList<Prescription> prescriptions,
+            ObservableList<Appointment> appointments) {
+        this.version = version;
+        this.patients = patients;
+        this.doctors = doctors;
+        this.medHists = medHists;
+        this.prescriptions = prescriptions;
+        this.appointments = appointments;
+    }
+
+    /**
+     * Returns a snapshot with the given {@code version} of all the data in {@code docX}.
+     */
+    public static DocXSnapshot of(ReadOnlyDocX docX, long version) {
+        requireNonNull(docX);
+        return new DocXSnapshot(version, copyOf(docX.getPatientList()), copyOf(docX.getDoctorList()),
+                copyOf(docX.getMedHistList()), copyOf(docX.getPrescriptionList()), copyOf(docX.getAppointmentList()));
+    }
+
+    /**
+     * Returns the next snapshot of {@code docX}, with the given {@code version}.
+     * Only the lists that are marked as changed are copied; the rest are shared with this snapshot.
+     */
+    DocXSnapshot next(ReadOnlyDocX docX, long version, boolean isPatientListChanged,
+            boolean isDoctorListChanged, boolean isMedHistListChanged, boolean isPrescriptionListChanged,
+            boolean isAppointmentListChanged) {
+        requireNonNull(docX);
+        return new DocXSnapshot(version,
+                isPatientListChanged ? copyOf(docX.getPatientList()) : patients,
+                isDoctorListChanged ? copyOf(docX.getDoctorList()) : doctors,
+                isMedHistListChanged ? copyOf(docX.getMedHistList()) : medHists,
+                isPrescriptionListChanged ? copyOf(docX.getPrescriptionList()) : prescriptions,
+                isAppointmentListChanged ? copyOf(docX.getAppointmentList()) : appointments);
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code list}.
+     */
+    private static <T> ObservableList<T> copyOf(ObservableList<T> list) {
+        return new ArrayObservableList<>(list).asUnmodifiableList();
+    }
+
+    /**
+     * Returns the version of this snapshot. Later snapshots of the same DocX have higher versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        return patients;
+    }
+
+    @Override
+    public ObservableList<MedicalHistory> getMedHistList() {
+        return medHists;
+    }
+
+    @Override
+    public ObservableList<Doctor> getDoctorList() {
+        return doctors;
+    }
+
+    @Override
+    public ObservableList<Prescription> getPrescriptionList() {
+        return prescriptions;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return appointments;
+    }
+
+    @Override
+    public PersonIdCounter getPersonIdCounter() {
+        return PersonIdCounter.getInstance();
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public String toString() {
+        return "DocX snapshot v" + version + ": " + patients.size() + " patients, " + doctors.size() + " doctors, "
+                + appointments.size() + " appointments";
+    }
+}
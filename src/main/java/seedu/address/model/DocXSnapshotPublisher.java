@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Publishes immutable {@link DocXSnapshot}s of a DocX, so that readers never have to lock the DocX itself.
+ * Readers pin the latest snapshot with {@link #getLatest()} and may iterate it for as long as they like,
+ * while the writer keeps modifying the DocX and publishing newer versions.
+ * The publisher only holds on to the latest snapshot, so an older version is reclaimed by the garbage collector
+ * as soon as the last reader pinning it lets go of it.
+ * Lists that did not change since the previous snapshot are shared with it instead of being copied again.
+ */
+public class DocXSnapshotPublisher {
+
+    private final ReadOnlyDocX docX;
+    private volatile DocXSnapshot latest;
+    private volatile boolean isStale;
+    private boolean isPatientListChanged;
+    private boolean isDoctorListChanged;
+    private boolean isMedHistListChanged;
+    private boolean isPrescriptionListChanged;
+    private boolean isAppointmentListChanged;
+
+    /**
+     * Creates a publisher of snapshots of {@code docX}, starting with a snapshot of its current data.
+     */
+    public DocXSnapshotPublisher(ReadOnlyDocX docX) {
+        requireNonNull(docX);
+        this.docX = docX;
+        latest = DocXSnapshot.of(docX, 0);
+
+        docX.getPatientList().addListener(change -> {
+            isPatientListChanged = true;
+            isStale = true;
+        });
+        docX.getDoctorList().addListener(change -> {
+            isDoctorListChanged = true;
+            isStale = true;
+        });
+        docX.getMedHistList().addListener(change -> {
+            isMedHistListChanged = true;
+            isStale = true;
+        });
+        docX.getPrescriptionList().addListener(change -> {
+            isPrescriptionListChanged = true;
+            isStale = true;
+        });
+        docX.getAppointmentList().addListener(change -> {
+            isAppointmentListChanged = true;
+            isStale = true;
+        });
+    }
+
+    /**
+     * Returns the latest published snapshot. This never blocks.
+     */
+    public DocXSnapshot getLatest() {
+        return latest;
+    }
+
+    /**
+     * Returns true if the DocX has been modified since the latest snapshot was published.
+     */
+    public boolean isStale() {
+        return isStale;
+    }
+
+    /**
+     * Publishes a snapshot of the current data in the DocX if it has been modified since the latest snapshot,
+     * and returns the latest snapshot.
+     * The caller must ensure that the DocX is not being modified while this runs.
+     */
+    public synchronized DocXSnapshot publish() {
+        if (!isStale) {
+            return latest;
+        }
+
+        latest = latest.next(docX, latest.getVersion() + 1, isPatientListChanged, isDoctorListChanged,
+                isMedHistListChanged, isPrescriptionListChanged, isAppointmentListChanged);
+        isPatientListChanged = false;
+        isDoctorListChanged = false;
+        isMedHistListChanged = false;
+        isPrescriptionListChanged = false;
+        isAppointmentListChanged = false;
+        isStale = false;
+        return latest;
+    }
+}
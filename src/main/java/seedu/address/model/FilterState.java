@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.observable.FilteredList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.prescription.Prescription;
+
+/**
+ * The filters of the filtered lists in a {@code Model} at the point it was taken.
+ * Restoring it with {@link Model#setFilterState(FilterState)} shows the same elements again without testing the
+ * predicates, as long as the data in the model has not changed since.
+ * A filter state may leave out the filters of some lists, which restoring it then leaves as they are.
+ */
+public class FilterState {
+
+    /** The filters of the lists, or null for the lists that this state leaves out. */
+    final FilteredList.Filter<Patient> patientFilter;
+    final FilteredList.Filter<Doctor> doctorFilter;
+    final FilteredList.Filter<MedicalHistory> medHistFilter;
+    final FilteredList.Filter<Appointment> appointmentFilter;
+    final FilteredList.Filter<Prescription> prescriptionFilter;
+
+    FilterState(FilteredList.Filter<Patient> patientFilter, FilteredList.Filter<Doctor> doctorFilter,
+            FilteredList.Filter<MedicalHistory> medHistFilter, FilteredList.Filter<Appointment> appointmentFilter,
+            FilteredList.Filter<Prescription> prescriptionFilter) {
+        this.patientFilter = patientFilter;
+        this.doctorFilter = doctorFilter;
+        this.medHistFilter = medHistFilter;
+        this.appointmentFilter = appointmentFilter;
+        this.prescriptionFilter = prescriptionFilter;
+    }
+
+    /**
+     * Returns a filter state with only the filters of the lists whose predicates were set between taking
+     * {@code earlier} and this state, e.g. the lists filtered by a command that was executed in between.
+     * Both states must have been taken from the same model, and must include the filters of every list.
+     */
+    public FilterState onlySetSince(FilterState earlier) {
+        requireNonNull(earlier);
+        return new FilterState(onlyIfSetSince(patientFilter, earlier.patientFilter),
+                onlyIfSetSince(doctorFilter, earlier.doctorFilter),
+                onlyIfSetSince(medHistFilter, earlier.medHistFilter),
+                onlyIfSetSince(appointmentFilter, earlier.appointmentFilter),
+                onlyIfSetSince(prescriptionFilter, earlier.prescriptionFilter));
+    }
+
+    private static <T> FilteredList.Filter<T> onlyIfSetSince(FilteredList.Filter<T> filter,
+            FilteredList.Filter<T> earlier) {
+        return filter.isSetSince(earlier) ? filter : null;
+    }
+}
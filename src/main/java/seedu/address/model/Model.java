@@ -4,15 +4,20 @@ import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.function.Predicate;
 
-import javafx.beans.property.ReadOnlyProperty;
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.commons.core.observable.ObservableValue;
+import seedu.address.commons.core.observable.SortedList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarWindow;
 import seedu.address.model.medicalhistory.MedicalHistory;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.patient.Patient;
 import seedu.address.model.prescription.Prescription;
+import seedu.address.model.query.ClinicSummary;
+import seedu.address.model.query.DocXIndexes;
+import seedu.address.model.query.QueryResult;
 
 
 /**
@@ -49,21 +54,11 @@ public interface Model {
      */
     Comparator<MedicalHistory> COMPARATOR_MED_HIST_DATE_ASC = new MedHistDateAscComparator();
 
-    /**
-     * {@code Comparator} that sort medical history by date in decending order from newest to oldest.
-     */
-    Comparator<MedicalHistory> COMPARATOR_MED_HIST_DATE_DESC = new MedHistDateDescComparator();
-
     /**
      * {@code Comparator} that sort prescriptions by date in ascending order from oldest to newest.
      */
     Comparator<Prescription> COMPARATOR_PRESC_DATE_ASC = new PrescriptionDateAscComparator();
 
-    /**
-     * {@code Comparator} that sort prescriptions by date in descending order from newest to oldest.
-     */
-    Comparator<Prescription> COMPARATOR_PRESC_DATE_DESC = new PrescriptionDateDescComparator();
-
     /**
      * Comparater of Medical History
      * Medical history with older date is larger than medical history with newer date.
@@ -74,16 +69,6 @@ public interface Model {
         }
     }
 
-    /**
-     * Comparater of Medical History
-     * Medical history with newer date is larger than medical history with older date.
-     */
-    class MedHistDateDescComparator implements Comparator<MedicalHistory> {
-        public int compare(MedicalHistory mh1, MedicalHistory mh2) {
-            return mh2.getDate().date.compareTo(mh1.getDate().date);
-        }
-    }
-
     /**
      * Comparator of Prescription
      * Prescriptions with older date is larger than prescription with newer date.
@@ -94,16 +79,6 @@ public interface Model {
         }
     }
 
-    /**
-     * Comparator of Prescription
-     * Prescription with newer date is larger than prescription with older date.
-     */
-    class PrescriptionDateDescComparator implements Comparator<Prescription> {
-        public int compare(Prescription p1, Prescription p2) {
-            return p2.getDate().date.compareTo(p1.getDate().date);
-        }
-    }
-
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -139,11 +114,27 @@ public interface Model {
      */
     void setDocX(ReadOnlyDocX docX);
 
+    /**
+     * Replaces DocX data with the data in {@code docX} as loaded from the storage, discarding the undo history so
+     * that the data cannot be undone back to what it was before it was loaded.
+     */
+    void loadDocX(ReadOnlyDocX docX);
+
     /**
      * Returns the DocX
      */
     ReadOnlyDocX getDocX();
 
+    /**
+     * Returns the indexes over the DocX that queries can use.
+     */
+    DocXIndexes getDocXIndexes();
+
+    /**
+     * Returns the version of the data in the DocX, which increases whenever any of its lists changes.
+     */
+    long getDataVersion();
+
     /**
      * Return object Patient with given id
      */
@@ -278,6 +269,13 @@ public interface Model {
      */
     void updateFilteredMedHistList(Predicate<MedicalHistory> predicate);
 
+    /**
+     * Updates the filter of the filtered medical history list to show the rows matched by {@code queryResult}.
+     *
+     * @throws NullPointerException if {@code queryResult} is null.
+     */
+    void updateFilteredMedHistList(QueryResult<MedicalHistory> queryResult);
+
     /**
      * Updates the filter of the filtered doctor list to filter by the given {@code predicate}.
      *
@@ -292,11 +290,45 @@ public interface Model {
      */
     void updateFilteredAppointmentList(Predicate<Appointment> predicate);
 
+    /**
+     * Updates the filter of the filtered appointment list to show the rows matched by {@code queryResult}.
+     *
+     * @throws NullPointerException if {@code queryResult} is null.
+     */
+    void updateFilteredAppointmentList(QueryResult<Appointment> queryResult);
+
+    /**
+     * Returns an unmodifiable view of the doctor's appointments in the calendar window, ordered by date and time.
+     */
+    ObservableList<Appointment> getCalendarAppointmentList();
+
+    /**
+     * The calendar window of the calendar appointment list.
+     * null if no calendar window is set.
+     */
+    ObservableValue<CalendarWindow> calendarWindowProperty();
+
+    /**
+     * Sets the calendar window, so that the calendar appointment list shows the doctor's appointments on its days.
+     * The list is empty if {@code window} is null.
+     */
+    void setCalendarWindow(CalendarWindow window);
 
     /**
-     * Sort filtered medical history list
+     * The statistics of the clinic today, which are kept up to date as the DocX changes.
      */
-    void sortFilteredMedHistList(Comparator<MedicalHistory> medicalHistoryComparator);
+    ObservableValue<ClinicSummary> clinicSummaryProperty();
+
+    /**
+     * Updates the statistics of the clinic to those of today, e.g. after the day has changed, and returns them.
+     */
+    ClinicSummary refreshClinicSummary();
+
+
+    /**
+     * Shows the filtered medical history list in {@code order} of date, without modifying the data.
+     */
+    void sortFilteredMedHistList(SortedList.Order order);
 
     /**
      * Returns an unmodifiable view of the filtered prescription list
@@ -311,9 +343,22 @@ public interface Model {
     void updateFilteredPrescriptionList(Predicate<Prescription> predicate);
 
     /**
-     * Sort filtered prescription list
+     * Shows the filtered prescription list in {@code order} of date, without modifying the data.
+     */
+    void sortFilteredPrescriptionList(SortedList.Order order);
+
+    /**
+     * Returns the current filters of all the filtered lists.
+     */
+    FilterState getFilterState();
+
+    /**
+     * Restores the filters of the filtered lists included in {@code filterState}, which must have been derived from
+     * {@link #getFilterState()} of this model. The filters of the other lists are left as they are.
+     *
+     * @throws NullPointerException if {@code filterState} is null.
      */
-    void sortFilteredPrescriptionList(Comparator<Prescription> prescriptionComparator);
+    void setFilterState(FilterState filterState);
 
     /**
      * Saves the current DocX state for undo/redo.
@@ -324,25 +369,25 @@ public interface Model {
      * Selected patient in the filtered patient list.
      * null if no patient is selected.
      */
-    ReadOnlyProperty<Patient> selectedPatientProperty();
+    ObservableValue<Patient> selectedPatientProperty();
 
     /**
      * Selected medical history in the filtered medHist list.
      * null if no medHist is selected.
      */
-    ReadOnlyProperty<MedicalHistory> selectedMedHistProperty();
+    ObservableValue<MedicalHistory> selectedMedHistProperty();
 
     /**
      * Selected appointment in the filtered appointment list.
      * null if no appointment is selected.
      */
-    ReadOnlyProperty<Appointment> selectedAppointmentProperty();
+    ObservableValue<Appointment> selectedAppointmentProperty();
 
     /**
      * Selected prescription in the filtered medHist list.
      * null if no medHist is selected.
      */
-    ReadOnlyProperty<Prescription> selectedPrescriptionProperty();
+    ObservableValue<Prescription> selectedPrescriptionProperty();
 
     /**
      * Returns the selected patient in the filtered patient list.
@@ -403,7 +448,7 @@ public interface Model {
      * Selected doctor in the filtered doctor list.
      * null if no doctor is selected.
      */
-    ReadOnlyProperty<Doctor> selectedDoctorProperty();
+    ObservableValue<Doctor> selectedDoctorProperty();
 
     /**
      * Returns the selected doctor in the filtered doctor list.
@@ -4,19 +4,24 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.time.LocalDate;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.beans.property.ReadOnlyProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.ListChangeListener;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.observable.FilteredList;
+import seedu.address.commons.core.observable.ListChange;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.commons.core.observable.ObservableValue;
+import seedu.address.commons.core.observable.SimpleObservableValue;
+import seedu.address.commons.core.observable.SortedList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarWindow;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.medicalhistory.MedicalHistory;
 import seedu.address.model.medicalhistory.exceptions.MedHistNotFoundException;
@@ -27,26 +32,42 @@ import seedu.address.model.person.exceptions.PatientNotFoundException;
 import seedu.address.model.person.patient.Patient;
 import seedu.address.model.prescription.Prescription;
 import seedu.address.model.prescription.exceptions.PrescriptionNotFoundException;
+import seedu.address.model.query.AppointmentCalendar;
+import seedu.address.model.query.ClinicStatistics;
+import seedu.address.model.query.ClinicSummary;
+import seedu.address.model.query.DocXIndexes;
+import seedu.address.model.query.QueryResult;
 
 
 /**
  * Represents the in-memory model of the DocX data.
  */
 public class ModelManager implements Model {
+    /** The name of the latency histogram of saving the DocX state for undo/redo. */
+    public static final String STAGE_COMMIT = "stage.commit";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedDocX versionedDocX;
     private final UserPrefs userPrefs;
     private final FilteredList<Patient> filteredPatients;
-    private final SimpleObjectProperty<Patient> selectedPatient = new SimpleObjectProperty<>();
+    private final SimpleObservableValue<Patient> selectedPatient = new SimpleObservableValue<>();
     private final FilteredList<Doctor> filteredDoctors;
-    private final SimpleObjectProperty<Doctor> selectedDoctor = new SimpleObjectProperty<>();
+    private final SimpleObservableValue<Doctor> selectedDoctor = new SimpleObservableValue<>();
     private final FilteredList<MedicalHistory> filteredMedHists;
-    private final SimpleObjectProperty<MedicalHistory> selectedMedHist = new SimpleObjectProperty<>();
+    private final SortedList<MedicalHistory> sortedMedHists;
+    private final SimpleObservableValue<MedicalHistory> selectedMedHist = new SimpleObservableValue<>();
     private final FilteredList<Appointment> filteredAppointments;
-    private final SimpleObjectProperty<Appointment> selectedAppointment = new SimpleObjectProperty<>();
+    private final SimpleObservableValue<Appointment> selectedAppointment = new SimpleObservableValue<>();
     private final FilteredList<Prescription> filteredPrescriptions;
-    private final SimpleObjectProperty<Prescription> selectedPrescription = new SimpleObjectProperty<>();
+    private final SortedList<Prescription> sortedPrescriptions;
+    private final SimpleObservableValue<Prescription> selectedPrescription = new SimpleObservableValue<>();
+    private final AppointmentCalendar calendarAppointments;
+    private final SimpleObservableValue<CalendarWindow> calendarWindow = new SimpleObservableValue<>();
+    private final ClinicStatistics clinicStatistics;
+    private final SimpleObservableValue<ClinicSummary> clinicSummary;
+    private final DocXIndexes docXIndexes;
+    private long dataVersion = 0;
 
     /**
      * Initializes a ModelManager with the given DocX and userPrefs.
@@ -60,15 +81,36 @@ public class ModelManager implements Model {
         versionedDocX = new VersionedDocX(docX);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPatients = new FilteredList<>(versionedDocX.getPatientList());
-        filteredPatients.addListener(this::ensureSelectedPatientIsValid);
+        filteredPatients.addListener(change -> ensureSelectionIsValid(change, selectedPatient,
+                Patient::isSamePatient));
         filteredDoctors = new FilteredList<>(versionedDocX.getDoctorList());
-        filteredDoctors.addListener(this::ensureSelectedDoctorIsValid);
+        filteredDoctors.addListener(change -> ensureSelectionIsValid(change, selectedDoctor,
+                Doctor::isSameDoctor));
         filteredMedHists = new FilteredList<>(versionedDocX.getMedHistList());
-        filteredMedHists.addListener(this::ensureSelectedMedHistIsValid);
+        sortedMedHists = new SortedList<>(filteredMedHists, COMPARATOR_MED_HIST_DATE_ASC);
+        sortedMedHists.addListener(change -> ensureSelectionIsValid(change, selectedMedHist,
+                MedicalHistory::isSameMedHist));
         filteredAppointments = new FilteredList<>(versionedDocX.getAppointmentList());
-        filteredAppointments.addListener(this::ensureSelectedAppointmentIsValid);
+        filteredAppointments.addListener(change -> ensureSelectionIsValid(change, selectedAppointment,
+                Appointment::isSameAppointment));
         filteredPrescriptions = new FilteredList<>(versionedDocX.getPrescriptionList());
-        filteredPrescriptions.addListener(this::ensureSelectedPrescriptionIsValid);
+        sortedPrescriptions = new SortedList<>(filteredPrescriptions, COMPARATOR_PRESC_DATE_ASC);
+        sortedPrescriptions.addListener(change -> ensureSelectionIsValid(change, selectedPrescription,
+                Prescription::isSamePrescription));
+        docXIndexes = new DocXIndexes(versionedDocX);
+        calendarAppointments = new AppointmentCalendar(versionedDocX.getAppointmentList(),
+                docXIndexes::getAppointmentsByDoctorAndDate);
+        clinicStatistics = new ClinicStatistics(versionedDocX.getAppointmentList(), versionedDocX.getMedHistList());
+        clinicSummary = new SimpleObservableValue<>(clinicStatistics.getSummary(LocalDate.now()));
+        // registered after the statistics' own listeners, so the statistics are up to date when these run
+        versionedDocX.getAppointmentList().addListener(change -> refreshClinicSummary());
+        versionedDocX.getMedHistList().addListener(change -> refreshClinicSummary());
+
+        versionedDocX.getPatientList().addListener(change -> dataVersion++);
+        versionedDocX.getDoctorList().addListener(change -> dataVersion++);
+        versionedDocX.getMedHistList().addListener(change -> dataVersion++);
+        versionedDocX.getAppointmentList().addListener(change -> dataVersion++);
+        versionedDocX.getPrescriptionList().addListener(change -> dataVersion++);
     }
 
     public ModelManager() {
@@ -117,11 +159,28 @@ public class ModelManager implements Model {
         versionedDocX.resetData(docX);
     }
 
+    @Override
+    public void loadDocX(ReadOnlyDocX docX) {
+        requireNonNull(docX);
+        versionedDocX.resetData(docX);
+        versionedDocX.clearHistory();
+    }
+
     @Override
     public ReadOnlyDocX getDocX() {
         return versionedDocX;
     }
 
+    @Override
+    public DocXIndexes getDocXIndexes() {
+        return docXIndexes;
+    }
+
+    @Override
+    public long getDataVersion() {
+        return dataVersion;
+    }
+
     @Override
     public Patient getPatientById(PersonId patientId) {
         requireNonNull(patientId);
@@ -144,16 +203,12 @@ public class ModelManager implements Model {
     @Override
     public void deletePatient(Patient target) {
         versionedDocX.removePatient(target);
-        updateFilteredMedHistList(PREDICATE_SHOW_ALL_MEDHISTS);
         setSelectedMedHist(null);
-        updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
-        updateFilteredPrescriptionList(PREDICATE_SHOW_ALL_PRESCRIPTIONS);
     }
 
     @Override
     public void addPatient(Patient patient) {
         versionedDocX.addPatient(patient);
-        updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
     }
 
     @Override
@@ -165,16 +220,12 @@ public class ModelManager implements Model {
     @Override
     public void addDoctor(Doctor doctor) {
         versionedDocX.addDoctor(doctor);
-        updateFilteredDoctorList(PREDICATE_SHOW_ALL_DOCTORS);
     }
 
     @Override
     public void deleteDoctor(Doctor target) {
         versionedDocX.removeDoctor(target);
-        updateFilteredMedHistList(PREDICATE_SHOW_ALL_MEDHISTS);
         setSelectedMedHist(null);
-        updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
-        updateFilteredPrescriptionList(PREDICATE_SHOW_ALL_PRESCRIPTIONS);
     }
 
     @Override
@@ -186,7 +237,6 @@ public class ModelManager implements Model {
     @Override
     public void addPrescription(Prescription prescription) {
         versionedDocX.addPrescription(prescription);
-        updateFilteredPrescriptionList(PREDICATE_SHOW_ALL_PRESCRIPTIONS);
     }
 
     @Override
@@ -198,7 +248,6 @@ public class ModelManager implements Model {
     @Override
     public void addAppointment(Appointment appointment) {
         versionedDocX.addAppointment(appointment);
-        updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
     }
 
     @Override
@@ -210,7 +259,6 @@ public class ModelManager implements Model {
     @Override
     public void addMedHist(MedicalHistory medicalHistory) {
         versionedDocX.addMedHist(medicalHistory);
-        updateFilteredMedHistList(PREDICATE_SHOW_ALL_MEDHISTS);
     }
 
     @Override
@@ -232,9 +280,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPatient);
 
         versionedDocX.setPatient(target, editedPatient);
-        updateFilteredMedHistList(PREDICATE_SHOW_ALL_MEDHISTS);
         setSelectedMedHist(null);
-        updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
     }
 
     @Override
@@ -242,9 +288,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedDoctor);
 
         versionedDocX.setDoctor(target, editedDoctor);
-        updateFilteredMedHistList(PREDICATE_SHOW_ALL_MEDHISTS);
         setSelectedMedHist(null);
-        updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
     }
 
     @Override
@@ -268,7 +312,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireNonNull(predicate);
-        filteredPatients.setPredicate(predicate);
+        setPredicateInterruptibly(filteredPatients, predicate);
     }
 
     //=========== Filtered Doctor List Accessors =============================================================
@@ -285,7 +329,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredDoctorList(Predicate<Doctor> predicate) {
         requireNonNull(predicate);
-        filteredDoctors.setPredicate(predicate);
+        setPredicateInterruptibly(filteredDoctors, predicate);
     }
 
     //=========== Filtered Medical History List Accessors =============================================================
@@ -296,19 +340,25 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<MedicalHistory> getFilteredMedHistList() {
-        return filteredMedHists;
+        return sortedMedHists;
     }
 
     @Override
     public void updateFilteredMedHistList(Predicate<MedicalHistory> predicate) {
         requireNonNull(predicate);
-        filteredMedHists.setPredicate(predicate);
+        setPredicateInterruptibly(filteredMedHists, predicate);
     }
 
     @Override
-    public void sortFilteredMedHistList(Comparator<MedicalHistory> medHistComparator) {
-        requireNonNull(medHistComparator);
-        versionedDocX.sortMedHist(medHistComparator);
+    public void updateFilteredMedHistList(QueryResult<MedicalHistory> queryResult) {
+        requireNonNull(queryResult);
+        setPredicateInterruptibly(filteredMedHists, queryResult.getPredicate(), queryResult::isMatch);
+    }
+
+    @Override
+    public void sortFilteredMedHistList(SortedList.Order order) {
+        requireNonNull(order);
+        sortedMedHists.setOrder(order);
     }
 
     //=========== Filtered Appointment List Accessors =============================================================
@@ -325,7 +375,44 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
         requireNonNull(predicate);
-        filteredAppointments.setPredicate(predicate);
+        setPredicateInterruptibly(filteredAppointments, predicate);
+    }
+
+    @Override
+    public void updateFilteredAppointmentList(QueryResult<Appointment> queryResult) {
+        requireNonNull(queryResult);
+        setPredicateInterruptibly(filteredAppointments, queryResult.getPredicate(), queryResult::isMatch);
+    }
+
+    //=========== Calendar Appointment List Accessors =============================================================
+
+    @Override
+    public ObservableList<Appointment> getCalendarAppointmentList() {
+        return calendarAppointments;
+    }
+
+    @Override
+    public ObservableValue<CalendarWindow> calendarWindowProperty() {
+        return calendarWindow;
+    }
+
+    @Override
+    public void setCalendarWindow(CalendarWindow window) {
+        calendarWindow.setValue(window);
+        calendarAppointments.setWindow(window);
+    }
+
+    //=========== Clinic Statistics ===============================================================================
+
+    @Override
+    public ObservableValue<ClinicSummary> clinicSummaryProperty() {
+        return clinicSummary;
+    }
+
+    @Override
+    public ClinicSummary refreshClinicSummary() {
+        clinicSummary.setValue(clinicStatistics.getSummary(LocalDate.now()));
+        return clinicSummary.getValue();
     }
 
     //=========== Filtered Prescription List Accessors =============================================================
@@ -336,30 +423,115 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Prescription> getFilteredPrescriptionList() {
-        return filteredPrescriptions;
+        return sortedPrescriptions;
     }
 
     @Override
     public void updateFilteredPrescriptionList(Predicate<Prescription> predicate) {
         requireNonNull(predicate);
-        filteredPrescriptions.setPredicate(predicate);
+        setPredicateInterruptibly(filteredPrescriptions, predicate);
+    }
+
+    @Override
+    public void sortFilteredPrescriptionList(SortedList.Order order) {
+        requireNonNull(order);
+        sortedPrescriptions.setOrder(order);
     }
 
     @Override
-    public void sortFilteredPrescriptionList(Comparator<Prescription> prescriptionComparator) {
-        requireNonNull(prescriptionComparator);
-        versionedDocX.sortPrescription(prescriptionComparator);
+    public FilterState getFilterState() {
+        return new FilterState(filteredPatients.getFilter(), filteredDoctors.getFilter(), filteredMedHists.getFilter(),
+                filteredAppointments.getFilter(), filteredPrescriptions.getFilter());
+    }
+
+    @Override
+    public void setFilterState(FilterState filterState) {
+        requireNonNull(filterState);
+        setFilterIfIncluded(filteredPatients, filterState.patientFilter);
+        setFilterIfIncluded(filteredDoctors, filterState.doctorFilter);
+        setFilterIfIncluded(filteredMedHists, filterState.medHistFilter);
+        setFilterIfIncluded(filteredAppointments, filterState.appointmentFilter);
+        setFilterIfIncluded(filteredPrescriptions, filterState.prescriptionFilter);
+    }
+
+    /**
+     * Restores {@code filteredList} to {@code filter}, unless the filter state it came from left it out.
+     */
+    private static <T> void setFilterIfIncluded(FilteredList<T> filteredList, FilteredList.Filter<T> filter) {
+        if (filter != null) {
+            filteredList.setFilter(filter);
+        }
+    }
+
+    /**
+     * Filters {@code filteredList} with {@code predicate}.
+     * If the current thread is interrupted while filtering, {@code filteredList} keeps its previous predicate and a
+     * {@code CancellationException} is thrown, so that a long-running search can be cancelled.
+     */
+    private static <T> void setPredicateInterruptibly(FilteredList<T> filteredList, Predicate<T> predicate) {
+        setPredicateInterruptibly(filteredList, predicate, predicate);
+    }
+
+    /**
+     * Filters {@code filteredList} with {@code currentMatches}, and its later changes with {@code predicate}.
+     * Cancellation is as in {@link #setPredicateInterruptibly(FilteredList, Predicate)}.
+     *
+     * @see FilteredList#setPredicate(Predicate, Predicate)
+     */
+    private static <T> void setPredicateInterruptibly(FilteredList<T> filteredList, Predicate<T> predicate,
+            Predicate<T> currentMatches) {
+        try {
+            filteredList.setPredicate(predicate, element -> {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Filtering was cancelled.");
+                }
+                return currentMatches.test(element);
+            });
+        } catch (CancellationException ce) {
+            Thread.interrupted();
+            throw ce;
+        }
+    }
+
+    /**
+     * Ensures {@code selected} is still a valid element of the list changed by {@code change}.
+     * A selected element that was replaced is updated to its replacement, and a selected element that was removed
+     * is replaced by the element that came before it in the list, or cleared if there is no such element.
+     */
+    private static <T> void ensureSelectionIsValid(ListChange<? extends T> change, SimpleObservableValue<T> selected,
+            BiPredicate<T, T> isSame) {
+        T selectedValue = selected.getValue();
+        if (selectedValue == null || change.getAddedSubList().contains(selectedValue)) {
+            // null is always a valid selection, and a selected element that was only moved is still valid.
+            return;
+        }
+
+        boolean wasSelectedReplaced = change.wasReplaced() && change.getAddedSize() == change.getRemovedSize()
+                && change.getRemoved().contains(selectedValue);
+        if (wasSelectedReplaced) {
+            int index = change.getRemoved().indexOf(selectedValue);
+            selected.setValue(change.getAddedSubList().get(index));
+            return;
+        }
+
+        boolean wasSelectedRemoved = change.getRemoved().stream()
+                .anyMatch(removed -> isSame.test(selectedValue, removed));
+        if (wasSelectedRemoved) {
+            selected.setValue(change.getFrom() > 0 ? change.getList().get(change.getFrom() - 1) : null);
+        }
     }
 
     @Override
     public void commitDocX() {
+        long startNanos = System.nanoTime();
         versionedDocX.commit();
+        MetricsCenter.getRegistry().histogram(STAGE_COMMIT).recordSince(startNanos);
     }
 
     //=========== Selected patient ===========================================================================
 
     @Override
-    public ReadOnlyProperty<Patient> selectedPatientProperty() {
+    public ObservableValue<Patient> selectedPatientProperty() {
         return selectedPatient;
     }
 
@@ -376,40 +548,10 @@ public class ModelManager implements Model {
         selectedPatient.setValue(patient);
     }
 
-    /**
-     * Ensures {@code selectedPatient} is a valid patient in {@code filteredPatients}.
-     */
-    private void ensureSelectedPatientIsValid(ListChangeListener.Change<? extends Patient> change) {
-        while (change.next()) {
-            if (selectedPatient.getValue() == null) {
-                // null is always a valid selected patient, so we do not need to check that it is valid anymore.
-                return;
-            }
-
-            boolean wasSelectedPatientReplaced =
-                    change.wasReplaced() && change.getAddedSize() == change.getRemovedSize()
-                            && change.getRemoved().contains(selectedPatient.getValue());
-            if (wasSelectedPatientReplaced) {
-                // Update selectedPatient to its new value.
-                int index = change.getRemoved().indexOf(selectedPatient.getValue());
-                selectedPatient.setValue(change.getAddedSubList().get(index));
-                continue;
-            }
-
-            boolean wasSelectedPatientRemoved = change.getRemoved().stream()
-                    .anyMatch(removedPatient -> selectedPatient.getValue().isSamePatient(removedPatient));
-            if (wasSelectedPatientRemoved) {
-                // Select the patient that came before it in the list,
-                // or clear the selection if there is no such patient.
-                selectedPatient.setValue(change.getFrom() > 0 ? change.getList().get(change.getFrom() - 1) : null);
-            }
-        }
-    }
-
     //=========== Selected doctor ===========================================================================
 
     @Override
-    public ReadOnlyProperty<Doctor> selectedDoctorProperty() {
+    public ObservableValue<Doctor> selectedDoctorProperty() {
         return selectedDoctor;
     }
 
@@ -426,38 +568,9 @@ public class ModelManager implements Model {
         selectedDoctor.setValue(doctor);
     }
 
-    /**
-     * Ensures {@code selectedDoctor} is a valid doctor in {@code filteredDoctors}.
-     */
-    private void ensureSelectedDoctorIsValid(ListChangeListener.Change<? extends Doctor> change) {
-        while (change.next()) {
-            if (selectedDoctor.getValue() == null) {
-                // null is always a valid selected person, so we do not need to check that it is valid anymore.
-                return;
-            }
-
-            boolean wasSelectedDoctorReplaced = change.wasReplaced() && change.getAddedSize() == change.getRemovedSize()
-                    && change.getRemoved().contains(selectedDoctor.getValue());
-            if (wasSelectedDoctorReplaced) {
-                // Update selectedPerson to its new value.
-                int index = change.getRemoved().indexOf(selectedDoctor.getValue());
-                selectedDoctor.setValue(change.getAddedSubList().get(index));
-                continue;
-            }
-
-            boolean wasSelectedDoctorRemoved = change.getRemoved().stream()
-                    .anyMatch(removedDoctor -> selectedDoctor.getValue().isSameDoctor(removedDoctor));
-            if (wasSelectedDoctorRemoved) {
-                // Select the doctor that came before it in the list,
-                // or clear the selection if there is no such doctor.
-                selectedDoctor.setValue(change.getFrom() > 0 ? change.getList().get(change.getFrom() - 1) : null);
-            }
-        }
-    }
-
     //=========== Selected Medical History ===================================================================
     @Override
-    public ReadOnlyProperty<MedicalHistory> selectedMedHistProperty() {
+    public ObservableValue<MedicalHistory> selectedMedHistProperty() {
         return selectedMedHist;
     }
 
@@ -474,39 +587,9 @@ public class ModelManager implements Model {
         selectedMedHist.setValue(medicalHistory);
     }
 
-    /**
-     * Ensures {@code selectedMedHist} is a valid medical history in {@code filteredMedHists}.
-     */
-    private void ensureSelectedMedHistIsValid(ListChangeListener.Change<? extends MedicalHistory> change) {
-        while (change.next()) {
-            if (selectedMedHist.getValue() == null) {
-                // null is always a valid selected patient, so we do not need to check that it is valid anymore.
-                return;
-            }
-
-            boolean wasSelectedMedHistReplaced =
-                    change.wasReplaced() && change.getAddedSize() == change.getRemovedSize()
-                            && change.getRemoved().contains(selectedMedHist.getValue());
-            if (wasSelectedMedHistReplaced) {
-                // Update selectedMedHist to its new value.
-                int index = change.getRemoved().indexOf(selectedMedHist.getValue());
-                selectedMedHist.setValue(change.getAddedSubList().get(index));
-                continue;
-            }
-
-            boolean wasSelectedMedHistRemoved = change.getRemoved().stream()
-                    .anyMatch(removedMedHist -> selectedMedHist.getValue().isSameMedHist(removedMedHist));
-            if (wasSelectedMedHistRemoved) {
-                // Select the medical history that came before it in the list,
-                // or clear the selection if there is no such medical history.
-                selectedMedHist.setValue(change.getFrom() > 0 ? change.getList().get(change.getFrom() - 1) : null);
-            }
-        }
-    }
-
     //=========== Selected Prescription ===================================================================
     @Override
-    public ReadOnlyProperty<Prescription> selectedPrescriptionProperty() {
+    public ObservableValue<Prescription> selectedPrescriptionProperty() {
         return selectedPrescription;
     }
 
@@ -523,37 +606,6 @@ public class ModelManager implements Model {
         selectedPrescription.setValue(prescription);
     }
 
-    /**
-     * Ensures {@code selectedMedHist} is a valid medical history in {@code filteredMedHists}.
-     */
-    private void ensureSelectedPrescriptionIsValid(ListChangeListener.Change<? extends Prescription> change) {
-        while (change.next()) {
-            if (selectedPrescription.getValue() == null) {
-                // null is always a valid selected prescription, so we do not need to check that it is valid anymore.
-                return;
-            }
-
-            boolean wasSelectedPrescriptionReplaced =
-                    change.wasReplaced() && change.getAddedSize() == change.getRemovedSize()
-                            && change.getRemoved().contains(selectedPrescription.getValue());
-            if (wasSelectedPrescriptionReplaced) {
-                // Update selectedMedHist to its new value.
-                int index = change.getRemoved().indexOf(selectedPrescription.getValue());
-                selectedPrescription.setValue(change.getAddedSubList().get(index));
-                continue;
-            }
-
-            boolean wasSelectedPrescriptionRemoved = change.getRemoved().stream()
-                    .anyMatch(removedPrescription -> selectedPrescription.getValue()
-                            .isSamePrescription(removedPrescription));
-            if (wasSelectedPrescriptionRemoved) {
-                // Select the prescription that came before it in the list,
-                // or clear the selection if there is no such prescription.
-                selectedPrescription.setValue(change.getFrom() > 0 ? change.getList().get(change.getFrom() - 1) : null);
-            }
-        }
-    }
-
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -571,13 +623,13 @@ public class ModelManager implements Model {
         return versionedDocX.equals(other.versionedDocX)
                 && userPrefs.equals(other.userPrefs)
                 && filteredPatients.equals(other.filteredPatients)
-                && Objects.equals(selectedPatient.get(), other.selectedPatient.get());
+                && Objects.equals(selectedPatient.getValue(), other.selectedPatient.getValue());
     }
 
     //=========== Selected appointment ======================================================================
 
     @Override
-    public ReadOnlyProperty<Appointment> selectedAppointmentProperty() {
+    public ObservableValue<Appointment> selectedAppointmentProperty() {
         return selectedAppointment;
     }
 
@@ -593,35 +645,4 @@ public class ModelManager implements Model {
         }
         selectedAppointment.setValue(appointment);
     }
-
-    /**
-     * Ensures {@code selectedAppointment} is a valid appointment in {@code filteredAppointments}.
-     */
-    private void ensureSelectedAppointmentIsValid(ListChangeListener.Change<? extends Appointment> change) {
-        while (change.next()) {
-            if (selectedAppointment.getValue() == null) {
-                // null is always a valid selected appointment, so we do not need to check that it is valid anymore.
-                return;
-            }
-
-            boolean wasSelectedAppointmentReplaced =
-                    change.wasReplaced() && change.getAddedSize() == change.getRemovedSize()
-                            && change.getRemoved().contains(selectedAppointment.getValue());
-            if (wasSelectedAppointmentReplaced) {
-                // Update selectedAppointment to its new value.
-                int index = change.getRemoved().indexOf(selectedAppointment.getValue());
-                selectedAppointment.setValue(change.getAddedSubList().get(index));
-                continue;
-            }
-
-            boolean wasSelectedAppointmentRemoved = change.getRemoved().stream()
-                    .anyMatch(removedAppointment -> selectedAppointment.getValue()
-                            .isSameAppointment(removedAppointment));
-            if (wasSelectedAppointmentRemoved) {
-                // Select the appointment that came before it in the list,
-                // or clear the selection if there is no such appointment.
-                selectedAppointment.setValue(change.getFrom() > 0 ? change.getList().get(change.getFrom() - 1) : null);
-            }
-        }
-    }
 }
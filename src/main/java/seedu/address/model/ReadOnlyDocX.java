@@ -1,7 +1,7 @@
 package seedu.address.model;
 
-import javafx.beans.Observable;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.observable.Observable;
+import seedu.address.commons.core.observable.ObservableList;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.medicalhistory.MedicalHistory;
 import seedu.address.model.person.PersonIdCounter;
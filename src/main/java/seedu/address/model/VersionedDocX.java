@@ -3,6 +3,9 @@ package seedu.address.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.core.tracing.Span;
+import seedu.address.commons.core.tracing.Tracer;
+
 /**
  * {@code DocX} that keeps track of its own history.
  */
@@ -24,10 +27,21 @@ public class VersionedDocX extends DocX {
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
+        try (Span span = Tracer.start(TRACE_CATEGORY, "VersionedDocX.commit")) {
+            removeStatesAfterCurrentPointer();
+            docXStateList.add(new DocX(this));
+            currentStatePointer++;
+            indicateModified();
+        }
+    }
+
+    /**
+     * Discards every saved state, so that the current state becomes the only one.
+     */
+    public void clearHistory() {
+        docXStateList.clear();
         docXStateList.add(new DocX(this));
-        currentStatePointer++;
-        indicateModified();
+        currentStatePointer = 0;
     }
 
     private void removeStatesAfterCurrentPointer() {
@@ -0,0 +1,121 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Represents the days of a doctor's appointments that are shown in a calendar: either a single day, or a week
+ * starting on a Monday.
+ * Guarantees: immutable.
+ */
+public class CalendarWindow {
+
+    public static final int DAYS_IN_DAY = 1;
+    public static final int DAYS_IN_WEEK = 7;
+    public static final String MESSAGE_INVALID_DAYS = "A calendar shows either a day or a week";
+
+    private final AppointmentDoctorId doctorId;
+    private final LocalDate startDate;
+    private final int days;
+
+    /**
+     * Constructs a {@code CalendarWindow} of {@code days} days from {@code startDate}.
+     */
+    public CalendarWindow(AppointmentDoctorId doctorId, LocalDate startDate, int days) {
+        requireNonNull(doctorId);
+        requireNonNull(startDate);
+        checkArgument(days == DAYS_IN_DAY || days == DAYS_IN_WEEK, MESSAGE_INVALID_DAYS);
+        this.doctorId = doctorId;
+        this.startDate = startDate;
+        this.days = days;
+    }
+
+    /**
+     * Returns the week of {@code doctorId}'s appointments that contains {@code date}.
+     */
+    public static CalendarWindow weekOf(AppointmentDoctorId doctorId, LocalDate date) {
+        requireNonNull(date);
+        return new CalendarWindow(doctorId, date.with(DayOfWeek.MONDAY), DAYS_IN_WEEK);
+    }
+
+    public AppointmentDoctorId getDoctorId() {
+        return doctorId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Returns the last day shown, inclusive.
+     */
+    public LocalDate getEndDate() {
+        return startDate.plusDays(days - 1);
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Returns true if {@code appointment} is one of the doctor's appointments on the days shown.
+     */
+    public boolean contains(Appointment appointment) {
+        LocalDate date = appointment.getDate().date;
+        return appointment.getDoctorId().equals(doctorId)
+                && !date.isBefore(startDate) && !date.isAfter(getEndDate());
+    }
+
+    /**
+     * Returns the window of the same length that follows this one.
+     */
+    public CalendarWindow next() {
+        return new CalendarWindow(doctorId, startDate.plusDays(days), days);
+    }
+
+    /**
+     * Returns the window of the same length that precedes this one.
+     */
+    public CalendarWindow previous() {
+        return new CalendarWindow(doctorId, startDate.minusDays(days), days);
+    }
+
+    /**
+     * Returns the week that contains the first day of this window.
+     */
+    public CalendarWindow toWeek() {
+        return weekOf(doctorId, startDate);
+    }
+
+    /**
+     * Returns the single day {@code date} of the same doctor's appointments.
+     */
+    public CalendarWindow toDay(LocalDate date) {
+        return new CalendarWindow(doctorId, date, DAYS_IN_DAY);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CalendarWindow // instanceof handles nulls
+                && doctorId.equals(((CalendarWindow) other).doctorId)
+                && startDate.equals(((CalendarWindow) other).startDate)
+                && days == ((CalendarWindow) other).days); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(doctorId, startDate, days);
+    }
+
+    @Override
+    public String toString() {
+        return days == DAYS_IN_DAY
+                ? "doctor " + doctorId + " on " + startDate
+                : "doctor " + doctorId + " from " + startDate + " to " + getEndDate();
+    }
+}
@@ -3,12 +3,13 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.commons.core.observable.ObservableList;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.model.person.PersonId;
@@ -22,9 +23,9 @@ import seedu.address.model.person.patient.Patient;
  */
 public class UniqueAppointmentList implements Iterable<Appointment> {
 
-    private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
+    private final ArrayObservableList<Appointment> internalList = new ArrayObservableList<>();
     private final ObservableList<Appointment> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            internalList.asUnmodifiableList();
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
@@ -97,17 +98,13 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         requireAllNonNull(toEdit);
         requireAllNonNull(editedPatient);
 
-        FilteredList<Appointment> appointmentsToSet = internalList
-                .filtered(x -> x.getPatientId().patientId.equals(toEdit));
-        Appointment modifiedAppointment;
-
-        int numberOfOccurrence = appointmentsToSet.size();
-        for (int i = 0; i < numberOfOccurrence; i++) {
-            modifiedAppointment = appointmentsToSet.get(i);
-            int indexToReplace = internalList.indexOf(modifiedAppointment);
-            modifiedAppointment.setPatient(editedPatient);
-            // this approach forces the listeners to be notified.
-            internalList.set(indexToReplace, modifiedAppointment);
+        for (int i = 0; i < internalList.size(); i++) {
+            Appointment modifiedAppointment = internalList.get(i);
+            if (modifiedAppointment.getPatientId().patientId.equals(toEdit)) {
+                modifiedAppointment.setPatient(editedPatient);
+                // this approach forces the listeners to be notified.
+                internalList.set(i, modifiedAppointment);
+            }
         }
     }
 
@@ -118,17 +115,13 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         requireAllNonNull(toEdit);
         requireAllNonNull(editedDoctor);
 
-        FilteredList<Appointment> appointmentsToSet = internalList
-                .filtered(x -> x.getDoctorId().doctorId.equals(toEdit));
-        Appointment modifiedAppointment;
-
-        int numberOfOccurrence = appointmentsToSet.size();
-        for (int i = 0; i < numberOfOccurrence; i++) {
-            modifiedAppointment = appointmentsToSet.get(i);
-            int indexToReplace = internalList.indexOf(modifiedAppointment);
-            modifiedAppointment.setDoctor(editedDoctor);
-            // this approach forces the listeners to be notified.
-            internalList.set(indexToReplace, modifiedAppointment);
+        for (int i = 0; i < internalList.size(); i++) {
+            Appointment modifiedAppointment = internalList.get(i);
+            if (modifiedAppointment.getDoctorId().doctorId.equals(toEdit)) {
+                modifiedAppointment.setDoctor(editedDoctor);
+                // this approach forces the listeners to be notified.
+                internalList.set(i, modifiedAppointment);
+            }
         }
     }
 
@@ -139,17 +132,13 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void setPatientToNull(PersonId deleted) {
         requireAllNonNull(deleted);
-        FilteredList<Appointment> appointmentsToSet = internalList
-                .filtered(x -> x.getPatientId().patientId.equals(deleted));
-        Appointment modifiedAppointment;
-
-        int numberOfOccurrence = appointmentsToSet.size();
-        for (int i = 0; i < numberOfOccurrence; i++) {
-            modifiedAppointment = appointmentsToSet.get(i);
-            int indexToReplace = internalList.indexOf(modifiedAppointment);
-            modifiedAppointment.setPatient(null);
-            // this approach forces the listeners to be notified.
-            internalList.set(indexToReplace, modifiedAppointment);
+        for (int i = 0; i < internalList.size(); i++) {
+            Appointment modifiedAppointment = internalList.get(i);
+            if (modifiedAppointment.getPatientId().patientId.equals(deleted)) {
+                modifiedAppointment.setPatient(null);
+                // this approach forces the listeners to be notified.
+                internalList.set(i, modifiedAppointment);
+            }
         }
     }
 
@@ -160,17 +149,13 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void setDoctorToNull(PersonId deleted) {
         requireAllNonNull(deleted);
-        FilteredList<Appointment> appointmentsToSet = internalList
-                .filtered(x -> x.getDoctorId().doctorId.equals(deleted));
-        Appointment modifiedAppointment;
-
-        int numberOfOccurrence = appointmentsToSet.size();
-        for (int i = 0; i < numberOfOccurrence; i++) {
-            modifiedAppointment = appointmentsToSet.get(i);
-            int indexToReplace = internalList.indexOf(modifiedAppointment);
-            modifiedAppointment.setDoctor(null);
-            // this approach forces the listeners to be notified.
-            internalList.set(indexToReplace, modifiedAppointment);
+        for (int i = 0; i < internalList.size(); i++) {
+            Appointment modifiedAppointment = internalList.get(i);
+            if (modifiedAppointment.getDoctorId().doctorId.equals(deleted)) {
+                modifiedAppointment.setDoctor(null);
+                // this approach forces the listeners to be notified.
+                internalList.set(i, modifiedAppointment);
+            }
         }
     }
 
@@ -202,11 +187,11 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      * Returns true if {@code appointments} contains only unique appointments.
      */
     private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
-                }
+        Set<Appointment> keys = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            // appointments are the same if they are equal, see Appointment#isSameAppointment(Appointment)
+            if (!keys.add(appointment)) {
+                return false;
             }
         }
         return true;
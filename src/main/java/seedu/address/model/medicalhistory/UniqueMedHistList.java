@@ -4,13 +4,13 @@ package seedu.address.model.medicalhistory;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.commons.core.observable.ObservableList;
 import seedu.address.model.medicalhistory.exceptions.DuplicateMedHistException;
 import seedu.address.model.medicalhistory.exceptions.MedHistNotFoundException;
 import seedu.address.model.person.PersonId;
@@ -31,9 +31,9 @@ import seedu.address.model.person.patient.Patient;
 
 public class UniqueMedHistList implements Iterable<MedicalHistory> {
 
-    private final ObservableList<MedicalHistory> internalList = FXCollections.observableArrayList();
+    private final ArrayObservableList<MedicalHistory> internalList = new ArrayObservableList<>();
     private final ObservableList<MedicalHistory> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            internalList.asUnmodifiableList();
 
     /**
      * Returns true if the list contains an equivalent medical history as the given argument.
@@ -43,14 +43,6 @@ public class UniqueMedHistList implements Iterable<MedicalHistory> {
         return internalList.stream().anyMatch(toCheck::isSameMedHist);
     }
 
-    /**
-     * Sort medical history list by date
-     */
-    public void sort(Comparator<MedicalHistory> medHistComparator) {
-        requireNonNull(medHistComparator);
-        FXCollections.sort(internalList, medHistComparator);
-    }
-
     /**
      * Adds a medical history to the list.
      * The medical history must not already exist in the list.
@@ -91,16 +83,13 @@ public class UniqueMedHistList implements Iterable<MedicalHistory> {
         requireAllNonNull(toEdit);
         requireAllNonNull(editedPatient);
 
-        FilteredList<MedicalHistory> medHistNeedToEdit = internalList.filtered(x -> x.getPatientId().equals(toEdit));
-        MedicalHistory modifiedMedHist;
-
-        int numberOfOccurrence = medHistNeedToEdit.size();
-        for (int i = 0; i < numberOfOccurrence; i++) {
-            modifiedMedHist = medHistNeedToEdit.get(i);
-            int indexToReplace = internalList.indexOf(modifiedMedHist);
-            modifiedMedHist.setPatient(editedPatient);
-            // this approach forces the listeners to be notified.
-            internalList.set(indexToReplace, modifiedMedHist);
+        for (int i = 0; i < internalList.size(); i++) {
+            MedicalHistory modifiedMedHist = internalList.get(i);
+            if (modifiedMedHist.getPatientId().equals(toEdit)) {
+                modifiedMedHist.setPatient(editedPatient);
+                // this approach forces the listeners to be notified.
+                internalList.set(i, modifiedMedHist);
+            }
         }
     }
 
@@ -111,16 +100,13 @@ public class UniqueMedHistList implements Iterable<MedicalHistory> {
         requireAllNonNull(toEdit);
         requireAllNonNull(editedDoctor);
 
-        FilteredList<MedicalHistory> medHistNeedToEdit = internalList.filtered(x -> x.getDoctorId().equals(toEdit));
-        MedicalHistory modifiedMedHist;
-
-        int numberOfOccurrence = medHistNeedToEdit.size();
-        for (int i = 0; i < numberOfOccurrence; i++) {
-            modifiedMedHist = medHistNeedToEdit.get(i);
-            int indexToReplace = internalList.indexOf(modifiedMedHist);
-            modifiedMedHist.setDoctor(editedDoctor);
-            // this approach forces the listeners to be notified.
-            internalList.set(indexToReplace, modifiedMedHist);
+        for (int i = 0; i < internalList.size(); i++) {
+            MedicalHistory modifiedMedHist = internalList.get(i);
+            if (modifiedMedHist.getDoctorId().equals(toEdit)) {
+                modifiedMedHist.setDoctor(editedDoctor);
+                // this approach forces the listeners to be notified.
+                internalList.set(i, modifiedMedHist);
+            }
         }
     }
 
@@ -130,16 +116,13 @@ public class UniqueMedHistList implements Iterable<MedicalHistory> {
     public void setPatientToNull(PersonId deleted) {
         requireAllNonNull(deleted);
 
-        FilteredList<MedicalHistory> medHistToSet = internalList.filtered(x -> x.getPatientId().equals(deleted));
-        MedicalHistory modifiedMedHist;
-
-        int numberOfOccurrence = medHistToSet.size();
-        for (int i = 0; i < numberOfOccurrence; i++) {
-            modifiedMedHist = medHistToSet.get(i);
-            int indexToReplace = internalList.indexOf(modifiedMedHist);
-            modifiedMedHist.setPatient(null);
-            // this approach forces the listeners to be notified.
-            internalList.set(indexToReplace, modifiedMedHist);
+        for (int i = 0; i < internalList.size(); i++) {
+            MedicalHistory modifiedMedHist = internalList.get(i);
+            if (modifiedMedHist.getPatientId().equals(deleted)) {
+                modifiedMedHist.setPatient(null);
+                // this approach forces the listeners to be notified.
+                internalList.set(i, modifiedMedHist);
+            }
         }
     }
 
@@ -148,16 +131,13 @@ public class UniqueMedHistList implements Iterable<MedicalHistory> {
      */
     public void setDoctorToNull(PersonId deleted) {
         requireAllNonNull(deleted);
-        FilteredList<MedicalHistory> medHistToSet = internalList.filtered(x -> x.getDoctorId().equals(deleted));
-        MedicalHistory modifiedMedHist;
-
-        int numberOfOccurrence = medHistToSet.size();
-        for (int i = 0; i < numberOfOccurrence; i++) {
-            modifiedMedHist = medHistToSet.get(i);
-            int indexToReplace = internalList.indexOf(modifiedMedHist);
-            modifiedMedHist.setDoctor(null);
-            // this approach forces the listeners to be notified.
-            internalList.set(indexToReplace, modifiedMedHist);
+        for (int i = 0; i < internalList.size(); i++) {
+            MedicalHistory modifiedMedHist = internalList.get(i);
+            if (modifiedMedHist.getDoctorId().equals(deleted)) {
+                modifiedMedHist.setDoctor(null);
+                // this approach forces the listeners to be notified.
+                internalList.set(i, modifiedMedHist);
+            }
         }
     }
 
@@ -218,11 +198,11 @@ public class UniqueMedHistList implements Iterable<MedicalHistory> {
      * Returns true if {@code medHists} contains only unique medHists.
      */
     private boolean medHistsAreUnique(List<MedicalHistory> medHists) {
-        for (int i = 0; i < medHists.size() - 1; i++) {
-            for (int j = i + 1; j < medHists.size(); j++) {
-                if (medHists.get(i).isSameMedHist(medHists.get(j))) {
-                    return false;
-                }
+        Set<MedHistId> keys = new HashSet<>();
+        for (MedicalHistory medHist : medHists) {
+            // medical histories are the same if they have the same id, see MedicalHistory#isSameMedHist(MedicalHistory)
+            if (!keys.add(medHist.getMedHistId())) {
+                return false;
             }
         }
         return true;
@@ -3,15 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 //import javax.print.Doc;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.commons.core.observable.ObservableList;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.exceptions.DuplicateDoctorException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -31,9 +32,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniqueDoctorList implements Iterable<Doctor> {
 
-    private final ObservableList<Doctor> internalList = FXCollections.observableArrayList();
+    private final ArrayObservableList<Doctor> internalList = new ArrayObservableList<>();
     private final ObservableList<Doctor> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            internalList.asUnmodifiableList();
 
     /**
      * Returns true if the list contains an equivalent doctor as the given argument.
@@ -50,11 +51,7 @@ public class UniqueDoctorList implements Iterable<Doctor> {
     public Doctor findDoctorById(PersonId idToCheck) {
         requireNonNull(idToCheck);
         Predicate<Doctor> predicate = new RecordContainsDoctorIdPredicate(idToCheck);
-        FilteredList<Doctor> doctorWithId = internalList.filtered(predicate);
-        if (doctorWithId.isEmpty()) {
-            return null;
-        }
-        return doctorWithId.get(0);
+        return internalList.stream().filter(predicate).findFirst().orElse(null);
     }
     //@@author siyingpoof
     /**
@@ -146,11 +143,11 @@ public class UniqueDoctorList implements Iterable<Doctor> {
      * Returns true if {@code doctors} contains only unique doctors.
      */
     private boolean doctorsAreUnique(List<Doctor> doctors) {
-        for (int i = 0; i < doctors.size() - 1; i++) {
-            for (int j = i + 1; j < doctors.size(); j++) {
-                if (doctors.get(i).isSameDoctor(doctors.get(j))) {
-                    return false;
-                }
+        Set<Phone> keys = new HashSet<>();
+        for (Doctor doctor : doctors) {
+            // doctors are the same if they have the same phone, see Doctor#isSameDoctor(Doctor)
+            if (!keys.add(doctor.getPhone())) {
+                return false;
             }
         }
         return true;
@@ -4,13 +4,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.commons.core.observable.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePatientException;
 import seedu.address.model.person.exceptions.PatientNotFoundException;
 import seedu.address.model.person.patient.Patient;
@@ -22,9 +23,9 @@ import seedu.address.model.person.patient.Patient;
  */
 public class UniquePatientList implements Iterable<Patient> {
 
-    private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
+    private final ArrayObservableList<Patient> internalList = new ArrayObservableList<>();
     private final ObservableList<Patient> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            internalList.asUnmodifiableList();
 
     /**
      * Returns true if the list contains an equivalent patient as the given argument.
@@ -40,11 +41,7 @@ public class UniquePatientList implements Iterable<Patient> {
     public Patient findPatientById(PersonId idToCheck) {
         requireNonNull(idToCheck);
         Predicate<Patient> predicate = new RecordContainsPatientIdPredicate(idToCheck);
-        FilteredList<Patient> patientWithId = internalList.filtered(predicate);
-        if (patientWithId.isEmpty()) {
-            return null;
-        }
-        return patientWithId.get(0);
+        return internalList.stream().filter(predicate).findFirst().orElse(null);
     }
     /* @@author wayneswq */
     /**
@@ -136,11 +133,11 @@ public class UniquePatientList implements Iterable<Patient> {
      * Returns true if {@code patients} contains only unique patients.
      */
     private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePatient(patients.get(j))) {
-                    return false;
-                }
+        Set<Phone> keys = new HashSet<>();
+        for (Patient patient : patients) {
+            // patients are the same if they have the same phone, see Patient#isSamePatient(Patient)
+            if (!keys.add(patient.getPhone())) {
+                return false;
             }
         }
         return true;
@@ -3,13 +3,14 @@ package seedu.address.model.prescription;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.commons.core.observable.ObservableList;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.prescription.exceptions.DuplicatePrescriptionException;
 import seedu.address.model.prescription.exceptions.PrescriptionNotFoundException;
@@ -19,9 +20,9 @@ import seedu.address.model.prescription.exceptions.PrescriptionNotFoundException
  * Currently add and remove operations are supported.
  */
 public class UniquePrescriptionList implements Iterable<Prescription> {
-    private final ObservableList<Prescription> internalList = FXCollections.observableArrayList();
+    private final ArrayObservableList<Prescription> internalList = new ArrayObservableList<>();
     private final ObservableList<Prescription> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            internalList.asUnmodifiableList();
 
 
     /**
@@ -44,14 +45,6 @@ public class UniquePrescriptionList implements Iterable<Prescription> {
         return internalList.stream().anyMatch(other::equals);
     }
 
-    /**
-     * Sort prescription list by date
-     */
-    public void sort(Comparator<Prescription> prescriptionComparator) {
-        requireNonNull(prescriptionComparator);
-        FXCollections.sort(internalList, prescriptionComparator);
-    }
-
     /**
      * Remove the specified prescription from the list.
      * If the input prescription does not exist in the list, an exception is thrown.
@@ -100,17 +93,19 @@ public class UniquePrescriptionList implements Iterable<Prescription> {
 
     public void setDoctorToNull(PersonId deleted) {
         requireAllNonNull(deleted);
-        FilteredList<Prescription> setToNull = internalList.filtered(x -> x.getDoctorId().equals(deleted));
-        for (int index = 0; index < setToNull.size(); index++) {
-            setToNull.get(index).setDoctor(null);
+        for (Prescription prescription : internalList) {
+            if (prescription.getDoctorId().equals(deleted)) {
+                prescription.setDoctor(null);
+            }
         }
     }
 
     public void setPatientToNull(PersonId deleted) {
         requireAllNonNull(deleted);
-        FilteredList<Prescription> setToNull = internalList.filtered(x -> x.getPatientId().equals(deleted));
-        for (int index = 0; index < setToNull.size(); index++) {
-            setToNull.get(index).setPatient(null);
+        for (Prescription prescription : internalList) {
+            if (prescription.getPatientId().equals(deleted)) {
+                prescription.setPatient(null);
+            }
         }
     }
 
@@ -142,11 +137,12 @@ public class UniquePrescriptionList implements Iterable<Prescription> {
      * Returns true if {@code medHists} contains only unique medHists.
      */
     private boolean prescriptionsAreUnique(List<Prescription> prescriptions) {
-        for (int i = 0; i < prescriptions.size() - 1; i++) {
-            for (int j = i + 1; j < prescriptions.size(); j++) {
-                if (prescriptions.get(i).isSamePrescription(prescriptions.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> keys = new HashSet<>();
+        for (Prescription prescription : prescriptions) {
+            // prescriptions are the same if these fields are equal, see Prescription#isSamePrescription(Prescription)
+            if (!keys.add(Arrays.asList(prescription.getMedicine().getName(), prescription.getDoctorId(),
+                    prescription.getDate(), prescription.getPatientId(), prescription.getDescription()))) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,58 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A way of fetching the candidate rows for a query from an index, without scanning the whole list.
+ * The candidates may include rows that do not match the query; they are filtered afterwards.
+ */
+public class AccessPath<T> {
+
+    private final String description;
+    private final IntSupplier rowCountEstimator;
+    private final Supplier<Collection<T>> rowFetcher;
+    private int estimatedRowCount = -1;
+
+    /**
+     * Creates an access path that estimates its row count with {@code rowCountEstimator}
+     * and fetches its rows with {@code rowFetcher}.
+     */
+    public AccessPath(String description, IntSupplier rowCountEstimator, Supplier<Collection<T>> rowFetcher) {
+        requireNonNull(description);
+        requireNonNull(rowCountEstimator);
+        requireNonNull(rowFetcher);
+        this.description = description;
+        this.rowCountEstimator = rowCountEstimator;
+        this.rowFetcher = rowFetcher;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the number of rows this access path is expected to fetch.
+     */
+    public int getEstimatedRowCount() {
+        if (estimatedRowCount == -1) {
+            estimatedRowCount = rowCountEstimator.getAsInt();
+        }
+        return estimatedRowCount;
+    }
+
+    /**
+     * Fetches the candidate rows.
+     */
+    public Collection<T> fetchRows() {
+        return rowFetcher.get();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
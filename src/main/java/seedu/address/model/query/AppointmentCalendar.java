@@ -0,0 +1,150 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.commons.core.observable.AbstractObservableList;
+import seedu.address.commons.core.observable.ListChange;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarWindow;
+
+/**
+ * An unmodifiable {@link ObservableList} of a doctor's appointments on the days of a {@link CalendarWindow},
+ * ordered by date and time.
+ * Only the appointments in the window are ever held: showing a window looks its appointments up in an index by
+ * doctor and date, and later changes to the appointments are applied one appointment at a time, so the cost of
+ * keeping the list up to date does not grow with the number of appointments.
+ */
+public class AppointmentCalendar extends AbstractObservableList<Appointment> {
+
+    private static final Comparator<Appointment> DATE_TIME_ORDER =
+            Comparator.comparing((Appointment appointment) -> appointment.getDate().date)
+                    .thenComparing(appointment -> appointment.getTime().time);
+
+    private final ObservableList<Appointment> source;
+    private final Supplier<ListIndex<DoctorDate, Appointment>> index;
+    private final List<Appointment> appointments = new ArrayList<>();
+    private CalendarWindow window;
+
+    /**
+     * Creates an empty calendar of the appointments in {@code source}, which are looked up in the index given by
+     * {@code index} when a window is shown.
+     */
+    public AppointmentCalendar(ObservableList<Appointment> source,
+            Supplier<ListIndex<DoctorDate, Appointment>> index) {
+        requireNonNull(source);
+        requireNonNull(index);
+        this.source = source;
+        this.index = index;
+        source.addListener(this::onSourceChanged);
+    }
+
+    @Override
+    public Appointment get(int index) {
+        return appointments.get(index);
+    }
+
+    @Override
+    public int size() {
+        return appointments.size();
+    }
+
+    /**
+     * Returns the window shown, or null if no window is shown.
+     */
+    public CalendarWindow getWindow() {
+        return window;
+    }
+
+    /**
+     * Shows the appointments in {@code window}, or no appointments if {@code window} is null.
+     */
+    public void setWindow(CalendarWindow window) {
+        this.window = window;
+        List<Appointment> shown = new ArrayList<>();
+        if (window != null) {
+            shown.addAll(index.get().lookupRange(new DoctorDate(window.getDoctorId(), window.getStartDate()),
+                    new DoctorDate(window.getDoctorId(), window.getEndDate())).fetchRows());
+        }
+        replaceAll(shown);
+    }
+
+    /**
+     * Applies the appointments that were replaced in the source list by {@code change} to the window shown.
+     */
+    private void onSourceChanged(ListChange<? extends Appointment> change) {
+        if (window == null) {
+            return;
+        }
+        if (change.getAddedSize() == source.size()) {
+            // every appointment is new, e.g. when the whole list was replaced, and the index may not be updated yet
+            List<Appointment> shown = new ArrayList<>();
+            for (Appointment appointment : source) {
+                if (window.contains(appointment)) {
+                    shown.add(appointment);
+                }
+            }
+            replaceAll(shown);
+            return;
+        }
+
+        for (Appointment removed : change.getRemoved()) {
+            if (window.contains(removed)) {
+                removeShown(removed);
+            }
+        }
+        for (Appointment added : change.getAddedSubList()) {
+            if (window.contains(added)) {
+                insertShown(added);
+            }
+        }
+    }
+
+    /**
+     * Replaces the appointments shown with {@code shown}, in order of date and time.
+     */
+    private void replaceAll(List<Appointment> shown) {
+        shown.sort(DATE_TIME_ORDER);
+        List<Appointment> removed = new ArrayList<>(appointments);
+        appointments.clear();
+        appointments.addAll(shown);
+        fireChange(0, removed, new ArrayList<>(shown));
+    }
+
+    /**
+     * Inserts {@code appointment} after the appointments that are not later than it.
+     */
+    private void insertShown(Appointment appointment) {
+        int low = 0;
+        int high = appointments.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (DATE_TIME_ORDER.compare(appointments.get(mid), appointment) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        appointments.add(low, appointment);
+        fireChange(low, Collections.emptyList(), Collections.singletonList(appointment));
+    }
+
+    /**
+     * Removes {@code appointment}, comparing by identity.
+     */
+    private void removeShown(Appointment appointment) {
+        for (int i = 0; i < appointments.size(); i++) {
+            if (appointments.get(i) == appointment) {
+                appointments.remove(i);
+                fireChange(i, Collections.singletonList(appointment), Collections.emptyList());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.observable.ListChange;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDoctorId;
+import seedu.address.model.appointment.AppointmentPatientId;
+import seedu.address.model.appointment.AppointmentStatus;
+import seedu.address.model.medicalhistory.MedicalHistory;
+
+/**
+ * The operational statistics of the clinic, maintained as counters over the appointments and medical histories.
+ * The counters are kept up to date from the changes of the lists, so every added or removed record updates a
+ * constant number of counters and a summary never scans the lists.
+ */
+public class ClinicStatistics {
+
+    private final ObservableList<Appointment> appointments;
+    private final ObservableList<MedicalHistory> medHists;
+
+    /** The number of appointments of every status, by date. */
+    private final Map<LocalDate, Map<AppointmentStatus, Integer>> appointmentsByDate = new HashMap<>();
+    /** The number of appointments that are not cancelled of every doctor, by the Monday of their week. */
+    private final Map<LocalDate, Map<AppointmentDoctorId, Integer>> doctorLoadByWeek = new HashMap<>();
+    /** The number of active appointments of every patient with any. */
+    private final Map<AppointmentPatientId, Integer> activeAppointmentsByPatient = new HashMap<>();
+    /** The number of medical histories, by month. */
+    private final Map<YearMonth, Integer> medHistsByMonth = new HashMap<>();
+
+    /**
+     * Creates statistics over {@code appointments} and {@code medHists}, which are kept up to date as they change.
+     */
+    public ClinicStatistics(ObservableList<Appointment> appointments, ObservableList<MedicalHistory> medHists) {
+        requireNonNull(appointments);
+        requireNonNull(medHists);
+        this.appointments = appointments;
+        this.medHists = medHists;
+        rebuildAppointments();
+        rebuildMedHists();
+        appointments.addListener(this::onAppointmentsChanged);
+        medHists.addListener(this::onMedHistsChanged);
+    }
+
+    /**
+     * Returns the statistics of the clinic on {@code today}.
+     */
+    public ClinicSummary getSummary(LocalDate today) {
+        requireNonNull(today);
+        Map<AppointmentStatus, Integer> appointmentsToday = new EnumMap<>(AppointmentStatus.class);
+        Map<AppointmentStatus, Integer> counts = appointmentsByDate.getOrDefault(today, new HashMap<>());
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            appointmentsToday.put(status, counts.getOrDefault(status, 0));
+        }
+
+        List<Map.Entry<AppointmentDoctorId, Integer>> doctorLoad = new ArrayList<>(
+                doctorLoadByWeek.getOrDefault(getWeek(today), new HashMap<>()).entrySet());
+        doctorLoad.sort(Comparator.comparingInt(entry -> entry.getKey().personId));
+        Map<AppointmentDoctorId, Integer> doctorLoadThisWeek = new LinkedHashMap<>();
+        doctorLoad.forEach(entry -> doctorLoadThisWeek.put(entry.getKey(), entry.getValue()));
+
+        return new ClinicSummary(today, appointmentsToday, doctorLoadThisWeek, activeAppointmentsByPatient.size(),
+                medHistsByMonth.getOrDefault(YearMonth.from(today), 0));
+    }
+
+    /**
+     * Returns the Monday of the week that contains {@code date}.
+     */
+    private static LocalDate getWeek(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    /**
+     * Updates the counters for the appointments that were replaced by {@code change}.
+     */
+    private void onAppointmentsChanged(ListChange<? extends Appointment> change) {
+        if (change.getAddedSize() == appointments.size()) {
+            // every appointment is new, e.g. when the whole list was replaced
+            rebuildAppointments();
+            return;
+        }
+        change.getRemoved().forEach(appointment -> countAppointment(appointment, -1));
+        change.getAddedSubList().forEach(appointment -> countAppointment(appointment, 1));
+    }
+
+    /**
+     * Updates the counters for the medical histories that were replaced by {@code change}.
+     */
+    private void onMedHistsChanged(ListChange<? extends MedicalHistory> change) {
+        if (change.getAddedSize() == medHists.size()) {
+            // every medical history is new, e.g. when the whole list was replaced
+            rebuildMedHists();
+            return;
+        }
+        change.getRemoved().forEach(medHist -> countMedHist(medHist, -1));
+        change.getAddedSubList().forEach(medHist -> countMedHist(medHist, 1));
+    }
+
+    /**
+     * Recounts the appointments from scratch.
+     */
+    private void rebuildAppointments() {
+        appointmentsByDate.clear();
+        doctorLoadByWeek.clear();
+        activeAppointmentsByPatient.clear();
+        appointments.forEach(appointment -> countAppointment(appointment, 1));
+    }
+
+    /**
+     * Recounts the medical histories from scratch.
+     */
+    private void rebuildMedHists() {
+        medHistsByMonth.clear();
+        medHists.forEach(medHist -> countMedHist(medHist, 1));
+    }
+
+    /**
+     * Adds {@code delta} to the counters that {@code appointment} is counted in.
+     */
+    private void countAppointment(Appointment appointment, int delta) {
+        LocalDate date = appointment.getDate().date;
+        AppointmentStatus status = appointment.getAppointmentStatus();
+        addToCount(appointmentsByDate.computeIfAbsent(date, key -> new EnumMap<>(AppointmentStatus.class)),
+                status, delta);
+        if (appointmentsByDate.get(date).isEmpty()) {
+            appointmentsByDate.remove(date);
+        }
+
+        if (status != AppointmentStatus.CANCELLED) {
+            LocalDate week = getWeek(date);
+            addToCount(doctorLoadByWeek.computeIfAbsent(week, key -> new HashMap<>()), appointment.getDoctorId(),
+                    delta);
+            if (doctorLoadByWeek.get(week).isEmpty()) {
+                doctorLoadByWeek.remove(week);
+            }
+        }
+
+        if (status == AppointmentStatus.ACTIVE) {
+            addToCount(activeAppointmentsByPatient, appointment.getPatientId(), delta);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the counter that {@code medHist} is counted in.
+     */
+    private void countMedHist(MedicalHistory medHist, int delta) {
+        addToCount(medHistsByMonth, YearMonth.from(medHist.getDate().date), delta);
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code key} in {@code counts}, leaving out keys whose count drops to zero.
+     */
+    private static <K> void addToCount(Map<K, Integer> counts, K key, int delta) {
+        int count = counts.getOrDefault(key, 0) + delta;
+        if (count == 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, count);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.model.appointment.AppointmentDoctorId;
+import seedu.address.model.appointment.AppointmentStatus;
+
+/**
+ * The operational statistics of the clinic on a day, as maintained by {@link ClinicStatistics}.
+ * Guarantees: immutable.
+ */
+public class ClinicSummary {
+
+    private final LocalDate date;
+    private final Map<AppointmentStatus, Integer> appointmentsToday;
+    private final Map<AppointmentDoctorId, Integer> doctorLoadThisWeek;
+    private final int patientsWithActiveAppointments;
+    private final int medHistsThisMonth;
+
+    /**
+     * Creates a summary of the clinic on {@code date}.
+     *
+     * @param appointmentsToday the number of appointments on {@code date} of every status.
+     * @param doctorLoadThisWeek the number of appointments that are not cancelled of every doctor with any in the
+     *                           week of {@code date}, in the order they should be shown.
+     */
+    public ClinicSummary(LocalDate date, Map<AppointmentStatus, Integer> appointmentsToday,
+            Map<AppointmentDoctorId, Integer> doctorLoadThisWeek, int patientsWithActiveAppointments,
+            int medHistsThisMonth) {
+        requireAllNonNull(date, appointmentsToday, doctorLoadThisWeek);
+        this.date = date;
+        this.appointmentsToday = Collections.unmodifiableMap(new EnumMap<>(appointmentsToday));
+        this.doctorLoadThisWeek = Collections.unmodifiableMap(new LinkedHashMap<>(doctorLoadThisWeek));
+        this.patientsWithActiveAppointments = patientsWithActiveAppointments;
+        this.medHistsThisMonth = medHistsThisMonth;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the number of appointments today with the given {@code status}.
+     */
+    public int getAppointmentsToday(AppointmentStatus status) {
+        return appointmentsToday.getOrDefault(status, 0);
+    }
+
+    /**
+     * Returns the number of appointments this week that are not cancelled, by doctor.
+     * Doctors without any are left out.
+     */
+    public Map<AppointmentDoctorId, Integer> getDoctorLoadThisWeek() {
+        return doctorLoadThisWeek;
+    }
+
+    public int getPatientsWithActiveAppointments() {
+        return patientsWithActiveAppointments;
+    }
+
+    public int getMedHistsThisMonth() {
+        return medHistsThisMonth;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ClinicSummary)) {
+            return false;
+        }
+
+        ClinicSummary otherSummary = (ClinicSummary) other;
+        return date.equals(otherSummary.date)
+                && appointmentsToday.equals(otherSummary.appointmentsToday)
+                && doctorLoadThisWeek.equals(otherSummary.doctorLoadThisWeek)
+                && patientsWithActiveAppointments == otherSummary.patientsWithActiveAppointments
+                && medHistsThisMonth == otherSummary.medHistsThisMonth;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, appointmentsToday, doctorLoadThisWeek, patientsWithActiveAppointments,
+                medHistsThisMonth);
+    }
+
+    @Override
+    public String toString() {
+        String today = appointmentsToday.entrySet().stream()
+                .map(entry -> entry.getValue() + " " + entry.getKey())
+                .collect(Collectors.joining(", "));
+        String doctorLoad = doctorLoadThisWeek.isEmpty()
+                ? "none"
+                : doctorLoadThisWeek.entrySet().stream()
+                        .map(entry -> "doctor " + entry.getKey() + ": " + entry.getValue())
+                        .collect(Collectors.joining(", "));
+        return "Clinic statistics on " + date + "\n"
+                + "Appointments today: " + today + "\n"
+                + "Appointments this week by doctor: " + doctorLoad + "\n"
+                + "Patients with active appointments: " + patientsWithActiveAppointments + "\n"
+                + "Medical histories this month: " + medHistsThisMonth;
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+import seedu.address.model.ReadOnlyDocX;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDoctorId;
+import seedu.address.model.appointment.AppointmentPatientId;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.person.PersonId;
+
+/**
+ * The indexes over the appointments and medical histories of a DocX that queries can use.
+ * The indexes are built on first use, or earlier by {@link #build()} or {@link #prebuild(ReadOnlyDocX)}, and are
+ * kept up to date as the DocX changes.
+ */
+public class DocXIndexes {
+
+    private final ReadOnlyDocX docX;
+    private ListIndex<AppointmentPatientId, Appointment> appointmentsByPatient;
+    private ListIndex<AppointmentDoctorId, Appointment> appointmentsByDoctor;
+    private ListIndex<LocalDate, Appointment> appointmentsByDate;
+    private ListIndex<DoctorDate, Appointment> appointmentsByDoctorAndDate;
+    private ListIndex<PersonId, MedicalHistory> medHistsByPatient;
+    private ListIndex<PersonId, MedicalHistory> medHistsByDoctor;
+    private ListIndex<LocalDate, MedicalHistory> medHistsByDate;
+    private volatile boolean isBuilt = false;
+
+    /**
+     * Creates indexes over the appointments and medical histories of {@code docX}, without building them yet.
+     */
+    public DocXIndexes(ReadOnlyDocX docX) {
+        requireNonNull(docX);
+        this.docX = docX;
+    }
+
+    public boolean isBuilt() {
+        return isBuilt;
+    }
+
+    /**
+     * Builds the indexes from the current contents of the DocX, if they have not been built.
+     * The DocX must not be modified while the indexes are being built.
+     */
+    public synchronized void build() {
+        if (isBuilt) {
+            return;
+        }
+        fill(docX);
+        attach();
+    }
+
+    /**
+     * Returns indexes over the DocX built from {@code contents}, e.g. a snapshot of the DocX, without reading the
+     * DocX itself, so that they can be built while the DocX is being modified.
+     * The returned indexes are only used once they are installed by {@link #install(DocXIndexes)}.
+     */
+    public DocXIndexes prebuild(ReadOnlyDocX contents) {
+        requireNonNull(contents);
+        DocXIndexes prebuilt = new DocXIndexes(docX);
+        prebuilt.fill(contents);
+        return prebuilt;
+    }
+
+    /**
+     * Uses the indexes in {@code prebuilt} from now on, unless the indexes have already been built.
+     * The DocX must hold the same elements as the contents the indexes were prebuilt from, and must not be modified
+     * while this runs.
+     */
+    public synchronized void install(DocXIndexes prebuilt) {
+        requireNonNull(prebuilt);
+        if (isBuilt) {
+            return;
+        }
+        appointmentsByPatient = prebuilt.appointmentsByPatient;
+        appointmentsByDoctor = prebuilt.appointmentsByDoctor;
+        appointmentsByDate = prebuilt.appointmentsByDate;
+        appointmentsByDoctorAndDate = prebuilt.appointmentsByDoctorAndDate;
+        medHistsByPatient = prebuilt.medHistsByPatient;
+        medHistsByDoctor = prebuilt.medHistsByDoctor;
+        medHistsByDate = prebuilt.medHistsByDate;
+        attach();
+    }
+
+    /**
+     * Creates the indexes over the DocX, filling them from the elements in {@code contents}.
+     */
+    private void fill(ReadOnlyDocX contents) {
+        appointmentsByPatient = ListIndex.hashed("patient ID", docX.getAppointmentList(), Appointment::getPatientId,
+            contents.getAppointmentList());
+        appointmentsByDoctor = ListIndex.hashed("doctor ID", docX.getAppointmentList(), Appointment::getDoctorId,
+            contents.getAppointmentList());
+        appointmentsByDate = ListIndex.sorted("date", docX.getAppointmentList(),
+            appointment -> appointment.getDate().date, contents.getAppointmentList());
+        appointmentsByDoctorAndDate = ListIndex.sorted("doctor ID and date", docX.getAppointmentList(),
+            appointment -> new DoctorDate(appointment.getDoctorId(), appointment.getDate().date),
+            contents.getAppointmentList());
+        medHistsByPatient = ListIndex.hashed("patient ID", docX.getMedHistList(), MedicalHistory::getPatientId,
+            contents.getMedHistList());
+        medHistsByDoctor = ListIndex.hashed("doctor ID", docX.getMedHistList(), MedicalHistory::getDoctorId,
+            contents.getMedHistList());
+        medHistsByDate = ListIndex.sorted("date", docX.getMedHistList(), medHist -> medHist.getDate().date,
+            contents.getMedHistList());
+    }
+
+    /**
+     * Keeps the indexes up to date with the changes to the DocX from now on, and marks them as built.
+     */
+    private void attach() {
+        appointmentsByPatient.attach();
+        appointmentsByDoctor.attach();
+        appointmentsByDate.attach();
+        appointmentsByDoctorAndDate.attach();
+        medHistsByPatient.attach();
+        medHistsByDoctor.attach();
+        medHistsByDate.attach();
+        isBuilt = true;
+    }
+
+    private void ensureBuilt() {
+        if (!isBuilt) {
+            build();
+        }
+    }
+
+    public ListIndex<AppointmentPatientId, Appointment> getAppointmentsByPatient() {
+        ensureBuilt();
+        return appointmentsByPatient;
+    }
+
+    public ListIndex<AppointmentDoctorId, Appointment> getAppointmentsByDoctor() {
+        ensureBuilt();
+        return appointmentsByDoctor;
+    }
+
+    public ListIndex<LocalDate, Appointment> getAppointmentsByDate() {
+        ensureBuilt();
+        return appointmentsByDate;
+    }
+
+    public ListIndex<DoctorDate, Appointment> getAppointmentsByDoctorAndDate() {
+        ensureBuilt();
+        return appointmentsByDoctorAndDate;
+    }
+
+    public ListIndex<PersonId, MedicalHistory> getMedHistsByPatient() {
+        ensureBuilt();
+        return medHistsByPatient;
+    }
+
+    public ListIndex<PersonId, MedicalHistory> getMedHistsByDoctor() {
+        ensureBuilt();
+        return medHistsByDoctor;
+    }
+
+    public ListIndex<LocalDate, MedicalHistory> getMedHistsByDate() {
+        ensureBuilt();
+        return medHistsByDate;
+    }
+}
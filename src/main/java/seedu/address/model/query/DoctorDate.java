@@ -0,0 +1,48 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * A doctor's ID together with a date, which orders a doctor's records by date.
+ * Records are ordered by doctor first, so the records of one doctor on a range of dates lie together in a
+ * sorted index.
+ */
+public class DoctorDate implements Comparable<DoctorDate> {
+
+    private final PersonId doctorId;
+    private final LocalDate date;
+
+    public DoctorDate(PersonId doctorId, LocalDate date) {
+        this.doctorId = requireNonNull(doctorId);
+        this.date = requireNonNull(date);
+    }
+
+    @Override
+    public int compareTo(DoctorDate other) {
+        int result = Integer.compare(doctorId.personId, other.doctorId.personId);
+        return result != 0 ? result : date.compareTo(other.date);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DoctorDate // instanceof handles nulls
+                && doctorId.personId == ((DoctorDate) other).doctorId.personId
+                && date.equals(((DoctorDate) other).date)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(doctorId.personId, date);
+    }
+
+    @Override
+    public String toString() {
+        return doctorId + " on " + date;
+    }
+}
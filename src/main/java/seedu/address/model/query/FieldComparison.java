@@ -0,0 +1,136 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An expression that compares a field of a row with a value, e.g. {@code patient.age >= 60}.
+ * If the field has several values for a row, the comparison is true if it holds for any of them,
+ * except for {@code !=}, which is true if none of them is equal to the value.
+ */
+public class FieldComparison extends QueryExpression {
+
+    private final QueryField field;
+    private final Operator operator;
+    private final Object value;
+
+    /**
+     * Creates a comparison of {@code field} with {@code value}, which must have been parsed by the type of
+     * {@code field}.
+     */
+    public FieldComparison(QueryField field, Operator operator, Object value) {
+        requireNonNull(field);
+        requireNonNull(operator);
+        requireNonNull(value);
+        this.field = field;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    @Override
+    public boolean test(Object[] rows) {
+        List<Object> fieldValues = field.getValues(rows[field.getEntity().ordinal()]);
+        if (operator == Operator.NOT_EQUAL) {
+            return fieldValues.stream().noneMatch(fieldValue -> Operator.EQUAL.test(fieldValue, value));
+        }
+        return fieldValues.stream().anyMatch(fieldValue -> operator.test(fieldValue, value));
+    }
+
+    @Override
+    public Set<QueryEntity> getEntities() {
+        return EnumSet.of(field.getEntity());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FieldComparison // instanceof handles nulls
+                && field == ((FieldComparison) other).field
+                && operator == ((FieldComparison) other).operator
+                && value.equals(((FieldComparison) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() ^ operator.hashCode() ^ value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field + " " + operator + " " + value;
+    }
+
+    /**
+     * The ways a field can be compared with a value.
+     */
+    public enum Operator {
+        EQUAL("="), NOT_EQUAL("!="), LESS("<"), LESS_OR_EQUAL("<="), GREATER(">"), GREATER_OR_EQUAL(">="),
+        CONTAINS("~");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns the operator written as {@code symbol}, or null if there is none.
+         */
+        public static Operator fromSymbol(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol)) {
+                    return operator;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns true if this operator can compare values of {@code type}.
+         */
+        public boolean isApplicableTo(QueryField.Type type) {
+            switch (this) {
+            case EQUAL:
+            case NOT_EQUAL:
+                return true;
+            case CONTAINS:
+                return type == QueryField.Type.TEXT;
+            default:
+                return type.isOrdered();
+            }
+        }
+
+        /**
+         * Returns true if {@code fieldValue} and {@code value}, which are of the same type, satisfy this operator.
+         */
+        @SuppressWarnings("unchecked")
+        boolean test(Object fieldValue, Object value) {
+            if (this == CONTAINS) {
+                return ((String) fieldValue).contains((String) value);
+            }
+            int comparison = ((Comparable<Object>) fieldValue).compareTo(value);
+            switch (this) {
+            case EQUAL:
+                return comparison == 0;
+            case NOT_EQUAL:
+                return comparison != 0;
+            case LESS:
+                return comparison < 0;
+            case LESS_OR_EQUAL:
+                return comparison <= 0;
+            case GREATER:
+                return comparison > 0;
+            default:
+                return comparison >= 0;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return symbol;
+        }
+    }
+}
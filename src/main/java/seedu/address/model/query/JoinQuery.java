@@ -0,0 +1,284 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.ReadOnlyDocX;
+
+/**
+ * A query for the rows of one entity that are related to rows of other entities satisfying a condition,
+ * e.g. the patients with an active appointment with a cardiology doctor.
+ * <p>
+ * The query joins every entity its condition mentions on the patient and doctor IDs they share. A patient and a
+ * doctor share no ID, so if both are mentioned without a record relating them, they are related through their
+ * appointments. Parts of the condition that only mention one entity filter that entity's rows before the join.
+ * The join starts from the entity with the fewest remaining rows and adds the other entities one at a time with
+ * hash joins, each time adding the entity with the fewest remaining rows that shares an ID with those joined so far.
+ */
+public class JoinQuery {
+
+    private final QueryEntity target;
+    private final QueryExpression condition;
+
+    /**
+     * Creates a query for all rows of {@code target}.
+     */
+    public JoinQuery(QueryEntity target) {
+        requireNonNull(target);
+        this.target = target;
+        this.condition = null;
+    }
+
+    /**
+     * Creates a query for the rows of {@code target} that are related to rows satisfying {@code condition}.
+     */
+    public JoinQuery(QueryEntity target, QueryExpression condition) {
+        requireNonNull(target);
+        requireNonNull(condition);
+        this.target = target;
+        this.condition = condition;
+    }
+
+    public QueryEntity getTarget() {
+        return target;
+    }
+
+    public Optional<QueryExpression> getCondition() {
+        return Optional.ofNullable(condition);
+    }
+
+    /**
+     * Returns the entities this query joins.
+     */
+    public Set<QueryEntity> getJoinedEntities() {
+        Set<QueryEntity> entities = EnumSet.of(target);
+        getCondition().ifPresent(presentCondition -> entities.addAll(presentCondition.getEntities()));
+        if (entities.contains(QueryEntity.PATIENT) && entities.contains(QueryEntity.DOCTOR)
+                && entities.stream().noneMatch(QueryEntity::isRecord)) {
+            entities.add(QueryEntity.APPOINTMENT);
+        }
+        return entities;
+    }
+
+    /**
+     * Runs this query against {@code docX}.
+     */
+    public JoinResult execute(ReadOnlyDocX docX) {
+        requireNonNull(docX);
+        List<String> steps = new ArrayList<>();
+        List<QueryExpression> conjuncts = getCondition().map(QueryExpression::getConjuncts)
+                .orElse(Collections.emptyList());
+
+        Map<QueryEntity, List<Object>> filteredRows = new EnumMap<>(QueryEntity.class);
+        for (QueryEntity entity : getJoinedEntities()) {
+            filteredRows.put(entity, filterRows(docX, entity, conjuncts, steps));
+        }
+        List<QueryExpression> residualConjuncts = conjuncts.stream()
+                .filter(conjunct -> conjunct.getEntities().size() > 1)
+                .collect(Collectors.toList());
+
+        List<Object[]> tuples = join(filteredRows, steps);
+
+        if (!residualConjuncts.isEmpty()) {
+            QueryExpression residual = QueryExpression.and(residualConjuncts.toArray(new QueryExpression[0]));
+            tuples = tuples.stream().filter(residual::test).collect(Collectors.toList());
+            steps.add(String.format("filter joined rows by %1$s: %2$d rows", residual, tuples.size()));
+        }
+        return new JoinResult(target, filteredRows.keySet(), tuples, steps);
+    }
+
+    /**
+     * Returns the rows of {@code entity} that satisfy every conjunct that only mentions {@code entity}.
+     */
+    private static List<Object> filterRows(ReadOnlyDocX docX, QueryEntity entity, List<QueryExpression> conjuncts,
+            List<String> steps) {
+        List<?> rows = entity.getRows(docX);
+        List<QueryExpression> filters = conjuncts.stream()
+                .filter(conjunct -> conjunct.getEntities().equals(EnumSet.of(entity)))
+                .collect(Collectors.toList());
+        if (filters.isEmpty()) {
+            steps.add(String.format("scan %1$s: %2$d rows", entity.getPluralName(), rows.size()));
+            return new ArrayList<>(rows);
+        }
+
+        Object[] tuple = new Object[QueryEntity.values().length];
+        List<Object> filtered = new ArrayList<>();
+        for (Object row : rows) {
+            tuple[entity.ordinal()] = row;
+            if (filters.stream().allMatch(filter -> filter.test(tuple))) {
+                filtered.add(row);
+            }
+        }
+        steps.add(String.format("scan %1$s where %2$s: %3$d of %4$d rows", entity.getPluralName(),
+                QueryExpression.and(filters.toArray(new QueryExpression[0])), filtered.size(), rows.size()));
+        return filtered;
+    }
+
+    /**
+     * Joins the rows of every entity in {@code filteredRows}, starting from the entity with the fewest rows.
+     * Returns the joined rows as arrays indexed by the ordinal of their entity.
+     */
+    private static List<Object[]> join(Map<QueryEntity, List<Object>> filteredRows, List<String> steps) {
+        List<QueryEntity> remaining = new ArrayList<>(filteredRows.keySet());
+        QueryEntity first = Collections.min(remaining, (a, b) -> filteredRows.get(a).size()
+                - filteredRows.get(b).size());
+        remaining.remove(first);
+        Set<QueryEntity> joined = EnumSet.of(first);
+        List<Object[]> tuples = new ArrayList<>();
+        for (Object row : filteredRows.get(first)) {
+            Object[] tuple = new Object[QueryEntity.values().length];
+            tuple[first.ordinal()] = row;
+            tuples.add(tuple);
+        }
+        if (!remaining.isEmpty()) {
+            steps.add(String.format("start from %1$s: %2$d rows", first.getPluralName(), tuples.size()));
+        }
+
+        while (!remaining.isEmpty()) {
+            QueryEntity next = remaining.stream()
+                    .filter(entity -> !getSharedIds(joined, entity).isEmpty())
+                    .min((a, b) -> filteredRows.get(a).size() - filteredRows.get(b).size())
+                    .get();
+            tuples = hashJoin(tuples, joined, next, filteredRows.get(next), steps);
+            remaining.remove(next);
+            joined.add(next);
+        }
+        return tuples;
+    }
+
+    /**
+     * Joins {@code tuples}, which contain rows of the {@code joined} entities, with {@code rows} of {@code next}.
+     * The hash table is built on whichever side is smaller and probed with the other side.
+     */
+    private static List<Object[]> hashJoin(List<Object[]> tuples, Set<QueryEntity> joined, QueryEntity next,
+            List<Object> rows, List<String> steps) {
+        List<JoinId> sharedIds = getSharedIds(joined, next);
+        List<Object[]> result = new ArrayList<>();
+        boolean isBuildingOnTuples = tuples.size() <= rows.size();
+
+        if (isBuildingOnTuples) {
+            Map<Long, List<Object[]>> table = new HashMap<>();
+            for (Object[] tuple : tuples) {
+                table.computeIfAbsent(getKey(tuple, joined, sharedIds), unused -> new ArrayList<>()).add(tuple);
+            }
+            for (Object row : rows) {
+                for (Object[] tuple : table.getOrDefault(getKey(row, next, sharedIds), Collections.emptyList())) {
+                    result.add(extend(tuple, next, row));
+                }
+            }
+        } else {
+            Map<Long, List<Object>> table = new HashMap<>();
+            for (Object row : rows) {
+                table.computeIfAbsent(getKey(row, next, sharedIds), unused -> new ArrayList<>()).add(row);
+            }
+            for (Object[] tuple : tuples) {
+                for (Object row : table.getOrDefault(getKey(tuple, joined, sharedIds), Collections.emptyList())) {
+                    result.add(extend(tuple, next, row));
+                }
+            }
+        }
+
+        steps.add(String.format("hash join %1$s on %2$s, building on %3$s: %4$d rows", next.getPluralName(),
+                sharedIds.stream().map(JoinId::toString).collect(Collectors.joining(" and ")),
+                isBuildingOnTuples ? "the joined rows" : next.getPluralName(), result.size()));
+        return result;
+    }
+
+    /**
+     * Returns the IDs that {@code entity} shares with at least one of the {@code joined} entities.
+     */
+    private static List<JoinId> getSharedIds(Set<QueryEntity> joined, QueryEntity entity) {
+        return Arrays.stream(JoinId.values())
+                .filter(id -> id.isIn(entity) && joined.stream().anyMatch(id::isIn))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the join key of {@code tuple}, made up of the {@code ids} of any of the {@code joined} rows.
+     * Every joined row with one of these IDs has the same value for it, as the rows were joined on it.
+     */
+    private static long getKey(Object[] tuple, Set<QueryEntity> joined, List<JoinId> ids) {
+        long key = 0;
+        for (JoinId id : ids) {
+            QueryEntity entity = joined.stream().filter(id::isIn).findFirst().get();
+            key = (key << 32) | id.get(entity, tuple[entity.ordinal()]);
+        }
+        return key;
+    }
+
+    /**
+     * Returns the join key of {@code row} of {@code entity}, made up of its {@code ids}.
+     */
+    private static long getKey(Object row, QueryEntity entity, List<JoinId> ids) {
+        long key = 0;
+        for (JoinId id : ids) {
+            key = (key << 32) | id.get(entity, row);
+        }
+        return key;
+    }
+
+    /**
+     * Returns a copy of {@code tuple} that also contains {@code row} of {@code entity}.
+     */
+    private static Object[] extend(Object[] tuple, QueryEntity entity, Object row) {
+        Object[] extended = Arrays.copyOf(tuple, tuple.length);
+        extended[entity.ordinal()] = row;
+        return extended;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JoinQuery // instanceof handles nulls
+                && target == ((JoinQuery) other).target
+                && getCondition().equals(((JoinQuery) other).getCondition())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return target.hashCode() ^ getCondition().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return target.getPluralName() + getCondition().map(presentCondition -> " where " + presentCondition)
+                .orElse("");
+    }
+
+    /**
+     * The IDs that rows are joined on.
+     */
+    private enum JoinId {
+        PATIENT_ID("patient ID"), DOCTOR_ID("doctor ID");
+
+        private final String description;
+
+        JoinId(String description) {
+            this.description = description;
+        }
+
+        boolean isIn(QueryEntity entity) {
+            return this == PATIENT_ID ? entity.hasPatientId() : entity.hasDoctorId();
+        }
+
+        long get(QueryEntity entity, Object row) {
+            return this == PATIENT_ID ? entity.getPatientId(row) : entity.getDoctorId(row);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The result of a {@link JoinQuery}: the rows of each joined entity that take part in at least one match.
+ */
+public class JoinResult {
+
+    private final QueryEntity target;
+    private final Map<QueryEntity, Set<Object>> matchedRows = new EnumMap<>(QueryEntity.class);
+    private final List<String> steps;
+
+    /**
+     * Creates the result of joining the {@code joinedEntities} into {@code tuples}, using {@code steps}.
+     */
+    JoinResult(QueryEntity target, Set<QueryEntity> joinedEntities, List<Object[]> tuples, List<String> steps) {
+        this.target = target;
+        this.steps = steps;
+        for (QueryEntity entity : joinedEntities) {
+            Set<Object> rows = Collections.newSetFromMap(new IdentityHashMap<>());
+            tuples.forEach(tuple -> rows.add(tuple[entity.ordinal()]));
+            matchedRows.put(entity, rows);
+        }
+    }
+
+    public QueryEntity getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the entities that the query joined.
+     */
+    public Set<QueryEntity> getJoinedEntities() {
+        return Collections.unmodifiableSet(matchedRows.keySet());
+    }
+
+    /**
+     * Returns true if {@code row} of {@code entity} takes part in a match.
+     */
+    public boolean isMatch(QueryEntity entity, Object row) {
+        Set<Object> rows = matchedRows.get(entity);
+        return rows != null && rows.contains(row);
+    }
+
+    /**
+     * Returns the number of rows of {@code entity} that take part in a match.
+     */
+    public int count(QueryEntity entity) {
+        Set<Object> rows = matchedRows.get(entity);
+        return rows == null ? 0 : rows.size();
+    }
+
+    /**
+     * Returns a description of how the query was run, with the number of rows after each step.
+     */
+    public String explain() {
+        return "Plan:\n" + String.join("\n", steps);
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.commons.core.observable.ListChange;
+import seedu.address.commons.core.observable.ObservableList;
+
+/**
+ * A secondary index that groups the elements of an {@code ObservableList} by a key.
+ * The index is kept up to date incrementally as the list changes, so looking up a key never scans the list.
+ * A sorted index also supports looking up a range of keys.
+ */
+public class ListIndex<K, T> {
+
+    private final String name;
+    private final ObservableList<T> source;
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Map<K, List<T>> buckets;
+
+    /**
+     * Creates an index named {@code name} over {@code source}, storing the buckets in {@code buckets} and filling
+     * them from {@code contents}. The index does not follow the changes to {@code source} until it is attached.
+     */
+    private ListIndex(String name, ObservableList<T> source, Function<? super T, ? extends K> keyExtractor,
+            Map<K, List<T>> buckets, List<? extends T> contents) {
+        requireNonNull(name);
+        requireNonNull(source);
+        requireNonNull(keyExtractor);
+        requireNonNull(contents);
+        this.name = name;
+        this.source = source;
+        this.keyExtractor = keyExtractor;
+        this.buckets = buckets;
+        contents.forEach(this::add);
+    }
+
+    /**
+     * Returns an index over {@code source} that supports looking up a single key.
+     */
+    public static <K, T> ListIndex<K, T> hashed(String name, ObservableList<T> source,
+            Function<? super T, ? extends K> keyExtractor) {
+        return ListIndex.<K, T>hashed(name, source, keyExtractor, source).attach();
+    }
+
+    /**
+     * Returns an index over {@code source} that supports looking up a single key, built from {@code contents}
+     * instead of {@code source}, so that {@code source} is not read while it is built.
+     * The index must be attached once {@code source} holds the same elements as {@code contents}.
+     */
+    static <K, T> ListIndex<K, T> hashed(String name, ObservableList<T> source,
+            Function<? super T, ? extends K> keyExtractor, List<? extends T> contents) {
+        return new ListIndex<>(name, source, keyExtractor, new HashMap<>(), contents);
+    }
+
+    /**
+     * Returns an index over {@code source} that supports looking up a single key or a range of keys.
+     */
+    public static <K extends Comparable<? super K>, T> ListIndex<K, T> sorted(String name, ObservableList<T> source,
+            Function<? super T, ? extends K> keyExtractor) {
+        return ListIndex.<K, T>sorted(name, source, keyExtractor, source).attach();
+    }
+
+    /**
+     * Returns an index over {@code source} that supports looking up a single key or a range of keys, built from
+     * {@code contents} instead of {@code source}, so that {@code source} is not read while it is built.
+     * The index must be attached once {@code source} holds the same elements as {@code contents}.
+     */
+    static <K extends Comparable<? super K>, T> ListIndex<K, T> sorted(String name, ObservableList<T> source,
+            Function<? super T, ? extends K> keyExtractor, List<? extends T> contents) {
+        return new ListIndex<>(name, source, keyExtractor, new TreeMap<>(), contents);
+    }
+
+    /**
+     * Keeps this index up to date with the changes to its source list from now on, and returns it.
+     */
+    ListIndex<K, T> attach() {
+        source.addListener(this::onSourceChanged);
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of elements with the given {@code key}.
+     */
+    public int count(K key) {
+        List<T> bucket = buckets.get(key);
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    /**
+     * Returns an access path to the elements with the given {@code key}.
+     */
+    public AccessPath<T> lookup(K key) {
+        return new AccessPath<>(name + " = " + key, () -> count(key), () -> {
+            List<T> bucket = buckets.get(key);
+            return bucket == null ? Collections.emptyList() : new ArrayList<>(bucket);
+        });
+    }
+
+    /**
+     * Returns an access path to the elements whose keys lie between {@code from} and {@code to}, inclusive.
+     * A null bound leaves that end of the range open.
+     *
+     * @throws UnsupportedOperationException if this index is not sorted.
+     */
+    public AccessPath<T> lookupRange(K from, K to) {
+        if (!(buckets instanceof NavigableMap)) {
+            throw new UnsupportedOperationException("Index " + name + " is not sorted");
+        }
+        return new AccessPath<>(describeRange(from, to), () -> countRange(from, to), () -> {
+            List<T> rows = new ArrayList<>();
+            getRange(from, to).values().forEach(rows::addAll);
+            return rows;
+        });
+    }
+
+    /**
+     * Returns the number of elements whose keys lie between {@code from} and {@code to}, inclusive.
+     */
+    private int countRange(K from, K to) {
+        return getRange(from, to).values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Returns a description of the range of keys between {@code from} and {@code to}.
+     */
+    private String describeRange(K from, K to) {
+        if (from == null && to == null) {
+            return "any " + name;
+        } else if (from == null) {
+            return name + " <= " + to;
+        } else if (to == null) {
+            return name + " >= " + from;
+        }
+        return name + " between " + from + " and " + to;
+    }
+
+    /**
+     * Returns the buckets whose keys lie between {@code from} and {@code to}, inclusive.
+     */
+    private Map<K, List<T>> getRange(K from, K to) {
+        NavigableMap<K, List<T>> range = (NavigableMap<K, List<T>>) buckets;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, true);
+        }
+        return range;
+    }
+
+    /**
+     * Updates the buckets for the elements that were replaced in the source list by {@code change}.
+     */
+    private void onSourceChanged(ListChange<? extends T> change) {
+        if (change.getAddedSize() == source.size()) {
+            // every element is new, e.g. when the whole list was replaced
+            rebuild();
+            return;
+        }
+        change.getRemoved().forEach(this::remove);
+        change.getAddedSubList().forEach(this::add);
+    }
+
+    /**
+     * Rebuilds the buckets from scratch.
+     */
+    private void rebuild() {
+        buckets.clear();
+        source.forEach(this::add);
+    }
+
+    private void add(T element) {
+        buckets.computeIfAbsent(keyExtractor.apply(element), key -> new ArrayList<>()).add(element);
+    }
+
+    /**
+     * Removes {@code element} from its bucket, comparing by identity.
+     */
+    private void remove(T element) {
+        K key = keyExtractor.apply(element);
+        List<T> bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        for (int i = bucket.size() - 1; i >= 0; i--) {
+            if (bucket.get(i) == element) {
+                bucket.remove(i);
+                break;
+            }
+        }
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.query;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.ReadOnlyDocX;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.person.Person;
+import seedu.address.model.prescription.Prescription;
+
+/**
+ * The kinds of rows that can be queried and joined with a {@link JoinQuery}.
+ * Rows are related through the ID of the patient and the ID of the doctor they refer to.
+ */
+public enum QueryEntity {
+    PATIENT("patient", "patients", ReadOnlyDocX::getPatientList,
+        row -> ((Person) row).getId().personId, null),
+    DOCTOR("doctor", "doctors", ReadOnlyDocX::getDoctorList,
+        null, row -> ((Person) row).getId().personId),
+    APPOINTMENT("appt", "appointments", ReadOnlyDocX::getAppointmentList,
+        row -> ((Appointment) row).getPatientId().personId, row -> ((Appointment) row).getDoctorId().personId),
+    MEDICAL_HISTORY("medhist", "medical histories", ReadOnlyDocX::getMedHistList,
+        row -> ((MedicalHistory) row).getPatientId().personId, row -> ((MedicalHistory) row).getDoctorId().personId),
+    PRESCRIPTION("prescription", "prescriptions", ReadOnlyDocX::getPrescriptionList,
+        row -> ((Prescription) row).getPatientId().personId, row -> ((Prescription) row).getDoctorId().personId);
+
+    private final String name;
+    private final String pluralName;
+    private final Function<ReadOnlyDocX, List<?>> rowsGetter;
+    private final ToIntFunction<Object> patientIdGetter;
+    private final ToIntFunction<Object> doctorIdGetter;
+
+    QueryEntity(String name, String pluralName, Function<ReadOnlyDocX, List<?>> rowsGetter,
+            ToIntFunction<Object> patientIdGetter, ToIntFunction<Object> doctorIdGetter) {
+        this.name = name;
+        this.pluralName = pluralName;
+        this.rowsGetter = rowsGetter;
+        this.patientIdGetter = patientIdGetter;
+        this.doctorIdGetter = doctorIdGetter;
+    }
+
+    /**
+     * Returns the entity called {@code name} in a query, ignoring case, or null if there is none.
+     * Both the singular and the plural name are accepted, e.g. {@code patient} and {@code patients}.
+     */
+    public static QueryEntity fromName(String name) {
+        for (QueryEntity entity : values()) {
+            if (entity.name.equalsIgnoreCase(name) || (entity.name + "s").equalsIgnoreCase(name)
+                    || entity.pluralName.equalsIgnoreCase(name)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPluralName() {
+        return pluralName;
+    }
+
+    /**
+     * Returns true if this entity is a record about a patient and a doctor, rather than a person.
+     */
+    public boolean isRecord() {
+        return hasPatientId() && hasDoctorId();
+    }
+
+    public List<?> getRows(ReadOnlyDocX docX) {
+        return rowsGetter.apply(docX);
+    }
+
+    public boolean hasPatientId() {
+        return patientIdGetter != null;
+    }
+
+    public boolean hasDoctorId() {
+        return doctorIdGetter != null;
+    }
+
+    /**
+     * Returns the ID of the patient that {@code row} refers to.
+     */
+    public int getPatientId(Object row) {
+        return patientIdGetter.applyAsInt(row);
+    }
+
+    /**
+     * Returns the ID of the doctor that {@code row} refers to.
+     */
+    public int getDoctorId(Object row) {
+        return doctorIdGetter.applyAsInt(row);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
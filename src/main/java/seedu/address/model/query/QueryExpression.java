@@ -0,0 +1,182 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A boolean condition in a {@link JoinQuery}, tested against a row of every entity the query joins.
+ * The rows are passed as an array indexed by the ordinal of their {@link QueryEntity}.
+ */
+public abstract class QueryExpression {
+
+    /**
+     * Returns an expression that is true if all of {@code operands} are true.
+     */
+    public static QueryExpression and(QueryExpression... operands) {
+        List<QueryExpression> flattened = flatten(And.class, operands);
+        return flattened.size() == 1 ? flattened.get(0) : new And(flattened);
+    }
+
+    /**
+     * Returns an expression that is true if any of {@code operands} is true.
+     */
+    public static QueryExpression or(QueryExpression... operands) {
+        List<QueryExpression> flattened = flatten(Or.class, operands);
+        return flattened.size() == 1 ? flattened.get(0) : new Or(flattened);
+    }
+
+    /**
+     * Returns an expression that is true if {@code operand} is false.
+     */
+    public static QueryExpression not(QueryExpression operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * Returns {@code operands}, replacing every operand of class {@code kind} by its own operands.
+     */
+    private static List<QueryExpression> flatten(Class<? extends Compound> kind, QueryExpression... operands) {
+        List<QueryExpression> flattened = new ArrayList<>();
+        for (QueryExpression operand : operands) {
+            requireNonNull(operand);
+            if (kind.isInstance(operand)) {
+                flattened.addAll(((Compound) operand).operands);
+            } else {
+                flattened.add(operand);
+            }
+        }
+        return flattened;
+    }
+
+    /**
+     * Returns true if this expression holds for {@code rows}.
+     */
+    public abstract boolean test(Object[] rows);
+
+    /**
+     * Returns the entities whose rows this expression depends on.
+     */
+    public abstract Set<QueryEntity> getEntities();
+
+    /**
+     * Returns the expressions that must all be true for this expression to be true.
+     */
+    public List<QueryExpression> getConjuncts() {
+        return Collections.singletonList(this);
+    }
+
+    /**
+     * An expression combining several operands.
+     */
+    private abstract static class Compound extends QueryExpression {
+        protected final List<QueryExpression> operands;
+        private final String separator;
+
+        Compound(List<QueryExpression> operands, String separator) {
+            this.operands = operands;
+            this.separator = separator;
+        }
+
+        @Override
+        public Set<QueryEntity> getEntities() {
+            Set<QueryEntity> entities = EnumSet.noneOf(QueryEntity.class);
+            operands.forEach(operand -> entities.addAll(operand.getEntities()));
+            return entities;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other != null && other.getClass() == getClass() // handles nulls
+                    && operands.equals(((Compound) other).operands)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(operand -> operand instanceof Compound ? "(" + operand + ")" : "" + operand)
+                    .collect(Collectors.joining(separator));
+        }
+    }
+
+    /**
+     * An expression that is true if all of its operands are true.
+     */
+    private static class And extends Compound {
+        And(List<QueryExpression> operands) {
+            super(operands, " and ");
+        }
+
+        @Override
+        public boolean test(Object[] rows) {
+            return operands.stream().allMatch(operand -> operand.test(rows));
+        }
+
+        @Override
+        public List<QueryExpression> getConjuncts() {
+            return Collections.unmodifiableList(operands);
+        }
+    }
+
+    /**
+     * An expression that is true if any of its operands is true.
+     */
+    private static class Or extends Compound {
+        Or(List<QueryExpression> operands) {
+            super(operands, " or ");
+        }
+
+        @Override
+        public boolean test(Object[] rows) {
+            return operands.stream().anyMatch(operand -> operand.test(rows));
+        }
+    }
+
+    /**
+     * An expression that is true if its operand is false.
+     */
+    private static class Not extends QueryExpression {
+        private final QueryExpression operand;
+
+        Not(QueryExpression operand) {
+            this.operand = requireNonNull(operand);
+        }
+
+        @Override
+        public boolean test(Object[] rows) {
+            return !operand.test(rows);
+        }
+
+        @Override
+        public Set<QueryEntity> getEntities() {
+            return operand.getEntities();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Not // instanceof handles nulls
+                    && operand.equals(((Not) other).operand)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return operand.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operand instanceof Compound ? "not (" + operand + ")" : "not " + operand;
+        }
+    }
+}
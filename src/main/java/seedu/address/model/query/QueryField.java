@@ -0,0 +1,257 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentStatus;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.prescription.Prescription;
+
+/**
+ * A field of a {@link QueryEntity} that can be compared in a query, e.g. {@code patient.age}.
+ * A field may have several values for a row, e.g. the tags of a patient.
+ */
+public class QueryField {
+
+    public static final String MESSAGE_INVALID_CONSTANT = "%1$s is not one of %2$s";
+
+    private static final Map<QueryEntity, Map<String, QueryField>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        addField(QueryEntity.PATIENT, "id", Type.NUMBER, Patient.class, patient -> patient.getId().personId);
+        addField(QueryEntity.PATIENT, "name", Type.TEXT, Patient.class, patient -> patient.getName().fullName);
+        addField(QueryEntity.PATIENT, "gender", Type.TEXT, Patient.class, patient -> patient.getGender().value);
+        addField(QueryEntity.PATIENT, "age", Type.NUMBER, Patient.class, patient -> patient.getAge().value);
+        addField(QueryEntity.PATIENT, "phone", Type.TEXT, Patient.class, patient -> patient.getPhone().value);
+        addField(QueryEntity.PATIENT, "address", Type.TEXT, Patient.class, patient -> patient.getAddress().value);
+        addMultiValuedField(QueryEntity.PATIENT, "tag", Type.TEXT, Patient.class, patient -> patient.getTags()
+                .stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+
+        addField(QueryEntity.DOCTOR, "id", Type.NUMBER, Doctor.class, doctor -> doctor.getId().personId);
+        addField(QueryEntity.DOCTOR, "name", Type.TEXT, Doctor.class, doctor -> doctor.getName().fullName);
+        addField(QueryEntity.DOCTOR, "gender", Type.TEXT, Doctor.class, doctor -> doctor.getGender().value);
+        addField(QueryEntity.DOCTOR, "year", Type.NUMBER, Doctor.class, doctor -> doctor.getYear().value);
+        addField(QueryEntity.DOCTOR, "phone", Type.TEXT, Doctor.class, doctor -> doctor.getPhone().value);
+        addMultiValuedField(QueryEntity.DOCTOR, "spec", Type.TEXT, Doctor.class, doctor -> doctor.getSpecs()
+                .stream().map(spec -> spec.specialisation).collect(Collectors.toList()));
+
+        addField(QueryEntity.APPOINTMENT, "patient", Type.NUMBER, Appointment.class,
+            appointment -> appointment.getPatientId().personId);
+        addField(QueryEntity.APPOINTMENT, "doctor", Type.NUMBER, Appointment.class,
+            appointment -> appointment.getDoctorId().personId);
+        addField(QueryEntity.APPOINTMENT, "date", Type.DATE, Appointment.class,
+            appointment -> appointment.getDate().date);
+        addField(QueryEntity.APPOINTMENT, "time", Type.TIME, Appointment.class,
+            appointment -> appointment.getTime().time);
+        addEnumField(QueryEntity.APPOINTMENT, "status", Appointment.class, AppointmentStatus.class,
+            Appointment::getAppointmentStatus);
+
+        addField(QueryEntity.MEDICAL_HISTORY, "patient", Type.NUMBER, MedicalHistory.class,
+            medHist -> medHist.getPatientId().personId);
+        addField(QueryEntity.MEDICAL_HISTORY, "doctor", Type.NUMBER, MedicalHistory.class,
+            medHist -> medHist.getDoctorId().personId);
+        addField(QueryEntity.MEDICAL_HISTORY, "date", Type.DATE, MedicalHistory.class,
+            medHist -> medHist.getDate().date);
+        addField(QueryEntity.MEDICAL_HISTORY, "writeup", Type.TEXT, MedicalHistory.class,
+            medHist -> medHist.getWriteUp().value);
+
+        addField(QueryEntity.PRESCRIPTION, "patient", Type.NUMBER, Prescription.class,
+            prescription -> prescription.getPatientId().personId);
+        addField(QueryEntity.PRESCRIPTION, "doctor", Type.NUMBER, Prescription.class,
+            prescription -> prescription.getDoctorId().personId);
+        addField(QueryEntity.PRESCRIPTION, "date", Type.DATE, Prescription.class,
+            prescription -> prescription.getDate().date);
+        addField(QueryEntity.PRESCRIPTION, "medicine", Type.TEXT, Prescription.class,
+            prescription -> prescription.getMedicine().getName());
+        addField(QueryEntity.PRESCRIPTION, "description", Type.TEXT, Prescription.class,
+            prescription -> prescription.getDescription().getDescription());
+    }
+
+    private final QueryEntity entity;
+    private final String name;
+    private final Type type;
+    private final Function<Object, Collection<?>> valuesGetter;
+    /** The names of the only values that the field can have, or null if it can have any value of its type. */
+    private final List<String> constantNames;
+
+    private QueryField(QueryEntity entity, String name, Type type, Function<Object, Collection<?>> valuesGetter,
+            List<String> constantNames) {
+        this.entity = entity;
+        this.name = name;
+        this.type = type;
+        this.valuesGetter = valuesGetter;
+        this.constantNames = constantNames;
+    }
+
+    /**
+     * Adds a field with a single value for each row of {@code entity}.
+     */
+    private static <T> void addField(QueryEntity entity, String name, Type type, Class<T> rowClass,
+            Function<T, ?> getter) {
+        addMultiValuedField(entity, name, type, rowClass, row -> Collections.singletonList(getter.apply(row)));
+    }
+
+    /**
+     * Adds a field with any number of values for each row of {@code entity}.
+     */
+    private static <T> void addMultiValuedField(QueryEntity entity, String name, Type type, Class<T> rowClass,
+            Function<T, Collection<?>> getter) {
+        register(new QueryField(entity, name, type, row -> getter.apply(rowClass.cast(row)), null));
+    }
+
+    /**
+     * Adds a text field whose value for each row of {@code entity} is a constant of {@code enumClass}.
+     * Only the names of the constants can be compared with the field.
+     */
+    private static <T, E extends Enum<E>> void addEnumField(QueryEntity entity, String name, Class<T> rowClass,
+            Class<E> enumClass, Function<T, E> getter) {
+        List<String> constantNames = Arrays.stream(enumClass.getEnumConstants()).map(Enum::name)
+                .collect(Collectors.toList());
+        register(new QueryField(entity, name, Type.TEXT,
+            row -> Collections.singletonList(getter.apply(rowClass.cast(row)).name()), constantNames));
+    }
+
+    private static void register(QueryField field) {
+        FIELDS.computeIfAbsent(field.entity, unused -> new LinkedHashMap<>()).put(field.name, field);
+    }
+
+    /**
+     * Returns the field of {@code entity} called {@code name}, ignoring case, or null if there is none.
+     */
+    public static QueryField of(QueryEntity entity, String name) {
+        return FIELDS.get(entity).get(name.toLowerCase());
+    }
+
+    /**
+     * Returns the names of the fields of {@code entity}.
+     */
+    public static List<String> getFieldNames(QueryEntity entity) {
+        return new ArrayList<>(FIELDS.get(entity).keySet());
+    }
+
+    public QueryEntity getEntity() {
+        return entity;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Parses {@code value} as a value that this field can be compared with.
+     *
+     * @throws IllegalArgumentException if {@code value} is not a valid value of the type of this field, or is not
+     *     the name of one of the constants that this field can have.
+     */
+    public Object parseValue(String value) {
+        Object parsedValue = type.parse(value);
+        checkArgument(constantNames == null || constantNames.stream()
+                .anyMatch(constantName -> type.parse(constantName).equals(parsedValue)),
+                String.format(MESSAGE_INVALID_CONSTANT, value, constantNames));
+        return parsedValue;
+    }
+
+    /**
+     * Returns the values of this field for {@code row}, normalised by {@link Type#normalise(Object)}.
+     */
+    public List<Object> getValues(Object row) {
+        return valuesGetter.apply(row).stream().map(type::normalise).collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        return entity.getName() + "." + name;
+    }
+
+    /**
+     * The type of the values of a field, which determines how values are parsed and compared.
+     */
+    public enum Type {
+        NUMBER, TEXT, DATE, TIME;
+
+        public static final String MESSAGE_INVALID_NUMBER = "%1$s is not a whole number";
+        public static final String MESSAGE_INVALID_DATE =
+                "%1$s is not a date in the format YYYY-MM-DD, or today, optionally followed by +DAYS or -DAYS";
+        public static final String MESSAGE_INVALID_TIME = "%1$s is not a time in the format HH:MM";
+
+        private static final Pattern RELATIVE_DATE_FORMAT = Pattern.compile("today(?<offset>[+-]\\d+)?");
+
+        /**
+         * Parses {@code value} as a value of this type.
+         *
+         * @throws IllegalArgumentException if {@code value} is not a valid value of this type.
+         */
+        public Object parse(String value) {
+            switch (this) {
+            case NUMBER:
+                checkArgument(value.matches("\\d{1,9}"), String.format(MESSAGE_INVALID_NUMBER, value));
+                return Integer.parseInt(value);
+            case DATE:
+                return parseDate(value);
+            case TIME:
+                try {
+                    return LocalTime.parse(value);
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException(String.format(MESSAGE_INVALID_TIME, value), e);
+                }
+            default:
+                return value.toLowerCase();
+            }
+        }
+
+        /**
+         * Parses {@code value} as an absolute date, or as a number of days relative to today.
+         */
+        private static LocalDate parseDate(String value) {
+            Matcher matcher = RELATIVE_DATE_FORMAT.matcher(value.toLowerCase());
+            if (matcher.matches()) {
+                String offset = matcher.group("offset");
+                return offset == null ? LocalDate.now() : LocalDate.now().plusDays(Long.parseLong(offset));
+            }
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_DATE, value), e);
+            }
+        }
+
+        /**
+         * Converts a value of a row into a value that can be compared with a parsed value of this type.
+         */
+        Object normalise(Object value) {
+            switch (this) {
+            case NUMBER:
+                return value instanceof String ? Integer.valueOf((String) value) : value;
+            case TEXT:
+                return value.toString().toLowerCase();
+            default:
+                return value;
+            }
+        }
+
+        /**
+         * Returns true if values of this type have an order, so that they can be compared with {@code <} and
+         * {@code >}.
+         */
+        public boolean isOrdered() {
+            return this != TEXT;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * One condition of a query, with an optional index that can fetch the rows satisfying it.
+ */
+public class QueryFilter<T> {
+
+    private final String description;
+    private final Predicate<? super T> predicate;
+    private final AccessPath<T> accessPath;
+
+    /**
+     * Creates a filter that can only be evaluated by testing every row with {@code predicate}.
+     */
+    public QueryFilter(String description, Predicate<? super T> predicate) {
+        this(description, predicate, null);
+    }
+
+    /**
+     * Creates a filter whose matching rows are all fetched by {@code accessPath}.
+     */
+    public QueryFilter(String description, Predicate<? super T> predicate, AccessPath<T> accessPath) {
+        requireNonNull(description);
+        requireNonNull(predicate);
+        this.description = description;
+        this.predicate = predicate;
+        this.accessPath = accessPath;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    public Optional<AccessPath<T>> getAccessPath() {
+        return Optional.ofNullable(accessPath);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
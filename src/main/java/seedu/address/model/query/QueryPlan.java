@@ -0,0 +1,108 @@
+package seedu.address.model.query;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+
+/**
+ * A plan chosen by the {@link QueryPlanner} for evaluating a query over a list.
+ */
+public class QueryPlan<T> {
+
+    private final String sourceName;
+    private final List<T> source;
+    private final QueryFilter<T> drivingFilter;
+    private final List<QueryFilter<T>> residualFilters;
+
+    /**
+     * Creates a plan that fetches its candidate rows with {@code drivingFilter}'s access path, or scans
+     * {@code source} if {@code drivingFilter} is null, and then applies {@code residualFilters}.
+     */
+    QueryPlan(String sourceName, List<T> source, QueryFilter<T> drivingFilter, List<QueryFilter<T>> residualFilters) {
+        this.sourceName = sourceName;
+        this.source = source;
+        this.drivingFilter = drivingFilter;
+        this.residualFilters = residualFilters;
+    }
+
+    /**
+     * Returns the filter whose index drives this plan, if any.
+     */
+    public Optional<QueryFilter<T>> getDrivingFilter() {
+        return Optional.ofNullable(drivingFilter);
+    }
+
+    public List<QueryFilter<T>> getResidualFilters() {
+        return Collections.unmodifiableList(residualFilters);
+    }
+
+    /**
+     * Evaluates the query and returns the matching rows.
+     * If the current thread is interrupted while evaluating, a {@code CancellationException} is thrown and the
+     * interrupt is cleared, so that a long-running query can be cancelled.
+     */
+    public QueryResult<T> execute() {
+        Collection<T> candidates = drivingFilter == null ? source : drivingFilter.getAccessPath().get().fetchRows();
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (T candidate : candidates) {
+            if (Thread.interrupted()) {
+                throw new CancellationException("The query was cancelled.");
+            }
+            if (isMatch(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return new QueryResult<>(this, matches, candidates.size());
+    }
+
+    /**
+     * Returns true if {@code row} satisfies every filter of the query.
+     * The driving filter is tested as well, as its access path may fetch rows that do not satisfy it.
+     */
+    boolean isMatch(T row) {
+        if (drivingFilter != null && !drivingFilter.getPredicate().test(row)) {
+            return false;
+        }
+        for (QueryFilter<T> filter : residualFilters) {
+            if (!filter.getPredicate().test(row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a description of the access path and residual filters of this plan.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder("Plan: ");
+        if (drivingFilter == null) {
+            builder.append("full scan of ").append(sourceName);
+        } else {
+            AccessPath<T> accessPath = drivingFilter.getAccessPath().get();
+            builder.append("index scan of ").append(sourceName).append(" on ").append(accessPath)
+                    .append(" (estimated ").append(accessPath.getEstimatedRowCount()).append(" rows)");
+        }
+        builder.append(" out of ").append(source.size()).append(" rows");
+
+        if (!residualFilters.isEmpty()) {
+            builder.append("\nResidual filters: ").append(residualFilters.stream()
+                    .map(QueryFilter::getDescription).collect(Collectors.joining(", ")));
+        }
+
+        String otherIndexes = residualFilters.stream()
+                .filter(filter -> filter.getAccessPath().isPresent())
+                .map(filter -> filter.getAccessPath().get())
+                .map(accessPath -> accessPath + " (" + accessPath.getEstimatedRowCount() + " rows)")
+                .collect(Collectors.joining(", "));
+        if (!otherIndexes.isEmpty()) {
+            builder.append("\nIndexes not used: ").append(otherIndexes);
+        }
+        return builder.toString();
+    }
+}
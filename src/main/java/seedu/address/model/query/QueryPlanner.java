@@ -0,0 +1,44 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chooses how to evaluate a query made up of several filters over a list.
+ * The filter whose index fetches the fewest rows drives the query, and the other filters are applied to those rows
+ * as residual filters. If no index fetches fewer rows than the list contains, the whole list is scanned.
+ */
+public class QueryPlanner {
+
+    private QueryPlanner() {} // prevents instantiation
+
+    /**
+     * Returns the cheapest plan for finding the rows of {@code source} that satisfy every filter in {@code filters}.
+     *
+     * @param sourceName the name of {@code source}, used when explaining the plan
+     */
+    public static <T> QueryPlan<T> plan(String sourceName, List<T> source, List<QueryFilter<T>> filters) {
+        requireNonNull(sourceName);
+        requireNonNull(source);
+        requireNonNull(filters);
+
+        QueryFilter<T> drivingFilter = null;
+        int drivingRowCount = source.size();
+        for (QueryFilter<T> filter : filters) {
+            if (!filter.getAccessPath().isPresent()) {
+                continue;
+            }
+            int estimatedRowCount = filter.getAccessPath().get().getEstimatedRowCount();
+            if (estimatedRowCount < drivingRowCount) {
+                drivingFilter = filter;
+                drivingRowCount = estimatedRowCount;
+            }
+        }
+
+        List<QueryFilter<T>> residualFilters = new ArrayList<>(filters);
+        residualFilters.remove(drivingFilter);
+        return new QueryPlan<>(sourceName, source, drivingFilter, residualFilters);
+    }
+}
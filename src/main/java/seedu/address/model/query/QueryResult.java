@@ -0,0 +1,58 @@
+package seedu.address.model.query;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The rows matched by executing a {@link QueryPlan}, along with how many rows had to be examined to find them.
+ */
+public class QueryResult<T> {
+
+    private final QueryPlan<T> plan;
+    private final Set<T> matches;
+    private final int examinedRowCount;
+
+    /**
+     * Creates the result of executing {@code plan}. {@code matches} must compare its elements by identity.
+     */
+    QueryResult(QueryPlan<T> plan, Set<T> matches, int examinedRowCount) {
+        this.plan = plan;
+        this.matches = matches;
+        this.examinedRowCount = examinedRowCount;
+    }
+
+    /**
+     * Returns true if {@code row} is one of the rows matched by the query.
+     * This is only a lookup, so it is much cheaper than testing {@code row} with {@link #getPredicate()}.
+     */
+    public boolean isMatch(T row) {
+        return matches.contains(row);
+    }
+
+    /**
+     * Returns the matched rows. The returned set compares its elements by identity.
+     */
+    public Set<T> getMatches() {
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns a predicate that tests any row, including rows added after the query was executed,
+     * against every filter of the query.
+     */
+    public Predicate<T> getPredicate() {
+        return plan::isMatch;
+    }
+
+    public int getExaminedRowCount() {
+        return examinedRowCount;
+    }
+
+    /**
+     * Returns a description of the plan that was executed and the number of rows it examined and matched.
+     */
+    public String explain() {
+        return plan.explain() + "\nExamined " + examinedRowCount + " rows, matched " + matches.size() + " rows";
+    }
+}
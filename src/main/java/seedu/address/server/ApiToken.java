@@ -0,0 +1,78 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * The secret token that clients of the {@link HttpService} must send with every request.
+ * The token is generated once per install and kept in a file next to the config file, so that only programs that can
+ * read that file can use the service.
+ */
+public class ApiToken {
+
+    public static final String TOKEN_FILE_NAME = "api-token.txt";
+
+    private static final int TOKEN_BYTES = 32;
+
+    private ApiToken() {} // prevents instantiation
+
+    /**
+     * Returns the path of the token file that belongs to the config file at {@code configFilePath}.
+     */
+    public static Path getTokenFilePath(Path configFilePath) {
+        requireNonNull(configFilePath);
+        return configFilePath.toAbsolutePath().resolveSibling(TOKEN_FILE_NAME);
+    }
+
+    /**
+     * Returns the token in {@code tokenFile}, first generating a new one into it if the file is missing or empty.
+     *
+     * @throws IOException if the file cannot be read or written.
+     */
+    public static String readOrCreate(Path tokenFile) throws IOException {
+        requireNonNull(tokenFile);
+        if (FileUtil.isFileExists(tokenFile)) {
+            String token = FileUtil.readFromFile(tokenFile).trim();
+            if (!token.isEmpty()) {
+                return token;
+            }
+        }
+
+        String token = generate();
+        FileUtil.createIfMissing(tokenFile);
+        restrictToOwner(tokenFile);
+        FileUtil.writeToFile(tokenFile, token);
+        return token;
+    }
+
+    /**
+     * Returns a new random token.
+     */
+    private static String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+        return token.toString();
+    }
+
+    /**
+     * Allows only the owner of {@code file} to read and write it, where the file system supports it.
+     */
+    private static void restrictToOwner(Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException uoe) {
+            // not a POSIX file system; the file keeps the permissions of its directory
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.medicalhistory.MedHistContainsKeywordsPredicate;
+
+/**
+ * An optional HTTP service on localhost that serves DocX data as JSON and executes commands.
+ * <ul>
+ *     <li>{@code GET /api/patients}</li>
+ *     <li>{@code GET /api/doctors}</li>
+ *     <li>{@code GET /api/appointments[?date=YYYY-MM-DD][&doctorId=ID]}</li>
+ *     <li>{@code GET /api/medhists?keywords=KEYWORD[+MORE_KEYWORDS]}</li>
+ *     <li>{@code POST /api/commands} with {@code {"command": COMMAND_TEXT}} as the request body</li>
+ * </ul>
+ * Read requests are served from snapshots through {@link Logic#query} without waiting for commands,
+ * while commands go through {@link Logic#execute(String)} exactly as if they were entered in the command box.
+ * <p>
+ * Every request must carry the service's {@link ApiToken} as {@code Authorization: Bearer TOKEN}. Requests from web
+ * pages are rejected: they carry an {@code Origin} header, or a {@code Host} other than the loopback address when
+ * a web page on another host is rebound to it, and they cannot send JSON commands without a preflight.
+ */
+public class HttpService {
+
+    public static final String MESSAGE_UNKNOWN_PATH = "Unknown path: %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not supported for %2$s";
+    public static final String MESSAGE_INVALID_DOCTOR_ID = "doctorId should be a positive integer";
+    public static final String MESSAGE_MISSING_KEYWORDS = "keywords should not be empty";
+    public static final String MESSAGE_STOPPING = "The service is stopping";
+    public static final String MESSAGE_UNAUTHORIZED = "The Authorization header should be: Bearer API_TOKEN";
+    public static final String MESSAGE_CROSS_ORIGIN = "Requests from web pages are not accepted";
+    public static final String MESSAGE_INVALID_HOST = "The Host header should be localhost or 127.0.0.1";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "The request body should be application/json";
+    public static final String MESSAGE_MISSING_COMMAND = "The request body should be {\"command\": COMMAND_TEXT}";
+
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(HttpService.class);
+
+    private final Logic logic;
+    private final byte[] expectedAuthorization;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+
+    private final Object requestCountLock = new Object();
+    private int activeRequestCount;
+    private boolean isStopping;
+
+    /**
+     * Creates a service for {@code logic} that listens on {@code port} of the loopback address, and accepts only
+     * requests that carry {@code apiToken}.
+     * If {@code port} is 0, a free port is chosen. The service does not accept requests until it is started.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public HttpService(Logic logic, int port, String apiToken) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(apiToken);
+        this.logic = logic;
+        expectedAuthorization = ("Bearer " + apiToken).getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        requestExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "http-service-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestExecutor);
+
+        server.createContext("/api/patients", exchange -> handle(exchange, "GET", this::getPatients));
+        server.createContext("/api/doctors", exchange -> handle(exchange, "GET", this::getDoctors));
+        server.createContext("/api/appointments", exchange -> handle(exchange, "GET", this::getAppointments));
+        server.createContext("/api/medhists", exchange -> handle(exchange, "GET", this::getMedHists));
+        server.createContext("/api/commands", exchange -> handle(exchange, "POST", this::executeCommand));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("HTTP service started on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests, and waits up to a second for requests that are being handled to complete.
+     */
+    public void stop() {
+        synchronized (requestCountLock) {
+            isStopping = true;
+            long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MILLIS;
+            try {
+                while (activeRequestCount > 0 && System.currentTimeMillis() < deadline) {
+                    requestCountLock.wait(Math.max(1, deadline - System.currentTimeMillis()));
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        server.stop(0);
+        requestExecutor.shutdownNow();
+        logger.info("HTTP service stopped");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private Response getPatients(HttpExchange exchange) {
+        return Response.ok(logic.query(docX -> docX.getPatientList().stream()
+                .map(JsonRecords::of).collect(Collectors.toList())));
+    }
+
+    private Response getDoctors(HttpExchange exchange) {
+        return Response.ok(logic.query(docX -> docX.getDoctorList().stream()
+                .map(JsonRecords::of).collect(Collectors.toList())));
+    }
+
+    private Response getAppointments(HttpExchange exchange) {
+        Map<String, String> parameters = parseQuery(exchange);
+        Predicate<Appointment> predicate = appointment -> true;
+
+        String date = parameters.get("date");
+        if (date != null) {
+            if (!AppointmentDate.isValidAppointmentDate(date)) {
+                return Response.badRequest(AppointmentDate.MESSAGE_CONSTRAINTS);
+            }
+            AppointmentDate appointmentDate = new AppointmentDate(date);
+            predicate = predicate.and(appointment -> appointment.getDate().equals(appointmentDate));
+        }
+
+        String doctorId = parameters.get("doctorId");
+        if (doctorId != null) {
+            if (!doctorId.matches("[1-9][0-9]{0,8}")) {
+                return Response.badRequest(MESSAGE_INVALID_DOCTOR_ID);
+            }
+            int id = Integer.parseInt(doctorId);
+            predicate = predicate.and(appointment -> appointment.getDoctorId().doctorId.personId == id);
+        }
+
+        Predicate<Appointment> appointmentPredicate = predicate;
+        return Response.ok(logic.query(docX -> docX.getAppointmentList().stream()
+                .filter(appointmentPredicate).map(JsonRecords::of).collect(Collectors.toList())));
+    }
+
+    private Response getMedHists(HttpExchange exchange) {
+        String keywords = parseQuery(exchange).getOrDefault("keywords", "").trim();
+        if (keywords.isEmpty()) {
+            return Response.badRequest(MESSAGE_MISSING_KEYWORDS);
+        }
+        MedHistContainsKeywordsPredicate predicate =
+                new MedHistContainsKeywordsPredicate(Arrays.asList(keywords.split("\\s+")));
+        return Response.ok(logic.query(docX -> docX.getMedHistList().stream()
+                .filter(predicate).map(JsonRecords::of).collect(Collectors.toList())));
+    }
+
+    /**
+     * Executes the command in the JSON request body, and returns its feedback or error message.
+     * Only JSON bodies are accepted, so that a web page cannot send a command without a preflight request.
+     */
+    private Response executeCommand(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.trim().toLowerCase().startsWith("application/json")) {
+            return Response.error(415, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+        }
+        Object command;
+        try {
+            command = JsonUtil.fromJsonString(readBody(exchange), Map.class).get("command");
+        } catch (IOException | RuntimeException e) {
+            return Response.badRequest(MESSAGE_MISSING_COMMAND);
+        }
+        if (!(command instanceof String)) {
+            return Response.badRequest(MESSAGE_MISSING_COMMAND);
+        }
+
+        String commandText = ((String) command).trim();
+        Map<String, Object> result = new LinkedHashMap<>();
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            result.put("feedback", commandResult.getFeedbackToUser());
+            return Response.ok(result);
+        } catch (CommandException | ParseException e) {
+            return Response.badRequest(e.getMessage());
+        }
+    }
+
+    /**
+     * Handles {@code exchange} with {@code route} if it uses {@code allowedMethod} and is for the exact path
+     * of its context. Requests are rejected once the service is stopping.
+     */
+    private void handle(HttpExchange exchange, String allowedMethod, Route route) throws IOException {
+        synchronized (requestCountLock) {
+            if (isStopping) {
+                send(exchange, Response.error(503, MESSAGE_STOPPING));
+                return;
+            }
+            activeRequestCount++;
+        }
+        try {
+            send(exchange, route(exchange, allowedMethod, route));
+        } finally {
+            synchronized (requestCountLock) {
+                activeRequestCount--;
+                requestCountLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the response of {@code route} to {@code exchange}, or an error response if the request is invalid.
+     */
+    private Response route(HttpExchange exchange, String allowedMethod, Route route) throws IOException {
+        Response response;
+        String path = exchange.getRequestURI().getPath();
+        try {
+            if (exchange.getRequestHeaders().containsKey("Origin")) {
+                response = Response.error(403, MESSAGE_CROSS_ORIGIN);
+            } else if (!isLoopbackHost(exchange.getRequestHeaders().getFirst("Host"))) {
+                response = Response.error(403, MESSAGE_INVALID_HOST);
+            } else if (!isAuthorized(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                response = Response.error(401, MESSAGE_UNAUTHORIZED);
+            } else if (!path.equals(exchange.getHttpContext().getPath())) {
+                response = Response.error(404, String.format(MESSAGE_UNKNOWN_PATH, path));
+            } else if (!exchange.getRequestMethod().equals(allowedMethod)) {
+                response = Response.error(405, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                        exchange.getRequestMethod(), path));
+            } else {
+                response = route.handle(exchange);
+            }
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestMethod() + " " + path + ": " + e);
+            response = Response.error(500, e.toString());
+        }
+        return response;
+    }
+
+    /**
+     * Returns true if {@code host} names the loopback address and the port of this service.
+     * Any other host means that the request was meant for another server, e.g. after DNS rebinding.
+     */
+    private boolean isLoopbackHost(String host) {
+        return ("localhost:" + getPort()).equalsIgnoreCase(host) || ("127.0.0.1:" + getPort()).equals(host);
+    }
+
+    /**
+     * Returns true if {@code authorization} carries the API token, comparing in constant time.
+     */
+    private boolean isAuthorized(String authorization) {
+        return authorization != null
+                && MessageDigest.isEqual(expectedAuthorization, authorization.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends {@code response} as JSON.
+     */
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = JsonUtil.toJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    /**
+     * Returns the parameters in the query string of {@code exchange}'s request URI.
+     */
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                parameters.put(decode(parameter.substring(0, separator)), decode(parameter.substring(separator + 1)));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Decodes a URL-encoded query string component.
+     */
+    private static String decode(String encoded) {
+        try {
+            return URLDecoder.decode(encoded, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException uee) {
+            throw new AssertionError("UTF-8 is always supported", uee);
+        }
+    }
+
+    /**
+     * Returns the request body of {@code exchange} as text.
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = requestBody.read(buffer)) != -1) {
+                body.write(buffer, 0, length);
+            }
+            return new String(body.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Handles a request for one endpoint.
+     */
+    @FunctionalInterface
+    private interface Route {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * The status and JSON body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        private Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ok(Object body) {
+            return new Response(200, body);
+        }
+
+        static Response badRequest(String message) {
+            return error(400, message);
+        }
+
+        static Response error(int status, String message) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("error", message);
+            return new Response(status, body);
+        }
+    }
+}
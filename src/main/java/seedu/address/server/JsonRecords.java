@@ -0,0 +1,74 @@
+package seedu.address.server;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * Converts model objects into the JSON records returned by the {@link HttpService}.
+ * Each record is a map of field names to plain values, so that clients do not depend on the storage format.
+ */
+class JsonRecords {
+
+    private JsonRecords() {} // prevents instantiation
+
+    /**
+     * Returns the JSON record of {@code patient}.
+     */
+    static Map<String, Object> of(Patient patient) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", patient.getId().personId);
+        record.put("name", patient.getName().fullName);
+        record.put("gender", patient.getGender().value);
+        record.put("age", patient.getAge().value);
+        record.put("phone", patient.getPhone().value);
+        record.put("address", patient.getAddress().value);
+        record.put("tags", patient.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+        return record;
+    }
+
+    /**
+     * Returns the JSON record of {@code doctor}.
+     */
+    static Map<String, Object> of(Doctor doctor) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", doctor.getId().personId);
+        record.put("name", doctor.getName().fullName);
+        record.put("gender", doctor.getGender().value);
+        record.put("year", doctor.getYear().value);
+        record.put("phone", doctor.getPhone().value);
+        record.put("specialisations", doctor.getSpecs().stream().map(spec -> spec.specialisation)
+                .collect(Collectors.toList()));
+        return record;
+    }
+
+    /**
+     * Returns the JSON record of {@code appointment}.
+     */
+    static Map<String, Object> of(Appointment appointment) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("patientId", appointment.getPatientId().patientId.personId);
+        record.put("doctorId", appointment.getDoctorId().doctorId.personId);
+        record.put("date", appointment.getDate().toString());
+        record.put("time", appointment.getTime().toString());
+        record.put("status", appointment.getAppointmentStatus().name());
+        return record;
+    }
+
+    /**
+     * Returns the JSON record of {@code medHist}.
+     */
+    static Map<String, Object> of(MedicalHistory medHist) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("patientId", medHist.getPatientId().personId);
+        record.put("doctorId", medHist.getDoctorId().personId);
+        record.put("date", medHist.getDate().toString());
+        record.put("writeUp", medHist.getWriteUp().value);
+        return record;
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the commands entered by the user.
+ * Commands are appended one at a time, so that saving a command does not rewrite the whole history.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the stored commands, from the least recent to the most recent.
+     *   Returns an empty list if the storage file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory() throws IOException;
+
+    /**
+     * Appends {@code commandText} to the stored commands.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandHistory(String commandText) throws IOException;
+
+    /**
+     * Replaces the stored commands with {@code commandTexts}.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveCommandHistory(List<String> commandTexts) throws IOException;
+
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.ProgressListener;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.DocX;
 import seedu.address.model.ReadOnlyDocX;
@@ -31,6 +32,20 @@ public interface DocXStorage {
      */
     Optional<ReadOnlyDocX> readDocX(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Similar to {@link #readDocX()}, but reports to {@code listener} as the records in the storage are read.
+     * By default, the progress is only reported once all records have been read.
+     */
+    default Optional<ReadOnlyDocX> readDocX(ProgressListener listener) throws DataConversionException, IOException {
+        Optional<ReadOnlyDocX> docX = readDocX();
+        docX.ifPresent(data -> {
+            int total = data.getPatientList().size() + data.getDoctorList().size() + data.getMedHistList().size()
+                    + data.getAppointmentList().size() + data.getPrescriptionList().size();
+            listener.onProgress(total, total);
+        });
+        return docX;
+    }
+
     /**
      * Saves the given {@link ReadOnlyDocX} to the storage.
      * @param docX cannot be null.
@@ -8,6 +8,9 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressListener;
+import seedu.address.commons.core.tracing.Span;
+import seedu.address.commons.core.tracing.Tracer;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
@@ -19,6 +22,9 @@ import seedu.address.model.ReadOnlyDocX;
  */
 public class JsonDocXStorage implements DocXStorage {
 
+    /** The category of the spans traced by the storage component. */
+    public static final String TRACE_CATEGORY = "storage";
+
     private static final Logger logger = LogsCenter.getLogger(JsonDocXStorage.class);
 
     private Path filePath;
@@ -36,6 +42,11 @@ public class JsonDocXStorage implements DocXStorage {
         return readDocX(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyDocX> readDocX(ProgressListener listener) throws DataConversionException {
+        return readDocX(filePath, listener);
+    }
+
     /**
      * Similar to {@link #readDocX()}.
      *
@@ -43,7 +54,19 @@ public class JsonDocXStorage implements DocXStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyDocX> readDocX(Path filePath) throws DataConversionException {
+        return readDocX(filePath, ProgressListener.NONE);
+    }
+
+    /**
+     * Similar to {@link #readDocX(ProgressListener)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    private Optional<ReadOnlyDocX> readDocX(Path filePath, ProgressListener listener)
+            throws DataConversionException {
         requireNonNull(filePath);
+        requireNonNull(listener);
 
         Optional<JsonSerializableDocX> jsonDocX = JsonUtil.readJsonFile(
                 filePath, JsonSerializableDocX.class);
@@ -52,7 +75,7 @@ public class JsonDocXStorage implements DocXStorage {
         }
 
         try {
-            return Optional.of(jsonDocX.get().toModelType());
+            return Optional.of(jsonDocX.get().toModelType(listener));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +96,10 @@ public class JsonDocXStorage implements DocXStorage {
         requireNonNull(docX);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableDocX(docX), filePath);
+        try (Span span = Tracer.start(TRACE_CATEGORY, "JsonDocXStorage.saveDocX")) {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableDocX(docX), filePath);
+        }
     }
 
 }
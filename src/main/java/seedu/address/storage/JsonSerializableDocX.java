@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.ProgressListener;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.DocX;
 import seedu.address.model.ReadOnlyDocX;
@@ -30,6 +31,9 @@ class JsonSerializableDocX {
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "Appointment list contains duplicate appointments.";
     public static final String MESSAGE_DUPLICATE_PRESCRIPTION = "Prescription list contains duplicate prescriptions.";
 
+    /** The number of records converted between each report of the progress. */
+    static final int PROGRESS_INTERVAL = 1000;
+
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
     private final List<JsonAdaptedDoctor> doctors = new ArrayList<>();
     private final List<JsonAdaptedMedicalHistory> medicalHistories = new ArrayList<>();
@@ -85,7 +89,20 @@ class JsonSerializableDocX {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public DocX toModelType() throws IllegalValueException {
+        return toModelType(ProgressListener.NONE);
+    }
+
+    /**
+     * Converts this docX into the model's {@code DocX} object, reporting to {@code listener} after every
+     * {@value #PROGRESS_INTERVAL} records and once all records have been converted.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public DocX toModelType(ProgressListener listener) throws IllegalValueException {
         DocX docX = new DocX();
+        int total = patients.size() + doctors.size() + appointments.size() + medicalHistories.size()
+                + prescriptions.size();
+        int converted = 0;
 
         // note: order is important. Patient and Doctor MUST be loaded before others.
 
@@ -95,6 +112,7 @@ class JsonSerializableDocX {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             docX.addPatient(patient);
+            reportProgress(listener, ++converted, total);
         }
 
         for (JsonAdaptedDoctor jsonAdaptedDoctor : doctors) {
@@ -103,6 +121,7 @@ class JsonSerializableDocX {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_DOCTOR);
             }
             docX.addDoctor(doctor);
+            reportProgress(listener, ++converted, total);
         }
 
         for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
@@ -112,6 +131,7 @@ class JsonSerializableDocX {
             }
 
             docX.addAppointment(appointment);
+            reportProgress(listener, ++converted, total);
         }
 
         for (JsonAdaptedMedicalHistory jsonAdaptedMedicalHistory : medicalHistories) {
@@ -121,6 +141,7 @@ class JsonSerializableDocX {
 
             }
             docX.addMedHist(medicalHistory);
+            reportProgress(listener, ++converted, total);
         }
         for (JsonAdaptedPrescription jsonAdaptedPrescription : prescriptions) {
             Prescription prescription = jsonAdaptedPrescription.toModelType();
@@ -129,10 +150,21 @@ class JsonSerializableDocX {
 
             }
             docX.addPrescription(prescription);
+            reportProgress(listener, ++converted, total);
         }
 
         docX.setPersonIdCounter(personIdCounter.toModelType());
+        listener.onProgress(total, total);
 
         return docX;
     }
+
+    /**
+     * Reports the progress to {@code listener} if {@code converted} is a multiple of the progress interval.
+     */
+    private static void reportProgress(ProgressListener listener, int converted, int total) {
+        if (converted % PROGRESS_INTERVAL == 0 && converted < total) {
+            listener.onProgress(converted, total);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ProgressListener;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyDocX;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -57,6 +58,12 @@ public class StorageManager implements Storage {
         return readDocX(docXStorage.getDocXFilePath());
     }
 
+    @Override
+    public Optional<ReadOnlyDocX> readDocX(ProgressListener listener) throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + docXStorage.getDocXFilePath());
+        return docXStorage.readDocX(listener);
+    }
+
     @Override
     public Optional<ReadOnlyDocX> readDocX(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
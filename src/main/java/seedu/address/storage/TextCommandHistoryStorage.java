@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored as a text file on the hard disk, with one command per line.
+ * Backslashes and line breaks in a command are escaped so that every command takes up exactly one line.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private final Path filePath;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Collections.emptyList();
+        }
+
+        List<String> commandTexts = new ArrayList<>();
+        for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+            commandTexts.add(unescape(line));
+        }
+        return commandTexts;
+    }
+
+    @Override
+    public void appendCommandHistory(String commandText) throws IOException {
+        requireNonNull(commandText);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, Collections.singletonList(escape(commandText)), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The commands are written to a temporary file that then replaces the history file,
+     * so that the history is not lost if writing fails part way.
+     */
+    @Override
+    public void saveCommandHistory(List<String> commandTexts) throws IOException {
+        requireNonNull(commandTexts);
+        FileUtil.createParentDirsOfFile(filePath);
+        List<String> lines = new ArrayList<>(commandTexts.size());
+        for (String commandText : commandTexts) {
+            lines.add(escape(commandText));
+        }
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.write(tempFile, lines, StandardCharsets.UTF_8);
+        Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns {@code commandText} with its backslashes and line breaks escaped.
+     */
+    private static String escape(String commandText) {
+        return commandText.replace("\\", "\\\\").replace("\r", "\\r").replace("\n", "\\n");
+    }
+
+    /**
+     * Reverses {@link #escape(String)}.
+     */
+    private static String unescape(String line) {
+        StringBuilder commandText = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '\\' || i == line.length() - 1) {
+                commandText.append(c);
+                continue;
+            }
+
+            char escaped = line.charAt(++i);
+            commandText.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+        return commandText.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.ui;
+
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.appointment.AppointmentStatus;
+import seedu.address.model.query.ClinicSummary;
+
+/**
+ * Panel showing the operational statistics of the clinic today.
+ * The statistics are maintained by the model as the data changes, so the panel only shows the latest summary.
+ */
+public class ClinicDashboardPanel extends UiPart<Region> {
+    private static final String FXML = "ClinicDashboardPanel.fxml";
+    private static final String TITLE = "Clinic dashboard for %1$s";
+
+    private final Logger logger = LogsCenter.getLogger(ClinicDashboardPanel.class);
+    private final ObservableList<String> doctorLoad = FXCollections.observableArrayList();
+
+    @FXML
+    private Label title;
+
+    @FXML
+    private Label activeToday;
+
+    @FXML
+    private Label completedToday;
+
+    @FXML
+    private Label missedToday;
+
+    @FXML
+    private Label cancelledToday;
+
+    @FXML
+    private Label patientsWithActiveAppointments;
+
+    @FXML
+    private Label medHistsThisMonth;
+
+    @FXML
+    private ListView<String> doctorLoadView;
+
+    public ClinicDashboardPanel(ReadOnlyProperty<ClinicSummary> clinicSummary) {
+        super(FXML);
+        doctorLoadView.setItems(doctorLoad);
+        doctorLoadView.setPlaceholder(new Label("No appointments this week"));
+
+        clinicSummary.addListener((observable, oldValue, newValue) -> showSummary(newValue));
+        showSummary(clinicSummary.getValue());
+    }
+
+    /**
+     * Shows the statistics in {@code summary}.
+     */
+    private void showSummary(ClinicSummary summary) {
+        logger.fine("Clinic summary changed to: " + summary);
+        title.setText(String.format(TITLE, summary.getDate()));
+        activeToday.setText(String.valueOf(summary.getAppointmentsToday(AppointmentStatus.ACTIVE)));
+        completedToday.setText(String.valueOf(summary.getAppointmentsToday(AppointmentStatus.COMPLETED)));
+        missedToday.setText(String.valueOf(summary.getAppointmentsToday(AppointmentStatus.MISSED)));
+        cancelledToday.setText(String.valueOf(summary.getAppointmentsToday(AppointmentStatus.CANCELLED)));
+        patientsWithActiveAppointments.setText(String.valueOf(summary.getPatientsWithActiveAppointments()));
+        medHistsThisMonth.setText(String.valueOf(summary.getMedHistsThisMonth()));
+        doctorLoad.setAll(summary.getDoctorLoadThisWeek().entrySet().stream()
+                .map(entry -> "Doctor " + entry.getKey() + ": " + entry.getValue() + " appointments")
+                .collect(Collectors.toList()));
+    }
+}
@@ -1,15 +1,17 @@
 package seedu.address.ui;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.logic.CommandCallback;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -17,22 +19,41 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
     private final List<String> history;
+    /** A copy of the history taken when the user starts navigating it, or null if they have not started. */
     private ListElementPointer historySnapshot;
+    /** True if navigating the history starts after its most recent command, rather than at it. */
+    private boolean isNavigationPastLastCommand;
+    private int unfinishedCommandCount = 0;
+    /** The text being searched for in the history, or null if the history is not being searched. */
+    private String historySearchQuery;
+    /** The command in the history last found by the search, shown in the text field. */
+    private CommandHistory.Match historySearchMatch;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     public CommandBox(CommandExecutor commandExecutor, List<String> history) {
         super(FXML);
         this.commandExecutor = commandExecutor;
         this.history = history;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
-        historySnapshot = new ListElementPointer(history);
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box,
+        // ends the history search once the user changes the command found, and previews the command as it is typed.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            if (historySearchMatch != null && !historySearchMatch.getCommandText().equals(newText)) {
+                endHistorySearch();
+            }
+            commandExecutor.previewCommand(newText);
+        });
+        initHistory(true);
     }
 
     /**
@@ -52,6 +73,18 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case R:
+            if (keyEvent.isControlDown()) {
+                keyEvent.consume();
+                searchHistory();
+            }
+            break;
+        case ESCAPE:
+            if (unfinishedCommandCount > 0) {
+                keyEvent.consume();
+                commandExecutor.cancelReadOnlyCommands();
+            }
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -62,12 +95,12 @@ public class CommandBox extends UiPart<Region> {
      * if there exists a previous input in {@code historySnapshot}
      */
     private void navigateToPreviousInput() {
-        assert historySnapshot != null;
-        if (!historySnapshot.hasPrevious()) {
+        ListElementPointer snapshot = getHistorySnapshot();
+        if (!snapshot.hasPrevious()) {
             return;
         }
 
-        replaceText(historySnapshot.previous());
+        replaceText(snapshot.previous());
     }
 
     /**
@@ -75,12 +108,41 @@ public class CommandBox extends UiPart<Region> {
      * if there exists a next input in {@code historySnapshot}
      */
     private void navigateToNextInput() {
-        assert historySnapshot != null;
-        if (!historySnapshot.hasNext()) {
+        ListElementPointer snapshot = getHistorySnapshot();
+        if (!snapshot.hasNext()) {
+            return;
+        }
+
+        replaceText(snapshot.next());
+    }
+
+    /**
+     * Updates the text field with the most recent command in the history that contains the text in the text field.
+     * If the text field already shows a command found this way, it is updated with the next older command instead.
+     */
+    private void searchHistory() {
+        if (historySearchQuery == null) {
+            historySearchQuery = commandTextField.getText();
+        }
+        long beforeSequenceNumber = historySearchMatch == null
+                ? Long.MAX_VALUE
+                : historySearchMatch.getSequenceNumber();
+
+        Optional<CommandHistory.Match> match = commandExecutor.searchHistory(historySearchQuery, beforeSequenceNumber);
+        if (!match.isPresent()) {
+            setStyleToIndicateCommandFailure();
             return;
         }
+        historySearchMatch = match.get();
+        replaceText(historySearchMatch.getCommandText());
+    }
 
-        replaceText(historySnapshot.next());
+    /**
+     * Ends the history search, so that the next search starts again from the most recent command.
+     */
+    private void endHistorySearch() {
+        historySearchQuery = null;
+        historySearchMatch = null;
     }
 
     /**
@@ -94,29 +156,81 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The text field is cleared straight away, so that the next command can be typed while this one executes.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            System.out.println(commandTextField.getText());
-            commandExecutor.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            setStyleToIndicateCommandFailure();
+        String commandText = commandTextField.getText();
+        setUnfinishedCommandCount(unfinishedCommandCount + 1);
+        commandTextField.setText("");
+        commandExecutor.execute(commandText, new CommandCallback() {
+            @Override
+            public void onSuccess(CommandResult commandResult) {
+                setUnfinishedCommandCount(unfinishedCommandCount - 1);
+                initHistory(true);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                setUnfinishedCommandCount(unfinishedCommandCount - 1);
+                initHistory(false);
+                // gives the user the failed command to correct, unless they have started typing another one
+                if (commandTextField.getText().isEmpty()) {
+                    replaceText(commandText);
+                }
+                setStyleToIndicateCommandFailure();
+            }
+
+            @Override
+            public void onCancelled() {
+                setUnfinishedCommandCount(unfinishedCommandCount - 1);
+                initHistory(false);
+            }
+        });
+    }
+
+    /**
+     * Sets the number of submitted commands that have not finished, and shows the busy indicator if there are any.
+     */
+    private void setUnfinishedCommandCount(int count) {
+        unfinishedCommandCount = count;
+        boolean isBusy = count > 0;
+        busyIndicator.setVisible(isBusy);
+
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (isBusy && !styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
+        } else if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
         }
     }
 
     /**
-     * Initializes the history snapshot.
+     * Restarts the navigation of the history, so that the next navigation starts past its most recent command if
+     * {@code isPastLastCommand}, or at it otherwise.
      */
-    private void initHistory() {
-        historySnapshot = new ListElementPointer(history);
-        // add an empty string to represent the most-recent end of historySnapshot, to be shown to
-        // the user if she tries to navigate past the most-recent end of the historySnapshot.
-        historySnapshot.add("");
+    private void initHistory(boolean isPastLastCommand) {
+        historySnapshot = null;
+        isNavigationPastLastCommand = isPastLastCommand;
+    }
+
+    /**
+     * Returns the history snapshot being navigated, first copying the history if the navigation has just started.
+     * The history is copied rather than navigated directly, as commands may finish and be added to it, or push its
+     * oldest commands out, while the user is navigating it. It holds at most
+     * {@link CommandHistory#DEFAULT_CAPACITY} commands, so copying it is cheap.
+     */
+    private ListElementPointer getHistorySnapshot() {
+        if (historySnapshot == null) {
+            historySnapshot = new ListElementPointer(history);
+            // add an empty string to represent the most-recent end of historySnapshot, to be shown to
+            // the user if she tries to navigate past the most-recent end of the historySnapshot.
+            historySnapshot.add("");
+            if (isNavigationPastLastCommand) {
+                historySnapshot.next();
+            }
+        }
+        return historySnapshot;
     }
 
     /**
@@ -145,11 +259,35 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command for execution.
+         * {@code callback} is notified on the JavaFX application thread once the command has finished.
+         *
+         * @see seedu.address.logic.AsyncCommandExecutor#submit(String, CommandCallback)
+         */
+        void execute(String commandText, CommandCallback callback);
+
+        /**
+         * Cancels the read-only commands that have not finished.
+         */
+        default void cancelReadOnlyCommands() {}
+
+        /**
+         * Returns the most recent command entered before the command numbered {@code beforeSequenceNumber} that
+         * contains {@code query}, ignoring case.
+         *
+         * @see seedu.address.logic.Logic#searchHistory(String, long)
+         */
+        default Optional<CommandHistory.Match> searchHistory(String query, long beforeSequenceNumber) {
+            return Optional.empty();
+        }
+
+        /**
+         * Previews the results of {@code commandText}, which is still being typed, if it is a search command.
+         * Called whenever the text changes, so the preview of earlier text should be abandoned.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.SearchPreviewer#preview(String, java.util.function.Consumer)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        default void previewCommand(String commandText) {}
     }
 
 }
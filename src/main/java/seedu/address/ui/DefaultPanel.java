@@ -0,0 +1,16 @@
+package seedu.address.ui;
+
+import javafx.scene.layout.Region;
+
+/**
+ * A blank panel with a background that matches the general theme, shown in place of the {@link BrowserPanel}
+ * in the {@link seedu.address.commons.core.Config.UiProfile#LITE} profile.
+ */
+public class DefaultPanel extends UiPart<Region> {
+
+    private static final String FXML = "DefaultPanel.fxml";
+
+    public DefaultPanel() {
+        super(FXML);
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.observable.InvalidationListener;
+import seedu.address.commons.core.observable.ListChange;
+import seedu.address.commons.core.observable.ObservableValue;
+import seedu.address.commons.core.tracing.Span;
+import seedu.address.commons.core.tracing.Tracer;
+
+/**
+ * Adapts the toolkit-free observable model state into JavaFX observables that are only ever updated on the
+ * JavaFX application thread.
+ * The model is modified by the command executor's worker thread, so UI controls must observe these copies
+ * instead of the model's own lists and values.
+ * Updates are posted through {@code uiExecutor} in the order that they happen in the model.
+ */
+public class FxThreadBridge {
+
+    /** The name of the latency histogram of updating a mirrored list on the JavaFX application thread. */
+    public static final String STAGE_UI_REFRESH = "stage.uiRefresh";
+    /** The category of the spans traced by the UI component. */
+    public static final String TRACE_CATEGORY = "ui";
+
+    private final Executor uiExecutor;
+
+    public FxThreadBridge(Executor uiExecutor) {
+        requireNonNull(uiExecutor);
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Returns an unmodifiable list that follows the contents of {@code source}.
+     * {@code source} must not be modified while this method is executing.
+     */
+    public <T> ObservableList<T> mirror(seedu.address.commons.core.observable.ObservableList<T> source) {
+        requireNonNull(source);
+        ListMirror<T> listMirror = new ListMirror<>(source);
+        source.addListener(listMirror::scheduleUpdate);
+        return listMirror;
+    }
+
+    /**
+     * Returns a property that follows the value of {@code source}.
+     */
+    public <T> ReadOnlyProperty<T> mirror(ObservableValue<T> source) {
+        requireNonNull(source);
+        ReadOnlyObjectWrapper<T> target = new ReadOnlyObjectWrapper<>(source.getValue());
+        source.addListener((observable, oldValue, newValue) -> uiExecutor.execute(() -> target.set(newValue)));
+        return target.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns an {@code Observable} that is invalidated on the JavaFX application thread whenever {@code source}
+     * is invalidated.
+     */
+    public Observable mirror(seedu.address.commons.core.observable.Observable source) {
+        requireNonNull(source);
+        SimpleIntegerProperty invalidationCount = new SimpleIntegerProperty();
+        InvalidationListener forwarder = observable ->
+                uiExecutor.execute(() -> invalidationCount.set(invalidationCount.get() + 1));
+        source.addListener(forwarder);
+        return invalidationCount;
+    }
+
+    /**
+     * A list that follows {@code source} by applying the changes to it.
+     * The changes are recorded on the thread that makes them, and every change recorded before an update is applied
+     * in that update, so a burst of changes from one command results in a single change of this list.
+     * Only the changed ranges are copied, so a change to a single element takes time independent of the list size.
+     */
+    private class ListMirror<T> extends ObservableListBase<T> {
+        private final List<T> elements;
+        private final Object lock = new Object();
+        // guarded by lock
+        private List<ListChange<? extends T>> pendingChanges = new ArrayList<>();
+
+        ListMirror(List<T> source) {
+            elements = new ArrayList<>(source);
+        }
+
+        @Override
+        public T get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        /**
+         * Records {@code change}, to be applied by the next update.
+         */
+        void scheduleUpdate(ListChange<? extends T> change) {
+            boolean isUpdateScheduled;
+            synchronized (lock) {
+                isUpdateScheduled = !pendingChanges.isEmpty();
+                pendingChanges.add(change);
+            }
+            if (!isUpdateScheduled) {
+                uiExecutor.execute(this::update);
+            }
+        }
+
+        /**
+         * Applies the pending changes, recording how long it took.
+         */
+        private void update() {
+            long startNanos = System.nanoTime();
+            try (Span span = Tracer.start(TRACE_CATEGORY, "FxThreadBridge.update")) {
+                applyPendingChanges();
+            } finally {
+                MetricsCenter.getRegistry().histogram(STAGE_UI_REFRESH).recordSince(startNanos);
+            }
+        }
+
+        /**
+         * Applies the pending changes in order, notifying listeners of them as a single change.
+         */
+        private void applyPendingChanges() {
+            List<ListChange<? extends T>> changes;
+            synchronized (lock) {
+                changes = pendingChanges;
+                pendingChanges = new ArrayList<>();
+            }
+            beginChange();
+            try {
+                changes.forEach(this::apply);
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Replaces the elements removed by {@code change} with the elements it added.
+         */
+        private void apply(ListChange<? extends T> change) {
+            int from = change.getFrom();
+            elements.subList(from, from + change.getRemovedSize()).clear();
+            elements.addAll(from, change.getAddedSubList());
+            if (change.wasReplaced()) {
+                nextReplace(from, change.getTo(), change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(from, change.getRemoved());
+            } else {
+                nextAdd(from, change.getTo());
+            }
+        }
+    }
+}
@@ -1,21 +1,40 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.AsyncCommandExecutor;
+import seedu.address.logic.CommandCallback;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.LoadProgress;
 import seedu.address.logic.Logic;
+import seedu.address.logic.SearchPreviewer;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarWindow;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.prescription.Prescription;
+import seedu.address.model.query.ClinicSummary;
+import seedu.address.ui.appointment.AppointmentCalendarPanel;
 import seedu.address.ui.appointment.AppointmentListPanel;
 import seedu.address.ui.doctor.DoctorBrowserPanel;
 import seedu.address.ui.doctor.DoctorListPanel;
@@ -29,14 +48,37 @@ import seedu.address.ui.patient.PatientListPanel;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_CANCELLING = "Cancelling...";
+    private static final String MESSAGE_CANCELLED = "Cancelled: %1$s";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private Config.UiProfile uiProfile;
+    private AsyncCommandExecutor commandExecutor;
+    private SearchPreviewer searchPreviewer;
+
+    // Copies of the model's state that are only updated on the JavaFX application thread
+    private ObservableList<Patient> patientList;
+    private ObservableList<Doctor> doctorList;
+    private ObservableList<MedicalHistory> medHistList;
+    private ObservableList<Appointment> appointmentList;
+    private ObservableList<Appointment> calendarAppointmentList;
+    private ObservableList<Prescription> prescriptionList;
+    private ReadOnlyProperty<Patient> selectedPatient;
+    private ReadOnlyProperty<Doctor> selectedDoctor;
+    private ReadOnlyProperty<MedicalHistory> selectedMedHist;
+    private ReadOnlyProperty<Appointment> selectedAppointment;
+    private ReadOnlyProperty<CalendarWindow> calendarWindow;
+    private ReadOnlyProperty<ClinicSummary> clinicSummary;
+    private ReadOnlyProperty<Prescription> selectedPrescription;
+    private ObservableList<String> history;
+    private Observable docX;
+    private ReadOnlyProperty<LoadProgress> loadProgress;
 
     // Independent Ui parts residing in this Ui container
-    private BrowserPanel browserPanel;
+    // The browser panels and the help window contain web views, so they are only created when first shown
     private PatientInfoPanel patientInfoPanel;
     private MedHistBrowserPanel medHistBrowserPanel;
     private DoctorBrowserPanel doctorBrowserPanel;
@@ -44,6 +86,8 @@ public class MainWindow extends UiPart<Stage> {
     private PatientListPanel patientListPanel;
     private MedHistListPanel medHistListPanel;
     private AppointmentListPanel appointmentListPanel;
+    private AppointmentCalendarPanel appointmentCalendarPanel;
+    private ClinicDashboardPanel clinicDashboardPanel;
     private PrescriptionListPanel prescriptionListPanel;
     private DoctorListPanel doctorListPanel;
     private ResultDisplay resultDisplay;
@@ -74,18 +118,40 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane statusbarPlaceholder;
 
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, Config.UiProfile uiProfile) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.uiProfile = uiProfile;
+
+        // Commands are executed off the JavaFX application thread, so the UI observes copies of the model's state
+        // that are updated on the JavaFX application thread. These must be created before any command is executed.
+        commandExecutor = new AsyncCommandExecutor(logic, Platform::runLater);
+        searchPreviewer = new SearchPreviewer(logic, Platform::runLater);
+        FxThreadBridge fxThreadBridge = new FxThreadBridge(Platform::runLater);
+        patientList = fxThreadBridge.mirror(logic.getFilteredPatientList());
+        doctorList = fxThreadBridge.mirror(logic.getFilteredDoctorList());
+        medHistList = fxThreadBridge.mirror(logic.getFilteredMedHistList());
+        appointmentList = fxThreadBridge.mirror(logic.getFilteredAppointmentList());
+        calendarAppointmentList = fxThreadBridge.mirror(logic.getCalendarAppointmentList());
+        prescriptionList = fxThreadBridge.mirror(logic.getFilteredPrescriptionList());
+        selectedPatient = fxThreadBridge.mirror(logic.selectedPatientProperty());
+        selectedDoctor = fxThreadBridge.mirror(logic.selectedDoctorProperty());
+        selectedMedHist = fxThreadBridge.mirror(logic.selectedMedHistProperty());
+        selectedAppointment = fxThreadBridge.mirror(logic.selectedAppointmentProperty());
+        calendarWindow = fxThreadBridge.mirror(logic.calendarWindowProperty());
+        clinicSummary = fxThreadBridge.mirror(logic.clinicSummaryProperty());
+        selectedPrescription = fxThreadBridge.mirror(logic.selectedPrescriptionProperty());
+        history = fxThreadBridge.mirror(logic.getHistory());
+        docX = fxThreadBridge.mirror(logic.getDocX());
+        loadProgress = fxThreadBridge.mirror(logic.getLoadProgress());
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -131,31 +197,73 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
+        long startNanos = System.nanoTime();
+
+        // the lite profile shows a blank panel instead of a web view of the blank default page
+        UiPart<Region> defaultPanel = uiProfile == Config.UiProfile.LITE
+                ? createTimed(DefaultPanel::new)
+                : createTimed(() -> new BrowserPanel(selectedPatient));
+        browserPlaceholder.getChildren().add(defaultPanel.getRoot());
+
+        CommandBox commandBox = new CommandBox(new CommandBox.CommandExecutor() {
+            @Override
+            public void execute(String commandText, CommandCallback callback) {
+                executeCommand(commandText, callback);
+            }
 
-        browserPanel = new BrowserPanel(logic.selectedPatientProperty()); // to delete !!!
-        patientInfoPanel = new PatientInfoPanel(logic.selectedPatientProperty());
-        doctorBrowserPanel = new DoctorBrowserPanel(logic.selectedDoctorProperty());
-        medHistBrowserPanel = new MedHistBrowserPanel(logic.selectedMedHistProperty());
-        prescriptionBrowserPanel = new PrescriptionBrowserPanel(logic.selectedPrescriptionProperty());
-        browserPlaceholder.getChildren().add(browserPanel.getRoot());
+            @Override
+            public void cancelReadOnlyCommands() {
+                if (commandExecutor.cancelReadOnlyCommands()) {
+                    resultDisplay.setFeedbackToUser(MESSAGE_CANCELLING);
+                }
+            }
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
+            @Override
+            public Optional<CommandHistory.Match> searchHistory(String query, long beforeSequenceNumber) {
+                return logic.searchHistory(query, beforeSequenceNumber);
+            }
+
+            @Override
+            public void previewCommand(String commandText) {
+                // the preview is computed off the JavaFX application thread
+                searchPreviewer.preview(commandText, preview -> preview.ifPresent(searchPreview ->
+                        resultDisplay.setFeedbackToUser(searchPreview.getMessage())));
+            }
+        }, history);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        patientListPanel = new PatientListPanel(logic.getFilteredPatientList(), logic.selectedPatientProperty(),
-                logic::setSelectedPatient);
+        // selections made in the UI are applied to the model in order with the commands
+        patientListPanel = new PatientListPanel(patientList, selectedPatient,
+            patient -> commandExecutor.submit(() -> logic.setSelectedPatient(patient)));
         patientListPanelPlaceholder.getChildren().add(patientListPanel.getRoot());
 
-        doctorListPanel = new DoctorListPanel(logic.getFilteredDoctorList(), logic.selectedDoctorProperty(),
-                logic::setSelectedDoctor);
+        doctorListPanel = new DoctorListPanel(doctorList, selectedDoctor,
+            doctor -> commandExecutor.submit(() -> logic.setSelectedDoctor(doctor)));
         doctorListPanelPlaceholder.getChildren().add(doctorListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getDocXFilePath(), logic.getDocX());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getDocXFilePath(), docX, loadProgress);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
+        logger.info(String.format("Filled main window in %.1f ms (%s profile)", getMillisSince(startNanos),
+                uiProfile));
+    }
+
+    /**
+     * Creates a UI part with {@code constructor}, logging how long it took.
+     */
+    private <P extends UiPart<?>> P createTimed(Supplier<P> constructor) {
+        long startNanos = System.nanoTime();
+        P part = constructor.get();
+        logger.info(String.format("Created %s in %.1f ms", part.getClass().getSimpleName(),
+                getMillisSince(startNanos)));
+        return part;
+    }
+
+    private static double getMillisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
     }
 
     /**
@@ -163,6 +271,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void showPatientBrowser() {
         browserPlaceholder.getChildren().clear();
+        if (patientInfoPanel == null) {
+            patientInfoPanel = createTimed(() -> new PatientInfoPanel(selectedPatient));
+        }
         browserPlaceholder.getChildren().add(patientInfoPanel.getRoot());
     }
 
@@ -171,6 +282,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void showDoctorBrowser() {
         browserPlaceholder.getChildren().clear();
+        if (doctorBrowserPanel == null) {
+            doctorBrowserPanel = createTimed(() -> new DoctorBrowserPanel(selectedDoctor));
+        }
         browserPlaceholder.getChildren().add(doctorBrowserPanel.getRoot());
     }
 
@@ -179,6 +293,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void showMedHistBrowser() {
         browserPlaceholder.getChildren().clear();
+        if (medHistBrowserPanel == null) {
+            medHistBrowserPanel = createTimed(() -> new MedHistBrowserPanel(selectedMedHist));
+        }
         browserPlaceholder.getChildren().add(medHistBrowserPanel.getRoot());
     }
 
@@ -187,6 +304,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void showPrescriptionBrowser() {
         browserPlaceholder.getChildren().clear();
+        if (prescriptionBrowserPanel == null) {
+            prescriptionBrowserPanel = createTimed(() -> new PrescriptionBrowserPanel(selectedPrescription));
+        }
         browserPlaceholder.getChildren().add(prescriptionBrowserPanel.getRoot());
     }
 
@@ -194,8 +314,8 @@ public class MainWindow extends UiPart<Stage> {
      * Show the medical history panel
      */
     public void showMedHistPanel() {
-        medHistListPanel = new MedHistListPanel(logic.getFilteredMedHistList(), logic.selectedMedHistProperty(),
-                logic::setSelectedMedHist);
+        medHistListPanel = new MedHistListPanel(medHistList, selectedMedHist,
+            medHist -> commandExecutor.submit(() -> logic.setSelectedMedHist(medHist)));
         middleListPanelPlaceholder.getChildren().clear();
         middleListPanelPlaceholder.getChildren().add(medHistListPanel.getRoot());
     }
@@ -204,9 +324,8 @@ public class MainWindow extends UiPart<Stage> {
      * Show the medical history panel
      */
     public void showPrescriptionPanel() {
-        prescriptionListPanel = new PrescriptionListPanel(logic.getFilteredPrescriptionList(),
-                logic.selectedPrescriptionProperty(),
-                logic::setSelectedPrescription);
+        prescriptionListPanel = new PrescriptionListPanel(prescriptionList, selectedPrescription,
+            prescription -> commandExecutor.submit(() -> logic.setSelectedPrescription(prescription)));
         middleListPanelPlaceholder.getChildren().clear();
         middleListPanelPlaceholder.getChildren().add(prescriptionListPanel.getRoot());
     }
@@ -215,13 +334,37 @@ public class MainWindow extends UiPart<Stage> {
      * Show the appointment panel
      */
     public void showAppointmentPanel() {
-        appointmentListPanel = new AppointmentListPanel(logic.getFilteredAppointmentList(),
-                logic.selectedAppointmentProperty(),
-                logic::setSelectedAppointment);
+        appointmentListPanel = new AppointmentListPanel(appointmentList, selectedAppointment,
+            appointment -> commandExecutor.submit(() -> logic.setSelectedAppointment(appointment)));
         middleListPanelPlaceholder.getChildren().clear();
         middleListPanelPlaceholder.getChildren().add(appointmentListPanel.getRoot());
     }
 
+    /**
+     * Show the appointment calendar panel
+     */
+    public void showAppointmentCalendarPanel() {
+        // the calendar follows the calendar window, so a single panel is reused
+        if (appointmentCalendarPanel == null) {
+            appointmentCalendarPanel = createTimed(() -> new AppointmentCalendarPanel(calendarAppointmentList,
+                    calendarWindow, window -> commandExecutor.submit(() -> logic.setCalendarWindow(window))));
+        }
+        middleListPanelPlaceholder.getChildren().clear();
+        middleListPanelPlaceholder.getChildren().add(appointmentCalendarPanel.getRoot());
+    }
+
+    /**
+     * Show the clinic dashboard panel
+     */
+    public void showClinicDashboardPanel() {
+        // the dashboard follows the clinic summary, so a single panel is reused
+        if (clinicDashboardPanel == null) {
+            clinicDashboardPanel = createTimed(() -> new ClinicDashboardPanel(clinicSummary));
+        }
+        middleListPanelPlaceholder.getChildren().clear();
+        middleListPanelPlaceholder.getChildren().add(clinicDashboardPanel.getRoot());
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -239,6 +382,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            helpWindow = createTimed(HelpWindow::new);
+        }
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -258,10 +404,20 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
+    /**
+     * Stops previewing commands, and stops executing commands after those that have already been submitted are done.
+     */
+    void stop() {
+        searchPreviewer.shutdown();
+        commandExecutor.shutdown();
+    }
+
     public PatientListPanel getPatientListPanel() {
         return patientListPanel;
     }
@@ -279,78 +435,103 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command for execution, then updates the UI with its outcome before notifying {@code callback}.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see AsyncCommandExecutor#submit(String, CommandCallback)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private void executeCommand(String commandText, CommandCallback callback) {
+        searchPreviewer.cancel();
+        commandExecutor.submit(commandText, new CommandCallback() {
+            @Override
+            public void onSuccess(CommandResult commandResult) {
+                handleCommandResult(commandResult);
+                callback.onSuccess(commandResult);
             }
 
-            if (commandResult.isExit()) {
-                handleExit();
+            @Override
+            public void onFailure(Exception e) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(e.getMessage());
+                callback.onFailure(e);
             }
 
-            switch (commandResult.getShowPanel()) {
-            case MED_HIST_PANEL:
-                showMedHistPanel();
-                break;
-            case APPOINTMENT_PANEL:
-                showAppointmentPanel();
-                break;
-            case PRESC_PANEL:
-                showPrescriptionPanel();
-                break;
-
-            default:
-                break;
+            @Override
+            public void onCancelled() {
+                logger.info("Cancelled command: " + commandText);
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_CANCELLED, commandText));
+                callback.onCancelled();
             }
+        });
+    }
 
-            switch (commandResult.getShowBrowser()) {
-            case MED_HIST_BROWSER:
-                whichBrowser = CommandResult.ShowBrowser.MED_HIST_BROWSER;
-                showMedHistBrowser();
-                break;
-            case PATIENT_BROWSER:
-                whichBrowser = CommandResult.ShowBrowser.PATIENT_BROWSER;
-                showPatientBrowser();
-                break;
-            case DOCTOR_BROWSER:
-                whichBrowser = CommandResult.ShowBrowser.DOCTOR_BROWSER;
-                showDoctorBrowser();
-                break;
-            case PRESCRIPTION_BROWSER:
-                whichBrowser = CommandResult.ShowBrowser.PRESCRIPTION_BROWSER;
-                showPrescriptionBrowser();
-                break;
-            default:
-                break;
-            }
+    /**
+     * Updates the UI to show the result of a successfully executed command.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            // If deletion of patient or doctor is executed, refresh MedHist or Prescription Browser Panel
-            switch (commandResult.getRefreshOrNot()) {
-            case REFRESH:
-                if ((whichBrowser != null)
-                        && (whichBrowser.equals(CommandResult.ShowBrowser.MED_HIST_BROWSER)
-                        || whichBrowser.equals(CommandResult.ShowBrowser.PRESCRIPTION_BROWSER))) {
-                    browserPlaceholder.getChildren().clear();
-                }
-                break;
-            default:
-                break;
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        switch (commandResult.getShowPanel()) {
+        case MED_HIST_PANEL:
+            showMedHistPanel();
+            break;
+        case APPOINTMENT_PANEL:
+            showAppointmentPanel();
+            break;
+        case APPOINTMENT_CALENDAR_PANEL:
+            showAppointmentCalendarPanel();
+            break;
+        case CLINIC_DASHBOARD_PANEL:
+            showClinicDashboardPanel();
+            break;
+        case PRESC_PANEL:
+            showPrescriptionPanel();
+            break;
+
+        default:
+            break;
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        switch (commandResult.getShowBrowser()) {
+        case MED_HIST_BROWSER:
+            whichBrowser = CommandResult.ShowBrowser.MED_HIST_BROWSER;
+            showMedHistBrowser();
+            break;
+        case PATIENT_BROWSER:
+            whichBrowser = CommandResult.ShowBrowser.PATIENT_BROWSER;
+            showPatientBrowser();
+            break;
+        case DOCTOR_BROWSER:
+            whichBrowser = CommandResult.ShowBrowser.DOCTOR_BROWSER;
+            showDoctorBrowser();
+            break;
+        case PRESCRIPTION_BROWSER:
+            whichBrowser = CommandResult.ShowBrowser.PRESCRIPTION_BROWSER;
+            showPrescriptionBrowser();
+            break;
+        default:
+            break;
+        }
+
+        // If deletion of patient or doctor is executed, refresh MedHist or Prescription Browser Panel
+        switch (commandResult.getRefreshOrNot()) {
+        case REFRESH:
+            if ((whichBrowser != null)
+                    && (whichBrowser.equals(CommandResult.ShowBrowser.MED_HIST_BROWSER)
+                    || whichBrowser.equals(CommandResult.ShowBrowser.PRESCRIPTION_BROWSER))) {
+                browserPlaceholder.getChildren().clear();
+            }
+            break;
+        default:
+            break;
         }
     }
 }
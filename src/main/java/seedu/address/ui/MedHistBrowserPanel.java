@@ -64,7 +64,12 @@ public class MedHistBrowserPanel extends UiPart<Region> {
             loadMedHistPage(newValue);
         });
 
-        loadDefaultMedHist();
+        // The panel may be created after a medical history was selected.
+        if (selectedMedHist.getValue() == null) {
+            loadDefaultMedHist();
+        } else {
+            loadMedHistPage(selectedMedHist.getValue());
+        }
     }
 
     /**
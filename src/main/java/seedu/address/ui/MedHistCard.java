@@ -20,7 +20,7 @@ public class MedHistCard extends UiPart<Region> {
      *
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on DocX level 4</a>
      */
-    public final MedicalHistory medHist;
+    private MedicalHistory medHist;
 
     @javafx.fxml.FXML
     private HBox cardPane;
@@ -35,8 +35,22 @@ public class MedHistCard extends UiPart<Region> {
     @FXML
     private Label id;
 
-    public MedHistCard(MedicalHistory medHist, int displayedIndex) {
+    /**
+     * Creates an empty card, to be shown with {@link #bind(MedicalHistory, int)}.
+     */
+    public MedHistCard() {
         super(FXML);
+    }
+
+    public MedHistCard(MedicalHistory medHist, int displayedIndex) {
+        this();
+        bind(medHist, displayedIndex);
+    }
+
+    /**
+     * Shows {@code medHist} at {@code displayedIndex} in this card, in place of what it showed before.
+     */
+    public void bind(MedicalHistory medHist, int displayedIndex) {
         this.medHist = medHist;
         id.setText(displayedIndex + ". ");
         medicalHistoryId.setText("ID: " + medHist.getMedHistId());
@@ -53,6 +67,10 @@ public class MedHistCard extends UiPart<Region> {
         date.setText("Date: " + medHist.getDate().toString());
     }
 
+    public MedicalHistory getMedicalHistory() {
+        return medHist;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
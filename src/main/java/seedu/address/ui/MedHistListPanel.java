@@ -55,6 +55,8 @@ public class MedHistListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code MedicalHistory} using a {@code MedHistCard}.
      */
     class MedHistListViewCell extends ListCell<MedicalHistory> {
+        private MedHistCard card;
+
         @Override
         protected void updateItem(MedicalHistory medHist, boolean empty) {
             super.updateItem(medHist, empty);
@@ -63,7 +65,11 @@ public class MedHistListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new MedHistCard(medHist, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new MedHistCard();
+                }
+                card.bind(medHist, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
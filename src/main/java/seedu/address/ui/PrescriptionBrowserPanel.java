@@ -56,7 +56,12 @@ public class PrescriptionBrowserPanel extends UiPart<Region> {
             loadPrescriptionPage(newValue);
         });
 
-        loadDefaultPrescription();
+        // The panel may be created after a prescription was selected.
+        if (selectedPrescription.getValue() == null) {
+            loadDefaultPrescription();
+        } else {
+            loadPrescriptionPage(selectedPrescription.getValue());
+        }
     }
 
     /**
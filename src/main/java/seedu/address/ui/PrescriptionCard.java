@@ -12,7 +12,7 @@ import seedu.address.model.prescription.Prescription;
 public class PrescriptionCard extends UiPart<Region> {
     private static final String FXML = "PrescriptionListCard.fxml";
 
-    public final Prescription prescription;
+    private Prescription prescription;
 
     @javafx.fxml.FXML
     private HBox cardPane;
@@ -29,8 +29,22 @@ public class PrescriptionCard extends UiPart<Region> {
     @FXML
     private Label id;
 
-    public PrescriptionCard(Prescription prescription, int displayedIndex) {
+    /**
+     * Creates an empty card, to be shown with {@link #bind(Prescription, int)}.
+     */
+    public PrescriptionCard() {
         super(FXML);
+    }
+
+    public PrescriptionCard(Prescription prescription, int displayedIndex) {
+        this();
+        bind(prescription, displayedIndex);
+    }
+
+    /**
+     * Shows {@code prescription} at {@code displayedIndex} in this card, in place of what it showed before.
+     */
+    public void bind(Prescription prescription, int displayedIndex) {
         this.prescription = prescription;
         id.setText(displayedIndex + ". ");
         //patientId.setText("Patient ID: " + prescription.getPatientId());
@@ -48,7 +62,10 @@ public class PrescriptionCard extends UiPart<Region> {
         date.setText("Date: " + prescription.getDate().toString());
         medicineName.setText("Medicine Name: " + prescription.getMedicine().getName());
         description.setText("Description: " + prescription.getDescription().toString());
+    }
 
+    public Prescription getPrescription() {
+        return prescription;
     }
 
     @Override
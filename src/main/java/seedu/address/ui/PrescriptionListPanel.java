@@ -58,6 +58,8 @@ public class PrescriptionListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Prescription} using a {@code PrescriptionCard}.
      */
     class PrescriptionListViewCell extends ListCell<Prescription> {
+        private PrescriptionCard card;
+
         @Override
         protected void updateItem(Prescription prescription, boolean empty) {
             super.updateItem(prescription, empty);
@@ -66,7 +68,11 @@ public class PrescriptionListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PrescriptionCard(prescription, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PrescriptionCard();
+                }
+                card.bind(prescription, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -5,10 +5,12 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
 
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
-import seedu.address.model.ReadOnlyDocX;
+import seedu.address.logic.LoadProgress;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -17,6 +19,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_LOADING = "Loading data...";
+    public static final String SYNC_STATUS_LOADING_PROGRESS = "Loading data: %1$d of %2$d records";
 
     /**
      * Used to generate time stamps.
@@ -36,13 +40,22 @@ public class StatusBarFooter extends UiPart<Region> {
     private Label saveLocationStatus;
 
 
-    public StatusBarFooter(Path saveLocation, ReadOnlyDocX addressBook) {
+    public StatusBarFooter(Path saveLocation, Observable addressBook) {
         super(FXML);
         addressBook.addListener(observable -> updateSyncStatus());
         syncStatus.setText(SYNC_STATUS_INITIAL);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Creates a status bar that also shows the progress of loading the data while it is being loaded.
+     */
+    public StatusBarFooter(Path saveLocation, Observable addressBook, ReadOnlyProperty<LoadProgress> loadProgress) {
+        this(saveLocation, addressBook);
+        showLoadProgress(loadProgress.getValue());
+        loadProgress.addListener((observable, oldProgress, newProgress) -> showLoadProgress(newProgress));
+    }
+
     /**
      * Sets the clock used to determine the current time.
      */
@@ -57,6 +70,21 @@ public class StatusBarFooter extends UiPart<Region> {
         return clock;
     }
 
+    /**
+     * Shows {@code progress} as the sync status while the data is being loaded.
+     * Once it is loaded, the data has not been updated yet.
+     */
+    private void showLoadProgress(LoadProgress progress) {
+        if (progress.isDone()) {
+            syncStatus.setText(SYNC_STATUS_INITIAL);
+        } else if (progress.getTotal() == 0) {
+            syncStatus.setText(SYNC_STATUS_LOADING);
+        } else {
+            syncStatus.setText(String.format(SYNC_STATUS_LOADING_PROGRESS, progress.getLoaded(),
+                    progress.getTotal()));
+        }
+    }
+
     /**
      * Updates "last updated" status to the current time.
      */
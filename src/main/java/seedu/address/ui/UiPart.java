@@ -2,8 +2,13 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
@@ -17,6 +22,9 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    /** The contents of the FXML files loaded so far by their URLs, so that each file is only read once. */
+    private static final Map<String, byte[]> fxmlFileContents = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -60,6 +68,8 @@ public abstract class UiPart<T> {
 
     /**
      * Loads the object hierarchy from a FXML document.
+     * The document is only read from {@code location} the first time, as parts such as list cards are loaded many
+     * times.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
      */
@@ -69,12 +79,34 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
+            fxmlLoader.load(new ByteArrayInputStream(getFxmlFileContents(location)));
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the contents of the FXML document at {@code location}, reading it if it has not been read before.
+     * @throws IOException if the document cannot be read.
+     */
+    private static byte[] getFxmlFileContents(URL location) throws IOException {
+        byte[] contents = fxmlFileContents.get(location.toExternalForm());
+        if (contents != null) {
+            return contents;
+        }
+
+        try (InputStream in = location.openStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int length = in.read(buffer); length != -1; length = in.read(buffer)) {
+                out.write(buffer, 0, length);
+            }
+            contents = out.toByteArray();
+        }
+        fxmlFileContents.put(location.toExternalForm(), contents);
+        return contents;
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
@@ -0,0 +1,297 @@
+package seedu.address.ui.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentTime;
+import seedu.address.model.appointment.CalendarWindow;
+import seedu.address.ui.UiPart;
+
+/**
+ * Panel showing a doctor's appointments in a calendar of a day or a week, with a slot for every hour that
+ * appointments can start at.
+ * The slot nodes are created once and reused for every window shown, and only the slots of appointments that
+ * change are updated, so the panel does as little work as the window it shows, however many appointments there are.
+ */
+public class AppointmentCalendarPanel extends UiPart<Region> {
+    private static final String FXML = "AppointmentCalendarPanel.fxml";
+    private static final String TITLE_NO_WINDOW = "Appointments";
+    private static final String TITLE = "Appointments of doctor %1$s";
+    private static final String DAYS_BUTTON_DAY = "Day";
+    private static final String DAYS_BUTTON_WEEK = "Week";
+    private static final String STYLE_CLASS_SLOT = "calendar-slot";
+    private static final String STYLE_CLASS_BOOKED = "calendar-slot-booked";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEE d MMM");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    /** The hours that appointments can start at, in order. */
+    private static final List<LocalTime> SLOT_TIMES = getSlotTimes();
+
+    private final Logger logger = LogsCenter.getLogger(AppointmentCalendarPanel.class);
+    private final ReadOnlyProperty<CalendarWindow> window;
+    private final Consumer<CalendarWindow> onWindowChange;
+    private final ObservableList<Appointment> appointments;
+    private final Label[] dayHeaders = new Label[CalendarWindow.DAYS_IN_WEEK];
+    private final Label[][] slots = new Label[CalendarWindow.DAYS_IN_WEEK][SLOT_TIMES.size()];
+    /** The appointments in the window shown, by the slot they start at. */
+    private final Map<LocalDateTime, List<Appointment>> slotAppointments = new HashMap<>();
+
+    @FXML
+    private Label title;
+
+    @FXML
+    private Button previousButton;
+
+    @FXML
+    private Button todayButton;
+
+    @FXML
+    private Button nextButton;
+
+    @FXML
+    private Button daysButton;
+
+    @FXML
+    private GridPane calendarGrid;
+
+    /**
+     * Creates a panel showing the appointments in {@code appointments} that lie in {@code window}.
+     * Navigating to another window calls {@code onWindowChange}, which should update both.
+     */
+    public AppointmentCalendarPanel(ObservableList<Appointment> appointments,
+                                    ReadOnlyProperty<CalendarWindow> window,
+                                    Consumer<CalendarWindow> onWindowChange) {
+        super(FXML);
+        this.appointments = appointments;
+        this.window = window;
+        this.onWindowChange = onWindowChange;
+        createSlots();
+
+        appointments.addListener(this::onAppointmentsChanged);
+        window.addListener((observable, oldValue, newValue) -> showWindow(newValue));
+        showWindow(window.getValue());
+    }
+
+    /**
+     * Returns the hours that {@link AppointmentTime} accepts as the start of an appointment.
+     */
+    private static List<LocalTime> getSlotTimes() {
+        List<LocalTime> slotTimes = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            LocalTime time = LocalTime.of(hour, 0);
+            if (AppointmentTime.isValidAppointmentTime(time.format(TIME_FORMAT))) {
+                slotTimes.add(time);
+            }
+        }
+        return slotTimes;
+    }
+
+    /**
+     * Creates the headers and the slot nodes of a week, which are reused for every window shown.
+     */
+    private void createSlots() {
+        calendarGrid.getColumnConstraints().add(new ColumnConstraints());
+        for (int day = 0; day < CalendarWindow.DAYS_IN_WEEK; day++) {
+            ColumnConstraints dayColumn = new ColumnConstraints();
+            dayColumn.setHgrow(Priority.ALWAYS);
+            calendarGrid.getColumnConstraints().add(dayColumn);
+
+            dayHeaders[day] = new Label();
+            dayHeaders[day].getStyleClass().add("label-bright");
+            calendarGrid.add(dayHeaders[day], day + 1, 0);
+        }
+
+        for (int row = 0; row < SLOT_TIMES.size(); row++) {
+            Label timeLabel = new Label(SLOT_TIMES.get(row).format(TIME_FORMAT));
+            timeLabel.getStyleClass().add("cell_small_label");
+            calendarGrid.add(timeLabel, 0, row + 1);
+
+            for (int day = 0; day < CalendarWindow.DAYS_IN_WEEK; day++) {
+                Label slot = new Label();
+                slot.setMaxWidth(Double.MAX_VALUE);
+                slot.setMaxHeight(Double.MAX_VALUE);
+                slot.setWrapText(true);
+                slot.getStyleClass().add(STYLE_CLASS_SLOT);
+                slots[day][row] = slot;
+                calendarGrid.add(slot, day + 1, row + 1);
+            }
+        }
+    }
+
+    /**
+     * Shows the appointments in {@code shownWindow}, or an empty calendar if it is null.
+     */
+    private void showWindow(CalendarWindow shownWindow) {
+        logger.fine("Calendar window changed to: " + shownWindow);
+        slotAppointments.clear();
+        if (shownWindow != null) {
+            appointments.stream().filter(shownWindow::contains).forEach(this::addToSlot);
+        }
+
+        int days = shownWindow == null ? CalendarWindow.DAYS_IN_WEEK : shownWindow.getDays();
+        title.setText(shownWindow == null ? TITLE_NO_WINDOW : String.format(TITLE, shownWindow.getDoctorId()));
+        daysButton.setText(days == CalendarWindow.DAYS_IN_DAY ? DAYS_BUTTON_WEEK : DAYS_BUTTON_DAY);
+        previousButton.setDisable(shownWindow == null);
+        todayButton.setDisable(shownWindow == null);
+        nextButton.setDisable(shownWindow == null);
+        daysButton.setDisable(shownWindow == null);
+
+        for (int day = 0; day < CalendarWindow.DAYS_IN_WEEK; day++) {
+            boolean isShown = day < days;
+            dayHeaders[day].setVisible(isShown);
+            dayHeaders[day].setManaged(isShown);
+            dayHeaders[day].setText(shownWindow == null ? "" : shownWindow.getStartDate().plusDays(day)
+                    .format(DAY_FORMAT));
+            for (int row = 0; row < SLOT_TIMES.size(); row++) {
+                slots[day][row].setVisible(isShown);
+                slots[day][row].setManaged(isShown);
+                if (isShown) {
+                    updateSlot(day, row);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates only the slots of the appointments that were added or removed.
+     */
+    private void onAppointmentsChanged(ListChangeListener.Change<? extends Appointment> change) {
+        CalendarWindow shownWindow = window.getValue();
+        if (shownWindow == null) {
+            return;
+        }
+        while (change.next()) {
+            for (Appointment removed : change.getRemoved()) {
+                if (shownWindow.contains(removed)) {
+                    removeFromSlot(removed);
+                    updateSlot(shownWindow, removed);
+                }
+            }
+            for (Appointment added : change.getAddedSubList()) {
+                if (shownWindow.contains(added)) {
+                    addToSlot(added);
+                    updateSlot(shownWindow, added);
+                }
+            }
+        }
+    }
+
+    private void addToSlot(Appointment appointment) {
+        slotAppointments.computeIfAbsent(getSlot(appointment), slot -> new ArrayList<>()).add(appointment);
+    }
+
+    /**
+     * Removes {@code appointment} from its slot, comparing by identity.
+     */
+    private void removeFromSlot(Appointment appointment) {
+        LocalDateTime slot = getSlot(appointment);
+        List<Appointment> inSlot = slotAppointments.getOrDefault(slot, Collections.emptyList());
+        for (int i = 0; i < inSlot.size(); i++) {
+            if (inSlot.get(i) == appointment) {
+                inSlot.remove(i);
+                break;
+            }
+        }
+        if (inSlot.isEmpty()) {
+            slotAppointments.remove(slot);
+        }
+    }
+
+    private static LocalDateTime getSlot(Appointment appointment) {
+        return LocalDateTime.of(appointment.getDate().date, appointment.getTime().time);
+    }
+
+    /**
+     * Updates the slot node of {@code appointment} in {@code shownWindow}.
+     */
+    private void updateSlot(CalendarWindow shownWindow, Appointment appointment) {
+        int day = (int) ChronoUnit.DAYS.between(shownWindow.getStartDate(), appointment.getDate().date);
+        int row = SLOT_TIMES.indexOf(appointment.getTime().time);
+        if (row >= 0) {
+            updateSlot(day, row);
+        }
+    }
+
+    /**
+     * Updates the slot node in column {@code day} and row {@code row} with the appointments in that slot.
+     */
+    private void updateSlot(int day, int row) {
+        CalendarWindow shownWindow = window.getValue();
+        Label slot = slots[day][row];
+        List<Appointment> inSlot = shownWindow == null
+                ? Collections.emptyList()
+                : slotAppointments.getOrDefault(LocalDateTime.of(shownWindow.getStartDate().plusDays(day),
+                        SLOT_TIMES.get(row)), Collections.emptyList());
+
+        slot.setText(inSlot.stream()
+                .map(appointment -> "Patient " + appointment.getPatientId() + " (" + appointment
+                        .getAppointmentStatus().name().toLowerCase() + ")")
+                .collect(Collectors.joining("\n")));
+        slot.getStyleClass().remove(STYLE_CLASS_BOOKED);
+        if (!inSlot.isEmpty()) {
+            slot.getStyleClass().add(STYLE_CLASS_BOOKED);
+        }
+    }
+
+    @FXML
+    private void handlePrevious() {
+        onWindowChange.accept(window.getValue().previous());
+    }
+
+    @FXML
+    private void handleNext() {
+        onWindowChange.accept(window.getValue().next());
+    }
+
+    /**
+     * Shows the day or the week, as shown now, that contains today.
+     */
+    @FXML
+    private void handleToday() {
+        CalendarWindow shownWindow = window.getValue();
+        LocalDate today = LocalDate.now();
+        onWindowChange.accept(shownWindow.getDays() == CalendarWindow.DAYS_IN_DAY
+                ? shownWindow.toDay(today)
+                : CalendarWindow.weekOf(shownWindow.getDoctorId(), today));
+    }
+
+    /**
+     * Switches between showing a day of the week, which is today if the week contains it, and the week that
+     * contains the day.
+     */
+    @FXML
+    private void handleToggleDays() {
+        CalendarWindow shownWindow = window.getValue();
+        if (shownWindow.getDays() == CalendarWindow.DAYS_IN_DAY) {
+            onWindowChange.accept(shownWindow.toWeek());
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        boolean isTodayShown = !today.isBefore(shownWindow.getStartDate()) && !today.isAfter(shownWindow.getEndDate());
+        onWindowChange.accept(shownWindow.toDay(isTodayShown ? today : shownWindow.getStartDate()));
+    }
+}
@@ -23,7 +23,7 @@ public class AppointmentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on DocX level 4</a>
      */
 
-    public final Appointment appointment;
+    private Appointment appointment;
 
     @FXML
     private HBox cardPane;
@@ -44,8 +44,22 @@ public class AppointmentCard extends UiPart<Region> {
     @FXML
     private Label time;
 
-    public AppointmentCard(Appointment appointment, int displayedIndex) {
+    /**
+     * Creates an empty card, to be shown with {@link #bind(Appointment, int)}.
+     */
+    public AppointmentCard() {
         super(FXML);
+    }
+
+    public AppointmentCard(Appointment appointment, int displayedIndex) {
+        this();
+        bind(appointment, displayedIndex);
+    }
+
+    /**
+     * Shows {@code appointment} at {@code displayedIndex} in this card, in place of what it showed before.
+     */
+    public void bind(Appointment appointment, int displayedIndex) {
         this.appointment = appointment;
         id.setText(displayedIndex + ". ");
         status.setText(appointment.getAppointmentStatus().name());
@@ -69,6 +83,10 @@ public class AppointmentCard extends UiPart<Region> {
         time.setText(appointment.getTime().toString());
     }
 
+    public Appointment getAppointment() {
+        return appointment;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
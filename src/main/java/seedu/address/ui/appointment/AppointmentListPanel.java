@@ -57,6 +57,8 @@ public class AppointmentListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Appointment} using a {@code AppointmentCard}.
      */
     class AppointmentListViewCell extends ListCell<Appointment> {
+        private AppointmentCard card;
+
         @Override
         protected void updateItem(Appointment appointment, boolean empty) {
             super.updateItem(appointment, empty);
@@ -65,7 +67,11 @@ public class AppointmentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new AppointmentCard(appointment, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new AppointmentCard();
+                }
+                card.bind(appointment, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -58,7 +58,12 @@ public class DoctorBrowserPanel extends UiPart<Region> {
             loadDoctorPage(newValue);
         });
 
-        loadDefaultDoctor();
+        // The panel may be created after a doctor was selected.
+        if (selectedDoctor.getValue() == null) {
+            loadDefaultDoctor();
+        } else {
+            loadDoctorPage(selectedDoctor.getValue());
+        }
     }
 
     /**
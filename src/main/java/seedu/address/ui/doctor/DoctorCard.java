@@ -23,7 +23,7 @@ public class DoctorCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on DocX level 4</a>
      */
 
-    public final Doctor doctor;
+    private Doctor doctor;
 
     @FXML
     private HBox cardPane;
@@ -42,8 +42,22 @@ public class DoctorCard extends UiPart<Region> {
     @FXML
     private FlowPane specialisations;
 
-    public DoctorCard(Doctor doctor, int displayedIndex) {
+    /**
+     * Creates an empty card, to be shown with {@link #bind(Doctor, int)}.
+     */
+    public DoctorCard() {
         super(FXML);
+    }
+
+    public DoctorCard(Doctor doctor, int displayedIndex) {
+        this();
+        bind(doctor, displayedIndex);
+    }
+
+    /**
+     * Shows {@code doctor} at {@code displayedIndex} in this card, in place of what it showed before.
+     */
+    public void bind(Doctor doctor, int displayedIndex) {
         this.doctor = doctor;
         id.setText(displayedIndex + ". ");
         name.setText(doctor.getName().fullName);
@@ -52,9 +66,14 @@ public class DoctorCard extends UiPart<Region> {
         year.setText(doctor.getYear().value);
         phone.setText(doctor.getPhone().value);
 
+        specialisations.getChildren().clear();
         doctor.getSpecs().forEach(spec -> specialisations.getChildren().add(new Label(spec.specialisation)));
     }
 
+    public Doctor getDoctor() {
+        return doctor;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -56,6 +56,8 @@ public class DoctorListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Doctor} using a {@code DoctorCard}.
      */
     class DoctorListViewCell extends ListCell<Doctor> {
+        private DoctorCard card;
+
         @Override
         protected void updateItem(Doctor doctor, boolean empty) {
             super.updateItem(doctor, empty);
@@ -64,7 +66,11 @@ public class DoctorListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DoctorCard(doctor, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new DoctorCard();
+                }
+                card.bind(doctor, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
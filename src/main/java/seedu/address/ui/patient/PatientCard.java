@@ -23,7 +23,7 @@ public class PatientCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on DocX level 4</a>
      */
 
-    public final Patient patient;
+    private Patient patient;
 
     @FXML
     private HBox cardPane;
@@ -46,8 +46,26 @@ public class PatientCard extends UiPart<Region> {
     @FXML
     private Label appointmentStatus;
 
-    public PatientCard(Patient patient, int displayedIndex) {
+    /**
+     * Creates an empty card, to be shown with {@link #bind(Patient, int)}.
+     * The FXML is only loaded here, so showing another patient in an existing card is much cheaper than
+     * creating a new card.
+     */
+    public PatientCard() {
         super(FXML);
+    }
+
+    public PatientCard(Patient patient, int displayedIndex) {
+        this();
+        bind(patient, displayedIndex);
+    }
+
+    /**
+     * Shows {@code patient} at {@code displayedIndex} in this card, in place of what it showed before.
+     * The patient is always shown again, even if it is the one already shown, as the model changes patients in
+     * place and then replaces them with themselves to refresh the list.
+     */
+    public void bind(Patient patient, int displayedIndex) {
         this.patient = patient;
         id.setText(displayedIndex + ". ");
         name.setText(patient.getName().fullName);
@@ -57,11 +75,15 @@ public class PatientCard extends UiPart<Region> {
         phone.setText(patient.getPhone().value);
         address.setText(patient.getAddress().value);
 
+        tags.getChildren().clear();
         patient.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
 
         String appointmentStatusString = patient.getAppointmentStatus().toString();
         appointmentStatus.setText(appointmentStatusString);
+    }
 
+    public Patient getPatient() {
+        return patient;
     }
 
     @Override
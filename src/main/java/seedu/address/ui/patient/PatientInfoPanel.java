@@ -67,7 +67,12 @@ public class PatientInfoPanel extends UiPart<Region> {
             loadPatientPage(newValue);
         });
 
-        loadDefaultPage();
+        // The panel may be created after a patient was selected.
+        if (selectedPatient.getValue() == null) {
+            loadDefaultPage();
+        } else {
+            loadPatientPage(selectedPatient.getValue());
+        }
     }
 
     /**
@@ -54,8 +54,11 @@ public class PatientListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Patient} using a {@code PatientCard}.
+     * The card is created when the cell first shows a patient, and is reused for every patient the cell shows.
      */
     class PatientListViewCell extends ListCell<Patient> {
+        private PatientCard card;
+
         @Override
         protected void updateItem(Patient patient, boolean empty) {
             super.updateItem(patient, empty);
@@ -64,7 +67,11 @@ public class PatientListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PatientCard(patient, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PatientCard();
+                }
+                card.bind(patient, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
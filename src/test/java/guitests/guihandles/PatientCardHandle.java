@@ -21,6 +21,7 @@ public class PatientCardHandle extends NodeHandle<Node> {
     private static final String PHONE_FIELD_ID = "#phone";
     private static final String ADDRESS_FIELD_ID = "#address";
     private static final String TAGS_FIELD_ID = "#tags";
+    private static final String APPOINTMENT_STATUS_FIELD_ID = "#appointmentStatus";
 
     private final Label idLabel;
     private final Label nameLabel;
@@ -29,6 +30,7 @@ public class PatientCardHandle extends NodeHandle<Node> {
     private final Label phoneLabel;
     private final Label addressLabel;
     private final List<Label> tagLabels;
+    private final Label appointmentStatusLabel;
 
     public PatientCardHandle(Node cardNode) {
         super(cardNode);
@@ -39,6 +41,7 @@ public class PatientCardHandle extends NodeHandle<Node> {
         ageLabel = getChildNode(AGE_FIELD_ID);
         phoneLabel = getChildNode(PHONE_FIELD_ID);
         addressLabel = getChildNode(ADDRESS_FIELD_ID);
+        appointmentStatusLabel = getChildNode(APPOINTMENT_STATUS_FIELD_ID);
 
         Region tagsContainer = getChildNode(TAGS_FIELD_ID);
         tagLabels = tagsContainer
@@ -72,6 +75,10 @@ public class PatientCardHandle extends NodeHandle<Node> {
         return addressLabel.getText();
     }
 
+    public String getAppointmentStatus() {
+        return appointmentStatusLabel.getText();
+    }
+
     public List<String> getTags() {
         return tagLabels
                 .stream()
@@ -37,6 +37,36 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchScriptAndStrict_success() {
+        parametersStub.namedParameters.put("batch", "script.txt");
+        parametersStub.namedParameters.put("strict", "true");
+        expected.setBatchScriptPath(Paths.get("script.txt"));
+        expected.setStrict(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScriptPath(Paths.get("script.txt"));
+        expected.setStrict(true);
+        assertEquals(expected, AppParameters.parse(
+                new String[] {"--config=config.json", "--batch=script.txt", "--strict", "ignored"}));
+    }
+
+    @Test
+    public void parse_allowMissingData_success() {
+        expected.setBatchScriptPath(Paths.get("script.txt"));
+        expected.setMissingDataAllowed(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--batch=script.txt", "--allow-missing-data"}));
+    }
+
+    @Test
+    public void parse_noCommandLineArguments_success() {
+        assertEquals(expected, AppParameters.parse(new String[0]));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,64 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.patient.ListPatientCommand;
+
+public class MainAppTest {
+
+    private static final String CORRUPT_DATA = "not a DocX";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final AppParameters appParameters = new AppParameters();
+    private Path dataFilePath;
+
+    @Before
+    public void setUp() throws Exception {
+        Path folder = temporaryFolder.getRoot().toPath();
+        Path configFilePath = folder.resolve("config.json");
+        Path prefsFilePath = folder.resolve("preferences.json");
+        dataFilePath = folder.resolve("docx.json");
+        FileUtil.writeToFile(configFilePath, "{\"userPrefsFilePath\" : "
+                + JsonUtil.toJsonString(prefsFilePath.toString()) + "}");
+        FileUtil.writeToFile(prefsFilePath, "{\"docXFilePath\" : "
+                + JsonUtil.toJsonString(dataFilePath.toString()) + "}");
+        Path scriptPath = folder.resolve("script.txt");
+        FileUtil.writeToFile(scriptPath, ListPatientCommand.COMMAND_WORD);
+
+        appParameters.setConfigPath(configFilePath);
+        appParameters.setBatchScriptPath(scriptPath);
+    }
+
+    @Test
+    public void runBatchScript_corruptDataFile_nothingSaved() throws Exception {
+        FileUtil.writeToFile(dataFilePath, CORRUPT_DATA);
+        assertFalse(new MainApp().runBatchScript(appParameters));
+        assertEquals(CORRUPT_DATA, FileUtil.readFromFile(dataFilePath));
+    }
+
+    @Test
+    public void runBatchScript_missingDataFile_nothingSaved() {
+        assertFalse(new MainApp().runBatchScript(appParameters));
+        assertFalse(FileUtil.isFileExists(dataFilePath));
+    }
+
+    @Test
+    public void runBatchScript_missingDataFileAllowed_emptyDocXSaved() {
+        appParameters.setMissingDataAllowed(true);
+        assertTrue(new MainApp().runBatchScript(appParameters));
+        assertTrue(FileUtil.isFileExists(dataFilePath));
+    }
+}
@@ -9,10 +9,12 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandHistory;
 import seedu.address.model.DocX;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyDocX;
+import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.storage.JsonDocXStorage;
 import seedu.address.storage.UserPrefsStorage;
@@ -55,6 +57,8 @@ public class TestApp extends MainApp {
     protected Config initConfig(Path configFilePath) {
         Config config = super.initConfig(configFilePath);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        config.setMetricsSampleIntervalSeconds(null);
+        config.setUiStallThresholdMillis(null);
         return config;
     }
 
@@ -68,6 +72,12 @@ public class TestApp extends MainApp {
         return userPrefs;
     }
 
+    @Override
+    protected CommandHistory initCommandHistory(ReadOnlyUserPrefs userPrefs) {
+        // the history of a test run is not saved
+        return new CommandHistory();
+    }
+
     /**
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
@@ -101,6 +111,20 @@ public class TestApp extends MainApp {
     @Override
     public void start(Stage primaryStage) {
         ui.start(primaryStage);
+        loadData();
+    }
+
+    /**
+     * Loads the data in the background like the app, but waits for it so that tests start with the data loaded.
+     */
+    @Override
+    protected void loadData() {
+        super.loadData();
+        try {
+            logic.awaitDataLoaded();
+        } catch (InterruptedException ie) {
+            throw new AssertionError("Interrupted while loading the data.", ie);
+        }
     }
 
     public static void main(String[] args) {
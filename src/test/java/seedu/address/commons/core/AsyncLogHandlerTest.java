@@ -0,0 +1,192 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+import seedu.address.testutil.Assert;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @After
+    public void tearDown() {
+        target.release();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, AsyncLogHandler.MESSAGE_INVALID_CAPACITY, () ->
+                new AsyncLogHandler(0, OverflowPolicy.DROP, target));
+    }
+
+    @Test
+    public void flush_publishedRecords_writtenInOrderAndFlushed() {
+        handler = new AsyncLogHandler(10, OverflowPolicy.DROP, target);
+        target.release();
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        handler.publish(new LogRecord(Level.INFO, "second"));
+        handler.flush();
+
+        assertEquals(2, target.getMessages().size());
+        assertEquals("first", target.getMessages().get(0));
+        assertEquals("second", target.getMessages().get(1));
+        assertTrue(target.getFlushCount() > 0);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        handler = new AsyncLogHandler(10, OverflowPolicy.DROP, target);
+        target.release();
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.publish(new LogRecord(Level.SEVERE, "written"));
+        handler.flush();
+
+        assertEquals(Collections.singletonList("written"), target.getMessages());
+        assertEquals(Level.WARNING, target.getLevel());
+    }
+
+    @Test
+    public void publish_sourceInferredOnCallingThread() {
+        handler = new AsyncLogHandler(10, OverflowPolicy.DROP, target);
+        target.release();
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.info("message");
+        handler.flush();
+
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.getRecords().get(0).getSourceClassName());
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_droppedAndReported() throws Exception {
+        handler = new AsyncLogHandler(2, OverflowPolicy.DROP, target);
+
+        // the writer takes the first record and waits in the target, so the next two fill the buffer
+        handler.publish(new LogRecord(Level.INFO, "taken"));
+        target.awaitPublishing();
+        handler.publish(new LogRecord(Level.INFO, "buffered 1"));
+        handler.publish(new LogRecord(Level.INFO, "buffered 2"));
+        handler.publish(new LogRecord(Level.INFO, "dropped 1"));
+        handler.publish(new LogRecord(Level.INFO, "dropped 2"));
+        assertEquals(2, handler.getDroppedCount());
+
+        target.release();
+        handler.flush();
+        assertEquals(0, handler.getDroppedCount());
+        // the dropped records are reported after the batch that was being written when they were dropped
+        assertEquals(Arrays.asList("taken", String.format(AsyncLogHandler.MESSAGE_DROPPED, 2), "buffered 1",
+                "buffered 2"), target.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFullWithBlockPolicy_nothingDropped() throws Exception {
+        handler = new AsyncLogHandler(1, OverflowPolicy.BLOCK, target);
+
+        Thread publisher = new Thread(() -> {
+            for (int i = 0; i < 5; i++) {
+                handler.publish(new LogRecord(Level.INFO, "message " + i));
+            }
+        });
+        publisher.start();
+        target.awaitPublishing();
+        target.release();
+        publisher.join();
+        handler.flush();
+
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(5, target.getMessages().size());
+        assertEquals("message 4", target.getMessages().get(4));
+    }
+
+    @Test
+    public void close_bufferedRecords_writtenAndTargetsClosed() {
+        handler = new AsyncLogHandler(10, OverflowPolicy.DROP, target);
+        target.release();
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(Collections.singletonList("before close"), target.getMessages());
+        assertTrue(target.isClosed());
+    }
+
+    /**
+     * A handler that keeps the records published to it, and makes the writer wait in {@code publish} until it is
+     * released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile int flushCount = 0;
+        private volatile boolean isClosed = false;
+
+        @Override
+        public void publish(LogRecord record) {
+            publishing.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        void awaitPublishing() throws InterruptedException {
+            publishing.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<LogRecord> getRecords() {
+            return new ArrayList<>(records);
+        }
+
+        List<String> getMessages() {
+            List<String> messages = new ArrayList<>();
+            getRecords().forEach(record -> messages.add(record.getMessage()));
+            return messages;
+        }
+
+        int getFlushCount() {
+            return flushCount;
+        }
+
+        boolean isClosed() {
+            return isClosed;
+        }
+    }
+}
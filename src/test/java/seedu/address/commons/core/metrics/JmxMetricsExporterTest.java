@@ -0,0 +1,48 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+public class JmxMetricsExporterTest {
+
+    private final MBeanServer server = MBeanServerFactory.newMBeanServer();
+    private final JmxMetricsExporter exporter = new JmxMetricsExporter(server);
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    public void export_metrics_registeredAsMBeans() throws Exception {
+        registry.counter("command.list-p.failures").increment();
+        registry.histogram("command.list-p").record(2_000_000);
+        exporter.export(registry);
+
+        ObjectName counterName = JmxMetricsExporter.getObjectName("Counter", "command.list-p.failures");
+        assertEquals(1L, server.getAttribute(counterName, "Count"));
+        ObjectName latencyName = JmxMetricsExporter.getObjectName("Latency", "command.list-p");
+        assertEquals(2.0, (Double) server.getAttribute(latencyName, "MaxMillis"), 1e-9);
+
+        // metrics added later are registered by the next export, and values are live
+        registry.gauge("heap.usedBytes").setValue(42);
+        registry.counter("command.list-p.failures").increment();
+        exporter.export(registry);
+        assertEquals(42L, server.getAttribute(JmxMetricsExporter.getObjectName("Gauge", "heap.usedBytes"), "Value"));
+        assertEquals(2L, server.getAttribute(counterName, "Count"));
+    }
+
+    @Test
+    public void close_registeredMetrics_unregistered() throws Exception {
+        registry.counter("a").increment();
+        exporter.export(registry);
+        ObjectName counterName = JmxMetricsExporter.getObjectName("Counter", "a");
+        assertTrue(server.isRegistered(counterName));
+
+        exporter.close();
+        assertFalse(server.isRegistered(counterName));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getters_noLatencies_zero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanMillis(), DELTA);
+        assertEquals(0, histogram.get99thPercentileMillis(), DELTA);
+        assertEquals(0, histogram.getMaxMillis(), DELTA);
+    }
+
+    @Test
+    public void record_latencies_meanAndMaxExact() {
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(2, histogram.getMeanMillis(), DELTA);
+        assertEquals(3, histogram.getMaxMillis(), DELTA);
+    }
+
+    @Test
+    public void getPercentileMillis_latencies_upperBoundOfBucket() {
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+        // 100us falls into the bucket up to 128us
+        assertEquals(0.128, histogram.get50thPercentileMillis(), DELTA);
+        assertEquals(0.128, histogram.get95thPercentileMillis(), DELTA);
+        assertEquals(0.128, histogram.get99thPercentileMillis(), DELTA);
+        // the bucket of the largest latency is bounded by the largest latency
+        assertEquals(10, histogram.getPercentileMillis(100), DELTA);
+    }
+
+    @Test
+    public void record_negativeOrHugeLatency_recorded() {
+        histogram.record(-1);
+        histogram.record(TimeUnit.DAYS.toNanos(1));
+
+        assertEquals(2, histogram.getCount());
+        // a negative latency is counted as zero, in the bucket up to 1us
+        assertEquals(0.001, histogram.get50thPercentileMillis(), DELTA);
+        assertEquals(TimeUnit.DAYS.toMillis(1), histogram.getPercentileMillis(100), DELTA);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MetricsFileExporterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void export_registry_summaryAppended() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("metrics.log");
+        MetricsFileExporter exporter = new MetricsFileExporter(filePath.toString());
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.counter("first").increment();
+        exporter.export(registry);
+        registry.counter("second").increment();
+        exporter.export(registry);
+        exporter.close();
+
+        Path writtenFile = filePath.resolveSibling("metrics.log.0");
+        String contents = new String(Files.readAllBytes(writtenFile), StandardCharsets.UTF_8);
+        // the second summary comes after the first, under its own header
+        int secondHeader = contents.indexOf("====", contents.indexOf("first: 1"));
+        assertTrue(secondHeader > 0);
+        assertTrue(contents.indexOf("second: 1") > secondHeader);
+    }
+}
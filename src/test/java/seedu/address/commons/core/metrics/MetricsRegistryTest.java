@@ -0,0 +1,38 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class MetricsRegistryTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    public void counter_sameName_sameCounter() {
+        registry.counter("b").increment();
+        registry.counter("a").increment();
+        registry.counter("b").increment();
+
+        assertSame(registry.counter("b"), registry.counter("b"));
+        assertEquals(2, registry.counter("b").getCount());
+        assertEquals(Arrays.asList("a", "b"), new ArrayList<>(registry.getCounters().keySet()));
+    }
+
+    @Test
+    public void getSummary_everyMetricIncluded() {
+        registry.counter("command.list-p.failures").increment();
+        registry.histogram("command.list-p").record(1_000_000);
+        registry.gauge("heap.usedBytes").setValue(1234);
+
+        String summary = registry.getSummary();
+        assertTrue(summary.contains("command.list-p: count 1"));
+        assertTrue(summary.contains("command.list-p.failures: 1"));
+        assertTrue(summary.contains("heap.usedBytes: 1234"));
+    }
+}
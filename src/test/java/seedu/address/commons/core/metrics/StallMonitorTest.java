@@ -0,0 +1,73 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class StallMonitorTest {
+
+    private static final long THRESHOLD_MILLIS = 100;
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final StallRecorder recorder = new StallRecorder(StallRecorder.DEFAULT_CAPACITY, registry);
+    private final List<Runnable> heartbeats = new ArrayList<>();
+    private final StallMonitor monitor = new StallMonitor(Thread.currentThread(), heartbeats::add, THRESHOLD_MILLIS,
+            recorder, registry);
+
+    @Test
+    public void check_heartbeatRunInTime_noStall() {
+        monitor.check(millis(0));
+        assertEquals(1, heartbeats.size());
+
+        // no new heartbeat is passed while the last one is waiting
+        monitor.check(millis(50));
+        assertEquals(1, heartbeats.size());
+
+        monitor.onHeartbeat(millis(60));
+        monitor.check(millis(75));
+        assertEquals(2, heartbeats.size());
+        assertTrue(recorder.getWorstStalls().isEmpty());
+        assertEquals(1, registry.histogram(StallMonitor.HISTOGRAM_LATENCY).getCount());
+    }
+
+    @Test
+    public void check_heartbeatLate_stallRecordedWithSample() {
+        recorder.startCommand("delete-p 1");
+        monitor.check(millis(0));
+        monitor.check(millis(150));
+        recorder.endCommand("delete-p 1");
+        monitor.onHeartbeat(millis(300));
+        monitor.check(millis(310));
+
+        List<Stall> stalls = recorder.getWorstStalls();
+        assertEquals(1, stalls.size());
+        assertEquals(millis(300), stalls.get(0).getDurationNanos());
+        // the command and the stack are those while the thread was stalled
+        assertEquals(Optional.of("delete-p 1"), stalls.get(0).getCommand());
+        assertFalse(stalls.get(0).getStack().isEmpty());
+        assertEquals(1, registry.counter(StallRecorder.COUNTER_STALLS).getCount());
+    }
+
+    @Test
+    public void check_stallEndedBeforeSample_stallRecordedWithoutStack() {
+        monitor.check(millis(0));
+        monitor.onHeartbeat(millis(120));
+        monitor.check(millis(125));
+
+        List<Stall> stalls = recorder.getWorstStalls();
+        assertEquals(1, stalls.size());
+        assertTrue(stalls.get(0).getStack().isEmpty());
+        assertEquals(Optional.empty(), stalls.get(0).getCommand());
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
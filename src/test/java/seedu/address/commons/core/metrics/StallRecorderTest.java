@@ -0,0 +1,56 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class StallRecorderTest {
+
+    private final StallRecorder recorder = new StallRecorder(2, new MetricsRegistry());
+
+    @Test
+    public void record_moreThanCapacity_worstKeptLongestFirst() {
+        Stall shortStall = stall(200);
+        Stall longStall = stall(900);
+        Stall mediumStall = stall(500);
+        recorder.record(shortStall);
+        recorder.record(longStall);
+        recorder.record(mediumStall);
+
+        assertEquals(Arrays.asList(longStall, mediumStall), recorder.getWorstStalls());
+    }
+
+    @Test
+    public void record_listenerAdded_everyStallPassed() {
+        List<Stall> passed = new ArrayList<>();
+        recorder.addListener(passed::add);
+        Stall first = stall(200);
+        Stall second = stall(100);
+        recorder.record(first);
+        recorder.record(second);
+
+        assertEquals(Arrays.asList(first, second), passed);
+    }
+
+    @Test
+    public void endCommand_otherCommandStarted_otherCommandKept() {
+        recorder.startCommand("list-appt");
+        recorder.startCommand("stats");
+        recorder.endCommand("list-appt");
+        assertEquals(Optional.of("stats"), recorder.getCurrentCommand());
+
+        recorder.endCommand("stats");
+        assertEquals(Optional.empty(), recorder.getCurrentCommand());
+    }
+
+    private static Stall stall(long durationNanos) {
+        return new Stall(Instant.EPOCH, durationNanos, Optional.empty(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.commons.core.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ArrayObservableListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ArrayObservableList<String> list = new ArrayObservableList<>(Arrays.asList("c", "a", "b"));
+    private final List<ListChange<? extends String>> changes = new ArrayList<>();
+
+    @Test
+    public void add_element_singleAddition() {
+        list.addListener(changes::add);
+        list.add("d");
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), 3, Collections.emptyList(), Collections.singletonList("d"));
+    }
+
+    @Test
+    public void set_element_singleReplacement() {
+        list.addListener(changes::add);
+        list.set(1, "d");
+        assertChange(changes.get(0), 1, Collections.singletonList("a"), Collections.singletonList("d"));
+    }
+
+    @Test
+    public void remove_element_singleRemoval() {
+        list.addListener(changes::add);
+        list.remove("a");
+        assertEquals(Arrays.asList("c", "b"), list);
+        assertChange(changes.get(0), 1, Collections.singletonList("a"), Collections.emptyList());
+    }
+
+    @Test
+    public void setAll_newElements_singleChange() {
+        list.addListener(changes::add);
+        list.setAll(Arrays.asList("x", "y"));
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), 0, Arrays.asList("c", "a", "b"), Arrays.asList("x", "y"));
+    }
+
+    @Test
+    public void sort_comparator_singleChange() {
+        list.addListener(changes::add);
+        list.sort(Comparator.naturalOrder());
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void clear_nonEmptyList_singleChange() {
+        list.addListener(changes::add);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void removeListener_listenerAdded_listenerNotCalled() {
+        ListChangeListener<String> listener = changes::add;
+        list.addListener(listener);
+        list.removeListener(listener);
+        list.add("d");
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiableList_listenerAdded_notifiedOfChanges() {
+        ObservableList<String> view = list.asUnmodifiableList();
+        view.addListener(changes::add);
+        list.add("d");
+        assertEquals(list, view);
+        assertEquals(view, changes.get(0).getList());
+    }
+
+    @Test
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        list.asUnmodifiableList().remove(0);
+    }
+
+    /**
+     * Asserts that {@code change} replaced {@code expectedRemoved} at {@code expectedFrom} with {@code expectedAdded}.
+     */
+    private static void assertChange(ListChange<? extends String> change, int expectedFrom,
+            List<String> expectedRemoved, List<String> expectedAdded) {
+        assertEquals(expectedFrom, change.getFrom());
+        assertEquals(expectedRemoved, change.getRemoved());
+        assertEquals(expectedAdded, change.getAddedSubList());
+    }
+}
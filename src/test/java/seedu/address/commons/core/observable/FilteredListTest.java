@@ -0,0 +1,196 @@
+package seedu.address.commons.core.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class FilteredListTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ArrayObservableList<Integer> source = new ArrayObservableList<>(Arrays.asList(1, 2, 3, 4, 5, 6));
+    private final FilteredList<Integer> filteredList = new FilteredList<>(source);
+    private final List<ListChange<? extends Integer>> changes = new ArrayList<>();
+
+    @Test
+    public void constructor_noPredicate_showsAllElements() {
+        assertEquals(source, filteredList);
+    }
+
+    @Test
+    public void setPredicate_newPredicate_refiltered() {
+        filteredList.addListener(changes::add);
+        filteredList.setPredicate(IS_EVEN);
+        assertEquals(Arrays.asList(2, 4, 6), filteredList);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setPredicate_sameResult_noChange() {
+        filteredList.setPredicate(IS_EVEN);
+        filteredList.addListener(changes::add);
+        filteredList.setPredicate(number -> number % 2 == 0);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setFilter_sourceUnchanged_matchesRestoredWithoutTesting() {
+        List<Integer> tested = new ArrayList<>();
+        filteredList.setPredicate(number -> {
+            tested.add(number);
+            return number % 2 == 0;
+        });
+        FilteredList.Filter<Integer> filter = filteredList.getFilter();
+        assertEquals(3, filter.size());
+        filteredList.setPredicate(number -> number > 4);
+
+        tested.clear();
+        filteredList.addListener(changes::add);
+        filteredList.setFilter(filter);
+        assertEquals(Arrays.asList(2, 4, 6), filteredList);
+        assertEquals(filter.getPredicate(), filteredList.getPredicate());
+        assertTrue(tested.isEmpty());
+        assertEquals(1, changes.size());
+
+        // later changes to the source are filtered with the restored predicate
+        source.add(8);
+        assertEquals(Arrays.asList(2, 4, 6, 8), filteredList);
+    }
+
+    @Test
+    public void setFilter_sourceChanged_refiltered() {
+        filteredList.setPredicate(IS_EVEN);
+        FilteredList.Filter<Integer> filter = filteredList.getFilter();
+        filteredList.setPredicate(number -> true);
+        source.remove(0);
+        source.add(0, 10);
+
+        filteredList.setFilter(filter);
+        assertEquals(Arrays.asList(10, 2, 4, 6), filteredList);
+    }
+
+    @Test
+    public void setFilter_filterOfOtherList_throwsIllegalArgumentException() {
+        FilteredList.Filter<Integer> filter = new FilteredList<>(source).getFilter();
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(FilteredList.MESSAGE_FILTER_OF_OTHER_LIST);
+        filteredList.setFilter(filter);
+    }
+
+    @Test
+    public void setPredicate_predicateThrows_listUnchanged() {
+        filteredList.setPredicate(IS_EVEN);
+        try {
+            filteredList.setPredicate(number -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException ise) {
+            assertEquals(Arrays.asList(2, 4, 6), filteredList);
+            assertEquals(IS_EVEN, filteredList.getPredicate());
+            return;
+        }
+        throw new AssertionError("The exception should have been rethrown.");
+    }
+
+    @Test
+    public void setPredicate_knownMatches_laterChangesFilteredWithPredicate() {
+        filteredList.setPredicate(IS_EVEN, number -> number == 2 || number == 4 || number == 6);
+        assertEquals(Arrays.asList(2, 4, 6), filteredList);
+        assertEquals(IS_EVEN, filteredList.getPredicate());
+
+        source.add(8);
+        source.add(9);
+        assertEquals(Arrays.asList(2, 4, 6, 8), filteredList);
+    }
+
+    @Test
+    public void sourceAdd_matchingElement_onlyAdditionReported() {
+        filteredList.setPredicate(IS_EVEN);
+        filteredList.addListener(changes::add);
+        source.add(2, 10);
+        assertEquals(Arrays.asList(2, 10, 4, 6), filteredList);
+        assertEquals(1, changes.size());
+        assertEquals(1, changes.get(0).getFrom());
+        assertEquals(Collections.emptyList(), changes.get(0).getRemoved());
+        assertEquals(Collections.singletonList(10), changes.get(0).getAddedSubList());
+    }
+
+    @Test
+    public void sourceAdd_nonMatchingElement_noChange() {
+        filteredList.setPredicate(IS_EVEN);
+        filteredList.addListener(changes::add);
+        source.add(0, 7);
+        assertEquals(Arrays.asList(2, 4, 6), filteredList);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceRemove_matchingElement_onlyRemovalReported() {
+        filteredList.setPredicate(IS_EVEN);
+        filteredList.addListener(changes::add);
+        source.remove(Integer.valueOf(4));
+        assertEquals(Arrays.asList(2, 6), filteredList);
+        assertEquals(1, changes.get(0).getFrom());
+        assertEquals(Collections.singletonList(4), changes.get(0).getRemoved());
+    }
+
+    @Test
+    public void sourceChanges_randomOperations_matchesRefilteredSource() {
+        Random random = new Random(0);
+        filteredList.setPredicate(IS_EVEN);
+        for (int i = 0; i < 2000; i++) {
+            int index = source.isEmpty() ? 0 : random.nextInt(source.size());
+            switch (random.nextInt(5)) {
+            case 0:
+                source.add(index, random.nextInt(100));
+                break;
+            case 1:
+                if (!source.isEmpty()) {
+                    source.remove(index);
+                }
+                break;
+            case 2:
+                if (!source.isEmpty()) {
+                    source.set(index, random.nextInt(100));
+                }
+                break;
+            case 3:
+                source.addAll(index, Arrays.asList(random.nextInt(100), random.nextInt(100)));
+                break;
+            default:
+                if (random.nextInt(20) == 0) {
+                    source.setAll(Arrays.asList(random.nextInt(100), random.nextInt(100), random.nextInt(100)));
+                }
+                break;
+            }
+            assertEquals(source.stream().filter(IS_EVEN).collect(Collectors.toList()), filteredList);
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        filteredList.setPredicate(IS_EVEN);
+        thrown.expect(IndexOutOfBoundsException.class);
+        filteredList.get(3);
+    }
+
+    @Test
+    public void remove_anyElement_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        filteredList.remove(0);
+    }
+}
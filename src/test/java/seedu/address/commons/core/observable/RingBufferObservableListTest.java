@@ -0,0 +1,98 @@
+package seedu.address.commons.core.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class RingBufferObservableListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final RingBufferObservableList<String> list = new RingBufferObservableList<>(3);
+    private final List<ListChange<? extends String>> changes = new ArrayList<>();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(RingBufferObservableList.MESSAGE_INVALID_CAPACITY);
+        new RingBufferObservableList<>(0);
+    }
+
+    @Test
+    public void add_notFull_singleAddition() {
+        list.add("a");
+        list.addListener(changes::add);
+        list.add("b");
+
+        assertEquals(Arrays.asList("a", "b"), list);
+        assertFalse(list.isFull());
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), 1, Collections.emptyList(), Collections.singletonList("b"));
+    }
+
+    @Test
+    public void add_full_evictsOldestElement() {
+        list.addAll(Arrays.asList("a", "b", "c"));
+        assertTrue(list.isFull());
+        list.addListener(changes::add);
+        list.add("d");
+
+        assertEquals(Arrays.asList("b", "c", "d"), list);
+        assertEquals(3, list.getCapacity());
+        assertEquals(2, changes.size());
+        assertChange(changes.get(0), 0, Collections.singletonList("a"), Collections.emptyList());
+        assertChange(changes.get(1), 2, Collections.emptyList(), Collections.singletonList("d"));
+    }
+
+    @Test
+    public void add_wrapsAroundManyTimes_keepsMostRecentElements() {
+        for (int i = 0; i < 10; i++) {
+            list.add(String.valueOf(i));
+        }
+        assertEquals(Arrays.asList("7", "8", "9"), list);
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        list.add("a");
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.get(1);
+    }
+
+    @Test
+    public void asUnmodifiableList_add_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        list.asUnmodifiableList().add("a");
+    }
+
+    @Test
+    public void asUnmodifiableList_listenerAdded_notifiedOfChanges() {
+        ObservableList<String> view = list.asUnmodifiableList();
+        view.addListener(changes::add);
+        list.add("a");
+
+        assertEquals(Collections.singletonList("a"), view);
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), 0, Collections.emptyList(), Collections.singletonList("a"));
+    }
+
+    /**
+     * Asserts that {@code change} replaces {@code expectedRemoved} by {@code expectedAdded} at {@code expectedFrom}.
+     */
+    private static void assertChange(ListChange<? extends String> change, int expectedFrom,
+            List<String> expectedRemoved, List<String> expectedAdded) {
+        assertEquals(expectedFrom, change.getFrom());
+        assertEquals(expectedRemoved, change.getRemoved());
+        assertEquals(expectedAdded, change.getAddedSubList());
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.commons.core.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class SortedListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ArrayObservableList<Integer> source = new ArrayObservableList<>(Arrays.asList(3, 1, 4, 1, 5, 9));
+    private final SortedList<Integer> sortedList = new SortedList<>(source, Comparator.naturalOrder());
+    private final List<ListChange<? extends Integer>> changes = new ArrayList<>();
+
+    @Test
+    public void constructor_sourceOrderShown() {
+        assertEquals(SortedList.Order.SOURCE, sortedList.getOrder());
+        assertEquals(source, sortedList);
+    }
+
+    @Test
+    public void setOrder_ascendingAndDescending_sourceUnmodified() {
+        sortedList.setOrder(SortedList.Order.ASCENDING);
+        assertEquals(Arrays.asList(1, 1, 3, 4, 5, 9), sortedList);
+        sortedList.setOrder(SortedList.Order.DESCENDING);
+        assertEquals(Arrays.asList(9, 5, 4, 3, 1, 1), sortedList);
+        sortedList.setOrder(SortedList.Order.SOURCE);
+        assertEquals(Arrays.asList(3, 1, 4, 1, 5, 9), sortedList);
+        assertEquals(Arrays.asList(3, 1, 4, 1, 5, 9), source);
+    }
+
+    @Test
+    public void setOrder_newOrder_singleChangeReported() {
+        sortedList.addListener(changes::add);
+        sortedList.setOrder(SortedList.Order.DESCENDING);
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(3, 1, 4, 1, 5, 9), changes.get(0).getRemoved());
+        assertEquals(Arrays.asList(9, 5, 4, 3, 1, 1), changes.get(0).getAddedSubList());
+    }
+
+    @Test
+    public void setOrder_sameOrder_noChange() {
+        sortedList.setOrder(SortedList.Order.ASCENDING);
+        sortedList.addListener(changes::add);
+        sortedList.setOrder(SortedList.Order.ASCENDING);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceAdd_ascending_onlyAdditionReported() {
+        sortedList.setOrder(SortedList.Order.ASCENDING);
+        sortedList.addListener(changes::add);
+        source.add(2);
+        assertEquals(Arrays.asList(1, 1, 2, 3, 4, 5, 9), sortedList);
+        assertEquals(1, changes.size());
+        assertEquals(2, changes.get(0).getFrom());
+        assertEquals(Collections.emptyList(), changes.get(0).getRemoved());
+        assertEquals(Collections.singletonList(2), changes.get(0).getAddedSubList());
+    }
+
+    @Test
+    public void sourceRemove_descending_onlyRemovalReported() {
+        sortedList.setOrder(SortedList.Order.DESCENDING);
+        sortedList.addListener(changes::add);
+        source.remove(Integer.valueOf(4));
+        assertEquals(Arrays.asList(9, 5, 3, 1, 1), sortedList);
+        assertEquals(1, changes.size());
+        assertEquals(2, changes.get(0).getFrom());
+        assertEquals(Collections.singletonList(4), changes.get(0).getRemoved());
+    }
+
+    @Test
+    public void setOrder_equalElements_sourceOrderKeptBothWays() {
+        ArrayObservableList<String> words = new ArrayObservableList<>(Arrays.asList("bb", "a", "cc", "d", "eee"));
+        SortedList<String> byLength = new SortedList<>(words, Comparator.comparingInt(String::length));
+        byLength.setOrder(SortedList.Order.ASCENDING);
+        assertEquals(Arrays.asList("a", "d", "bb", "cc", "eee"), byLength);
+        byLength.setOrder(SortedList.Order.DESCENDING);
+        assertEquals(Arrays.asList("eee", "bb", "cc", "a", "d"), byLength);
+
+        words.add(0, "ff");
+        assertEquals(Arrays.asList("eee", "ff", "bb", "cc", "a", "d"), byLength);
+    }
+
+    @Test
+    public void sourceSetSameElement_sorted_changeReported() {
+        for (SortedList.Order order : Arrays.asList(SortedList.Order.ASCENDING, SortedList.Order.DESCENDING)) {
+            StringBuilder bob = new StringBuilder("Bob");
+            ArrayObservableList<StringBuilder> people = new ArrayObservableList<>(
+                    Arrays.asList(new StringBuilder("Carl"), new StringBuilder("Alice"), bob));
+            SortedList<StringBuilder> byName = new SortedList<>(people, Comparator.comparing(StringBuilder::toString));
+            byName.setOrder(order);
+            List<ListChange<? extends StringBuilder>> peopleChanges = new ArrayList<>();
+            byName.addListener(peopleChanges::add);
+
+            // the element is changed in place, then replaced with itself to notify the listeners
+            bob.append("by");
+            people.set(2, bob);
+            assertEquals(1, peopleChanges.size());
+            assertTrue(peopleChanges.get(0).getRemoved().stream().anyMatch(element -> element == bob));
+            assertTrue(peopleChanges.get(0).getAddedSubList().stream().anyMatch(element -> element == bob));
+        }
+    }
+
+    @Test
+    public void sourceChanges_randomOperations_matchesSortedSource() {
+        Random random = new Random(0);
+        List<Integer> replayed = new ArrayList<>(sortedList);
+        sortedList.addListener(change -> {
+            replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            replayed.addAll(change.getFrom(), change.getAddedSubList());
+        });
+        sortedList.setOrder(SortedList.Order.ASCENDING);
+        SortedList.Order[] orders = SortedList.Order.values();
+        for (int i = 0; i < 2000; i++) {
+            int index = source.isEmpty() ? 0 : random.nextInt(source.size());
+            switch (random.nextInt(5)) {
+            case 0:
+                source.add(index, random.nextInt(100));
+                break;
+            case 1:
+                if (!source.isEmpty()) {
+                    source.remove(index);
+                }
+                break;
+            case 2:
+                if (!source.isEmpty()) {
+                    source.set(index, random.nextInt(100));
+                }
+                break;
+            case 3:
+                source.addAll(index, Arrays.asList(random.nextInt(100), random.nextInt(100)));
+                break;
+            default:
+                sortedList.setOrder(orders[random.nextInt(orders.length)]);
+                break;
+            }
+            assertEquals(getExpected(sortedList.getOrder()), sortedList);
+            assertEquals(sortedList, replayed);
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        sortedList.setOrder(SortedList.Order.ASCENDING);
+        thrown.expect(IndexOutOfBoundsException.class);
+        sortedList.get(6);
+    }
+
+    @Test
+    public void remove_anyElement_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        sortedList.remove(0);
+    }
+
+    /**
+     * Returns the elements of the source list in {@code order}.
+     */
+    private List<Integer> getExpected(SortedList.Order order) {
+        switch (order) {
+        case ASCENDING:
+            return source.stream().sorted().collect(Collectors.toList());
+        case DESCENDING:
+            return source.stream().sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        default:
+            return new ArrayList<>(source);
+        }
+    }
+}
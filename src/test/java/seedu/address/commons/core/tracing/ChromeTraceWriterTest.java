@@ -0,0 +1,62 @@
+package seedu.address.commons.core.tracing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.tracing.ChromeTraceWriter.JsonChromeTraceEvent;
+import seedu.address.commons.util.JsonUtil;
+
+public class ChromeTraceWriterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<TraceEvent> events = Arrays.asList(
+            new TraceEvent("model", "DocX.removePatient", 1, "main", 2_000, 1_500, Collections.emptyMap()),
+            new TraceEvent("logic", "command", 1, "main", 1_000, 5_000,
+                    Collections.singletonMap("commandText", "delete-patient 1")),
+            new TraceEvent("ui", "FxThreadBridge.update", 7, "JavaFX Application Thread", 7_000, 500,
+                    Collections.emptyMap()));
+
+    @Test
+    public void toChromeTrace_spansAndThreadNames() {
+        List<JsonChromeTraceEvent> traceEvents = ChromeTraceWriter.toChromeTrace(events).getTraceEvents();
+        assertEquals(5, traceEvents.size());
+
+        JsonChromeTraceEvent removePatient = traceEvents.get(0);
+        assertEquals("DocX.removePatient", removePatient.getName());
+        assertEquals("X", removePatient.getPhase());
+        assertEquals(2.0, removePatient.getTimestamp(), 0);
+        assertEquals(1.5, removePatient.getDuration(), 0);
+        assertEquals(1, removePatient.getThreadId());
+
+        // one thread name for each thread, in the order the threads first appear
+        assertEquals("M", traceEvents.get(3).getPhase());
+        assertEquals("thread_name", traceEvents.get(3).getName());
+        assertEquals(1, traceEvents.get(3).getThreadId());
+        assertEquals(7, traceEvents.get(4).getThreadId());
+    }
+
+    @Test
+    public void write_events_validChromeTrace() throws Exception {
+        Path filePath = temporaryFolder.getRoot().toPath().resolve("traces").resolve("trace.json");
+        ChromeTraceWriter.write(events, filePath);
+
+        String json = new String(Files.readAllBytes(filePath), "UTF-8");
+        assertTrue(json.contains("\"traceEvents\""));
+        assertTrue(json.contains("\"commandText\" : \"delete-patient 1\""));
+        assertTrue(json.contains("\"JavaFX Application Thread\""));
+        // the trace is valid JSON
+        JsonUtil.fromJsonString(json, Object.class);
+    }
+}
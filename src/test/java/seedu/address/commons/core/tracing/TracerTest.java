@@ -0,0 +1,89 @@
+package seedu.address.commons.core.tracing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class TracerTest {
+
+    @After
+    public void tearDown() {
+        Tracer.disable();
+    }
+
+    @Test
+    public void enable_invalidCapacity_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, Tracer.MESSAGE_INVALID_CAPACITY, () -> Tracer.enable(0));
+    }
+
+    @Test
+    public void start_disabled_nothingRecorded() {
+        assertFalse(Tracer.isEnabled());
+        try (Span span = Tracer.start("logic", "command").setArg("commandText", "list-appt")) {
+            assertSame(Span.NO_OP, span);
+        }
+        assertFalse(Tracer.disable().isPresent());
+    }
+
+    @Test
+    public void start_nestedSpans_recordedInOrderOfEnding() {
+        Tracer.enable(10);
+        assertTrue(Tracer.isEnabled());
+        try (Span outer = Tracer.start("logic", "command").setArg("commandText", "list-appt")) {
+            try (Span inner = Tracer.start("model", "DocX.removePatient")) {
+                // nothing to do
+            }
+        }
+
+        List<TraceEvent> events = Tracer.disable().get();
+        assertFalse(Tracer.isEnabled());
+        assertEquals(2, events.size());
+        TraceEvent inner = events.get(0);
+        TraceEvent outer = events.get(1);
+        assertEquals("model", inner.getCategory());
+        assertEquals("DocX.removePatient", inner.getName());
+        assertEquals(Collections.emptyMap(), inner.getArgs());
+        assertEquals("command", outer.getName());
+        assertEquals(Collections.singletonMap("commandText", "list-appt"), outer.getArgs());
+        assertEquals(Thread.currentThread().getId(), outer.getThreadId());
+
+        // the inner span lies within the outer span
+        assertTrue(outer.getStartNanos() <= inner.getStartNanos());
+        assertTrue(inner.getStartNanos() + inner.getDurationNanos()
+                <= outer.getStartNanos() + outer.getDurationNanos());
+    }
+
+    @Test
+    public void start_capacityExceeded_oldestDiscarded() {
+        Tracer.enable(2);
+        Tracer.start("logic", "first").close();
+        Tracer.start("logic", "second").close();
+        Tracer.start("logic", "third").close();
+
+        List<TraceEvent> events = Tracer.disable().get();
+        assertEquals(2, events.size());
+        assertEquals("second", events.get(0).getName());
+        assertEquals("third", events.get(1).getName());
+    }
+
+    @Test
+    public void enable_alreadyEnabled_previousSpansDiscarded() {
+        Tracer.enable(10);
+        Tracer.start("logic", "first").close();
+        Tracer.enable(10);
+        Tracer.start("logic", "second").close();
+
+        List<TraceEvent> events = Tracer.disable().get();
+        assertEquals(1, events.size());
+        assertEquals("second", events.get(0).getName());
+    }
+}
@@ -4,11 +4,17 @@ import static org.junit.Assert.assertEquals;
 
 import org.junit.Test;
 
-import javafx.beans.InvalidationListener;
-import javafx.beans.property.SimpleObjectProperty;
+import seedu.address.commons.core.observable.InvalidationListener;
+import seedu.address.commons.core.observable.Observable;
 
 public class InvalidationListenerManagerTest {
-    private final SimpleObjectProperty<Object> dummyObservable = new SimpleObjectProperty<>();
+    private final Observable dummyObservable = new Observable() {
+        @Override
+        public void addListener(InvalidationListener listener) {}
+
+        @Override
+        public void removeListener(InvalidationListener listener) {}
+    };
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
     private int counter;
 
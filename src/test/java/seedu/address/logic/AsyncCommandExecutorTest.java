@@ -0,0 +1,143 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.patient.ListPatientCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonDocXStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AsyncCommandExecutorTest {
+    private static final String INVALID_COMMAND = "uicfhmowqewca";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<String> outcomes = Collections.synchronizedList(new ArrayList<>());
+    private AsyncCommandExecutor executor;
+
+    @Before
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(new JsonDocXStorage(temporaryFolder.newFile().toPath()),
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()));
+        executor = new AsyncCommandExecutor(new LogicManager(new ModelManager(), storage), Runnable::run);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void submit_multipleCommands_executedInSubmissionOrder() throws Exception {
+        CountDownLatch done = new CountDownLatch(3);
+        executor.submit(ListPatientCommand.COMMAND_WORD, new RecordingCallback(done));
+        executor.submit(INVALID_COMMAND, new RecordingCallback(done));
+        executor.submit(HistoryCommand.COMMAND_WORD, new RecordingCallback(done));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("success: " + ListPatientCommand.MESSAGE_SUCCESS,
+                "failure",
+                "success: " + String.format(HistoryCommand.MESSAGE_SUCCESS,
+                        String.join("\n", INVALID_COMMAND, ListPatientCommand.COMMAND_WORD))), outcomes);
+        assertFalse(executor.isBusy());
+    }
+
+    @Test
+    public void cancelReadOnlyCommands_waitingCommands_onlyReadOnlyCommandsCancelled() throws Exception {
+        CountDownLatch workerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWorker = new CountDownLatch(1);
+        executor.submit(() -> {
+            workerBlocked.countDown();
+            awaitUninterruptibly(releaseWorker);
+        });
+        assertTrue(workerBlocked.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch done = new CountDownLatch(2);
+        executor.submit(ListPatientCommand.COMMAND_WORD, new RecordingCallback(done));
+        executor.submit(ClearCommand.COMMAND_WORD, new RecordingCallback(done));
+        assertTrue(executor.isBusy());
+
+        assertTrue(executor.cancelReadOnlyCommands());
+        releaseWorker.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("cancelled", "success: " + ClearCommand.MESSAGE_SUCCESS), outcomes);
+    }
+
+    @Test
+    public void submit_throwingTaskThenCommand_commandExecuted() throws Exception {
+        executor.submit(() -> {
+            throw new IllegalStateException();
+        });
+        CountDownLatch done = new CountDownLatch(1);
+        executor.submit(ListPatientCommand.COMMAND_WORD, new RecordingCallback(done));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("success: " + ListPatientCommand.MESSAGE_SUCCESS), outcomes);
+    }
+
+    @Test
+    public void cancelReadOnlyCommands_noCommands_returnsFalse() {
+        assertFalse(executor.cancelReadOnlyCommands());
+    }
+
+    /**
+     * Waits for {@code latch} to count down, failing the test if interrupted.
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            throw new AssertionError(ie);
+        }
+    }
+
+    /**
+     * Records the outcome of a command in {@code outcomes}.
+     */
+    private class RecordingCallback implements CommandCallback {
+        private final CountDownLatch done;
+
+        RecordingCallback(CountDownLatch done) {
+            this.done = done;
+        }
+
+        @Override
+        public void onSuccess(CommandResult commandResult) {
+            outcomes.add("success: " + commandResult.getFeedbackToUser());
+            done.countDown();
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            outcomes.add("failure");
+            done.countDown();
+        }
+
+        @Override
+        public void onCancelled() {
+            outcomes.add("cancelled");
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.AGE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.AGE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.GENDER_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.GENDER_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.BatchResult.LineResult;
+import seedu.address.logic.BatchResult.Status;
+import seedu.address.logic.commands.patient.AddPatientCommand;
+import seedu.address.model.DocX;
+import seedu.address.model.ReadOnlyDocX;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonDocXStorage;
+
+public class BatchScriptExecutorTest {
+
+    private static final String ADD_AMY = AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + GENDER_DESC_AMY
+            + AGE_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB = AddPatientCommand.COMMAND_WORD + NAME_DESC_BOB + GENDER_DESC_BOB
+            + AGE_DESC_BOB + PHONE_DESC_BOB + ADDRESS_DESC_BOB;
+    private static final String INVALID_COMMAND = "uicfhmowqewca";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JsonDocXStorage storage;
+    private BatchScriptExecutor executor;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = temporaryFolder.getRoot().toPath().resolve("docX.json");
+        storage = new JsonDocXStorage(filePath);
+        executor = new BatchScriptExecutor(new DocX(), new UserPrefs(), storage);
+    }
+
+    @Test
+    public void execute_allCommandsValid_savedOnce() throws Exception {
+        BatchResult result = executor.execute(Arrays.asList("# new patients", ADD_AMY, "", ADD_BOB), false);
+
+        assertTrue(result.isSuccessful());
+        List<LineResult> lineResults = result.getLineResults();
+        assertEquals(2, lineResults.size());
+        assertEquals(2, lineResults.get(0).getLineNumber());
+        assertEquals(4, lineResults.get(1).getLineNumber());
+        assertEquals(2, readSavedDocX().getPatientList().size());
+    }
+
+    @Test
+    public void execute_invalidCommandNotStrict_remainingCommandsSaved() throws Exception {
+        BatchResult result = executor.execute(Arrays.asList(ADD_AMY, INVALID_COMMAND, ADD_BOB), false);
+
+        assertFalse(result.isSuccessful());
+        assertTrue(result.isSaved());
+        assertEquals(2, result.count(Status.SUCCESS));
+        assertEquals(Status.FAILURE, result.getLineResults().get(1).getStatus());
+        assertEquals(2, readSavedDocX().getPatientList().size());
+    }
+
+    @Test
+    public void execute_invalidCommandStrict_nothingSaved() {
+        BatchResult result = executor.execute(Arrays.asList(ADD_AMY, INVALID_COMMAND, ADD_BOB), true);
+
+        assertFalse(result.isSaved());
+        assertEquals(1, result.count(Status.SUCCESS));
+        assertEquals(1, result.count(Status.FAILURE));
+        assertEquals(Status.NOT_RUN, result.getLineResults().get(2).getStatus());
+        assertFalse(filePath.toFile().exists());
+    }
+
+    @Test
+    public void execute_noCommands_nothingSaved() {
+        BatchResult result = executor.execute(Arrays.asList("# nothing to do", "   "), true);
+
+        assertFalse(result.isSaved());
+        assertTrue(result.getLineResults().isEmpty());
+        assertFalse(filePath.toFile().exists());
+    }
+
+    @Test
+    public void getSummary_mixedResults_oneLinePerCommand() {
+        BatchResult result = executor.execute(Arrays.asList(ADD_AMY, INVALID_COMMAND), true);
+
+        String summary = result.getSummary();
+        assertTrue(summary.contains("Line 1 [SUCCESS] " + ADD_AMY));
+        assertTrue(summary.contains("Line 2 [FAILURE] " + INVALID_COMMAND));
+        assertTrue(summary.endsWith("1 succeeded, 1 failed, 0 not run. Nothing saved."));
+    }
+
+    /**
+     * Returns the DocX saved by the executor.
+     */
+    private ReadOnlyDocX readSavedDocX() throws Exception {
+        return storage.readDocX().get();
+    }
+}
@@ -5,12 +5,25 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.storage.TextCommandHistoryStorage;
 
 public class CommandHistoryTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private CommandHistory history;
 
     @Before
@@ -36,6 +49,102 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void add_full_evictsLeastRecentCommand() {
+        history = new CommandHistory(2);
+        history.add("a");
+        history.add("b");
+        history.add("c");
+        assertEquals(Arrays.asList("b", "c"), history.getHistory());
+    }
+
+    @Test
+    public void findPrevious() {
+        history.add("list-appt");
+        history.add("add-patient n/Alice");
+        history.add("LIST-MED-HIST");
+        history.add("clear");
+
+        // most recent match, ignoring case
+        Optional<CommandHistory.Match> match = history.findPrevious("list", Long.MAX_VALUE);
+        assertEquals(Optional.of(new CommandHistory.Match(2, "LIST-MED-HIST")), match);
+
+        // next older match
+        match = history.findPrevious("list", match.get().getSequenceNumber());
+        assertEquals(Optional.of(new CommandHistory.Match(0, "list-appt")), match);
+
+        // no older match
+        assertFalse(history.findPrevious("list", match.get().getSequenceNumber()).isPresent());
+
+        // query shorter than the indexed sequences
+        assertEquals(Optional.of(new CommandHistory.Match(1, "add-patient n/Alice")),
+                history.findPrevious("n/", Long.MAX_VALUE));
+
+        // empty query -> most recent command
+        assertEquals(Optional.of(new CommandHistory.Match(3, "clear")), history.findPrevious("", Long.MAX_VALUE));
+
+        // every sequence of the query is present, but not the query itself
+        assertFalse(history.findPrevious("list-clear", Long.MAX_VALUE).isPresent());
+    }
+
+    @Test
+    public void findPrevious_evictedCommand_notFound() {
+        history = new CommandHistory(2);
+        history.add("list-appt");
+        history.add("clear");
+        history.add("list-med-hist");
+        history.add("help");
+
+        assertFalse(history.findPrevious("appt", Long.MAX_VALUE).isPresent());
+        assertFalse(history.findPrevious("cl", Long.MAX_VALUE).isPresent());
+        assertEquals(Optional.of(new CommandHistory.Match(2, "list-med-hist")),
+                history.findPrevious("list", Long.MAX_VALUE));
+    }
+
+    @Test
+    public void constructor_withStorage_loadsMostRecentCommands() throws IOException {
+        TextCommandHistoryStorage storage = getTempStorage();
+        for (String commandText : Arrays.asList("a", "b", "c")) {
+            storage.appendCommandHistory(commandText);
+        }
+
+        history = new CommandHistory(2, storage);
+        assertEquals(Arrays.asList("b", "c"), history.getHistory());
+        assertEquals(Optional.of(new CommandHistory.Match(1, "c")), history.findPrevious("c", Long.MAX_VALUE));
+    }
+
+    @Test
+    public void add_withStorage_savesCommands() throws IOException {
+        TextCommandHistoryStorage storage = getTempStorage();
+        history = new CommandHistory(2, storage);
+        List<String> commandTexts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            history.add("command " + i);
+            commandTexts.add("command " + i);
+        }
+        history.flush();
+        assertEquals(commandTexts, storage.readCommandHistory());
+
+        // storage is rewritten with only the kept commands once it has grown too large
+        history.add("command 4");
+        history.flush();
+        assertEquals(Arrays.asList("command 3", "command 4"), storage.readCommandHistory());
+
+        assertEquals(history, new CommandHistory(2, storage));
+    }
+
+    @Test
+    public void add_threadInterrupted_commandSaved() throws IOException {
+        TextCommandHistoryStorage storage = getTempStorage();
+        history = new CommandHistory(2, storage);
+
+        Thread.currentThread().interrupt();
+        history.add("command");
+        assertTrue(Thread.interrupted());
+        history.flush();
+        assertEquals(Collections.singletonList("command"), storage.readCommandHistory());
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
@@ -76,4 +185,9 @@ public class CommandHistoryTest {
         // different values -> returns different hashcode
         assertNotEquals(commandHistoryWithA.hashCode(), commandHistoryWithB.hashCode());
     }
+
+    private TextCommandHistoryStorage getTempStorage() {
+        Path filePath = testFolder.getRoot().toPath().resolve("history.txt");
+        return new TextCommandHistoryStorage(filePath);
+    }
 }
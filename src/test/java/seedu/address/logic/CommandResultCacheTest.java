@@ -0,0 +1,82 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.patient.SearchPatientCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.patient.PatientNameContainsKeywordsPredicate;
+
+public class CommandResultCacheTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CommandResultCache cache = new CommandResultCache(2);
+    private final CommandResultCache.CachedResult result = new CommandResultCache.CachedResult(
+            new CommandResult("feedback"), new ModelManager().getFilterState());
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(CommandResultCache.MESSAGE_INVALID_CAPACITY);
+        new CommandResultCache(0);
+    }
+
+    @Test
+    public void get_equalCommandSameVersion_hit() {
+        cache.put(search("alice"), 1, result);
+
+        assertSame(result, cache.get(search("alice"), 1).get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void get_differentCommandOrVersion_miss() {
+        cache.put(search("alice"), 1, result);
+
+        assertEquals(Optional.empty(), cache.get(search("bob"), 1));
+        assertEquals(Optional.empty(), cache.get(search("alice"), 2));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedEvicted() {
+        cache.put(search("alice"), 1, result);
+        cache.put(search("bob"), 1, result);
+        cache.get(search("alice"), 1);
+        cache.put(search("carl"), 1, result);
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.get(search("bob"), 1).isPresent());
+        assertSame(result, cache.get(search("alice"), 1).get());
+        assertSame(result, cache.get(search("carl"), 1).get());
+    }
+
+    @Test
+    public void put_newVersion_staleResultsEvicted() {
+        cache.put(search("alice"), 1, result);
+        cache.put(search("bob"), 2, result);
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getCapacity());
+    }
+
+    /**
+     * Returns a command that searches for patients whose name contains {@code keyword}.
+     */
+    private static SearchPatientCommand search(String keyword) {
+        return new SearchPatientCommand(new PatientNameContainsKeywordsPredicate(Collections.singletonList(keyword)));
+    }
+}
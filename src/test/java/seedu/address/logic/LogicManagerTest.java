@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,10 +10,19 @@ import static seedu.address.logic.commands.CommandTestUtil.AGE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.GENDER_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalDoctors.ALVINA;
+import static seedu.address.testutil.TypicalDoctors.STEVEN;
+import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.AMY;
+import static seedu.address.testutil.TypicalPatients.BENSON;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -19,12 +30,17 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.core.metrics.MetricsCenter;
+import seedu.address.commons.core.metrics.MetricsRegistry;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.patient.AddPatientCommand;
 import seedu.address.logic.commands.patient.ListPatientCommand;
+import seedu.address.logic.commands.patient.SearchPatientCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DocX;
+import seedu.address.model.DocXSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyDocX;
@@ -46,13 +62,14 @@ public class LogicManagerTest {
     public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @Before
     public void setUp() throws Exception {
         JsonDocXStorage docXStorage = new JsonDocXStorage(temporaryFolder.newFile().toPath());
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
-        StorageManager storage = new StorageManager(docXStorage, userPrefsStorage);
+        storage = new StorageManager(docXStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -70,6 +87,90 @@ public class LogicManagerTest {
         assertHistoryCorrect(deleteCommand);
     }
 
+    @Test
+    public void query_docX_resultReturned() {
+        model.addPatient(ALICE);
+        assertEquals(Integer.valueOf(1), logic.query(docX -> docX.getPatientList().size()));
+    }
+
+    @Test
+    public void getDocXSnapshot_commandExecuted_pinnedSnapshotUnchanged() throws Exception {
+        DocXSnapshot pinned = logic.getDocXSnapshot();
+        logic.execute(AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + GENDER_DESC_AMY + AGE_DESC_AMY
+                + PHONE_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertTrue(pinned.getPatientList().isEmpty());
+        DocXSnapshot latest = logic.getDocXSnapshot();
+        assertEquals(1, latest.getPatientList().size());
+        assertTrue(latest.getVersion() > pinned.getVersion());
+    }
+
+    @Test
+    public void getDocXSnapshot_commandExecuting_latestSnapshotReturnedWithoutWaiting() throws Exception {
+        CountDownLatch patientAdded = new CountDownLatch(1);
+        CountDownLatch releaseCommand = new CountDownLatch(1);
+        model.getDocX().getPatientList().addListener(change -> {
+            patientAdded.countDown();
+            awaitUninterruptibly(releaseCommand);
+        });
+        Thread commandThread = new Thread(() -> executeUnchecked(AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY
+                + GENDER_DESC_AMY + AGE_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY));
+        commandThread.start();
+        assertTrue(patientAdded.await(5, TimeUnit.SECONDS));
+
+        try {
+            DocXSnapshot snapshot = CompletableFuture.supplyAsync(logic::getDocXSnapshot).get(5, TimeUnit.SECONDS);
+            assertTrue(snapshot.getPatientList().isEmpty());
+        } finally {
+            releaseCommand.countDown();
+            commandThread.join();
+        }
+        assertEquals(1, logic.getDocXSnapshot().getPatientList().size());
+    }
+
+    @Test
+    public void loadInBackground_commandRequiresData_waitsUntilLoaded() throws Exception {
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        DocX loadedDocX = new DocX();
+        loadedDocX.addPatient(ALICE);
+        LogicManager loadingLogic = new LogicManager(model, storage);
+        loadingLogic.loadInBackground(listener -> {
+            listener.onProgress(0, 1);
+            awaitUninterruptibly(releaseLoader);
+            return loadedDocX;
+        });
+        assertFalse(loadingLogic.getLoadProgress().getValue().isDone());
+
+        // a command that does not require the data is executed while the data is being loaded
+        loadingLogic.execute(HistoryCommand.COMMAND_WORD);
+        assertTrue(model.getFilteredPatientList().isEmpty());
+
+        releaseLoader.countDown();
+        loadingLogic.execute(ListPatientCommand.COMMAND_WORD);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPatientList());
+        assertEquals(LoadProgress.done(1), loadingLogic.getLoadProgress().getValue());
+        assertEquals(Integer.valueOf(1), loadingLogic.query(docX -> docX.getPatientList().size()));
+    }
+
+    @Test
+    public void loadInBackground_dataLoaded_indexesBuilt() throws Exception {
+        LogicManager loadingLogic = new LogicManager(model, storage);
+        loadingLogic.loadInBackground(listener -> new DocX());
+        loadingLogic.awaitDataLoaded();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!model.getDocXIndexes().isBuilt() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(model.getDocXIndexes().isBuilt());
+    }
+
+    @Test
+    public void getLoadProgress_notLoadingInBackground_done() {
+        model.addPatient(ALICE);
+        assertEquals(LoadProgress.done(1), new LogicManager(model, storage).getLoadProgress().getValue());
+    }
+
     @Test
     public void execute_validCommand_success() {
         String listCommand = ListPatientCommand.COMMAND_WORD;
@@ -77,6 +178,65 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_cacheableCommandRepeated_filtersRestored() throws Exception {
+        model.addPatient(ALICE);
+        model.addPatient(BENSON);
+        String searchCommand = SearchPatientCommand.COMMAND_WORD + " alice";
+        CommandResult firstResult = logic.execute(searchCommand);
+        assertEquals(Collections.singletonList(ALICE), logic.getFilteredPatientList());
+
+        // another command changes the filters -> repeated command restores them
+        logic.execute(ListPatientCommand.COMMAND_WORD);
+        assertEquals(firstResult, logic.execute(searchCommand));
+        assertEquals(Collections.singletonList(ALICE), logic.getFilteredPatientList());
+
+        // data changed -> repeated command filters the new data
+        Patient anotherAlice = new PatientBuilder(AMY).withName("Alice Tan").build();
+        model.addPatient(anotherAlice);
+        logic.execute(ListPatientCommand.COMMAND_WORD);
+        logic.execute(searchCommand);
+        assertEquals(Arrays.asList(ALICE, anotherAlice), logic.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_cacheableCommandRepeated_otherFiltersKept() throws Exception {
+        model.addPatient(ALICE);
+        model.addPatient(BENSON);
+        model.addDoctor(ALVINA);
+        model.addDoctor(STEVEN);
+        String searchCommand = SearchPatientCommand.COMMAND_WORD + " alice";
+        logic.execute(searchCommand);
+
+        // doctor list narrowed after the command -> repeated command leaves it narrowed
+        model.updateFilteredDoctorList(doctor -> doctor.equals(STEVEN));
+        logic.execute(searchCommand);
+        assertEquals(Collections.singletonList(ALICE), logic.getFilteredPatientList());
+        assertEquals(Collections.singletonList(STEVEN), logic.getFilteredDoctorList());
+    }
+
+    @Test
+    public void execute_commands_latenciesRecorded() throws Exception {
+        MetricsRegistry registry = MetricsCenter.getRegistry();
+        String listMetric = LogicManager.COMMAND_METRIC_PREFIX + ListPatientCommand.COMMAND_WORD;
+        long listCount = registry.histogram(listMetric).getCount();
+        long parseCount = registry.histogram(LogicManager.STAGE_PARSE).getCount();
+        long invalidFailures = registry.counter(LogicManager.COMMAND_METRIC_PREFIX
+                + LogicManager.INVALID_COMMAND_WORD + LogicManager.FAILURES_METRIC_SUFFIX).getCount();
+
+        logic.execute(ListPatientCommand.COMMAND_WORD);
+        assertEquals(listCount + 1, registry.histogram(listMetric).getCount());
+        assertEquals(parseCount + 1, registry.histogram(LogicManager.STAGE_PARSE).getCount());
+
+        try {
+            logic.execute("uicfhmowqewca");
+            throw new AssertionError("The expected ParseException was not thrown.");
+        } catch (ParseException pe) {
+            assertEquals(invalidFailures + 1, registry.counter(LogicManager.COMMAND_METRIC_PREFIX
+                    + LogicManager.INVALID_COMMAND_WORD + LogicManager.FAILURES_METRIC_SUFFIX).getCount());
+        }
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
         // Setup LogicManager with JsonDocXIoExceptionThrowingStub
@@ -99,6 +259,38 @@ public class LogicManagerTest {
         assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void setSelectedPatient_commandExecuting_waitsForCommand() throws Exception {
+        model.addPatient(ALICE);
+        BlockingSaveStub docXStorage = new BlockingSaveStub(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(docXStorage,
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath())));
+        Thread commandThread = new Thread(() -> executeUnchecked(AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY
+                + GENDER_DESC_AMY + AGE_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY));
+        commandThread.start();
+        assertTrue(docXStorage.saveStarted.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch selected = new CountDownLatch(1);
+        new Thread(() -> {
+            logic.setSelectedPatient(ALICE);
+            selected.countDown();
+        }).start();
+        assertFalse(selected.await(100, TimeUnit.MILLISECONDS));
+
+        docXStorage.releaseSave.countDown();
+        assertTrue(selected.await(5, TimeUnit.SECONDS));
+        assertEquals(ALICE, model.getSelectedPatient());
+        commandThread.join();
+    }
+
+    @Test
+    public void setSelectedPatient_patientNoLongerShown_selectionUnchanged() {
+        model.addPatient(ALICE);
+        logic.setSelectedPatient(ALICE);
+        logic.setSelectedPatient(BENSON);
+        assertEquals(ALICE, model.getSelectedPatient());
+    }
+
     @Test
     public void getFilteredPatientList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -192,4 +384,45 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that waits to be released when the save method is called.
+     */
+    private static class BlockingSaveStub extends JsonDocXStorage {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseSave = new CountDownLatch(1);
+
+        private BlockingSaveStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveDocX(ReadOnlyDocX docX, Path filePath) throws IOException {
+            saveStarted.countDown();
+            awaitUninterruptibly(releaseSave);
+            super.saveDocX(docX, filePath);
+        }
+    }
+
+    /**
+     * Executes {@code commandText}, failing the test if it fails.
+     */
+    private void executeUnchecked(String commandText) {
+        try {
+            logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Waits for {@code latch} to count down, failing the test if interrupted.
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            throw new AssertionError(ie);
+        }
+    }
 }
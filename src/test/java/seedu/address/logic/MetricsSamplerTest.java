@@ -0,0 +1,47 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+
+import javax.management.MBeanServerFactory;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.metrics.JmxMetricsExporter;
+import seedu.address.commons.core.metrics.MetricsFileExporter;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonDocXStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class MetricsSamplerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void sample_docX_gaugesSet() throws Exception {
+        Model model = new ModelManager();
+        model.addPatient(ALICE);
+        model.addPatient(BENSON);
+        StorageManager storage = new StorageManager(new JsonDocXStorage(temporaryFolder.newFile().toPath()),
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()));
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsSampler sampler = new MetricsSampler(new LogicManager(model, storage), registry,
+                new MetricsFileExporter(temporaryFolder.getRoot().toPath().resolve("metrics.log").toString()),
+                new JmxMetricsExporter(MBeanServerFactory.newMBeanServer()));
+
+        sampler.sample();
+        assertEquals(2, registry.gauge("entities.patients").getValue());
+        assertEquals(0, registry.gauge("entities.doctors").getValue());
+        assertTrue(registry.gauge("heap.usedBytes").getValue() > 0);
+
+        sampler.stop();
+    }
+}
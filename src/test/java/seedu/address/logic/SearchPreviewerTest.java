@@ -0,0 +1,100 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.getTypicalDocX;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.commands.SearchPreview;
+import seedu.address.logic.commands.patient.ListPatientCommand;
+import seedu.address.logic.commands.patient.SearchPatientCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonDocXStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class SearchPreviewerTest {
+    private static final long DELAY_MILLIS = 200;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<Optional<SearchPreview>> previews = Collections.synchronizedList(new ArrayList<>());
+    private final Model model = new ModelManager(getTypicalDocX(), new UserPrefs());
+    private SearchPreviewer previewer;
+
+    @Before
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(new JsonDocXStorage(temporaryFolder.newFile().toPath()),
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()));
+        previewer = new SearchPreviewer(new LogicManager(model, storage), Runnable::run, DELAY_MILLIS);
+    }
+
+    @After
+    public void tearDown() {
+        previewer.shutdown();
+    }
+
+    @Test
+    public void preview_searchCommand_matchesDeliveredWithoutFiltering() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        previewer.preview(SearchPatientCommand.COMMAND_WORD + " meier", recording(done));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(Optional.of(new SearchPreview(2,
+                Arrays.asList(BENSON.getName().toString(), DANIEL.getName().toString()), "patients"))), previews);
+        // the preview does not filter the list shown
+        assertEquals(getTypicalDocX().getPatientList().size(), model.getFilteredPatientList().size());
+    }
+
+    @Test
+    public void preview_notSearchCommand_emptyDelivered() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        previewer.preview(ListPatientCommand.COMMAND_WORD, recording(done));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(Optional.empty()), previews);
+    }
+
+    @Test
+    public void preview_newerTextWithinDelay_onlyLatestDelivered() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        previewer.preview(SearchPatientCommand.COMMAND_WORD + " meier", recording(done));
+        previewer.preview(SearchPatientCommand.COMMAND_WORD + " alice", recording(done));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        // waits out the delay of the first preview in case it was not cancelled
+        Thread.sleep(DELAY_MILLIS);
+        assertEquals(Collections.singletonList(Optional.of(new SearchPreview(1,
+                Collections.singletonList(ALICE.getName().toString()), "patients"))), previews);
+    }
+
+    /**
+     * Returns a callback that records the preview it receives and counts down {@code done}.
+     */
+    private Consumer<Optional<SearchPreview>> recording(CountDownLatch done) {
+        return preview -> {
+            previews.add(preview);
+            done.countDown();
+        };
+    }
+}
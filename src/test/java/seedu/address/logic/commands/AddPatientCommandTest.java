@@ -8,29 +8,34 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.beans.property.ReadOnlyProperty;
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.observable.ObservableList;
+import seedu.address.commons.core.observable.ObservableValue;
+import seedu.address.commons.core.observable.SortedList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.patient.AddPatientCommand;
 import seedu.address.model.DocX;
+import seedu.address.model.FilterState;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyDocX;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.CalendarWindow;
 import seedu.address.model.medicalhistory.MedicalHistory;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.patient.Patient;
 import seedu.address.model.prescription.Prescription;
+import seedu.address.model.query.ClinicSummary;
+import seedu.address.model.query.DocXIndexes;
+import seedu.address.model.query.QueryResult;
 import seedu.address.testutil.PatientBuilder;
 
 public class AddPatientCommandTest {
@@ -105,12 +110,22 @@ public class AddPatientCommandTest {
         }
 
         @Override
-        public void sortFilteredMedHistList(Comparator<MedicalHistory> medHistComparator) {
+        public void sortFilteredMedHistList(SortedList.Order order) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortFilteredPrescriptionList(Comparator<Prescription> prescriptionComparator) {
+        public void sortFilteredPrescriptionList(SortedList.Order order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FilterState getFilterState() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setFilterState(FilterState filterState) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -160,11 +175,26 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadDocX(ReadOnlyDocX docX) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyDocX getDocX() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public DocXIndexes getDocXIndexes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDataVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPatient(Patient patient) {
             throw new AssertionError("This method should not be called.");
@@ -211,7 +241,37 @@ public class AddPatientCommandTest {
         }
 
         @Override
-        public ReadOnlyProperty<Appointment> selectedAppointmentProperty() {
+        public void updateFilteredAppointmentList(QueryResult<Appointment> queryResult) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Appointment> getCalendarAppointmentList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableValue<CalendarWindow> calendarWindowProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCalendarWindow(CalendarWindow window) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableValue<ClinicSummary> clinicSummaryProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ClinicSummary refreshClinicSummary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableValue<Appointment> selectedAppointmentProperty() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -291,7 +351,12 @@ public class AddPatientCommandTest {
         }
 
         @Override
-        public ReadOnlyProperty<MedicalHistory> selectedMedHistProperty() {
+        public void updateFilteredMedHistList(QueryResult<MedicalHistory> queryResult) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableValue<MedicalHistory> selectedMedHistProperty() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -311,7 +376,7 @@ public class AddPatientCommandTest {
         }
 
         @Override
-        public ReadOnlyProperty<Prescription> selectedPrescriptionProperty() {
+        public ObservableValue<Prescription> selectedPrescriptionProperty() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -331,7 +396,7 @@ public class AddPatientCommandTest {
         }
 
         @Override
-        public ReadOnlyProperty<Patient> selectedPatientProperty() {
+        public ObservableValue<Patient> selectedPatientProperty() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -356,7 +421,7 @@ public class AddPatientCommandTest {
         }
 
         @Override
-        public ReadOnlyProperty<Doctor> selectedDoctorProperty() {
+        public ObservableValue<Doctor> selectedDoctorProperty() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPatients.getTypicalDocX;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.appointment.AppointmentDoctorId;
+import seedu.address.model.appointment.AppointmentPatientId;
+import seedu.address.model.appointment.AppointmentStatus;
+import seedu.address.model.appointment.AppointmentTime;
+import seedu.address.model.query.ClinicSummary;
+
+public class ClinicStatsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManager(getTypicalDocX(), new UserPrefs());
+
+    @Test
+    public void execute_showsSummaryInDashboard() {
+        CommandResult result = new ClinicStatsCommand().execute(model, history);
+        ClinicSummary summary = model.clinicSummaryProperty().getValue();
+
+        assertEquals(summary.toString(), result.getFeedbackToUser());
+        assertEquals(CommandResult.ShowPanel.CLINIC_DASHBOARD_PANEL, result.getShowPanel());
+        assertEquals(LocalDate.now(), summary.getDate());
+    }
+
+    @Test
+    public void execute_appointmentAdded_summaryUpdated() {
+        int activeToday = model.clinicSummaryProperty().getValue().getAppointmentsToday(AppointmentStatus.ACTIVE);
+        model.addAppointment(new Appointment(new AppointmentPatientId("1"), new AppointmentDoctorId("7"),
+                new AppointmentDate(LocalDate.now().toString()), new AppointmentTime("09:00")));
+
+        // the dashboard is updated without running the command
+        assertEquals(activeToday + 1,
+                model.clinicSummaryProperty().getValue().getAppointmentsToday(AppointmentStatus.ACTIVE));
+        new ClinicStatsCommand().execute(model, history);
+        assertEquals(activeToday + 1,
+                model.clinicSummaryProperty().getValue().getAppointmentsToday(AppointmentStatus.ACTIVE));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.commons.core.metrics.Stall;
+import seedu.address.commons.core.metrics.StallRecorder;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class DiagnosticsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManager();
+    private StallRecorder recorder = new StallRecorder(StallRecorder.DEFAULT_CAPACITY, new MetricsRegistry());
+
+    @Test
+    public void execute_noStalls_noStallsMessage() {
+        assertEquals(DiagnosticsCommand.MESSAGE_NO_STALLS,
+                new DiagnosticsCommand(recorder).execute(model, history).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_recordedStalls_shown() {
+        StackTraceElement frame = new StackTraceElement("seedu.address.ui.MainWindow", "handleCommandResult",
+                "MainWindow.java", 42);
+        recorder.record(new Stall(Instant.EPOCH, TimeUnit.MILLISECONDS.toNanos(350), Optional.of("list-appt"),
+                Collections.singletonList(frame)));
+
+        String feedback = new DiagnosticsCommand(recorder).execute(model, history).getFeedbackToUser();
+        assertTrue(feedback.contains("350 ms at 1970-01-01T00:00:00Z while executing: list-appt"));
+        assertTrue(feedback.contains("at seedu.address.ui.MainWindow.handleCommandResult(MainWindow.java:42)"));
+    }
+
+    @Test
+    public void equals() {
+        DiagnosticsCommand diagnosticsCommand = new DiagnosticsCommand(recorder);
+
+        // same object -> returns true
+        assertTrue(diagnosticsCommand.equals(diagnosticsCommand));
+
+        // same recorder -> returns true
+        assertTrue(diagnosticsCommand.equals(new DiagnosticsCommand(recorder)));
+
+        // different types -> returns false
+        assertFalse(diagnosticsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(diagnosticsCommand.equals(null));
+
+        // different recorder -> returns false
+        assertFalse(diagnosticsCommand.equals(new DiagnosticsCommand(
+                new StallRecorder(StallRecorder.DEFAULT_CAPACITY, new MetricsRegistry()))));
+    }
+}
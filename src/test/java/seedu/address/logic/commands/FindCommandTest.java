@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.FieldComparison;
+import seedu.address.model.query.JoinQuery;
+import seedu.address.model.query.QueryEntity;
+import seedu.address.model.query.QueryField;
+import seedu.address.testutil.DocXGenerator;
+
+/**
+ * Contains integration tests (interaction with the Model) for FindCommand.
+ */
+public class FindCommandTest {
+
+    private static final FieldComparison PATIENT_THREE = new FieldComparison(
+            QueryField.of(QueryEntity.PATIENT, "id"), FieldComparison.Operator.EQUAL, 3);
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(DocXGenerator.generateDocX(50), new UserPrefs());
+    }
+
+    @Test
+    public void execute_personQuery_filtersPersonList() {
+        CommandResult result = new FindCommand(new JoinQuery(QueryEntity.PATIENT, PATIENT_THREE))
+                .execute(model, commandHistory);
+
+        assertEquals(String.format(FindCommand.MESSAGE_SUCCESS, 1, "patients"), result.getFeedbackToUser());
+        assertEquals(CommandResult.ShowPanel.NO_CHANGE, result.getShowPanel());
+        assertEquals(1, model.getFilteredPatientList().size());
+        assertEquals(3, model.getFilteredPatientList().get(0).getId().personId);
+        assertEquals(model.getDocX().getDoctorList().size(), model.getFilteredDoctorList().size());
+    }
+
+    @Test
+    public void execute_recordQuery_filtersEveryJoinedListAndShowsRecordPanel() {
+        CommandResult result = new FindCommand(new JoinQuery(QueryEntity.APPOINTMENT, PATIENT_THREE), true)
+                .execute(model, commandHistory);
+
+        long expectedCount = model.getDocX().getAppointmentList().stream()
+                .filter(appointment -> appointment.getPatientId().personId == 3).count();
+        assertTrue(result.getFeedbackToUser().startsWith(
+                String.format(FindCommand.MESSAGE_SUCCESS, expectedCount, "appointments") + "\nPlan:"));
+        assertEquals(CommandResult.ShowPanel.APPOINTMENT_PANEL, result.getShowPanel());
+        assertEquals(expectedCount, model.getFilteredAppointmentList().size());
+        assertTrue(model.getFilteredAppointmentList().stream()
+                .allMatch(appointment -> appointment.getPatientId().personId == 3));
+        assertEquals(1, model.getFilteredPatientList().size());
+    }
+}
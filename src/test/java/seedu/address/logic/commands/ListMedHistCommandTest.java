@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPatients.getTypicalDocX;
 
@@ -41,4 +42,15 @@ public class ListMedHistCommandTest {
                 model, commandHistory, ListMedHistCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_explain_showsQueryPlan() throws Exception {
+        ListMedHistCommand.ListMedHistDescriptor descriptor = new ListMedHistCommand.ListMedHistDescriptor();
+        int medHistCount = model.getDocX().getMedHistList().size();
+        CommandResult result = new ListMedHistCommand(descriptor, true).execute(model, commandHistory);
+
+        assertEquals(ListMedHistCommand.MESSAGE_SUCCESS + "\nPlan: full scan of medical histories out of "
+                + medHistCount + " rows\nExamined " + medHistCount + " rows, matched " + medHistCount + " rows",
+                result.getFeedbackToUser());
+    }
+
 }
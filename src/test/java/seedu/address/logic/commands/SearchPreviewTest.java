@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.KEYWORD_MATCHING_MEIER;
+import static seedu.address.testutil.TypicalPatients.getTypicalPatients;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.patient.PatientNameContainsKeywordsPredicate;
+
+public class SearchPreviewTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PatientNameContainsKeywordsPredicate meierPredicate =
+            new PatientNameContainsKeywordsPredicate(Collections.singletonList(KEYWORD_MATCHING_MEIER));
+
+    @Test
+    public void of_moreMatchesThanMaxResults_allCountedFirstDescribed() {
+        SearchPreview preview = SearchPreview.of(getTypicalPatients(), meierPredicate, this::describe, "patients", 1);
+        assertEquals(2, preview.getMatchCount());
+        assertEquals(Collections.singletonList(describe(BENSON)), preview.getFirstResults());
+        assertEquals(String.format(SearchPreview.MESSAGE_MATCHES, 2, "patients", describe(BENSON)
+                + SearchPreview.MORE_MATCHES), preview.getMessage());
+    }
+
+    @Test
+    public void of_fewerMatchesThanMaxResults_allDescribed() {
+        SearchPreview preview = SearchPreview.of(getTypicalPatients(), meierPredicate, this::describe, "patients", 5);
+        assertEquals(Arrays.asList(describe(BENSON), describe(DANIEL)), preview.getFirstResults());
+        assertEquals(String.format(SearchPreview.MESSAGE_MATCHES, 2, "patients", describe(BENSON) + ", "
+                + describe(DANIEL)), preview.getMessage());
+    }
+
+    @Test
+    public void of_noMatches_noMatchesMessage() {
+        SearchPreview preview = SearchPreview.of(getTypicalPatients(), patient -> false, this::describe, "patients",
+                5);
+        assertEquals(0, preview.getMatchCount());
+        assertEquals(String.format(SearchPreview.MESSAGE_NO_MATCHES, "patients"), preview.getMessage());
+    }
+
+    @Test
+    public void of_threadInterrupted_throwsCancellationException() {
+        Thread.currentThread().interrupt();
+        try {
+            thrown.expect(CancellationException.class);
+            SearchPreview.of(getTypicalPatients(), meierPredicate, this::describe, "patients", 5);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void of_negativeMaxResults_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        SearchPreview.of(getTypicalPatients(), meierPredicate, this::describe, "patients", -1);
+    }
+
+    private String describe(Patient patient) {
+        return patient.getName().toString();
+    }
+}
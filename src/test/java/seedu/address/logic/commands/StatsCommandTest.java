@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManager();
+
+    @Test
+    public void execute_recordedMetrics_shown() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.histogram("command.list-appt").record(1_000_000);
+        registry.counter("command.list-appt.failures").increment();
+
+        String feedback = new StatsCommand(registry).execute(model, history).getFeedbackToUser();
+        assertTrue(feedback.startsWith("Performance statistics:\n"));
+        assertTrue(feedback.contains("command.list-appt: count 1"));
+        assertTrue(feedback.contains("command.list-appt.failures: 1"));
+    }
+
+    @Test
+    public void equals() {
+        MetricsRegistry registry = new MetricsRegistry();
+        StatsCommand statsCommand = new StatsCommand(registry);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same registry -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(registry)));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different registry -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new MetricsRegistry())));
+    }
+}
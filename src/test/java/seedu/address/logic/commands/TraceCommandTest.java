@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.tracing.Span;
+import seedu.address.commons.core.tracing.Tracer;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class TraceCommandTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManager();
+
+    @After
+    public void tearDown() {
+        Tracer.disable();
+    }
+
+    @Test
+    public void execute_startThenStop_traceSaved() throws Exception {
+        Path filePath = temporaryFolder.getRoot().toPath().resolve("trace.json");
+
+        CommandResult startResult = TraceCommand.start().execute(model, history);
+        assertEquals(TraceCommand.MESSAGE_STARTED, startResult.getFeedbackToUser());
+        assertTrue(Tracer.isEnabled());
+
+        Tracer.start("logic", "command").close();
+        CommandResult stopResult = TraceCommand.stop(filePath).execute(model, history);
+        assertEquals(String.format(TraceCommand.MESSAGE_STOPPED, 1, filePath), stopResult.getFeedbackToUser());
+        assertFalse(Tracer.isEnabled());
+        assertTrue(new String(Files.readAllBytes(filePath), "UTF-8").contains("\"command\""));
+    }
+
+    @Test
+    public void execute_stopWithoutStart_throwsCommandException() {
+        assertCommandFailure(TraceCommand.stop(Paths.get("trace.json")), model, history,
+                TraceCommand.MESSAGE_NOT_STARTED);
+    }
+
+    @Test
+    public void execute_stopToDirectory_throwsCommandException() throws Exception {
+        Tracer.enable(10);
+        try (Span span = Tracer.start("logic", "command")) {
+            // nothing to do
+        }
+        Path directory = temporaryFolder.newFolder("trace.json").toPath();
+        try {
+            TraceCommand.stop(directory).execute(model, history);
+        } catch (CommandException ce) {
+            assertTrue(ce.getMessage().startsWith("Could not save the trace to " + directory));
+            return;
+        }
+        throw new AssertionError("The expected CommandException was not thrown.");
+    }
+
+    @Test
+    public void equals() {
+        TraceCommand startCommand = TraceCommand.start();
+        TraceCommand stopCommand = TraceCommand.stop(Paths.get("trace.json"));
+
+        // same object -> returns true
+        assertTrue(stopCommand.equals(stopCommand));
+
+        // same values -> returns true
+        assertTrue(startCommand.equals(TraceCommand.start()));
+        assertTrue(stopCommand.equals(TraceCommand.stop(Paths.get("trace.json"))));
+
+        // different types -> returns false
+        assertFalse(stopCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(stopCommand.equals(null));
+
+        // different action -> returns false
+        assertFalse(startCommand.equals(stopCommand));
+
+        // different file -> returns false
+        assertFalse(stopCommand.equals(TraceCommand.stop(Paths.get("other.json"))));
+    }
+}
@@ -5,10 +5,15 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 public class ArgumentTokenizerTest {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     private final Prefix unknownPrefix = new Prefix("--u");
     private final Prefix pSlash = new Prefix("p/");
     private final Prefix dashT = new Prefix("-t");
@@ -136,6 +141,43 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_longestPrefixMatched() {
+        Prefix dSlash = new Prefix("d/");
+        Prefix didSlash = new Prefix("did/");
+        Prefix dpSlash = new Prefix("dp/");
+        Prefix dpxSlash = new Prefix("dp/x/");
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(dSlash, didSlash, dpSlash, dpxSlash);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArguments(" did/1 d/2 dp/3 dp/x/4 di/5");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, didSlash, "1");
+        assertArgumentPresent(argMultimap, dSlash, "2");
+        assertArgumentPresent(argMultimap, dpSlash, "3");
+        assertArgumentPresent(argMultimap, dpxSlash, "4 di/5");
+    }
+
+    @Test
+    public void tokenize_reusedTokenizer_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT);
+
+        ArgumentMultimap first = tokenizer.tokenizeArguments("preamble p/first -t tag");
+        ArgumentMultimap second = tokenizer.tokenizeArguments(" p/second");
+
+        assertArgumentPresent(first, pSlash, "first");
+        assertArgumentPresent(first, dashT, "tag");
+        assertPreambleEmpty(second);
+        assertArgumentPresent(second, pSlash, "second");
+        assertArgumentAbsent(second, dashT);
+    }
+
+    @Test
+    public void constructor_emptyPrefix_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(ArgumentTokenizer.MESSAGE_EMPTY_PREFIX);
+        new ArgumentTokenizer(pSlash, new Prefix(""));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
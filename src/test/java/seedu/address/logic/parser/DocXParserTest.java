@@ -23,9 +23,14 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ClinicStatsCommand;
+import seedu.address.logic.commands.DiagnosticsCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TraceCommand;
 import seedu.address.logic.commands.appointment.AddAppointmentCommand;
 import seedu.address.logic.commands.doctor.AddDoctorCommand;
 import seedu.address.logic.commands.doctor.DeleteDoctorCommand;
@@ -59,6 +64,8 @@ import seedu.address.model.person.doctor.DoctorSpecialisationMatchesPredicate;
 import seedu.address.model.person.patient.Patient;
 import seedu.address.model.person.patient.PatientNameContainsKeywordsPredicate;
 import seedu.address.model.person.specialisation.Specialisation;
+import seedu.address.model.query.JoinQuery;
+import seedu.address.model.query.QueryEntity;
 import seedu.address.testutil.DoctorBuilder;
 import seedu.address.testutil.DoctorUtil;
 import seedu.address.testutil.EditDoctorDescriptorBuilder;
@@ -155,6 +162,12 @@ public class DocXParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_find() throws Exception {
+        FindCommand command = (FindCommand) parser.parseCommand(FindCommand.COMMAND_WORD + " doctors");
+        assertEquals(new FindCommand(new JoinQuery(QueryEntity.DOCTOR)), command);
+    }
+
     @Test
     public void parseCommand_findPatient() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -169,6 +182,32 @@ public class DocXParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_clinicStats() throws Exception {
+        assertTrue(parser.parseCommand(ClinicStatsCommand.COMMAND_WORD) instanceof ClinicStatsCommand);
+        assertTrue(parser.parseCommand(ClinicStatsCommand.COMMAND_WORD + " 3") instanceof ClinicStatsCommand);
+    }
+
+    @Test
+    public void parseCommand_diagnostics() throws Exception {
+        assertEquals(new DiagnosticsCommand(), parser.parseCommand(DiagnosticsCommand.COMMAND_WORD));
+        assertEquals(new DiagnosticsCommand(), parser.parseCommand(DiagnosticsCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_trace() throws Exception {
+        assertEquals(TraceCommand.start(), parser.parseCommand(TraceCommand.COMMAND_WORD + " "
+                + TraceCommand.START_WORD));
+        assertEquals(TraceCommand.stop(TraceCommand.DEFAULT_FILE_PATH), parser.parseCommand(
+                TraceCommand.COMMAND_WORD + " " + TraceCommand.STOP_WORD));
+    }
+
     @Test
     public void parseCommand_history() throws Exception {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
@@ -0,0 +1,88 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.query.FieldComparison;
+import seedu.address.model.query.FieldComparison.Operator;
+import seedu.address.model.query.JoinQuery;
+import seedu.address.model.query.QueryEntity;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.QueryField;
+
+public class FindCommandParserTest {
+
+    private static final FieldComparison ACTIVE_APPOINTMENT = new FieldComparison(
+            QueryField.of(QueryEntity.APPOINTMENT, "status"), Operator.EQUAL, "active");
+    private static final FieldComparison CARDIOLOGIST = new FieldComparison(
+            QueryField.of(QueryEntity.DOCTOR, "spec"), Operator.EQUAL, "cardiology");
+    private static final FieldComparison DIABETIC = new FieldComparison(
+            QueryField.of(QueryEntity.PATIENT, "tag"), Operator.EQUAL, "diabetic");
+
+    private FindCommandParser parser = new FindCommandParser();
+
+    @Test
+    public void parse_entityOnly_success() {
+        assertParseSuccess(parser, " doctors", new FindCommand(new JoinQuery(QueryEntity.DOCTOR)));
+        assertParseSuccess(parser, " explain appt", new FindCommand(new JoinQuery(QueryEntity.APPOINTMENT), true));
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_success() {
+        JoinQuery expectedQuery = new JoinQuery(QueryEntity.PATIENT,
+                QueryExpression.or(QueryExpression.and(ACTIVE_APPOINTMENT, CARDIOLOGIST), DIABETIC));
+
+        assertParseSuccess(parser, " patients where appt.status = ACTIVE and doctor.spec = Cardiology "
+                + "or patient.tag = diabetic", new FindCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_bracketsAndNot_success() {
+        JoinQuery expectedQuery = new JoinQuery(QueryEntity.PRESCRIPTION,
+                QueryExpression.and(ACTIVE_APPOINTMENT, QueryExpression.not(QueryExpression.or(CARDIOLOGIST,
+                        DIABETIC))));
+
+        assertParseSuccess(parser, " prescriptions WHERE appt.status=active and not (doctor.spec = cardiology "
+                + "or patient.tag = \"diabetic\")", new FindCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_relativeDate_success() {
+        FieldComparison nextWeek = new FieldComparison(QueryField.of(QueryEntity.APPOINTMENT, "date"),
+                Operator.LESS_OR_EQUAL, LocalDate.now().plusDays(7));
+
+        assertParseSuccess(parser, " appts where appt.date <= today+7",
+                new FindCommand(new JoinQuery(QueryEntity.APPOINTMENT, nextWeek)));
+    }
+
+    @Test
+    public void parse_invalidQuery_failure() {
+        assertParseFailure(parser, " ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " nurses", String.format(FindCommandParser.MESSAGE_UNKNOWN_ENTITY, "nurses",
+                "patient, doctor, appt, medhist, prescription"));
+        assertParseFailure(parser, " patients when patient.age > 3",
+                String.format(FindCommandParser.MESSAGE_UNEXPECTED_TOKEN, "where", "when"));
+        assertParseFailure(parser, " patients where patient.height > 3",
+                String.format(FindCommandParser.MESSAGE_UNKNOWN_FIELD, "patient.height", "patient",
+                        "id, name, gender, age, phone, address, tag"));
+        assertParseFailure(parser, " patients where patient.name < bob",
+                String.format(FindCommandParser.MESSAGE_INVALID_OPERATOR, "patient.name", "<"));
+        assertParseFailure(parser, " patients where patient.age > old",
+                String.format(FindCommandParser.MESSAGE_INVALID_VALUE, "patient.age",
+                        String.format(QueryField.Type.MESSAGE_INVALID_NUMBER, "old")));
+        assertParseFailure(parser, " patients where appt.status = FOO",
+                String.format(FindCommandParser.MESSAGE_INVALID_VALUE, "appt.status",
+                        String.format(QueryField.MESSAGE_INVALID_CONSTANT, "FOO",
+                                "[ACTIVE, CANCELLED, COMPLETED, MISSED]")));
+        assertParseFailure(parser, " patients where (patient.age > 3",
+                String.format(FindCommandParser.MESSAGE_UNEXPECTED_TOKEN, ")", "the end of the query"));
+        assertParseFailure(parser, " patients where patient.name = \"bob",
+                FindCommandParser.MESSAGE_UNTERMINATED_STRING);
+    }
+}
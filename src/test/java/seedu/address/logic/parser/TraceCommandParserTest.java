@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.TraceCommand;
+
+public class TraceCommandParserTest {
+
+    private TraceCommandParser parser = new TraceCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsTraceCommand() {
+        assertParseSuccess(parser, " start", TraceCommand.start());
+        assertParseSuccess(parser, " stop", TraceCommand.stop(TraceCommand.DEFAULT_FILE_PATH));
+        assertParseSuccess(parser, " stop  traces/slow delete.json ",
+                TraceCommand.stop(Paths.get("traces/slow delete.json")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, TraceCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " pause", expectedMessage);
+        assertParseFailure(parser, " start now", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidFilePath_throwsParseException() {
+        assertParseFailure(parser, " stop trace\0.json",
+                String.format(TraceCommandParser.MESSAGE_INVALID_FILE_PATH, "trace\0.json"));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser.appointment;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.DESC_INVALID_DATE_OF_APPT;
+import static seedu.address.logic.commands.CommandTestUtil.DESC_INVALID_DOCTOR_ID;
+import static seedu.address.logic.commands.CommandTestUtil.DESC_VALID_DATE_OF_APPT;
+import static seedu.address.logic.commands.CommandTestUtil.DESC_VALID_DOCTOR_ID;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_DATE_OF_APPT;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_DOCTOR_ID;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.appointment.CalendarAppointmentCommand;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.appointment.AppointmentDoctorId;
+
+public class CalendarAppointmentCommandParserTest {
+    private CalendarAppointmentCommandParser parser = new CalendarAppointmentCommandParser();
+
+    @Test
+    public void parse_doctorIdOnly_success() {
+        assertParseSuccess(parser, DESC_VALID_DOCTOR_ID,
+                new CalendarAppointmentCommand(new AppointmentDoctorId(VALID_DOCTOR_ID), Optional.empty()));
+    }
+
+    @Test
+    public void parse_doctorIdAndDate_success() {
+        assertParseSuccess(parser, DESC_VALID_DOCTOR_ID + DESC_VALID_DATE_OF_APPT,
+                new CalendarAppointmentCommand(new AppointmentDoctorId(VALID_DOCTOR_ID),
+                        Optional.of(new AppointmentDate(VALID_DATE_OF_APPT))));
+    }
+
+    @Test
+    public void parse_missingDoctorId_failure() {
+        assertParseFailure(parser, DESC_VALID_DATE_OF_APPT,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, CalendarAppointmentCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_failure() {
+        assertParseFailure(parser, "week" + DESC_VALID_DOCTOR_ID,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, CalendarAppointmentCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, DESC_INVALID_DOCTOR_ID, AppointmentDoctorId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, DESC_VALID_DOCTOR_ID + DESC_INVALID_DATE_OF_APPT,
+                AppointmentDate.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -18,6 +18,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_DOCTOR_ID;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PATIENT_ID;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_START_TIME;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_STATUS;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -45,6 +46,16 @@ public class ListAppointmentCommandParserTest {
         assertParseSuccess(parser, "", command);
     }
 
+    @Test
+    public void parse_explainKeyword_success() {
+        ListAppointmentCommand.ListAppointmentDescriptor descriptor =
+                new ListAppointmentCommand.ListAppointmentDescriptor();
+        descriptor.setPatientId(Optional.of(new AppointmentPatientId(VALID_PATIENT_ID)));
+        ListAppointmentCommand command = new ListAppointmentCommand(descriptor, true);
+
+        assertParseSuccess(parser, " " + KEYWORD_EXPLAIN + DESC_VALID_PATIENT_ID, command);
+    }
+
     @Test
     public void parse_patientIdFilter_success() {
         ListAppointmentCommand.ListAppointmentDescriptor descriptor =
@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.testutil.DocXGenerator;
+
+public class DocXSnapshotPublisherTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private DocX docX;
+    private DocXSnapshotPublisher publisher;
+
+    @Before
+    public void setUp() {
+        docX = DocXGenerator.generateDocX(20);
+        publisher = new DocXSnapshotPublisher(docX);
+    }
+
+    @Test
+    public void constructor_nullDocX_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new DocXSnapshotPublisher(null);
+    }
+
+    @Test
+    public void getLatest_initialSnapshot_containsAllData() {
+        DocXSnapshot snapshot = publisher.getLatest();
+        assertEquals(0, snapshot.getVersion());
+        assertFalse(publisher.isStale());
+        assertEquals(docX.getPatientList(), snapshot.getPatientList());
+        assertEquals(docX.getDoctorList(), snapshot.getDoctorList());
+        assertEquals(docX.getAppointmentList(), snapshot.getAppointmentList());
+        assertEquals(docX.getMedHistList(), snapshot.getMedHistList());
+        assertEquals(docX.getPrescriptionList(), snapshot.getPrescriptionList());
+    }
+
+    @Test
+    public void publish_docXUnmodified_returnsLatestSnapshot() {
+        DocXSnapshot snapshot = publisher.getLatest();
+        assertSame(snapshot, publisher.publish());
+    }
+
+    @Test
+    public void publish_docXModified_pinnedSnapshotUnchanged() {
+        DocXSnapshot pinned = publisher.getLatest();
+        int patientCount = docX.getPatientList().size();
+
+        docX.addPatient(ALICE);
+        assertTrue(publisher.isStale());
+        assertSame(pinned, publisher.getLatest());
+
+        DocXSnapshot published = publisher.publish();
+        assertFalse(publisher.isStale());
+        assertEquals(1, published.getVersion());
+        assertEquals(patientCount, pinned.getPatientList().size());
+        assertEquals(docX.getPatientList(), published.getPatientList());
+        assertSame(published, publisher.getLatest());
+    }
+
+    @Test
+    public void publish_oneListModified_otherListsShared() {
+        DocXSnapshot pinned = publisher.getLatest();
+        docX.addPatient(BENSON);
+        DocXSnapshot published = publisher.publish();
+
+        assertNotSame(pinned.getPatientList(), published.getPatientList());
+        assertSame(pinned.getDoctorList(), published.getDoctorList());
+        assertSame(pinned.getAppointmentList(), published.getAppointmentList());
+        assertSame(pinned.getMedHistList(), published.getMedHistList());
+        assertSame(pinned.getPrescriptionList(), published.getPrescriptionList());
+    }
+
+    @Test
+    public void getPatientList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        publisher.getLatest().getPatientList().remove(0);
+    }
+}
@@ -16,15 +16,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.beans.InvalidationListener;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.commons.core.observable.InvalidationListener;
+import seedu.address.commons.core.observable.ObservableList;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.medicalhistory.MedicalHistory;
 import seedu.address.model.person.PersonIdCounter;
@@ -138,8 +138,8 @@ public class DocXTest {
 
     @Test
     public void addListener_withInvalidationListener_listenerAdded() {
-        SimpleIntegerProperty counter = new SimpleIntegerProperty();
-        InvalidationListener listener = observable -> counter.set(counter.get() + 1);
+        AtomicInteger counter = new AtomicInteger();
+        InvalidationListener listener = observable -> counter.incrementAndGet();
         docX.addListener(listener);
         docX.addPatient(ALICE);
         assertEquals(1, counter.get());
@@ -147,8 +147,8 @@ public class DocXTest {
 
     @Test
     public void removeListener_withInvalidationListener_listenerRemoved() {
-        SimpleIntegerProperty counter = new SimpleIntegerProperty();
-        InvalidationListener listener = observable -> counter.set(counter.get() + 1);
+        AtomicInteger counter = new AtomicInteger();
+        InvalidationListener listener = observable -> counter.incrementAndGet();
         docX.addListener(listener);
         docX.removeListener(listener);
         docX.addPatient(ALICE);
@@ -159,11 +159,11 @@ public class DocXTest {
      * A stub ReadOnlyDocX whose persons list can violate interface constraints.
      */
     private static class DocXStub implements ReadOnlyDocX {
-        private final ObservableList<Patient> patients = FXCollections.observableArrayList();
-        private final ObservableList<MedicalHistory> medHists = FXCollections.observableArrayList();
-        private final ObservableList<Doctor> doctors = FXCollections.observableArrayList();
-        private final ObservableList<Prescription> prescriptions = FXCollections.observableArrayList();
-        private final ObservableList<Appointment> appointments = FXCollections.observableArrayList();
+        private final ArrayObservableList<Patient> patients = new ArrayObservableList<>();
+        private final ArrayObservableList<MedicalHistory> medHists = new ArrayObservableList<>();
+        private final ArrayObservableList<Doctor> doctors = new ArrayObservableList<>();
+        private final ArrayObservableList<Prescription> prescriptions = new ArrayObservableList<>();
+        private final ArrayObservableList<Appointment> appointments = new ArrayObservableList<>();
         private final PersonIdCounter personIdCounter = PersonIdCounter.getInstance();
 
         DocXStub(Collection<Patient> patients) {
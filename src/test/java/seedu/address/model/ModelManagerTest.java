@@ -8,6 +8,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_STEVEN;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 import static seedu.address.testutil.TypicalDoctors.ALVINA;
 import static seedu.address.testutil.TypicalDoctors.STEVEN;
+import static seedu.address.testutil.TypicalMedHists.MED_HIST1;
+import static seedu.address.testutil.TypicalMedHists.MED_HIST4;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.BENSON;
 import static seedu.address.testutil.TypicalPatients.BOB;
@@ -16,17 +18,22 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CancellationException;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.exceptions.DoctorNotFoundException;
 import seedu.address.model.person.exceptions.PatientNotFoundException;
 import seedu.address.model.person.patient.Patient;
 import seedu.address.model.person.patient.PatientNameContainsKeywordsPredicate;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.QueryResult;
 import seedu.address.testutil.DocXBuilder;
 import seedu.address.testutil.DoctorBuilder;
 import seedu.address.testutil.PatientBuilder;
@@ -144,6 +151,114 @@ public class ModelManagerTest {
         modelManager.getFilteredPatientList().remove(0);
     }
 
+    @Test
+    public void updateFilteredPatientList_threadInterrupted_restoresPreviousFilter() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        modelManager.updateFilteredPatientList(patient -> patient.equals(ALICE));
+
+        Thread.currentThread().interrupt();
+        try {
+            modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+            throw new AssertionError("The expected CancellationException was not thrown.");
+        } catch (CancellationException ce) {
+            assertFalse(Thread.interrupted());
+            assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPatientList());
+        }
+    }
+
+    @Test
+    public void updateFilteredMedHistListWithQueryResult_threadInterrupted_restoresPreviousFilter() {
+        modelManager.addMedHist(MED_HIST1);
+        modelManager.addMedHist(MED_HIST4);
+        modelManager.updateFilteredMedHistList(medHist -> medHist.equals(MED_HIST1));
+        QueryResult<MedicalHistory> queryResult = QueryPlanner.plan("medical histories",
+                modelManager.getDocX().getMedHistList(), Collections.emptyList()).execute();
+
+        Thread.currentThread().interrupt();
+        try {
+            modelManager.updateFilteredMedHistList(queryResult);
+            throw new AssertionError("The expected CancellationException was not thrown.");
+        } catch (CancellationException ce) {
+            assertFalse(Thread.interrupted());
+            assertEquals(Collections.singletonList(MED_HIST1), modelManager.getFilteredMedHistList());
+        }
+    }
+
+    @Test
+    public void getDataVersion_dataChanged_versionIncreased() {
+        long version = modelManager.getDataVersion();
+        modelManager.updateFilteredPatientList(patient -> false);
+        assertEquals(version, modelManager.getDataVersion());
+
+        modelManager.addPatient(ALICE);
+        assertTrue(modelManager.getDataVersion() > version);
+        version = modelManager.getDataVersion();
+        modelManager.addDoctor(ALVINA);
+        assertTrue(modelManager.getDataVersion() > version);
+    }
+
+    @Test
+    public void setFilterState_filtersChanged_filtersRestored() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        modelManager.addDoctor(ALVINA);
+        modelManager.updateFilteredPatientList(patient -> patient.equals(ALICE));
+        modelManager.updateFilteredDoctorList(doctor -> false);
+        FilterState filterState = modelManager.getFilterState();
+
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        modelManager.updateFilteredDoctorList(doctor -> true);
+        modelManager.setFilterState(filterState);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPatientList());
+        assertTrue(modelManager.getFilteredDoctorList().isEmpty());
+    }
+
+    @Test
+    public void setFilterState_onlySetSince_otherFiltersKept() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        modelManager.addDoctor(ALVINA);
+        FilterState before = modelManager.getFilterState();
+        modelManager.updateFilteredPatientList(patient -> patient.equals(ALICE));
+        FilterState patientsSet = modelManager.getFilterState().onlySetSince(before);
+
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        modelManager.updateFilteredDoctorList(doctor -> false);
+        modelManager.setFilterState(patientsSet);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPatientList());
+        assertTrue(modelManager.getFilteredDoctorList().isEmpty());
+    }
+
+    @Test
+    public void addPatient_patientListFiltered_filterKept() {
+        modelManager.updateFilteredPatientList(patient -> !patient.equals(BENSON));
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPatientList());
+    }
+
+    @Test
+    public void addDoctor_doctorListFiltered_filterKept() {
+        modelManager.updateFilteredDoctorList(doctor -> !doctor.equals(STEVEN));
+        modelManager.addDoctor(ALVINA);
+        modelManager.addDoctor(STEVEN);
+        assertEquals(Collections.singletonList(ALVINA), modelManager.getFilteredDoctorList());
+    }
+
+    @Test
+    public void deletePatient_medHistListFiltered_filterKept() {
+        Patient patient = new Patient(new PersonId("100"), BENSON.getName(), BENSON.getGender(), BENSON.getAge(),
+                BENSON.getPhone(), BENSON.getAddress(), BENSON.getTags());
+        modelManager.addPatient(patient);
+        modelManager.addMedHist(MED_HIST1);
+        modelManager.addMedHist(MED_HIST4);
+        modelManager.updateFilteredMedHistList(medHist -> medHist.equals(MED_HIST1));
+
+        modelManager.deletePatient(patient);
+        assertEquals(Collections.singletonList(MED_HIST1), modelManager.getFilteredMedHistList());
+    }
+
     @Test
     public void setSelectedPatient_patientNotInFilteredPatientList_throwsPatientNotFoundException() {
         thrown.expect(PatientNotFoundException.class);
@@ -18,4 +18,10 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setDocXFilePath(null));
     }
 
+    @Test
+    public void setCommandHistoryFilePath_nullPath_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(NullPointerException.class, () -> userPrefs.setCommandHistoryFilePath(null));
+    }
+
 }
@@ -59,6 +59,19 @@ public class VersionedDocXTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void clearHistory_multipleAddressBook_onlyCurrentStateKept() {
+        VersionedDocX versionedAddressBook = prepareAddressBookList(
+                emptyAddressBook, addressBookWithAmy, addressBookWithBob);
+        shiftCurrentStatePointerLeftwards(versionedAddressBook, 1);
+
+        versionedAddressBook.clearHistory();
+        assertAddressBookListStatus(versionedAddressBook,
+                Collections.emptyList(),
+                addressBookWithAmy,
+                Collections.emptyList());
+    }
+
     @Test
     public void canUndo_multipleAddressBookPointerAtEndOfStateList_returnsTrue() {
         VersionedDocX versionedAddressBook = prepareAddressBookList(
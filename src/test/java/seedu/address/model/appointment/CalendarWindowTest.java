@@ -0,0 +1,59 @@
+package seedu.address.model.appointment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CalendarWindowTest {
+
+    private static final AppointmentDoctorId DOCTOR = new AppointmentDoctorId("7");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_invalidDays_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(CalendarWindow.MESSAGE_INVALID_DAYS);
+        new CalendarWindow(DOCTOR, LocalDate.parse("2019-06-05"), 3);
+    }
+
+    @Test
+    public void weekOf_anyDay_weekFromMonday() {
+        CalendarWindow week = CalendarWindow.weekOf(DOCTOR, LocalDate.parse("2019-06-09"));
+        assertEquals(LocalDate.parse("2019-06-03"), week.getStartDate());
+        assertEquals(LocalDate.parse("2019-06-09"), week.getEndDate());
+        assertEquals(week, CalendarWindow.weekOf(DOCTOR, LocalDate.parse("2019-06-03")));
+    }
+
+    @Test
+    public void nextAndPrevious_sameLength() {
+        CalendarWindow week = CalendarWindow.weekOf(DOCTOR, LocalDate.parse("2019-06-05"));
+        assertEquals(LocalDate.parse("2019-06-10"), week.next().getStartDate());
+        assertEquals(week, week.next().previous());
+
+        CalendarWindow day = week.toDay(LocalDate.parse("2019-06-05"));
+        assertEquals(LocalDate.parse("2019-06-06"), day.next().getStartDate());
+        assertEquals(day.getStartDate(), day.getEndDate());
+        assertEquals(week, day.toWeek());
+    }
+
+    @Test
+    public void contains() {
+        CalendarWindow week = CalendarWindow.weekOf(DOCTOR, LocalDate.parse("2019-06-05"));
+        AppointmentTime time = new AppointmentTime("09:00");
+        AppointmentPatientId patientId = new AppointmentPatientId("1");
+
+        assertTrue(week.contains(new Appointment(patientId, DOCTOR, new AppointmentDate("2019-06-03"), time)));
+        assertTrue(week.contains(new Appointment(patientId, DOCTOR, new AppointmentDate("2019-06-09"), time)));
+        assertFalse(week.contains(new Appointment(patientId, DOCTOR, new AppointmentDate("2019-06-10"), time)));
+        assertFalse(week.contains(new Appointment(patientId, new AppointmentDoctorId("8"),
+                new AppointmentDate("2019-06-05"), time)));
+    }
+}
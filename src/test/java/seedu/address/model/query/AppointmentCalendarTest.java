@@ -0,0 +1,111 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.commons.core.observable.ListChange;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.appointment.AppointmentDoctorId;
+import seedu.address.model.appointment.AppointmentPatientId;
+import seedu.address.model.appointment.AppointmentStatus;
+import seedu.address.model.appointment.AppointmentTime;
+import seedu.address.model.appointment.CalendarWindow;
+
+public class AppointmentCalendarTest {
+
+    private static final AppointmentDoctorId DOCTOR = new AppointmentDoctorId("7");
+    private static final AppointmentDoctorId OTHER_DOCTOR = new AppointmentDoctorId("8");
+    private static final CalendarWindow WEEK = CalendarWindow.weekOf(DOCTOR, LocalDate.parse("2019-06-05"));
+
+    private final Appointment mondayAfternoon = appointment(DOCTOR, "2019-06-03", "14:00");
+    private final Appointment mondayMorning = appointment(DOCTOR, "2019-06-03", "09:00");
+    private final Appointment sunday = appointment(DOCTOR, "2019-06-09", "10:00");
+    private final Appointment nextMonday = appointment(DOCTOR, "2019-06-10", "09:00");
+    private final Appointment otherDoctor = appointment(OTHER_DOCTOR, "2019-06-04", "09:00");
+
+    private final ArrayObservableList<Appointment> source = new ArrayObservableList<>(
+            Arrays.asList(mondayAfternoon, nextMonday, otherDoctor, sunday, mondayMorning));
+    private final ListIndex<DoctorDate, Appointment> index = ListIndex.sorted("doctor ID and date", source,
+        appointment -> new DoctorDate(appointment.getDoctorId(), appointment.getDate().date));
+    private final AppointmentCalendar calendar = new AppointmentCalendar(source, () -> index);
+    private final List<ListChange<? extends Appointment>> changes = new ArrayList<>();
+
+    @Test
+    public void constructor_noWindow_empty() {
+        assertTrue(calendar.isEmpty());
+    }
+
+    @Test
+    public void setWindow_week_doctorsAppointmentsInWeekByDateAndTime() {
+        calendar.setWindow(WEEK);
+        assertEquals(Arrays.asList(mondayMorning, mondayAfternoon, sunday), calendar);
+
+        calendar.setWindow(WEEK.next());
+        assertEquals(Collections.singletonList(nextMonday), calendar);
+
+        calendar.setWindow(null);
+        assertTrue(calendar.isEmpty());
+    }
+
+    @Test
+    public void sourceAdd_appointmentInWindow_onlyAdditionReported() {
+        calendar.setWindow(WEEK);
+        calendar.addListener(changes::add);
+        Appointment tuesday = appointment(DOCTOR, "2019-06-04", "11:00");
+        source.add(tuesday);
+
+        assertEquals(Arrays.asList(mondayMorning, mondayAfternoon, tuesday, sunday), calendar);
+        assertEquals(1, changes.size());
+        assertEquals(2, changes.get(0).getFrom());
+        assertEquals(Collections.singletonList(tuesday), changes.get(0).getAddedSubList());
+    }
+
+    @Test
+    public void sourceAdd_appointmentOutsideWindow_noChange() {
+        calendar.setWindow(WEEK);
+        calendar.addListener(changes::add);
+        source.add(appointment(OTHER_DOCTOR, "2019-06-05", "09:00"));
+        source.add(appointment(DOCTOR, "2019-06-11", "09:00"));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceSet_appointmentMarked_replacedInPlace() {
+        calendar.setWindow(WEEK);
+        Appointment marked = new Appointment(sunday.getPatientId(), sunday.getDoctorId(), sunday.getDate(),
+                sunday.getTime(), AppointmentStatus.COMPLETED);
+        source.set(source.indexOf(sunday), marked);
+        assertEquals(Arrays.asList(mondayMorning, mondayAfternoon, marked), calendar);
+        assertTrue(calendar.get(2) == marked);
+    }
+
+    @Test
+    public void sourceRemove_appointmentInWindow_removed() {
+        calendar.setWindow(WEEK);
+        source.remove(mondayMorning);
+        assertEquals(Arrays.asList(mondayAfternoon, sunday), calendar);
+    }
+
+    @Test
+    public void sourceSetAll_wholeListReplaced_windowRefilled() {
+        calendar.setWindow(WEEK);
+        Appointment friday = appointment(DOCTOR, "2019-06-07", "15:00");
+        source.setAll(Arrays.asList(friday, otherDoctor));
+        assertEquals(Collections.singletonList(friday), calendar);
+    }
+
+    private static Appointment appointment(AppointmentDoctorId doctorId, String date, String time) {
+        return new Appointment(new AppointmentPatientId("1"), doctorId, new AppointmentDate(date),
+                new AppointmentTime(time));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.appointment.AppointmentDoctorId;
+import seedu.address.model.appointment.AppointmentPatientId;
+import seedu.address.model.appointment.AppointmentStatus;
+import seedu.address.model.appointment.AppointmentTime;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.medicalhistory.ValidDate;
+import seedu.address.model.medicalhistory.WriteUp;
+import seedu.address.model.person.PersonId;
+
+public class ClinicStatisticsTest {
+
+    private static final LocalDate TODAY = LocalDate.parse("2019-06-05");
+
+    private final Appointment todayActive = appointment("1", "7", "2019-06-05", AppointmentStatus.ACTIVE);
+    private final Appointment todayCancelled = appointment("2", "8", "2019-06-05", AppointmentStatus.CANCELLED);
+    private final Appointment laterThisWeek = appointment("1", "8", "2019-06-09", AppointmentStatus.ACTIVE);
+    private final Appointment nextWeek = appointment("3", "7", "2019-06-10", AppointmentStatus.ACTIVE);
+    private final Appointment lastWeek = appointment("4", "7", "2019-06-02", AppointmentStatus.COMPLETED);
+
+    private final ArrayObservableList<Appointment> appointments = new ArrayObservableList<>(
+            Arrays.asList(todayActive, todayCancelled, laterThisWeek, nextWeek, lastWeek));
+    private final ArrayObservableList<MedicalHistory> medHists = new ArrayObservableList<>(
+            Arrays.asList(medHist("2019-06-01"), medHist("2019-05-31")));
+    private final ClinicStatistics statistics = new ClinicStatistics(appointments, medHists);
+
+    @Test
+    public void getSummary_initialData_counted() {
+        ClinicSummary summary = statistics.getSummary(TODAY);
+        assertEquals(1, summary.getAppointmentsToday(AppointmentStatus.ACTIVE));
+        assertEquals(1, summary.getAppointmentsToday(AppointmentStatus.CANCELLED));
+        assertEquals(0, summary.getAppointmentsToday(AppointmentStatus.COMPLETED));
+        assertEquals(doctorLoad("7", 1, "8", 1), summary.getDoctorLoadThisWeek());
+        assertEquals(2, summary.getPatientsWithActiveAppointments());
+        assertEquals(1, summary.getMedHistsThisMonth());
+    }
+
+    @Test
+    public void getSummary_appointmentMarked_countsMoved() {
+        appointments.set(appointments.indexOf(todayActive),
+                appointment("1", "7", "2019-06-05", AppointmentStatus.CANCELLED));
+
+        ClinicSummary summary = statistics.getSummary(TODAY);
+        assertEquals(0, summary.getAppointmentsToday(AppointmentStatus.ACTIVE));
+        assertEquals(2, summary.getAppointmentsToday(AppointmentStatus.CANCELLED));
+        assertEquals(doctorLoad("8", 1), summary.getDoctorLoadThisWeek());
+        // patient 1 still has an active appointment later this week
+        assertEquals(2, summary.getPatientsWithActiveAppointments());
+    }
+
+    @Test
+    public void getSummary_recordsAddedAndRemoved_countsUpdated() {
+        appointments.add(appointment("5", "9", "2019-06-03", AppointmentStatus.ACTIVE));
+        appointments.remove(nextWeek);
+        medHists.add(medHist("2019-06-04"));
+
+        ClinicSummary summary = statistics.getSummary(TODAY);
+        assertEquals(doctorLoad("7", 1, "8", 1, "9", 1), summary.getDoctorLoadThisWeek());
+        // patient 3 has no active appointment left, and patient 5 has a new one
+        assertEquals(2, summary.getPatientsWithActiveAppointments());
+        assertEquals(2, summary.getMedHistsThisMonth());
+    }
+
+    @Test
+    public void getSummary_wholeListReplaced_recounted() {
+        appointments.setAll(Collections.singletonList(lastWeek));
+        medHists.setAll(Collections.emptyList());
+
+        ClinicSummary summary = statistics.getSummary(TODAY);
+        assertEquals(0, summary.getAppointmentsToday(AppointmentStatus.ACTIVE));
+        assertEquals(Collections.emptyMap(), summary.getDoctorLoadThisWeek());
+        assertEquals(0, summary.getPatientsWithActiveAppointments());
+        assertEquals(0, summary.getMedHistsThisMonth());
+
+        // the week of the replaced appointment is still counted
+        assertEquals(doctorLoad("7", 1), statistics.getSummary(LocalDate.parse("2019-06-02"))
+                .getDoctorLoadThisWeek());
+    }
+
+    @Test
+    public void getSummary_sameCounts_equal() {
+        assertEquals(statistics.getSummary(TODAY), new ClinicStatistics(appointments, medHists).getSummary(TODAY));
+    }
+
+    /**
+     * Returns the doctor load of the doctors and their counts, given in turn in {@code doctorIdsAndCounts}.
+     */
+    private static Map<AppointmentDoctorId, Integer> doctorLoad(Object... doctorIdsAndCounts) {
+        Map<AppointmentDoctorId, Integer> doctorLoad = new LinkedHashMap<>();
+        for (int i = 0; i < doctorIdsAndCounts.length; i += 2) {
+            doctorLoad.put(new AppointmentDoctorId((String) doctorIdsAndCounts[i]),
+                    (Integer) doctorIdsAndCounts[i + 1]);
+        }
+        return doctorLoad;
+    }
+
+    private static Appointment appointment(String patientId, String doctorId, String date, AppointmentStatus status) {
+        return new Appointment(new AppointmentPatientId(patientId), new AppointmentDoctorId(doctorId),
+                new AppointmentDate(date), new AppointmentTime("09:00"), status);
+    }
+
+    private static MedicalHistory medHist(String date) {
+        return new MedicalHistory(new PersonId("1"), new PersonId("7"), new ValidDate(date), new WriteUp("Fever"));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMedHists.MED_HIST1;
+import static seedu.address.testutil.TypicalMedHists.MED_HIST2;
+
+import org.junit.Test;
+
+import seedu.address.model.DocX;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.testutil.MedHistBuilder;
+
+public class DocXIndexesTest {
+
+    private final DocX docX = new DocX();
+    private final DocXIndexes indexes = new DocXIndexes(docX);
+
+    @Test
+    public void constructor_notBuilt() {
+        assertFalse(indexes.isBuilt());
+    }
+
+    @Test
+    public void getMedHistsByPatient_notBuilt_buildsIndexes() {
+        MedicalHistory medHist = new MedHistBuilder().build();
+        docX.addMedHist(medHist);
+
+        assertEquals(1, indexes.getMedHistsByPatient().count(medHist.getPatientId()));
+        assertTrue(indexes.isBuilt());
+    }
+
+    @Test
+    public void build_docXModifiedAfterwards_indexesKeptUpToDate() {
+        indexes.build();
+        MedicalHistory medHist = new MedHistBuilder().build();
+        docX.addMedHist(medHist);
+
+        assertEquals(1, indexes.getMedHistsByDoctor().count(medHist.getDoctorId()));
+        assertEquals(1, indexes.getMedHistsByDate().count(medHist.getDate().date));
+    }
+
+    @Test
+    public void install_prebuiltFromCopy_indexesKeptUpToDate() {
+        docX.addMedHist(MED_HIST1);
+        DocXIndexes prebuilt = indexes.prebuild(new DocX(docX));
+        assertFalse(indexes.isBuilt());
+
+        indexes.install(prebuilt);
+        assertTrue(indexes.isBuilt());
+        assertEquals(1, indexes.getMedHistsByDoctor().count(MED_HIST1.getDoctorId()));
+
+        docX.addMedHist(MED_HIST2);
+        assertEquals(2, indexes.getMedHistsByDoctor().count(MED_HIST1.getDoctorId()));
+    }
+
+    @Test
+    public void install_alreadyBuilt_prebuiltIgnored() {
+        MedicalHistory medHist = new MedHistBuilder().build();
+        DocX copy = new DocX();
+        copy.addMedHist(medHist);
+        DocXIndexes prebuilt = indexes.prebuild(copy);
+        indexes.build();
+
+        indexes.install(prebuilt);
+        assertEquals(0, indexes.getMedHistsByPatient().count(medHist.getPatientId()));
+    }
+}
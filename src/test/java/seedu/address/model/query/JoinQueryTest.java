@@ -0,0 +1,136 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.model.query.FieldComparison.Operator.EQUAL;
+import static seedu.address.model.query.FieldComparison.Operator.GREATER;
+import static seedu.address.model.query.FieldComparison.Operator.NOT_EQUAL;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.DocX;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentStatus;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.specialisation.Specialisation;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.DocXGenerator;
+
+public class JoinQueryTest {
+
+    private final DocX docX = DocXGenerator.generateDocX(200);
+    private final Map<Integer, Patient> patientsById = docX.getPatientList().stream()
+            .collect(Collectors.toMap(patient -> patient.getId().personId, Function.identity()));
+    private final Map<Integer, Doctor> doctorsById = docX.getDoctorList().stream()
+            .collect(Collectors.toMap(doctor -> doctor.getId().personId, Function.identity()));
+
+    @Test
+    public void execute_noCondition_allRowsMatch() {
+        JoinResult result = new JoinQuery(QueryEntity.DOCTOR).execute(docX);
+
+        assertEquals(EnumSet.of(QueryEntity.DOCTOR), result.getJoinedEntities());
+        assertEquals(docX.getDoctorList().size(), result.count(QueryEntity.DOCTOR));
+    }
+
+    @Test
+    public void execute_recordJoinedWithBothPersons_matchesNestedLoopJoin() {
+        JoinQuery query = new JoinQuery(QueryEntity.PRESCRIPTION, QueryExpression.and(
+                compare(QueryEntity.DOCTOR, "spec", EQUAL, "massage"),
+                compare(QueryEntity.PATIENT, "tag", EQUAL, "asthma")));
+        JoinResult result = query.execute(docX);
+
+        Predicate<Doctor> isMasseur = doctor -> doctor.getSpecs().contains(new Specialisation("massage"));
+        Predicate<Patient> isAsthmatic = patient -> patient.getTags().contains(new Tag("asthma"));
+        long expectedCount = docX.getPrescriptionList().stream()
+                .filter(prescription -> isMasseur.test(doctorsById.get(prescription.getDoctorId().personId))
+                        && isAsthmatic.test(patientsById.get(prescription.getPatientId().personId)))
+                .count();
+        assertTrue(expectedCount > 0);
+        assertEquals(expectedCount, result.count(QueryEntity.PRESCRIPTION));
+        docX.getPrescriptionList().stream().filter(prescription -> result.isMatch(QueryEntity.PRESCRIPTION,
+                prescription)).forEach(prescription -> {
+                    assertTrue(isMasseur.test(doctorsById.get(prescription.getDoctorId().personId)));
+                    assertTrue(isAsthmatic.test(patientsById.get(prescription.getPatientId().personId)));
+                });
+    }
+
+    @Test
+    public void execute_patientsAndDoctorsWithoutRecord_joinedThroughAppointments() {
+        JoinQuery query = new JoinQuery(QueryEntity.DOCTOR, compare(QueryEntity.PATIENT, "age", GREATER, "95"));
+        JoinResult result = query.execute(docX);
+
+        assertEquals(EnumSet.of(QueryEntity.PATIENT, QueryEntity.DOCTOR, QueryEntity.APPOINTMENT),
+                result.getJoinedEntities());
+        for (Doctor doctor : docX.getDoctorList()) {
+            boolean isExpected = docX.getAppointmentList().stream()
+                    .filter(appointment -> appointment.getDoctorId().personId == doctor.getId().personId)
+                    .map(appointment -> patientsById.get(appointment.getPatientId().personId))
+                    .anyMatch(patient -> Integer.parseInt(patient.getAge().value) > 95);
+            assertEquals(isExpected, result.isMatch(QueryEntity.DOCTOR, doctor));
+        }
+    }
+
+    @Test
+    public void execute_conditionAcrossEntities_filtersJoinedRows() {
+        JoinQuery query = new JoinQuery(QueryEntity.PATIENT, QueryExpression.or(
+                compare(QueryEntity.PATIENT, "tag", EQUAL, "flu"),
+                compare(QueryEntity.DOCTOR, "spec", EQUAL, "general")));
+        JoinResult result = query.execute(docX);
+
+        for (Patient patient : docX.getPatientList()) {
+            boolean isExpected = docX.getAppointmentList().stream()
+                    .filter(appointment -> appointment.getPatientId().personId == patient.getId().personId)
+                    .anyMatch(appointment -> patient.getTags().contains(new Tag("flu"))
+                            || doctorsById.get(appointment.getDoctorId().personId).getSpecs()
+                                    .contains(new Specialisation("general")));
+            assertEquals(isExpected, result.isMatch(QueryEntity.PATIENT, patient));
+        }
+        assertTrue(result.explain().contains("filter joined rows by patient.tag = flu or doctor.spec = general"));
+    }
+
+    @Test
+    public void execute_selectiveFilter_joinStartsFromMostSelectiveSide() {
+        JoinQuery query = new JoinQuery(QueryEntity.APPOINTMENT, QueryExpression.and(
+                compare(QueryEntity.PATIENT, "id", EQUAL, "7"),
+                compare(QueryEntity.APPOINTMENT, "status", NOT_EQUAL, "cancelled")));
+        JoinResult result = query.execute(docX);
+
+        String explanation = result.explain();
+        assertTrue(explanation.contains("scan patients where patient.id = 7: 1 of 200 rows"));
+        assertTrue(explanation.contains("start from patients: 1 rows"));
+        assertTrue(explanation.contains("hash join appointments on patient ID, building on the joined rows"));
+        for (Appointment appointment : docX.getAppointmentList()) {
+            assertEquals(appointment.getPatientId().personId == 7
+                    && appointment.getAppointmentStatus() != AppointmentStatus.CANCELLED,
+                    result.isMatch(QueryEntity.APPOINTMENT, appointment));
+        }
+    }
+
+    @Test
+    public void execute_noMatches_emptyResult() {
+        JoinQuery query = new JoinQuery(QueryEntity.PATIENT, QueryExpression.and(
+                compare(QueryEntity.PATIENT, "tag", EQUAL, "flu"),
+                compare(QueryEntity.PATIENT, "tag", EQUAL, "asthma")));
+        JoinResult result = query.execute(docX);
+
+        assertEquals(0, result.count(QueryEntity.PATIENT));
+        assertFalse(result.isMatch(QueryEntity.PATIENT, docX.getPatientList().get(0)));
+    }
+
+    /**
+     * Returns a comparison of the field {@code fieldName} of {@code entity} with {@code value}.
+     */
+    private static FieldComparison compare(QueryEntity entity, String fieldName, FieldComparison.Operator operator,
+            String value) {
+        QueryField field = QueryField.of(entity, fieldName);
+        return new FieldComparison(field, operator, field.getType().parse(value));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.core.observable.ArrayObservableList;
+
+public class ListIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ArrayObservableList<String> source = new ArrayObservableList<>(
+            Arrays.asList("apple", "avocado", "banana", "blueberry", "cherry"));
+    private final ListIndex<Character, String> byFirstLetter = ListIndex.sorted("first letter", source,
+        word -> word.charAt(0));
+
+    @Test
+    public void lookup_existingKey_returnsAllElementsWithKey() {
+        assertEquals(2, byFirstLetter.count('a'));
+        assertSameElements(Arrays.asList("apple", "avocado"), byFirstLetter.lookup('a').fetchRows());
+        assertEquals(2, byFirstLetter.lookup('b').getEstimatedRowCount());
+    }
+
+    @Test
+    public void lookup_missingKey_returnsNothing() {
+        assertEquals(0, byFirstLetter.count('z'));
+        assertTrue(byFirstLetter.lookup('z').fetchRows().isEmpty());
+    }
+
+    @Test
+    public void lookupRange_boundedAndOpenRanges_returnsElementsInRange() {
+        assertSameElements(Arrays.asList("banana", "blueberry", "cherry"), byFirstLetter.lookupRange('b', 'c')
+                .fetchRows());
+        assertSameElements(Arrays.asList("apple", "avocado", "banana", "blueberry"),
+                byFirstLetter.lookupRange(null, 'b').fetchRows());
+        assertEquals(1, byFirstLetter.lookupRange('c', null).getEstimatedRowCount());
+    }
+
+    @Test
+    public void lookupRange_hashedIndex_throwsUnsupportedOperationException() {
+        ListIndex<Integer, String> byLength = ListIndex.hashed("length", source, String::length);
+        thrown.expect(UnsupportedOperationException.class);
+        byLength.lookupRange(1, 5);
+    }
+
+    @Test
+    public void sourceChanges_elementsAddedAndRemoved_indexUpdated() {
+        source.add("apricot");
+        source.remove("apple");
+        source.set(source.indexOf("cherry"), "cranberry");
+
+        assertSameElements(Arrays.asList("avocado", "apricot"), byFirstLetter.lookup('a').fetchRows());
+        assertSameElements(Collections.singletonList("cranberry"), byFirstLetter.lookup('c').fetchRows());
+    }
+
+    @Test
+    public void sourceChanges_wholeListReplaced_indexRebuilt() {
+        source.setAll(Arrays.asList("date", "durian"));
+
+        assertEquals(0, byFirstLetter.count('a'));
+        assertSameElements(Arrays.asList("date", "durian"), byFirstLetter.lookup('d').fetchRows());
+    }
+
+    /**
+     * Asserts that {@code actual} contains the same elements as {@code expected}, in any order.
+     */
+    private static void assertSameElements(Collection<String> expected, Collection<String> actual) {
+        List<String> sortedExpected = new ArrayList<>(expected);
+        List<String> sortedActual = new ArrayList<>(actual);
+        Collections.sort(sortedExpected);
+        Collections.sort(sortedActual);
+        assertEquals(sortedExpected, sortedActual);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.observable.ArrayObservableList;
+
+public class QueryPlannerTest {
+
+    private final ArrayObservableList<Integer> source = new ArrayObservableList<>();
+    private final ListIndex<Integer, Integer> byLastDigit;
+    private final ListIndex<Integer, Integer> byHundreds;
+
+    public QueryPlannerTest() {
+        for (int i = 0; i < 2000; i++) {
+            source.add(i);
+        }
+        byLastDigit = ListIndex.hashed("last digit", source, number -> number % 10);
+        byHundreds = ListIndex.sorted("hundreds", source, number -> number / 100);
+    }
+
+    @Test
+    public void plan_noIndexedFilters_fullScan() {
+        QueryFilter<Integer> isEven = new QueryFilter<>("even", number -> number % 2 == 0);
+        QueryPlan<Integer> plan = QueryPlanner.plan("numbers", source, Collections.singletonList(isEven));
+
+        assertFalse(plan.getDrivingFilter().isPresent());
+        QueryResult<Integer> result = plan.execute();
+        assertEquals(2000, result.getExaminedRowCount());
+        assertEquals(1000, result.getMatches().size());
+        assertTrue(result.explain().startsWith("Plan: full scan of numbers"));
+    }
+
+    @Test
+    public void plan_severalIndexedFilters_mostSelectiveIndexDrives() {
+        QueryFilter<Integer> endsWithSeven = new QueryFilter<>("ends with 7", number -> number % 10 == 7,
+                byLastDigit.lookup(7));
+        QueryFilter<Integer> inThreeHundreds = new QueryFilter<>("in the 300s", number -> number / 100 == 3,
+                byHundreds.lookup(3));
+        QueryFilter<Integer> isOdd = new QueryFilter<>("odd", number -> number % 2 == 1);
+        QueryFilter<Integer> beforeFiveHundred = new QueryFilter<>("before 500", number -> number < 500,
+                byHundreds.lookupRange(null, 4));
+        List<QueryFilter<Integer>> filters = Arrays.asList(endsWithSeven, inThreeHundreds, isOdd, beforeFiveHundred);
+
+        QueryPlan<Integer> plan = QueryPlanner.plan("numbers", source, filters);
+        assertEquals(inThreeHundreds, plan.getDrivingFilter().get());
+        assertEquals(Arrays.asList(endsWithSeven, isOdd, beforeFiveHundred), plan.getResidualFilters());
+
+        QueryResult<Integer> result = plan.execute();
+        assertEquals(100, result.getExaminedRowCount());
+        List<Integer> expected = source.stream()
+                .filter(number -> filters.stream().allMatch(filter -> filter.getPredicate().test(number)))
+                .collect(Collectors.toList());
+        List<Integer> actual = new ArrayList<>(result.getMatches());
+        Collections.sort(actual);
+        assertEquals(expected, actual);
+
+        String explanation = result.explain();
+        assertTrue(explanation.contains("index scan of numbers on hundreds = 3 (estimated 100 rows)"));
+        assertTrue(explanation.contains("Residual filters: ends with 7, odd, before 500"));
+        assertTrue(explanation.contains("Examined 100 rows, matched 10 rows"));
+    }
+
+    @Test
+    public void getPredicate_rowAddedAfterExecution_testedAgainstEveryFilter() {
+        QueryFilter<Integer> endsWithSeven = new QueryFilter<>("ends with 7", number -> number % 10 == 7,
+                byLastDigit.lookup(7));
+        QueryFilter<Integer> isLarge = new QueryFilter<>("large", number -> number >= 2000);
+        QueryResult<Integer> result = QueryPlanner.plan("numbers", source, Arrays.asList(endsWithSeven, isLarge))
+                .execute();
+
+        assertTrue(result.getMatches().isEmpty());
+        assertTrue(result.getPredicate().test(2007));
+        assertFalse(result.getPredicate().test(2008));
+        assertFalse(result.isMatch(2007));
+    }
+
+    @Test
+    public void execute_threadInterrupted_throwsCancellationException() {
+        QueryFilter<Integer> isEven = new QueryFilter<>("even", number -> number % 2 == 0);
+        QueryPlan<Integer> plan = QueryPlanner.plan("numbers", source, Collections.singletonList(isEven));
+
+        Thread.currentThread().interrupt();
+        try {
+            plan.execute();
+            throw new AssertionError("The expected CancellationException was not thrown.");
+        } catch (CancellationException ce) {
+            assertFalse(Thread.interrupted());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+
+public class ApiTokenTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void getTokenFilePath_configFile_tokenFileNextToIt() {
+        Path configFilePath = Paths.get("data", "config.json").toAbsolutePath();
+        assertEquals(configFilePath.resolveSibling(ApiToken.TOKEN_FILE_NAME),
+                ApiToken.getTokenFilePath(configFilePath));
+    }
+
+    @Test
+    public void readOrCreate_missingFile_tokenGeneratedAndKept() throws Exception {
+        Path tokenFile = temporaryFolder.getRoot().toPath().resolve("sub").resolve(ApiToken.TOKEN_FILE_NAME);
+        String token = ApiToken.readOrCreate(tokenFile);
+        assertFalse(token.isEmpty());
+        assertEquals(token, FileUtil.readFromFile(tokenFile));
+        assertEquals(token, ApiToken.readOrCreate(tokenFile));
+    }
+
+    @Test
+    public void readOrCreate_otherInstall_differentToken() throws Exception {
+        String token = ApiToken.readOrCreate(temporaryFolder.newFolder().toPath().resolve(ApiToken.TOKEN_FILE_NAME));
+        String otherToken = ApiToken.readOrCreate(
+                temporaryFolder.newFolder().toPath().resolve(ApiToken.TOKEN_FILE_NAME));
+        assertNotEquals(token, otherToken);
+    }
+
+    @Test
+    public void readOrCreate_existingToken_tokenRead() throws Exception {
+        Path tokenFile = temporaryFolder.newFile().toPath();
+        FileUtil.writeToFile(tokenFile, "secret\n");
+        assertEquals("secret", ApiToken.readOrCreate(tokenFile));
+    }
+}
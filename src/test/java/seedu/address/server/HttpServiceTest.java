@@ -0,0 +1,290 @@
+package seedu.address.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.patient.ListPatientCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonDocXStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.DocXGenerator;
+
+public class HttpServiceTest {
+
+    private static final int SIZE = 20;
+    private static final String API_TOKEN = "test-token";
+    private static final String COMMANDS_PATH = "/api/commands";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Model model = new ModelManager(DocXGenerator.generateDocX(SIZE), new UserPrefs());
+    private HttpService httpService;
+
+    @Before
+    public void setUp() throws Exception {
+        JsonDocXStorage docXStorage = new JsonDocXStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        httpService = new HttpService(new LogicManager(model, new StorageManager(docXStorage, userPrefsStorage)), 0,
+                API_TOKEN);
+        httpService.start();
+    }
+
+    @After
+    public void tearDown() {
+        httpService.stop();
+    }
+
+    @Test
+    public void getPatients_allPatientsReturned() throws Exception {
+        HttpResult result = request("GET", "/api/patients", null);
+        assertEquals(200, result.status);
+        List<?> patients = JsonUtil.fromJsonString(result.body, List.class);
+        Map<?, ?> firstPatient = (Map<?, ?>) patients.get(0);
+        assertEquals(SIZE, patients.size());
+        assertEquals(model.getDocX().getPatientList().get(0).getName().fullName, firstPatient.get("name"));
+    }
+
+    @Test
+    public void getDoctors_allDoctorsReturned() throws Exception {
+        HttpResult result = request("GET", "/api/doctors", null);
+        assertEquals(200, result.status);
+        assertEquals(DocXGenerator.getDoctorCount(SIZE), JsonUtil.fromJsonString(result.body, List.class).size());
+    }
+
+    @Test
+    public void getAppointments_dateAndDoctor_matchingAppointmentsReturned() throws Exception {
+        int doctorId = SIZE + 1;
+        long expectedCount = model.getDocX().getAppointmentList().stream()
+                .filter(appointment -> appointment.getDoctorId().doctorId.personId == doctorId)
+                .count();
+        HttpResult result = request("GET", "/api/appointments?date=" + DocXGenerator.FIRST_APPOINTMENT_DATE
+                + "&doctorId=" + doctorId, null);
+        assertEquals(200, result.status);
+        assertEquals(expectedCount, JsonUtil.fromJsonString(result.body, List.class).size());
+    }
+
+    @Test
+    public void getAppointments_invalidDate_badRequest() throws Exception {
+        assertEquals(400, request("GET", "/api/appointments?date=2019-13-01", null).status);
+    }
+
+    @Test
+    public void getMedHists_keyword_matchingMedHistsReturned() throws Exception {
+        HttpResult result = request("GET", "/api/medhists?keywords=fever+rash", null);
+        assertEquals(200, result.status);
+        List<?> medHists = JsonUtil.fromJsonString(result.body, List.class);
+        assertTrue(!medHists.isEmpty());
+        for (Object medHist : medHists) {
+            String writeUp = (String) ((Map<?, ?>) medHist).get("writeUp");
+            assertTrue(writeUp.contains("fever") || writeUp.contains("rash"));
+        }
+    }
+
+    @Test
+    public void getMedHists_noKeywords_badRequest() throws Exception {
+        assertEquals(400, request("GET", "/api/medhists", null).status);
+    }
+
+    @Test
+    public void postCommand_validCommand_feedbackReturned() throws Exception {
+        HttpResult result = postCommand(ListPatientCommand.COMMAND_WORD);
+        assertEquals(200, result.status);
+        assertEquals(ListPatientCommand.MESSAGE_SUCCESS,
+                JsonUtil.fromJsonString(result.body, Map.class).get("feedback"));
+    }
+
+    @Test
+    public void postCommand_modifyingCommand_dataModified() throws Exception {
+        HttpResult result = postCommand("delete-p 1");
+        assertEquals(200, result.status);
+        assertEquals(SIZE - 1, model.getDocX().getPatientList().size());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        HttpResult result = postCommand("uicfhmowqewca");
+        assertEquals(400, result.status);
+        assertTrue(JsonUtil.fromJsonString(result.body, Map.class).containsKey("error"));
+    }
+
+    @Test
+    public void request_wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(405, request("GET", COMMANDS_PATH, null).status);
+    }
+
+    @Test
+    public void postCommand_textBody_unsupportedMediaType() throws Exception {
+        Map<String, String> headers = authorizationHeader();
+        headers.put("Content-Type", "text/plain");
+        assertEquals(415, request("POST", COMMANDS_PATH, "delete-p 1", headers).status);
+        assertEquals(SIZE, model.getDocX().getPatientList().size());
+    }
+
+    @Test
+    public void postCommand_noCommandInBody_badRequest() throws Exception {
+        Map<String, String> headers = authorizationHeader();
+        headers.put("Content-Type", "application/json");
+        assertEquals(400, request("POST", COMMANDS_PATH, "[\"delete-p 1\"]", headers).status);
+        assertEquals(SIZE, model.getDocX().getPatientList().size());
+    }
+
+    @Test
+    public void request_noToken_unauthorized() throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        assertEquals(401, request("POST", COMMANDS_PATH, commandBody("delete-p 1"), headers).status);
+        assertEquals(401, request("GET", "/api/patients", null, headers).status);
+        assertEquals(SIZE, model.getDocX().getPatientList().size());
+    }
+
+    @Test
+    public void request_wrongToken_unauthorized() throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Authorization", "Bearer " + API_TOKEN + "x");
+        assertEquals(401, request("GET", "/api/patients", null, headers).status);
+    }
+
+    @Test
+    public void request_originHeader_forbidden() throws Exception {
+        String body = commandBody("delete-p 1");
+        assertEquals(403, requestRaw("POST", COMMANDS_PATH, "127.0.0.1:" + httpService.getPort(),
+                "Origin: http://example.com\r\nContent-Type: application/json\r\n"
+                + "Content-Length: " + body.length() + "\r\n", body));
+        assertEquals(SIZE, model.getDocX().getPatientList().size());
+    }
+
+    @Test
+    public void request_otherHost_forbidden() throws Exception {
+        assertEquals(403, requestRaw("GET", "/api/patients", "attacker.example.com:" + httpService.getPort(),
+                "", ""));
+    }
+
+    @Test
+    public void request_unknownPath_notFound() throws Exception {
+        assertEquals(404, request("GET", "/api/patients/1", null).status);
+    }
+
+    /**
+     * Posts {@code commandText} to the commands endpoint of the service, and returns the response.
+     */
+    private HttpResult postCommand(String commandText) throws IOException {
+        Map<String, String> headers = authorizationHeader();
+        headers.put("Content-Type", "application/json");
+        return request("POST", COMMANDS_PATH, commandBody(commandText), headers);
+    }
+
+    /**
+     * Returns the JSON request body that executes {@code commandText}.
+     */
+    private static String commandBody(String commandText) throws IOException {
+        return JsonUtil.toJsonString(Collections.singletonMap("command", commandText));
+    }
+
+    /**
+     * Returns request headers that carry the API token of the service.
+     */
+    private static Map<String, String> authorizationHeader() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Authorization", "Bearer " + API_TOKEN);
+        return headers;
+    }
+
+    /**
+     * Sends an authorized request with {@code body} to {@code path} of the service, and returns the response.
+     */
+    private HttpResult request(String method, String path, String body) throws IOException {
+        return request(method, path, body, authorizationHeader());
+    }
+
+    /**
+     * Sends a request with {@code headers} and {@code body} to {@code path} of the service, and returns the response.
+     */
+    private HttpResult request(String method, String path, String body, Map<String, String> headers)
+            throws IOException {
+        URL url = new URL("http", "127.0.0.1", httpService.getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        headers.forEach(connection::setRequestProperty);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream requestBody = connection.getOutputStream()) {
+                requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        try (InputStream responseBody = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = responseBody.read(buffer)) != -1) {
+                content.write(buffer, 0, length);
+            }
+            return new HttpResult(status, new String(content.toByteArray(), StandardCharsets.UTF_8));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Sends an authorized request to {@code path} of the service with {@code host} as the Host header, the header
+     * lines in {@code extraHeaders} and {@code body}, and returns the status of the response.
+     * The request is written by hand, as HttpURLConnection does not let the Host and Origin headers be set.
+     */
+    private int requestRaw(String method, String path, String host, String extraHeaders, String body)
+            throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), httpService.getPort())) {
+            String request = method + " " + path + " HTTP/1.1\r\n"
+                    + "Host: " + host + "\r\n"
+                    + "Authorization: Bearer " + API_TOKEN + "\r\n"
+                    + extraHeaders
+                    + "Connection: close\r\n\r\n"
+                    + body;
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            BufferedReader response = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            return Integer.parseInt(response.readLine().split(" ")[1]);
+        }
+    }
+
+    /**
+     * The status and body of a response.
+     */
+    private static class HttpResult {
+        private final int status;
+        private final String body;
+
+        HttpResult(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertEquals;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -35,6 +40,19 @@ public class JsonSerializableDocXTest {
         //assertEquals(docXFromFile, typicalPatientsDocX);
     }
 
+    @Test
+    public void toModelType_withListener_completionReported() throws Exception {
+        JsonSerializableDocX dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableDocX.class).get();
+        List<List<Integer>> progress = new ArrayList<>();
+        DocX docXFromFile = dataFromFile.toModelType((loaded, total) -> progress.add(Arrays.asList(loaded, total)));
+
+        // the typical data has fewer records than the progress interval, so only the completion is reported
+        int total = docXFromFile.getPatientList().size() + docXFromFile.getDoctorList().size()
+                + docXFromFile.getMedHistList().size() + docXFromFile.getAppointmentList().size()
+                + docXFromFile.getPrescriptionList().size();
+        assertEquals(Arrays.asList(Arrays.asList(total, total)), progress);
+    }
 
     @Test
     public void toModelType_invalidPatientFile_throwsIllegalValueException() throws Exception {
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class TextCommandHistoryStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new TextCommandHistoryStorage(null);
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws IOException {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.txt");
+        assertTrue(new TextCommandHistoryStorage(filePath).readCommandHistory().isEmpty());
+    }
+
+    @Test
+    public void appendCommandHistory_allInOrder() throws IOException {
+        Path filePath = testFolder.getRoot().toPath().resolve("nested").resolve("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+
+        storage.appendCommandHistory("list-appt");
+        storage.appendCommandHistory("clear");
+        assertEquals(Arrays.asList("list-appt", "clear"), storage.readCommandHistory());
+    }
+
+    @Test
+    public void saveCommandHistory_replacesStoredCommands() throws IOException {
+        Path filePath = testFolder.getRoot().toPath().resolve("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        storage.appendCommandHistory("clear");
+
+        List<String> commandTexts = Arrays.asList("list-appt", "help");
+        storage.saveCommandHistory(commandTexts);
+        assertEquals(commandTexts, storage.readCommandHistory());
+
+        storage.saveCommandHistory(Collections.emptyList());
+        assertTrue(storage.readCommandHistory().isEmpty());
+    }
+
+    @Test
+    public void readCommandHistory_escapedCharacters_roundTrip() throws IOException {
+        Path filePath = testFolder.getRoot().toPath().resolve("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        List<String> commandTexts = Arrays.asList("add-patient n/a\\nb", "multi\nline\r\n", "trailing\\", "");
+
+        for (String commandText : commandTexts) {
+            storage.appendCommandHistory(commandText);
+        }
+        assertEquals(commandTexts, storage.readCommandHistory());
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.testutil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.DocX;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDate;
+import seedu.address.model.appointment.AppointmentDoctorId;
+import seedu.address.model.appointment.AppointmentPatientId;
+import seedu.address.model.appointment.AppointmentTime;
+import seedu.address.model.medicalhistory.MedicalHistory;
+import seedu.address.model.medicalhistory.ValidDate;
+import seedu.address.model.medicalhistory.WriteUp;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.doctor.Year;
+import seedu.address.model.person.patient.Address;
+import seedu.address.model.person.patient.Age;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.prescription.Description;
+import seedu.address.model.prescription.Medicine;
+import seedu.address.model.prescription.Prescription;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * A utility class that deterministically generates large, valid {@code DocX} data sets.
+ * Used by benchmarks and load tests; the same {@code size} always produces the same data.
+ */
+public class DocXGenerator {
+
+    public static final String[] TAGS = {"diabetes", "fever", "asthma", "stroke", "flu", "heatstroke"};
+    public static final String[] SPECIALISATIONS = {"general", "acupuncture", "massage", "physio"};
+    public static final String[] WRITE_UP_WORDS = {"fever", "cough", "sneeze", "stomachache", "headache",
+        "rash", "sprain", "insomnia"};
+    public static final String[] MEDICINES = {"paracetamol", "ibuprofen", "aspirin", "amoxicillin"};
+
+    /** Appointment time slots that are accepted by {@code AppointmentTime}. */
+    public static final String[] TIME_SLOTS = {"09:00", "10:00", "11:00", "13:00", "14:00", "15:00", "16:00",
+        "17:00"};
+
+    /** Appointments are generated from this date onwards so that they are always in the future. */
+    public static final LocalDate FIRST_APPOINTMENT_DATE = LocalDate.of(2100, 1, 1);
+
+    /** Medical histories and prescriptions are generated up to this date so that they are always in the past. */
+    public static final LocalDate LAST_RECORD_DATE = LocalDate.of(2019, 1, 1);
+
+    private DocXGenerator() {} // prevents instantiation
+
+    /**
+     * Returns the number of doctors that are generated for a data set of {@code size} patients.
+     */
+    public static int getDoctorCount(int size) {
+        return Math.max(10, size / 50);
+    }
+
+    /**
+     * Returns a {@code DocX} with {@code size} patients, {@link #getDoctorCount(int)} doctors and
+     * {@code size} appointments, medical histories and prescriptions each.
+     * Patients have ids {@code 1..size} and doctors follow on from there.
+     */
+    public static DocX generateDocX(int size) {
+        int doctorCount = getDoctorCount(size);
+        DocX docX = new DocX();
+        // the generated lists have no duplicates, so each is set at once instead of checking every record on its own
+        docX.setPatients(generatePatients(size));
+        docX.setDoctors(generateDoctors(doctorCount, size));
+        docX.setAppointments(generateAppointments(size, size, doctorCount));
+        docX.setMedHists(generateMedHists(size, size, doctorCount));
+        docX.setPrescriptions(generatePrescriptions(size, size, doctorCount));
+        return docX;
+    }
+
+    /**
+     * Returns {@code count} patients with ids {@code 1..count}, all with distinct phone numbers.
+     */
+    public static List<Patient> generatePatients(int count) {
+        List<Patient> patients = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            patients.add(generatePatient(i));
+        }
+        return patients;
+    }
+
+    /**
+     * Returns the patient with the given {@code id}, as produced by {@link #generatePatients(int)}.
+     */
+    public static Patient generatePatient(int id) {
+        return new Patient(new PersonId(id), new Name("Patient " + toLetters(id)), new Gender(id % 2 == 0 ? "M" : "F"),
+                new Age(String.valueOf(id % 100)), new Phone("8" + String.format("%07d", id)),
+                new Address("Blk " + id + " Clementi Ave " + (id % 10)),
+                SampleDataUtil.getTagSet(TAGS[id % TAGS.length]));
+    }
+
+    /**
+     * Returns {@code count} doctors with ids {@code idOffset + 1..idOffset + count}.
+     */
+    public static List<Doctor> generateDoctors(int count, int idOffset) {
+        List<Doctor> doctors = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            int id = idOffset + i;
+            doctors.add(new Doctor(new PersonId(id), new Name("Doctor " + toLetters(i)),
+                    new Phone("6" + String.format("%07d", i)), new Gender(i % 2 == 0 ? "F" : "M"),
+                    new Year(String.valueOf(i % 40)),
+                    SampleDataUtil.getSpecSet(SPECIALISATIONS[i % SPECIALISATIONS.length])));
+        }
+        return doctors;
+    }
+
+    /**
+     * Returns {@code count} appointments spread over {@code patientCount} patients and {@code doctorCount} doctors.
+     * No doctor is booked twice for the same date and time.
+     */
+    public static List<Appointment> generateAppointments(int count, int patientCount, int doctorCount) {
+        List<Appointment> appointments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int slot = i / doctorCount;
+            LocalDate date = FIRST_APPOINTMENT_DATE.plusDays(slot / TIME_SLOTS.length);
+            appointments.add(new Appointment(
+                    new AppointmentPatientId(String.valueOf(i % patientCount + 1)),
+                    new AppointmentDoctorId(String.valueOf(patientCount + i % doctorCount + 1)),
+                    new AppointmentDate(date.toString()),
+                    new AppointmentTime(TIME_SLOTS[slot % TIME_SLOTS.length])));
+        }
+        return appointments;
+    }
+
+    /**
+     * Returns {@code count} medical histories spread over {@code patientCount} patients
+     * and {@code doctorCount} doctors, all dated in the past.
+     */
+    public static List<MedicalHistory> generateMedHists(int count, int patientCount, int doctorCount) {
+        List<MedicalHistory> medHists = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int patient = i % patientCount;
+            // each (patient, doctor, date) triple is unique as the date moves back on every pass over the patients
+            LocalDate date = LAST_RECORD_DATE.minusDays(i / patientCount);
+            medHists.add(new MedicalHistory(new PersonId(patient + 1),
+                    new PersonId(patientCount + i % doctorCount + 1), new ValidDate(date.toString()),
+                    new WriteUp("The patient had a " + WRITE_UP_WORDS[i % WRITE_UP_WORDS.length]
+                            + " and a " + WRITE_UP_WORDS[(i / 3) % WRITE_UP_WORDS.length] + ".")));
+        }
+        return medHists;
+    }
+
+    /**
+     * Returns {@code count} prescriptions spread over {@code patientCount} patients
+     * and {@code doctorCount} doctors, all dated in the past.
+     */
+    public static List<Prescription> generatePrescriptions(int count, int patientCount, int doctorCount) {
+        List<Prescription> prescriptions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate date = LAST_RECORD_DATE.minusDays(i / patientCount);
+            prescriptions.add(new Prescription(new PersonId(i % patientCount + 1),
+                    new PersonId(patientCount + i % doctorCount + 1), new ValidDate(date.toString()),
+                    new Medicine(MEDICINES[i % MEDICINES.length]),
+                    new Description("Take " + (i % 3 + 1) + " times a day")));
+        }
+        return prescriptions;
+    }
+
+    /**
+     * Returns a deterministic sample of {@code count} command argument strings covering the prefixes
+     * used by the patient, doctor, appointment and medical history commands.
+     */
+    public static List<String> generateArgumentStrings(int count) {
+        List<String> args = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            switch (i % 4) {
+            case 0:
+                args.add(" n/Patient " + toLetters(i) + " g/M a/" + (i % 100) + " p/8" + String.format("%07d", i)
+                        + " adr/Blk " + i + " Clementi Ave t/" + TAGS[i % TAGS.length]);
+                break;
+            case 1:
+                args.add(" n/Doctor " + toLetters(i) + " p/6" + String.format("%07d", i) + " g/F y/" + (i % 40)
+                        + " s/" + SPECIALISATIONS[i % SPECIALISATIONS.length] + " s/general");
+                break;
+            case 2:
+                args.add(" pid/" + i + " did/" + (i + 1) + " d/" + FIRST_APPOINTMENT_DATE.plusDays(i % 365)
+                        + " t/" + TIME_SLOTS[i % TIME_SLOTS.length]);
+                break;
+            default:
+                args.add(" pid/" + i + " did/" + (i + 1) + " d/" + LAST_RECORD_DATE.minusDays(i % 365)
+                        + " sw/The patient had a " + WRITE_UP_WORDS[i % WRITE_UP_WORDS.length] + ".");
+                break;
+            }
+        }
+        return Collections.unmodifiableList(args);
+    }
+
+    /**
+     * Encodes a positive {@code number} as an alphabetic string, since names may not contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder builder = new StringBuilder();
+        int remaining = number;
+        do {
+            builder.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        builder.setCharAt(0, Character.toUpperCase(builder.charAt(0)));
+        return builder.toString();
+    }
+}
@@ -3,12 +3,14 @@ package seedu.address.ui;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import guitests.guihandles.CommandBoxHandle;
 import javafx.scene.input.KeyCode;
+import seedu.address.commons.core.observable.RingBufferObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.patient.ListPatientCommand;
@@ -26,12 +28,13 @@ public class CommandBoxTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        CommandBox commandBox = new CommandBox(commandText -> {
+        CommandBox commandBox = new CommandBox((commandText, callback) -> {
             history.add(commandText);
             if (commandText.equals(COMMAND_THAT_SUCCEEDS)) {
-                return new CommandResult("Command successful");
+                callback.onSuccess(new CommandResult("Command successful"));
+            } else {
+                callback.onFailure(new CommandException("Command failed"));
             }
-            throw new CommandException("Command failed");
         }, history);
         commandBoxHandle = new CommandBoxHandle(getChildNode(commandBox.getRoot(),
                 CommandBoxHandle.COMMAND_INPUT_FIELD_ID));
@@ -127,6 +130,26 @@ public class CommandBoxTest extends GuiUnitTest {
         assertInputHistory(KeyCode.UP, thirdCommand);
     }
 
+    @Test
+    public void handleKeyPress_commandAddedToFullHistoryWhileNavigating_snapshotNavigated() {
+        RingBufferObservableList<String> fullHistory = new RingBufferObservableList<>(3);
+        Arrays.asList("first", "second", "third").forEach(fullHistory::add);
+        CommandBox commandBox = new CommandBox((commandText, callback) -> {}, fullHistory);
+        commandBoxHandle = new CommandBoxHandle(getChildNode(commandBox.getRoot(),
+                CommandBoxHandle.COMMAND_INPUT_FIELD_ID));
+        uiPartRule.setUiPart(commandBox);
+
+        assertInputHistory(KeyCode.UP, "third");
+        assertInputHistory(KeyCode.UP, "second");
+
+        // a command entered elsewhere finishes, pushing the oldest command out of the history
+        guiRobot.interact(() -> fullHistory.add("fourth"));
+        assertInputHistory(KeyCode.UP, "first");
+        assertInputHistory(KeyCode.DOWN, "second");
+        assertInputHistory(KeyCode.DOWN, "third");
+        assertInputHistory(KeyCode.DOWN, "");
+    }
+
     /**
      * Runs a command that fails, then verifies that <br>
      *      - the text remains <br>
@@ -29,6 +29,20 @@ public class DoctorCardTest extends GuiUnitTest {
         assertCardDisplay(doctorCard, doctorWithSpecs, 2);
     }
 
+    @Test
+    public void bind_reusedCard_displaysNewDoctor() {
+        Doctor doctorWithSpecs = new DoctorBuilder().build();
+        DoctorCard doctorCard = new DoctorCard(doctorWithSpecs, 1);
+        uiPartRule.setUiPart(doctorCard);
+
+        // the specialisations of the previous doctor are not kept
+        Doctor doctorWithNoSpecs = new DoctorBuilder().withName("Other Name").withSpecs(new String[0]).build();
+        guiRobot.interact(() -> doctorCard.bind(doctorWithNoSpecs, 2));
+        assertEquals(doctorWithNoSpecs, doctorCard.getDoctor());
+        assertCardDisplay(doctorCard, doctorWithNoSpecs, 2);
+        assertEquals(new DoctorCard(doctorWithNoSpecs, 2), doctorCard);
+    }
+
     @Test
     public void equals() {
         Doctor doctor = new DoctorBuilder().build();
@@ -0,0 +1,137 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.observable.ArrayObservableList;
+import seedu.address.commons.core.observable.SimpleObservableValue;
+import seedu.address.model.DocX;
+
+public class FxThreadBridgeTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<Runnable> pendingUpdates = new ArrayList<>();
+    private final FxThreadBridge bridge = new FxThreadBridge(pendingUpdates::add);
+
+    @Test
+    public void mirrorList_sourceChanged_updatedOnlyWhenUpdatesRun() {
+        ArrayObservableList<String> source = new ArrayObservableList<>(Arrays.asList("a", "b"));
+        ObservableList<String> mirror = bridge.mirror(source);
+        assertEquals(Arrays.asList("a", "b"), mirror);
+
+        source.add("c");
+        assertEquals(Arrays.asList("a", "b"), mirror);
+
+        runPendingUpdates();
+        assertEquals(Arrays.asList("a", "b", "c"), mirror);
+    }
+
+    @Test
+    public void mirrorList_burstOfChanges_singleUpdate() {
+        ArrayObservableList<String> source = new ArrayObservableList<>(Arrays.asList("a", "b", "c", "d"));
+        ObservableList<String> mirror = bridge.mirror(source);
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) changes::add);
+
+        source.remove("b");
+        source.set(1, "e");
+        source.add(0, "f");
+        assertEquals(1, pendingUpdates.size());
+
+        runPendingUpdates();
+        assertEquals(source, mirror);
+        // "d" is unchanged at the end of the list, so it is not replaced
+        assertTrue(changes.size() <= 2);
+    }
+
+    @Test
+    public void mirrorList_noNetChange_mirrorUnchanged() {
+        ArrayObservableList<String> source = new ArrayObservableList<>(Arrays.asList("a", "b"));
+        ObservableList<String> mirror = bridge.mirror(source);
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) changes::add);
+
+        String removed = source.remove(1);
+        source.add(removed);
+        runPendingUpdates();
+
+        assertEquals(Arrays.asList("a", "b"), mirror);
+        assertTrue(changes.size() <= 1);
+    }
+
+    @Test
+    public void mirrorList_changesApplied_onlyChangedRangeReported() {
+        ArrayObservableList<String> source = new ArrayObservableList<>(Arrays.asList("a", "b", "c", "d"));
+        ObservableList<String> mirror = bridge.mirror(source);
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        source.set(2, "e");
+        runPendingUpdates();
+
+        assertEquals(Arrays.asList("a", "b", "e", "d"), mirror);
+        assertEquals(Arrays.asList("c"), removed);
+        assertEquals(Arrays.asList("e"), added);
+    }
+
+    @Test
+    public void mirrorList_modified_throwsUnsupportedOperationException() {
+        ObservableList<String> mirror = bridge.mirror(new ArrayObservableList<>(Arrays.asList("a")));
+        thrown.expect(UnsupportedOperationException.class);
+        mirror.add("b");
+    }
+
+    @Test
+    public void mirrorProperty_sourceChanged_updatedOnlyWhenUpdatesRun() {
+        SimpleObservableValue<String> source = new SimpleObservableValue<>("a");
+        ReadOnlyProperty<String> mirror = bridge.mirror(source);
+        assertEquals("a", mirror.getValue());
+
+        source.setValue("b");
+        assertEquals("a", mirror.getValue());
+
+        runPendingUpdates();
+        assertEquals("b", mirror.getValue());
+    }
+
+    @Test
+    public void mirrorObservable_sourceInvalidated_invalidatedWhenUpdatesRun() {
+        DocX source = new DocX();
+        Observable mirror = bridge.mirror(source);
+        List<Observable> invalidations = new ArrayList<>();
+        mirror.addListener(invalidations::add);
+
+        source.addPatient(ALICE);
+        assertTrue(invalidations.isEmpty());
+
+        runPendingUpdates();
+        assertEquals(1, invalidations.size());
+    }
+
+    private void runPendingUpdates() {
+        List<Runnable> updates = new ArrayList<>(pendingUpdates);
+        pendingUpdates.clear();
+        updates.forEach(Runnable::run);
+    }
+}
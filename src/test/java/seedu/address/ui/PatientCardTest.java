@@ -8,6 +8,7 @@ import static seedu.address.ui.testutil.GuiTestAssert.assertCardDisplaysPatient;
 import org.junit.Test;
 
 import guitests.guihandles.PatientCardHandle;
+import seedu.address.model.appointment.AppointmentStatus;
 import seedu.address.model.person.patient.Patient;
 import seedu.address.testutil.PatientBuilder;
 import seedu.address.ui.patient.PatientCard;
@@ -29,6 +30,33 @@ public class PatientCardTest extends GuiUnitTest {
         assertCardDisplay(patientCard, patientWithTags, 2);
     }
 
+    @Test
+    public void bind_reusedCard_displaysNewPatient() {
+        Patient patientWithTags = new PatientBuilder().build();
+        PatientCard patientCard = new PatientCard(patientWithTags, 1);
+        uiPartRule.setUiPart(patientCard);
+
+        // the tags of the previous patient are not kept
+        Patient patientWithNoTags = new PatientBuilder().withName("Other Name").withTags(new String[0]).build();
+        guiRobot.interact(() -> patientCard.bind(patientWithNoTags, 2));
+        assertEquals(patientWithNoTags, patientCard.getPatient());
+        assertCardDisplay(patientCard, patientWithNoTags, 2);
+        assertEquals(new PatientCard(patientWithNoTags, 2), patientCard);
+    }
+
+    @Test
+    public void bind_samePatientChangedInPlace_displaysChange() {
+        Patient patient = new PatientBuilder().build();
+        PatientCard patientCard = new PatientCard(patient, 1);
+        uiPartRule.setUiPart(patientCard);
+
+        // the model changes the status in place, then replaces the patient with itself
+        patient.changeAppointmentStatus(AppointmentStatus.COMPLETED);
+        guiRobot.interact(() -> patientCard.bind(patient, 1));
+        assertEquals(AppointmentStatus.COMPLETED.toString(),
+                new PatientCardHandle(patientCard.getRoot()).getAppointmentStatus());
+    }
+
     @Test
     public void equals() {
         Patient patient = new PatientBuilder().build();
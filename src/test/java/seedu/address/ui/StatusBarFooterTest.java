@@ -45,7 +45,8 @@ public class StatusBarFooterTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, docX);
+        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION,
+                new FxThreadBridge(Runnable::run).mirror(docX));
         uiPartRule.setUiPart(statusBarFooter);
 
         statusBarFooterHandle = new StatusBarFooterHandle(statusBarFooter.getRoot());